@@ -0,0 +1,360 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean.processor;
+
+import cz.ad.java.tools.collection.bean.BeanCollections;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor generating class with static typed accessors of collection and map members of beans marked by
+ * {@link BeanCollections}. Member is recognized by getter without parameters returning collection or map, optional
+ * setter with same type is used to store member initialized by accessor. Generated methods are written inline with
+ * same lazy initialization semantics as {@code DefaultBeanCollectionUtils}, so call site doesn't pay for lambda
+ * allocation, interface or generic dispatch. New instance of member is created by public constructor without
+ * parameters of member type, interfaces of collection framework are initialized by their common implementation, for
+ * example {@link ArrayList} for {@link List}. Members of other types are never initialized by accessors.
+ */
+public class BeanCollectionsProcessor extends AbstractProcessor {
+    /**
+     * Suffix of name of generated class.
+     */
+    public static final String SUFFIX = "Collections";
+    /**
+     * Implementations used to initialize members declared by interfaces of collection framework.
+     */
+    protected static final Map<String, String> IMPLEMENTATIONS = implementations();
+
+    /**
+     * Prepare implementations used to initialize members declared by interfaces.
+     *
+     * @return map of interface names to names of implementations.
+     */
+    private static Map<String, String> implementations() {
+        Map<String, String> retValue = new HashMap<>();
+        retValue.put("java.util.Collection", "java.util.ArrayList");
+        retValue.put("java.util.List", "java.util.ArrayList");
+        retValue.put("java.util.Set", "java.util.HashSet");
+        retValue.put("java.util.SortedSet", "java.util.TreeSet");
+        retValue.put("java.util.NavigableSet", "java.util.TreeSet");
+        retValue.put("java.util.Queue", "java.util.ArrayDeque");
+        retValue.put("java.util.Deque", "java.util.ArrayDeque");
+        retValue.put("java.util.Map", "java.util.HashMap");
+        retValue.put("java.util.SortedMap", "java.util.TreeMap");
+        retValue.put("java.util.NavigableMap", "java.util.TreeMap");
+        retValue.put("java.util.concurrent.ConcurrentMap", "java.util.concurrent.ConcurrentHashMap");
+        return Collections.unmodifiableMap(retValue);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(BeanCollections.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(BeanCollections.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@BeanCollections can be used only on class");
+            } else if (!((TypeElement) element).getTypeParameters().isEmpty()) {
+                error(element, "@BeanCollections can't be used on generic class");
+            } else if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                error(element, "@BeanCollections can't be used on private class");
+            } else {
+                TypeElement bean = (TypeElement) element;
+                List<CollectionProperty> properties = properties(bean);
+                if (properties.isEmpty()) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.WARNING, "Bean has no collection or map member", bean);
+                }
+                generate(bean, properties);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Provide name of class generated for provided bean. Names of enclosing classes of nested bean are joined by
+     * underscore.
+     *
+     * @param bean bean marked by annotation.
+     * @return simple name of generated class.
+     */
+    protected String generatedName(TypeElement bean) {
+        StringBuilder retValue = new StringBuilder(bean.getSimpleName());
+        Element enclosing = bean.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            retValue.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return retValue.append(SUFFIX).toString();
+    }
+
+    /**
+     * Find collection and map members of bean accessed by getters.
+     *
+     * @param bean bean marked by annotation.
+     * @return properties in order of getters.
+     */
+    protected List<CollectionProperty> properties(TypeElement bean) {
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+        TypeElement collection = elements.getTypeElement("java.util.Collection");
+        TypeElement map = elements.getTypeElement("java.util.Map");
+        List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(bean));
+        DeclaredType beanType = (DeclaredType) bean.asType();
+        List<CollectionProperty> retValue = new ArrayList<>();
+        for (ExecutableElement getter : methods) {
+            String name = getter.getSimpleName().toString();
+            if (isAccessible(bean, getter) && name.startsWith("get") && name.length() > 3
+                    && getter.getParameters().isEmpty() && getter.getTypeParameters().isEmpty()) {
+                // type arguments of generic superclass are resolved by bean, inherited getter can return type variable
+                TypeMirror type = ((ExecutableType) types.asMemberOf(beanType, getter)).getReturnType();
+                DeclaredType collectionType = type.getKind() == TypeKind.DECLARED
+                        ? supertype(types, type, collection) : null;
+                DeclaredType mapType = collectionType == null && type.getKind() == TypeKind.DECLARED
+                        ? supertype(types, type, map) : null;
+                if (collectionType != null || mapType != null) {
+                    List<String> arguments = arguments(collectionType != null ? collectionType : mapType);
+                    if (arguments == null) {
+                        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                                "Member with wildcard type arguments is skipped", getter);
+                    } else {
+                        String property = name.substring(3);
+                        retValue.add(new CollectionProperty(
+                                property, name, setter(types, bean, methods, "set" + property, type),
+                                type.toString(), init(types, (DeclaredType) type), arguments.get(0),
+                                mapType != null ? arguments.get(1) : null
+                        ));
+                    }
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Check if method can be called from generated class in package of bean. Public methods are accessible, methods
+     * which are not private are accessible only when they are declared in package of bean, as package private and
+     * protected methods of superclass from other package can't be called by generated class.
+     *
+     * @param bean   bean marked by annotation.
+     * @param method method of bean.
+     * @return true for accessible instance method which is not declared by {@link Object}.
+     */
+    protected boolean isAccessible(TypeElement bean, ExecutableElement method) {
+        Set<Modifier> modifiers = method.getModifiers();
+        TypeElement owner = (TypeElement) method.getEnclosingElement();
+        Elements elements = processingEnv.getElementUtils();
+        boolean visible = modifiers.contains(Modifier.PUBLIC) || !modifiers.contains(Modifier.PRIVATE)
+                && elements.getPackageOf(owner).equals(elements.getPackageOf(bean));
+        return visible && !modifiers.contains(Modifier.STATIC)
+                && !owner.getQualifiedName().contentEquals("java.lang.Object");
+    }
+
+    /**
+     * Find supertype of provided type declared by target type with resolved type arguments.
+     *
+     * @param types  type utils of compiler.
+     * @param type   type to be searched.
+     * @param target searched declaration of supertype.
+     * @return supertype or null when type is not subtype of target.
+     */
+    protected DeclaredType supertype(Types types, TypeMirror type, TypeElement target) {
+        DeclaredType retValue = null;
+        if (types.isSameType(types.erasure(type), types.erasure(target.asType()))) {
+            retValue = (DeclaredType) type;
+        } else {
+            for (TypeMirror supertype : types.directSupertypes(type)) {
+                retValue = supertype(types, supertype, target);
+                if (retValue != null) {
+                    break;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide type arguments of collection or map type as source code, raw type provides {@link Object} arguments.
+     *
+     * @param type collection or map type.
+     * @return type arguments or null when any of them is wildcard.
+     */
+    protected List<String> arguments(DeclaredType type) {
+        List<String> retValue = new ArrayList<>();
+        for (TypeMirror argument : type.getTypeArguments()) {
+            if (argument.getKind() == TypeKind.WILDCARD) {
+                retValue = null;
+                break;
+            }
+            retValue.add(argument.toString());
+        }
+        if (retValue != null && retValue.isEmpty()) {
+            retValue.add("java.lang.Object");
+            retValue.add("java.lang.Object");
+        }
+        return retValue;
+    }
+
+    /**
+     * Find setter of bean accepting member type. Parameter type of setter is resolved as member of bean, so inherited
+     * generic setter matches getter returning same type argument.
+     *
+     * @param types   type utils of compiler.
+     * @param bean    bean marked by annotation.
+     * @param methods methods of bean.
+     * @param name    name of setter.
+     * @param type    type of member.
+     * @return name of setter or null when bean has no such setter.
+     */
+    protected String setter(Types types, TypeElement bean, List<ExecutableElement> methods, String name,
+                            TypeMirror type) {
+        String retValue = null;
+        for (ExecutableElement method : methods) {
+            if (isAccessible(bean, method) && method.getSimpleName().contentEquals(name)
+                    && method.getParameters().size() == 1
+                    && types.isSameType(((ExecutableType) types.asMemberOf((DeclaredType) bean.asType(), method))
+                    .getParameterTypes().get(0), type)) {
+                retValue = name;
+                break;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide expression creating new instance of member type.
+     *
+     * @param types type utils of compiler.
+     * @param type  type of member.
+     * @return expression or null when type can't be instantiated.
+     */
+    protected String init(Types types, DeclaredType type) {
+        TypeElement element = (TypeElement) types.asElement(type);
+        String name = element.getQualifiedName().toString();
+        String implementation = IMPLEMENTATIONS.get(name);
+        if (implementation == null && element.getKind() == ElementKind.CLASS
+                && !element.getModifiers().contains(Modifier.ABSTRACT) && hasDefaultConstructor(element)) {
+            implementation = name;
+        }
+        String retValue = null;
+        if (implementation != null) {
+            retValue = "new " + implementation + (type.getTypeArguments().isEmpty() ? "" : "<>") + "()";
+        }
+        return retValue;
+    }
+
+    /**
+     * Check if class has public constructor without parameters.
+     *
+     * @param element class to be checked.
+     * @return true when class can be created without parameters.
+     */
+    protected boolean hasDefaultConstructor(TypeElement element) {
+        boolean retValue = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty()) {
+                retValue = true;
+                break;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Write source file of class with accessors of bean properties.
+     *
+     * @param bean       bean marked by annotation.
+     * @param properties collection and map members of bean.
+     */
+    protected void generate(TypeElement bean, List<CollectionProperty> properties) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(bean);
+        String packageName = packageElement.getQualifiedName().toString();
+        String className = generatedName(bean);
+        String beanType = bean.getQualifiedName().toString();
+        StringBuilder out = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n")
+                .append(" * Static typed accessors of collection and map members of {@link ").append(beanType)
+                .append("}.\n")
+                .append(" * Generated by ").append(getClass().getName()).append(", do not modify.\n")
+                .append(" */\n")
+                .append(bean.getModifiers().contains(Modifier.PUBLIC) ? "public " : "")
+                .append("final class ").append(className).append(" {\n\n")
+                .append("    private ").append(className).append("() {\n")
+                .append("    }\n\n");
+        for (CollectionProperty property : properties) {
+            property.write(out, beanType);
+        }
+        out.setLength(out.length() - 1);
+        out.append("}\n");
+        String qualifiedName = packageElement.isUnnamed() ? className : packageName + '.' + className;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, bean);
+            try (Writer writer = file.openWriter()) {
+                writer.write(out.toString());
+            }
+        } catch (IOException e) {
+            error(bean, "Generation of " + qualifiedName + " failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Report error of processed element.
+     *
+     * @param element element causing error.
+     * @param message description of error.
+     */
+    protected void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
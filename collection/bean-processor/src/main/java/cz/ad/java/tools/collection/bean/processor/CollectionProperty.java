@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean.processor;
+
+/**
+ * Collection or map member of bean accessed by getter and optionally by setter, for which typed accessors are
+ * generated. Types are kept as source code, so they are written into generated class without any other processing.
+ */
+final class CollectionProperty {
+    /**
+     * Javadoc of key parameter of generated methods.
+     */
+    private static final String KEY_DOC = "     * @param key key in member.\n";
+    /**
+     * Javadoc of value parameter of generated methods.
+     */
+    private static final String VALUE_DOC = "     * @param value value in member.\n";
+    /**
+     * Javadoc of source parameter of generated methods.
+     */
+    private static final String SOURCE_DOC = "     * @param source values added into member, ignored when empty.\n";
+
+    /**
+     * Name of property starting by upper case used as suffix of generated methods, for example {@code Items}.
+     */
+    final String name;
+    /**
+     * Name of getter method providing member of bean.
+     */
+    final String getter;
+    /**
+     * Name of setter method storing initialized member into bean, null when bean has no setter.
+     */
+    final String setter;
+    /**
+     * Declared type of member.
+     */
+    final String type;
+    /**
+     * Expression creating new instance of member, null when type can't be instantiated.
+     */
+    final String init;
+    /**
+     * Type of value in collection or type of key in map.
+     */
+    final String keyType;
+    /**
+     * Type of value in map, null for collection.
+     */
+    final String valueType;
+
+    /**
+     * Create new property of bean.
+     *
+     * @param name      name of property used as suffix of generated methods.
+     * @param getter    name of getter method.
+     * @param setter    name of setter method, null when bean has no setter.
+     * @param type      declared type of member.
+     * @param init      expression creating new instance of member, null when type can't be instantiated.
+     * @param keyType   type of value in collection or type of key in map.
+     * @param valueType type of value in map, null for collection.
+     */
+    CollectionProperty(
+            String name, String getter, String setter, String type, String init, String keyType, String valueType
+    ) {
+        this.name = name;
+        this.getter = getter;
+        this.setter = setter;
+        this.type = type;
+        this.init = init;
+        this.keyType = keyType;
+        this.valueType = valueType;
+    }
+
+    /**
+     * Check if property is map member.
+     *
+     * @return true for map, false for collection.
+     */
+    boolean isMap() {
+        return valueType != null;
+    }
+
+    /**
+     * Write source code of all accessors of property.
+     *
+     * @param out      buffer with source code of generated class.
+     * @param beanType type of bean.
+     */
+    void write(StringBuilder out, String beanType) {
+        writeIsEmpty(out, beanType);
+        if (isMap()) {
+            writeModification(out, beanType, "put", keyType + " key, " + valueType + " value",
+                    KEY_DOC + VALUE_DOC, "retValue.put(key, value);", false);
+            writeModification(out, beanType, "putAll",
+                    "java.util.Map<? extends " + keyType + ", ? extends " + valueType + "> source",
+                    SOURCE_DOC, "retValue.putAll(source);", true);
+            writeQuery(out, beanType, "contains" + name + "Key", keyType + " key", KEY_DOC, "containsKey(key)");
+            writeRemoveKey(out, beanType);
+        } else {
+            writeModification(out, beanType, "add", keyType + " value", VALUE_DOC, "retValue.add(value);", false);
+            writeModification(out, beanType, "addAll", "java.util.Collection<? extends " + keyType + "> source",
+                    SOURCE_DOC, "retValue.addAll(source);", true);
+            writeQuery(out, beanType, "contains" + name, keyType + " value", VALUE_DOC, "contains(value)");
+            writeQuery(out, beanType, "remove" + name, keyType + " value", VALUE_DOC, "remove(value)");
+        }
+    }
+
+    /**
+     * Write accessor verifying if member has no records.
+     *
+     * @param out      buffer with source code of generated class.
+     * @param beanType type of bean.
+     */
+    private void writeIsEmpty(StringBuilder out, String beanType) {
+        out.append("    /**\n")
+                .append("     * Verify if member provided by {@code ").append(getter).append("} has no records.\n")
+                .append("     *\n")
+                .append("     * @param bean bean owning member.\n")
+                .append("     * @return true if bean or member is null or member is empty, otherwise false.\n")
+                .append("     */\n")
+                .append("    public static boolean is").append(name).append("Empty(").append(beanType)
+                .append(" bean) {\n")
+                .append("        boolean retValue = true;\n")
+                .append("        if (bean != null) {\n")
+                .append("            ").append(type).append(" member = bean.").append(getter).append("();\n")
+                .append("            retValue = member == null || member.isEmpty();\n")
+                .append("        }\n")
+                .append("        return retValue;\n")
+                .append("    }\n\n");
+    }
+
+    /**
+     * Write accessor modifying member, which is initialized when it is null.
+     *
+     * @param out        buffer with source code of generated class.
+     * @param beanType   type of bean.
+     * @param operation  name of operation used as prefix of method name.
+     * @param parameters method parameters following bean.
+     * @param doc        javadoc of method parameters following bean.
+     * @param statement  statement modifying member stored in {@code retValue} variable.
+     * @param bulk       true when last parameter is source, which is not processed when it is null or empty.
+     */
+    private void writeModification(
+            StringBuilder out, String beanType, String operation, String parameters, String doc, String statement,
+            boolean bulk
+    ) {
+        String indent = bulk ? "            " : "        ";
+        out.append("    /**\n")
+                .append("     * Call ").append(operation).append(" safely on member provided by {@code ").append(getter)
+                .append("}");
+        if (init != null) {
+            out.append(", member is initialized when it is null");
+            if (setter != null) {
+                out.append(" and stored by {@code ").append(setter).append("}");
+            }
+        }
+        out.append(".\n")
+                .append("     *\n")
+                .append("     * @param bean bean owning member.\n")
+                .append(doc)
+                .append(bulk ? "     * @return member with added source values or null when source is empty.\n"
+                        : "     * @return modified member or null when bean or member is null.\n")
+                .append("     */\n")
+                .append("    public static ").append(type).append(' ').append(operation).append(name).append('(')
+                .append(beanType).append(" bean, ").append(parameters).append(") {\n")
+                .append("        ").append(type).append(" retValue = null;\n");
+        if (bulk) {
+            out.append("        if (source != null && !source.isEmpty()) {\n");
+        }
+        out.append(indent).append("if (bean != null) {\n")
+                .append(indent).append("    retValue = bean.").append(getter).append("();\n");
+        if (init != null) {
+            out.append(indent).append("    if (retValue == null) {\n")
+                    .append(indent).append("        retValue = ").append(init).append(";\n");
+            if (setter != null) {
+                out.append(indent).append("        bean.").append(setter).append("(retValue);\n");
+            }
+            out.append(indent).append("    }\n");
+        }
+        if (init != null) {
+            // new instance is never null, so modification doesn't need another check
+            out.append(indent).append("    ").append(statement).append('\n');
+        } else {
+            out.append(indent).append("    if (retValue != null) {\n")
+                    .append(indent).append("        ").append(statement).append('\n')
+                    .append(indent).append("    }\n");
+        }
+        out.append(indent).append("}\n");
+        if (bulk) {
+            out.append("        }\n");
+        }
+        out.append("        return retValue;\n")
+                .append("    }\n\n");
+    }
+
+    /**
+     * Write accessor calling query or removal on member when it is not null.
+     *
+     * @param out        buffer with source code of generated class.
+     * @param beanType   type of bean.
+     * @param method     name of generated method.
+     * @param parameter  method parameter following bean.
+     * @param doc        javadoc of method parameter following bean.
+     * @param expression boolean expression evaluated on member.
+     */
+    private void writeQuery(
+            StringBuilder out, String beanType, String method, String parameter, String doc, String expression
+    ) {
+        out.append("    /**\n")
+                .append("     * Call ").append(expression, 0, expression.indexOf('('))
+                .append(" safely on member provided by {@code ").append(getter).append("}.\n")
+                .append("     *\n")
+                .append("     * @param bean bean owning member.\n")
+                .append(doc)
+                .append("     * @return result of operation or false when bean or member is null.\n")
+                .append("     */\n")
+                .append("    public static boolean ").append(method).append('(').append(beanType).append(" bean, ")
+                .append(parameter).append(") {\n")
+                .append("        boolean retValue = false;\n")
+                .append("        if (bean != null) {\n")
+                .append("            ").append(type).append(" member = bean.").append(getter).append("();\n")
+                .append("            retValue = member != null && member.").append(expression).append(";\n")
+                .append("        }\n")
+                .append("        return retValue;\n")
+                .append("    }\n\n");
+    }
+
+    /**
+     * Write accessor removing key from map member. Removal is detected by change of size, so entry with null value is
+     * reported as removed too.
+     *
+     * @param out      buffer with source code of generated class.
+     * @param beanType type of bean.
+     */
+    private void writeRemoveKey(StringBuilder out, String beanType) {
+        out.append("    /**\n")
+                .append("     * Remove safely key from member provided by {@code ").append(getter).append("}.\n")
+                .append("     *\n")
+                .append("     * @param bean bean owning member.\n")
+                .append(KEY_DOC)
+                .append("     * @return true when key was removed, otherwise false.\n")
+                .append("     */\n")
+                .append("    public static boolean remove").append(name).append('(').append(beanType)
+                .append(" bean, ").append(keyType).append(" key) {\n")
+                .append("        boolean retValue = false;\n")
+                .append("        if (bean != null) {\n")
+                .append("            ").append(type).append(" member = bean.").append(getter).append("();\n")
+                .append("            if (member != null && !member.isEmpty()) {\n")
+                .append("                int size = member.size();\n")
+                .append("                retValue = member.remove(key) != null || member.size() != size;\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return retValue;\n")
+                .append("    }\n\n");
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Module providing annotation processor generating static typed accessors of collection members of beans.
+ */
+module cz.ad.java.tools.collection.bean.processor {
+    requires cz.ad.java.tools.collection.bean;
+    requires java.compiler;
+    exports cz.ad.java.tools.collection.bean.processor;
+
+    provides javax.annotation.processing.Processor
+            with cz.ad.java.tools.collection.bean.processor.BeanCollectionsProcessor;
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanCollectionsProcessorTest {
+    private static final String BEAN = "package sample;\n"
+            + "import cz.ad.java.tools.collection.bean.BeanCollections;\n"
+            + "import java.util.*;\n"
+            + "@BeanCollections\n"
+            + "public class Bean {\n"
+            + "    private List<String> items;\n"
+            + "    private SortedMap<String, Integer> attributes;\n"
+            + "    private Set<Long> ids;\n"
+            + "    private LinkedList<String> history;\n"
+            + "    private List<? extends Number> numbers;\n"
+            + "    public List<String> getItems() { return items; }\n"
+            + "    public void setItems(List<String> items) { this.items = items; }\n"
+            + "    public SortedMap<String, Integer> getAttributes() { return attributes; }\n"
+            + "    public void setAttributes(SortedMap<String, Integer> attributes) { this.attributes = attributes; }\n"
+            + "    public Set<Long> getIds() { return ids; }\n"
+            + "    public LinkedList<String> getHistory() { return history; }\n"
+            + "    public void setHistory(LinkedList<String> history) { this.history = history; }\n"
+            + "    public List<? extends Number> getNumbers() { return numbers; }\n"
+            + "    public String getName() { return null; }\n"
+            + "}\n";
+
+    @Test
+    void collectionAccessors(@TempDir Path output) throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(output, "sample.Bean", BEAN);
+        assertTrue(diagnostics.stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR), diagnostics.toString());
+        assertTrue(Files.exists(output.resolve("sample/BeanCollections.java")));
+        URL[] urls = {output.toUri().toURL()};
+        try (URLClassLoader loader = new URLClassLoader(urls, getClass().getClassLoader())) {
+            Class<?> beanClass = loader.loadClass("sample.Bean");
+            Class<?> accessors = loader.loadClass("sample.BeanCollections");
+            Object bean = beanClass.getConstructor().newInstance();
+
+            assertTrue((Boolean) invoke(accessors, "isItemsEmpty", bean));
+            assertTrue((Boolean) invoke(accessors, "isItemsEmpty", (Object) null));
+            assertNull(invoke(accessors, "addItems", null, "a"));
+            Object items = invoke(accessors, "addItems", bean, "a");
+            assertTrue(items instanceof ArrayList);
+            assertSame(items, beanClass.getMethod("getItems").invoke(bean));
+            assertSame(items, invoke(accessors, "addItems", bean, "b"));
+            assertEquals(Arrays.asList("a", "b"), items);
+            assertFalse((Boolean) invoke(accessors, "isItemsEmpty", bean));
+            assertTrue((Boolean) invoke(accessors, "containsItems", bean, "a"));
+            assertTrue((Boolean) invoke(accessors, "removeItems", bean, "a"));
+            assertFalse((Boolean) invoke(accessors, "containsItems", bean, "a"));
+            assertNull(invoke(accessors, "addAllItems", bean, Collections.emptyList()));
+            assertSame(items, invoke(accessors, "addAllItems", bean, Arrays.asList("c", "d")));
+            assertEquals(Arrays.asList("b", "c", "d"), items);
+
+            Object attributes = invoke(accessors, "putAttributes", bean, "a", 1);
+            assertTrue(attributes instanceof TreeMap);
+            assertSame(attributes, beanClass.getMethod("getAttributes").invoke(bean));
+            assertTrue((Boolean) invoke(accessors, "containsAttributesKey", bean, "a"));
+            assertNull(invoke(accessors, "putAllAttributes", bean, Collections.emptyMap()));
+            assertSame(attributes, invoke(accessors, "putAllAttributes", bean, Collections.singletonMap("b", 2)));
+            assertEquals(2, ((Map<?, ?>) attributes).size());
+            assertTrue((Boolean) invoke(accessors, "removeAttributes", bean, "a"));
+            assertFalse((Boolean) invoke(accessors, "removeAttributes", bean, "a"));
+
+            // member without setter is initialized for single call, but it is not stored into bean
+            Object ids = invoke(accessors, "addIds", bean, 1L);
+            assertEquals(Collections.singleton(1L), ids);
+            assertNull(beanClass.getMethod("getIds").invoke(bean));
+
+            // concrete member type is initialized by its public constructor
+            assertTrue(invoke(accessors, "addHistory", bean, "a") instanceof LinkedList);
+
+            assertThrows(NoSuchMethodException.class, () -> accessors.getMethod("addNumbers", beanClass, Number.class));
+            assertThrows(NoSuchMethodException.class, () -> accessors.getMethod("isNameEmpty", beanClass));
+        }
+        assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING
+                && d.getMessage(null).contains("wildcard")), diagnostics.toString());
+    }
+
+    @Test
+    void nestedBean(@TempDir Path output) throws Exception {
+        String source = "package sample;\n"
+                + "public class Outer {\n"
+                + "    @cz.ad.java.tools.collection.bean.BeanCollections\n"
+                + "    public static class Inner {\n"
+                + "        private java.util.Map<String, String> values;\n"
+                + "        public java.util.Map<String, String> getValues() { return values; }\n"
+                + "        public void setValues(java.util.Map<String, String> values) { this.values = values; }\n"
+                + "    }\n"
+                + "}\n";
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(output, "sample.Outer", source);
+        assertTrue(diagnostics.stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR), diagnostics.toString());
+        assertTrue(Files.exists(output.resolve("sample/Outer_InnerCollections.java")));
+    }
+
+    @Test
+    void invalidTarget(@TempDir Path output) throws Exception {
+        String source = "package sample;\n"
+                + "@cz.ad.java.tools.collection.bean.BeanCollections\n"
+                + "public class Generic<T> {\n"
+                + "    public java.util.List<T> getItems() { return null; }\n"
+                + "}\n";
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(output, "sample.Generic", source);
+        assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR
+                && d.getMessage(null).contains("generic")), diagnostics.toString());
+        source = "package sample;\n"
+                + "@cz.ad.java.tools.collection.bean.BeanCollections\n"
+                + "public interface Api {\n"
+                + "}\n";
+        diagnostics = compile(output, "sample.Api", source);
+        assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR
+                && d.getMessage(null).contains("only on class")), diagnostics.toString());
+    }
+
+    @Test
+    void inheritedGenericGetter(@TempDir Path output) throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("base.Base", "package base;\n"
+                + "public class Base<T> {\n"
+                + "    private java.util.List<T> items;\n"
+                + "    public java.util.List<T> getItems() { return items; }\n"
+                + "    public void setItems(java.util.List<T> items) { this.items = items; }\n"
+                + "    protected java.util.List<T> getHidden() { return null; }\n"
+                + "    java.util.List<T> getInternal() { return null; }\n"
+                + "}\n");
+        sources.put("sample.Bean", "package sample;\n"
+                + "@cz.ad.java.tools.collection.bean.BeanCollections\n"
+                + "public class Bean extends base.Base<String> {\n"
+                + "}\n");
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(output, sources);
+        assertTrue(diagnostics.stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR), diagnostics.toString());
+        URL[] urls = {output.toUri().toURL()};
+        try (URLClassLoader loader = new URLClassLoader(urls, getClass().getClassLoader())) {
+            Class<?> beanClass = loader.loadClass("sample.Bean");
+            Class<?> accessors = loader.loadClass("sample.BeanCollections");
+            Object bean = beanClass.getConstructor().newInstance();
+            assertNotNull(accessors.getMethod("addItems", beanClass, String.class));
+            Object items = invoke(accessors, "addItems", bean, "a");
+            assertSame(items, beanClass.getMethod("getItems").invoke(bean));
+            // protected and package private getters of superclass from other package can't be called
+            assertThrows(NoSuchMethodException.class, () -> invoke(accessors, "addHidden", bean, "a"));
+            assertThrows(NoSuchMethodException.class, () -> invoke(accessors, "addInternal", bean, "a"));
+        }
+    }
+
+    private static Object invoke(Class<?> accessors, String name, Object... arguments) throws Exception {
+        Object retValue = null;
+        boolean found = false;
+        for (Method method : accessors.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == arguments.length) {
+                retValue = method.invoke(null, arguments);
+                found = true;
+                break;
+            }
+        }
+        if (!found) {
+            throw new NoSuchMethodException(name);
+        }
+        return retValue;
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(Path output, String className, String source)
+            throws Exception {
+        return compile(output, Collections.singletonMap(className, source));
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(Path output, Map<String, String> sources)
+            throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> files = new ArrayList<>();
+        sources.forEach((className, source) -> files.add(new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        }));
+        List<String> options = Arrays.asList("-d", output.toString(), "-s", output.toString(),
+                "-classpath", System.getProperty("java.class.path"));
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null, null, diagnostics, options, null, files);
+        task.setProcessors(Collections.singletonList(new BeanCollectionsProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Executor of bulk updates of many beans, where every bean is processed by separate task. It is intended for beans
+ * whose getters block, for example lazy loading proxies or DTOs backed by remote calls, so waits of beans overlap
+ * instead of being serialized. Operations with beans are delegated to {@link BeanCollectionUtils}.
+ * <p>
+ * Every batch runs in its own executor created by executor factory and closed when batch finishes. Default factory
+ * provides executor starting virtual thread per task when runtime supports them, otherwise cached pool of platform
+ * threads is used. Amount of tasks running at once is bounded by parallelism of batch, submission of next bean waits
+ * until running task finishes. Failures of beans don't stop batch, they are collected into {@link BeanBatchResult}.
+ * Every bean must be provided only once and it must not be modified by other threads during batch.
+ */
+public class BeanBatchExecutor {
+    /**
+     * Default maximal amount of beans processed at once by single batch.
+     */
+    public static final int DEFAULT_PARALLELISM = 256;
+    /**
+     * Factory of executor starting virtual thread per task, null when runtime doesn't support virtual threads.
+     */
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutor();
+
+    /**
+     * Bean collection utils performing operations with single bean.
+     */
+    protected BeanCollectionUtils utils;
+    /**
+     * Maximal amount of beans processed at once by single batch.
+     */
+    protected int parallelism;
+    /**
+     * Factory of executor used by single batch.
+     */
+    protected Supplier<ExecutorService> executorFactory;
+
+    /**
+     * Default constructor using shared default bean collection utils, default parallelism and default executor
+     * factory.
+     */
+    public BeanBatchExecutor() {
+        this(BeanCollectionUtils.DEFAULT_INSTANCE, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Constructor allowing to define bean collection utils and parallelism, default executor factory is used.
+     *
+     * @param utils       bean collection utils performing operations with single bean. Must not be null.
+     * @param parallelism maximal amount of beans processed at once by single batch. Must be positive.
+     * @throws IllegalArgumentException when utils is null or parallelism is not positive.
+     */
+    public BeanBatchExecutor(BeanCollectionUtils utils, int parallelism) throws IllegalArgumentException {
+        this(utils, parallelism, BeanBatchExecutor::newExecutor);
+    }
+
+    /**
+     * Constructor allowing to define bean collection utils, parallelism and factory of executor used by single batch.
+     *
+     * @param utils           bean collection utils performing operations with single bean. Must not be null.
+     * @param parallelism     maximal amount of beans processed at once by single batch. Must be positive.
+     * @param executorFactory factory of executor used by single batch, executor is shut down when batch finishes.
+     *                        Must not be null.
+     * @throws IllegalArgumentException when utils or factory is null or parallelism is not positive.
+     */
+    public BeanBatchExecutor(BeanCollectionUtils utils, int parallelism, Supplier<ExecutorService> executorFactory)
+            throws IllegalArgumentException {
+        if (utils == null) {
+            throw new IllegalArgumentException("BeanCollectionUtils must not be null");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (executorFactory == null) {
+            throw new IllegalArgumentException("Executor factory must not be null");
+        }
+        this.utils = utils;
+        this.parallelism = parallelism;
+        this.executorFactory = executorFactory;
+    }
+
+    /**
+     * Verify if runtime supports virtual threads used by default executor factory.
+     *
+     * @return true when default executor starts virtual thread per task, otherwise false.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Create new executor starting virtual thread per task when runtime supports virtual threads, otherwise cached
+     * pool of platform threads is created.
+     *
+     * @return new executor for single batch.
+     */
+    public static ExecutorService newExecutor() {
+        ExecutorService retValue = null;
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                retValue = (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                // factory method has no checked exceptions, fall back to platform threads
+            }
+        }
+        if (retValue == null) {
+            retValue = Executors.newCachedThreadPool();
+        }
+        return retValue;
+    }
+
+    /**
+     * Apply operation on every provided bean by separate task. Null beans are skipped.
+     *
+     * @param beans     beans to be processed.
+     * @param operation operation with single bean, called concurrently.
+     * @param <B>       type of bean.
+     * @return result with amount of succeeded beans and failures of other beans, empty result when beans or operation
+     *         is null.
+     * @throws InterruptedException when calling thread is interrupted while waiting for tasks, running tasks are
+     *                              interrupted too.
+     */
+    public <B> BeanBatchResult<B> forEach(Collection<B> beans, Consumer<B> operation) throws InterruptedException {
+        AtomicInteger succeeded = new AtomicInteger();
+        Queue<BeanBatchResult.Failure<B>> failures = new ConcurrentLinkedQueue<>();
+        if (beans != null && operation != null && !beans.isEmpty()) {
+            Semaphore permits = new Semaphore(parallelism);
+            ExecutorService executor = executorFactory.get();
+            try {
+                for (B bean : beans) {
+                    if (bean != null) {
+                        permits.acquire();
+                        try {
+                            executor.execute(() -> {
+                                try {
+                                    operation.accept(bean);
+                                    succeeded.incrementAndGet();
+                                } catch (Throwable e) {
+                                    failures.add(new BeanBatchResult.Failure<>(bean, e));
+                                } finally {
+                                    permits.release();
+                                }
+                            });
+                        } catch (RejectedExecutionException e) {
+                            permits.release();
+                            failures.add(new BeanBatchResult.Failure<>(bean, e));
+                        }
+                    }
+                }
+                // all permits are available again only when every submitted task finished
+                permits.acquire(parallelism);
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                throw e;
+            } finally {
+                executor.shutdown();
+            }
+        }
+        return new BeanBatchResult<>(succeeded.get(), new ArrayList<>(failures));
+    }
+
+    /**
+     * Add value into collection member of every provided bean by separate task, null members are initialized by init
+     * supplier and set into bean by setter function.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean, called concurrently.
+     * @param setter consumer used in case when bean member is null and needs to be initialized, called concurrently.
+     * @param init   supplier to provide new instance in case when collection member is null, called concurrently.
+     * @param value  value to be added into collections.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value.
+     * @return result with amount of succeeded beans and failures of other beans.
+     * @throws InterruptedException when calling thread is interrupted while waiting for tasks.
+     */
+    public <B, C extends Collection<V>, V> BeanBatchResult<B> addToAll(
+            Collection<B> beans, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init, V value
+    ) throws InterruptedException {
+        return forEach(beans, bean -> utils.add(bean, getter, setter, init, value));
+    }
+
+    /**
+     * Put key and value pair into map member of every provided bean by separate task, null members are initialized by
+     * init supplier and set into bean by setter function.
+     *
+     * @param beans  beans owning map members.
+     * @param getter function providing map member of bean, called concurrently.
+     * @param setter consumer used in case when bean member is null and needs to be initialized, called concurrently.
+     * @param init   supplier to provide new instance in case when map member is null, called concurrently.
+     * @param key    key connected to value in maps.
+     * @param value  value stored in maps connected to key.
+     * @param <B>    type of bean.
+     * @param <M>    type of map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return result with amount of succeeded beans and failures of other beans.
+     * @throws InterruptedException when calling thread is interrupted while waiting for tasks.
+     */
+    public <B, M extends Map<K, V>, K, V> BeanBatchResult<B> putToAll(
+            Collection<B> beans, Function<B, M> getter, BiConsumer<B, M> setter, Supplier<M> init, K key, V value
+    ) throws InterruptedException {
+        return forEach(beans, bean -> utils.put(bean, getter, setter, init, key, value));
+    }
+
+    /**
+     * Remove value from collection member of every provided bean by separate task. Null members are skipped.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean, called concurrently.
+     * @param value  value to be removed from collections.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value.
+     * @return result with amount of succeeded beans and failures of other beans.
+     * @throws InterruptedException when calling thread is interrupted while waiting for tasks.
+     */
+    public <B, C extends Collection<V>, V> BeanBatchResult<B> removeFromAll(
+            Collection<B> beans, Function<B, C> getter, V value
+    ) throws InterruptedException {
+        return forEach(beans, bean -> utils.remove(() -> getter.apply(bean), value));
+    }
+
+    /**
+     * Resolve factory method of executor starting virtual thread per task, which is available since java 21.
+     *
+     * @return handle of factory method or null when runtime doesn't support virtual threads.
+     */
+    private static MethodHandle virtualThreadExecutor() {
+        MethodHandle retValue = null;
+        try {
+            retValue = MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // older runtime, platform threads are used
+        }
+        return retValue;
+    }
+
+    @Override
+    public String toString() {
+        return "BeanBatchExecutor{" +
+                "utils=" + utils +
+                ", parallelism=" + parallelism +
+                ", virtualThreads=" + isVirtualThreadSupported() +
+                '}';
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of bulk update of beans executed by {@link BeanBatchExecutor}. Failure of operation with one bean doesn't stop
+ * processing of other beans, it is recorded together with bean, so caller can retry or report failed beans only.
+ *
+ * @param <B> type of bean.
+ */
+public final class BeanBatchResult<B> {
+    /**
+     * Amount of beans processed without failure.
+     */
+    private final int succeeded;
+    /**
+     * Failures of beans which were not processed.
+     */
+    private final List<Failure<B>> failures;
+
+    /**
+     * Create new result of batch.
+     *
+     * @param succeeded amount of beans processed without failure.
+     * @param failures  failures of beans which were not processed.
+     */
+    BeanBatchResult(int succeeded, List<Failure<B>> failures) {
+        this.succeeded = succeeded;
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * Provide amount of beans processed without failure.
+     *
+     * @return amount of succeeded beans.
+     */
+    public int succeeded() {
+        return succeeded;
+    }
+
+    /**
+     * Provide failures of beans which were not processed, order of failures is not defined.
+     *
+     * @return unmodifiable list of failures, empty when all beans succeeded.
+     */
+    public List<Failure<B>> failures() {
+        return failures;
+    }
+
+    /**
+     * Verify if all beans of batch were processed without failure.
+     *
+     * @return true when no failure was recorded, otherwise false.
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BeanBatchResult{" +
+                "succeeded=" + succeeded +
+                ", failures=" + failures +
+                '}';
+    }
+
+    /**
+     * Failure of operation with single bean.
+     *
+     * @param <B> type of bean.
+     */
+    public static final class Failure<B> {
+        /**
+         * Bean which was not processed.
+         */
+        private final B bean;
+        /**
+         * Cause of failure.
+         */
+        private final Throwable cause;
+
+        /**
+         * Create new failure of bean.
+         *
+         * @param bean  bean which was not processed.
+         * @param cause cause of failure.
+         */
+        Failure(B bean, Throwable cause) {
+            this.bean = bean;
+            this.cause = cause;
+        }
+
+        /**
+         * Provide bean which was not processed.
+         *
+         * @return failed bean.
+         */
+        public B bean() {
+            return bean;
+        }
+
+        /**
+         * Provide cause of failure thrown by operation or by executor rejecting it.
+         *
+         * @return cause of failure.
+         */
+        public Throwable cause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "bean=" + bean +
+                    ", cause=" + cause +
+                    '}';
+        }
+    }
+}
@@ -25,7 +25,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -133,4 +135,121 @@ public interface BeanCollectionAddUtils extends BeanCollectionUtils {
     ) {
         return putAll(getter, setter, HashMap::new, source);
     }
+
+    /**
+     * Add safely value into bean list member accessed by getter function applied on bean, if list is null new instance
+     * of ArrayList is set into bean by setter function. Getter and setter are expected to be unbound method references,
+     * for example {@code Bean::getItems} and {@code Bean::setItems}, so call doesn't allocate any lambda instance.
+     *
+     * @param bean   bean owning list member.
+     * @param getter function providing list member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param value  value to be added into list.
+     * @param <B>    type of bean.
+     * @param <V>    type of value.
+     * @return provided list or initialized new instance of ArrayList with added value.
+     */
+    default <B, V> List<V> addList(B bean, Function<B, List<V>> getter, BiConsumer<B, List<V>> setter, V value) {
+        return add(bean, getter, setter, ArrayList::new, value);
+    }
+
+    /**
+     * Add safely value into bean set member accessed by getter function applied on bean, if set is null new instance
+     * of HashSet is set into bean by setter function.
+     *
+     * @param bean   bean owning set member.
+     * @param getter function providing set member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param value  value to be added into set.
+     * @param <B>    type of bean.
+     * @param <V>    type of value.
+     * @return provided set or initialized new instance of HashSet with added value.
+     */
+    default <B, V> Set<V> addSet(B bean, Function<B, Set<V>> getter, BiConsumer<B, Set<V>> setter, V value) {
+        return add(bean, getter, setter, HashSet::new, value);
+    }
+
+    /**
+     * Add safely values from source collection into bean list member accessed by getter function applied on bean, if
+     * list is null new instance of ArrayList is set into bean by setter function. If provided source is null or empty
+     * null is return.
+     *
+     * @param bean   bean owning list member.
+     * @param getter function providing list member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param source values to be added into list.
+     * @param <B>    type of bean.
+     * @param <S>    type of source collection.
+     * @param <V>    type of value in collection.
+     * @return original target list or initialized new ArrayList with added provided values if source was not empty,
+     *         otherwise null.
+     */
+    default <B, S extends Collection<V>, V> List<V> addAllList(
+            B bean, Function<B, List<V>> getter, BiConsumer<B, List<V>> setter, S source
+    ) {
+        return addAll(bean, getter, setter, ArrayList::new, source);
+    }
+
+    /**
+     * Add safely values from source collection into bean set member accessed by getter function applied on bean, if
+     * set is null new instance of HashSet is set into bean by setter function. If provided source is null or empty
+     * null is return.
+     *
+     * @param bean   bean owning set member.
+     * @param getter function providing set member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param source values to be added into set.
+     * @param <B>    type of bean.
+     * @param <S>    type of source collection.
+     * @param <V>    type of value in collection.
+     * @return original target set or initialized new HashSet with added provided values if source was not empty,
+     *         otherwise null.
+     */
+    default <B, S extends Collection<V>, V> Set<V> addAllSet(
+            B bean, Function<B, Set<V>> getter, BiConsumer<B, Set<V>> setter, S source
+    ) {
+        return addAll(bean, getter, setter, HashSet::new, source);
+    }
+
+    /**
+     * Put safely key and value pair into bean map member accessed by getter function applied on bean, if map is null
+     * new instance of HashMap is set into bean by setter function.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param key    key connected to value in map.
+     * @param value  value stored in map connected to key.
+     * @param <B>    type of bean.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return provided map or initialized new HashMap with added key and value.
+     */
+    default <B, K, V> Map<K, V> putMap(
+            B bean, Function<B, Map<K, V>> getter, BiConsumer<B, Map<K, V>> setter, K key, V value
+    ) {
+        return put(bean, getter, setter, HashMap::new, key, value);
+    }
+
+    /**
+     * Put safely values from source map into bean map member accessed by getter function applied on bean, if map is
+     * null new instance of HashMap is set into bean by setter function. When source map has no records null is
+     * returned.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param source map with source data
+     * @param <B>    type of bean.
+     * @param <S>    type of source map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return target map or initialized new HashMap with all values from provided map if it was not empty.
+     *         Otherwise, null.
+     */
+    default <B, S extends Map<K, V>, K, V> Map<K, V> putAllMap(
+            B bean, Function<B, Map<K, V>> getter, BiConsumer<B, Map<K, V>> setter, S source
+    ) {
+        return putAll(bean, getter, setter, HashMap::new, source);
+    }
 }
@@ -22,9 +22,14 @@ import cz.ad.java.tools.collection.core.CollectionAddUtils;
 import cz.ad.java.tools.collection.core.CollectionUtils;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 /**
@@ -349,4 +354,241 @@ public interface BeanCollectionUtils {
      * @return true if target collection was modified
      */
     <T extends Collection<V>, S extends Collection<V>, V> boolean retainAll(Supplier<T> getter, S source);
+
+    /**
+     * Verify if bean collection member accessed by getter function applied on bean has no records. Getter is usually
+     * unbound method reference, for example {@code Bean::getItems}, which is not capturing and so it is not allocated
+     * per call as bound reference {@code bean::getItems}.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value in collection.
+     * @return true if bean, getter or provided collection is null or collection is empty, otherwise false.
+     */
+    <B, C extends Collection<V>, V> boolean isEmpty(B bean, Function<B, C> getter);
+
+    /**
+     * Verify if bean collection member accessed by getter function applied on bean has records.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value in collection.
+     * @return true if provided collection has records, otherwise false.
+     */
+    <B, C extends Collection<V>, V> boolean isNotEmpty(B bean, Function<B, C> getter);
+
+    /**
+     * Validate safely if bean collection member accessed by getter function applied on bean contains value.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param value  value searched in collection for presence.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value.
+     * @return true when value is in collection, otherwise false.
+     */
+    <B, C extends Collection<V>, V> boolean contains(B bean, Function<B, C> getter, V value);
+
+    /**
+     * Validate safely if bean map member accessed by getter function applied on bean contains key.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param key    key searched in map for presence.
+     * @param <B>    type of bean.
+     * @param <M>    type of map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return true when key is in map, otherwise false.
+     */
+    <B, M extends Map<K, V>, K, V> boolean containsKey(B bean, Function<B, M> getter, K key);
+
+    /**
+     * Add safely value into bean collection member accessed by getter function applied on bean, if collection is null
+     * use init to supply new instance of collection, which is set into bean by setter function. Getter, setter and init
+     * are usually unbound method references, for example {@code Bean::getItems}, {@code Bean::setItems} and
+     * {@code ArrayList::new}, which are not capturing, so call doesn't allocate any lambda instance.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provide new instance in case when provided collection is null.
+     * @param value  value to be added into collection.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value.
+     * @return provided collection or initialized by supplier with added value, null when bean or getter is null.
+     */
+    <B, C extends Collection<V>, V> C add(
+            B bean, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init, V value
+    );
+
+    /**
+     * Add safely values from source collection into bean collection member accessed by getter function applied on
+     * bean, if collection is null it is initialized by init supplier and set into bean by setter function. If provided
+     * source is null or empty target without change is return.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provide new instance in case when provided collection is null.
+     * @param source values to be added into collection.
+     * @param <B>    type of bean.
+     * @param <T>    type of target collection.
+     * @param <S>    type of source collection.
+     * @param <V>    type of value in collection.
+     * @return original target collection or initialized new collection with added provided values if source was not
+     *         empty, otherwise null.
+     */
+    <B, T extends Collection<V>, S extends Collection<V>, V> T addAll(
+            B bean, Function<B, T> getter, BiConsumer<B, T> setter, Supplier<T> init, S source
+    );
+
+    /**
+     * Put safely key and value pair into bean map member accessed by getter function applied on bean, if map is null
+     * init is used to supply new instance, which is set into bean by setter function.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provided new instance in case when provided map is null.
+     * @param key    key connected to value in map.
+     * @param value  value stored in map connected to key.
+     * @param <B>    type of bean.
+     * @param <M>    type of map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return provided map or initialized by supplier with added key and value, null when bean or getter is null.
+     */
+    <B, M extends Map<K, V>, K, V> M put(
+            B bean, Function<B, M> getter, BiConsumer<B, M> setter, Supplier<M> init, K key, V value
+    );
+
+    /**
+     * Put safely values from source map into bean map member accessed by getter function applied on bean and when map
+     * is null new instance is created by provided supplier and set into bean by setter function. When source map has
+     * no records target parameter is returned without change.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provided new instance in case when provided map is null.
+     * @param source map with source data
+     * @param <B>    type of bean.
+     * @param <T>    type of target map.
+     * @param <S>    type of source map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return target map or initialized new map with all values from provided values map if it was not empty.
+     *         Otherwise, null.
+     */
+    <B, T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(
+            B bean, Function<B, T> getter, BiConsumer<B, T> setter, Supplier<T> init, S source
+    );
+
+    /**
+     * Add value into collection member of every provided bean in single pass, null members are initialized by init
+     * supplier and set into bean by setter function. Null beans are skipped.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provide new instance in case when collection member is null.
+     * @param value  value to be added into collections.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value.
+     * @return amount of collections modified by added value.
+     */
+    <B, C extends Collection<V>, V> int addToAll(
+            Collection<B> beans, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init, V value
+    );
+
+    /**
+     * Add value into collection member of every provided bean, beans are split into ranges processed in parallel by
+     * provided executor. Every bean must be provided only once and its members must not be modified by other threads
+     * during operation.
+     *
+     * @param beans    beans owning collection members.
+     * @param getter   function providing collection member of bean, called concurrently.
+     * @param setter   consumer used in case when bean member is null and needs to be initialized, called concurrently.
+     * @param init     supplier to provide new instance in case when collection member is null, called concurrently.
+     * @param value    value to be added into collections.
+     * @param executor executor running parallel ranges, null to process beans sequentially by calling thread.
+     * @param <B>      type of bean.
+     * @param <C>      type of collection.
+     * @param <V>      type of value.
+     * @return amount of collections modified by added value.
+     */
+    <B, C extends Collection<V>, V> int addToAll(
+            Collection<B> beans, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init, V value,
+            Executor executor
+    );
+
+    /**
+     * Remove value from collection member of every provided bean in single pass. Null beans and null members are
+     * skipped.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean.
+     * @param value  value to be removed from collections.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value.
+     * @return amount of collections modified by removal.
+     */
+    <B, C extends Collection<V>, V> int removeFromAll(Collection<B> beans, Function<B, C> getter, V value);
+
+    /**
+     * Remove value from collection member of every provided bean, beans are split into ranges processed in parallel by
+     * provided executor. Every bean must be provided only once and its members must not be modified by other threads
+     * during operation.
+     *
+     * @param beans    beans owning collection members.
+     * @param getter   function providing collection member of bean, called concurrently.
+     * @param value    value to be removed from collections.
+     * @param executor executor running parallel ranges, null to process beans sequentially by calling thread.
+     * @param <B>      type of bean.
+     * @param <C>      type of collection.
+     * @param <V>      type of value.
+     * @return amount of collections modified by removal.
+     */
+    <B, C extends Collection<V>, V> int removeFromAll(
+            Collection<B> beans, Function<B, C> getter, V value, Executor executor
+    );
+
+    /**
+     * Collect values of collection member of all provided beans into single list. List is created with capacity of
+     * all collected values, so it is never resized.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value.
+     * @return list of all values in order of beans, null when beans or getter is null.
+     */
+    <B, C extends Collection<V>, V> List<V> collectAll(Collection<B> beans, Function<B, C> getter);
+
+    /**
+     * Collect values of collection member of all provided beans into single collection created by sized init function
+     * with amount of all collected values, for example {@code HashSet::new}.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean.
+     * @param init   function creating target collection for provided amount of values.
+     * @param <B>    type of bean.
+     * @param <C>    type of bean collection.
+     * @param <T>    type of target collection.
+     * @param <V>    type of value.
+     * @return collection of all values, null when beans, getter or init is null.
+     */
+    <B, C extends Collection<V>, T extends Collection<V>, V> T collectAll(
+            Collection<B> beans, Function<B, C> getter, IntFunction<T> init
+    );
 }
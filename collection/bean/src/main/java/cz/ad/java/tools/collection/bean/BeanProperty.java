@@ -0,0 +1,384 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Property of bean accessed by name. Getter and setter are resolved once per bean class by
+ * {@link MethodHandles.Lookup} and cached in {@link ClassValue}, so access by name costs lookup in map of class
+ * properties and call of method handle instead of reflective {@link Method#invoke(Object, Object...)}. Property is
+ * recognized by public getter without parameters, setter accepting type of getter is optional. Property works as
+ * getter function and setter consumer of bean collection utils, other properties are used to navigate to nested beans
+ * by {@link BeanPropertyPath}.
+ * <p>
+ * New instance of property is created by public constructor without parameters of property type, interfaces of
+ * collection framework are initialized by their common implementation, for example {@link ArrayList} for
+ * {@link List}. Properties of other types are never initialized.
+ */
+public final class BeanProperty implements Function<Object, Object>, BiConsumer<Object, Object> {
+    /**
+     * Suppliers of implementations used to initialize properties declared by interfaces of collection framework.
+     */
+    private static final Map<Class<?>, Supplier<?>> IMPLEMENTATIONS = implementations();
+    /**
+     * Properties of bean classes by their names resolved at first access to class.
+     */
+    private static final ClassValue<Map<String, BeanProperty>> PROPERTIES = new ClassValue<
+            Map<String, BeanProperty>>() {
+        @Override
+        protected Map<String, BeanProperty> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /**
+     * Name of property.
+     */
+    private final String name;
+    /**
+     * Declared type of property.
+     */
+    private final Class<?> type;
+    /**
+     * Getter of type {@code (Object)Object}.
+     */
+    private final MethodHandle getter;
+    /**
+     * Setter of type {@code (Object,Object)void}, null for read only property.
+     */
+    private final MethodHandle setter;
+    /**
+     * Supplier of new instance of property, null when type can't be instantiated.
+     */
+    private final Supplier<?> init;
+
+    /**
+     * Create new property.
+     *
+     * @param name   name of property.
+     * @param type   declared type of property.
+     * @param getter getter of type {@code (Object)Object}.
+     * @param setter setter of type {@code (Object,Object)void}, null for read only property.
+     * @param init   supplier of new instance of property, null when type can't be instantiated.
+     */
+    private BeanProperty(String name, Class<?> type, MethodHandle getter, MethodHandle setter, Supplier<?> init) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+        this.init = init;
+    }
+
+    /**
+     * Provide property of bean class.
+     *
+     * @param beanClass class of bean.
+     * @param name      name of property.
+     * @return property of bean class.
+     * @throws IllegalArgumentException when bean class has no accessible property of provided name.
+     */
+    public static BeanProperty of(Class<?> beanClass, String name) throws IllegalArgumentException {
+        BeanProperty retValue = PROPERTIES.get(beanClass).get(name);
+        if (retValue == null) {
+            throw new IllegalArgumentException("Class " + beanClass.getName() + " has no accessible property " + name);
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide all properties of bean class.
+     *
+     * @param beanClass class of bean.
+     * @return unmodifiable map of properties by their names.
+     */
+    public static Map<String, BeanProperty> properties(Class<?> beanClass) {
+        return PROPERTIES.get(beanClass);
+    }
+
+    /**
+     * Provide name of property.
+     *
+     * @return name of property.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Provide declared type of property.
+     *
+     * @return type of property.
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Check if property is collection.
+     *
+     * @return true when type of property is collection.
+     */
+    public boolean isCollection() {
+        return Collection.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Check if property is map.
+     *
+     * @return true when type of property is map.
+     */
+    public boolean isMap() {
+        return Map.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Check if property can be set.
+     *
+     * @return true when bean has setter of property.
+     */
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * Provide supplier of new instance of property.
+     *
+     * @return supplier or null when type of property can't be instantiated.
+     */
+    public Supplier<?> init() {
+        return init;
+    }
+
+    /**
+     * Read value of property from bean.
+     *
+     * @param bean bean owning property, must not be null.
+     * @return value of property.
+     */
+    public Object get(Object bean) {
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Write value of property into bean.
+     *
+     * @param bean  bean owning property, must not be null.
+     * @param value new value of property.
+     * @throws UnsupportedOperationException when property is read only.
+     */
+    public void set(Object bean, Object value) throws UnsupportedOperationException {
+        if (setter == null) {
+            throw new UnsupportedOperationException("Property " + name + " is read only");
+        }
+        try {
+            setter.invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public Object apply(Object bean) {
+        return get(bean);
+    }
+
+    @Override
+    public void accept(Object bean, Object value) {
+        set(bean, value);
+    }
+
+    @Override
+    public String toString() {
+        return "BeanProperty{" +
+                "name=" + name +
+                ", type=" + type.getName() +
+                ", writable=" + isWritable() +
+                '}';
+    }
+
+    /**
+     * Prepare suppliers used to initialize properties declared by interfaces.
+     *
+     * @return map of interfaces to suppliers of their implementations.
+     */
+    private static Map<Class<?>, Supplier<?>> implementations() {
+        Map<Class<?>, Supplier<?>> retValue = new HashMap<>();
+        retValue.put(Collection.class, ArrayList::new);
+        retValue.put(List.class, ArrayList::new);
+        retValue.put(Set.class, HashSet::new);
+        retValue.put(SortedSet.class, TreeSet::new);
+        retValue.put(NavigableSet.class, TreeSet::new);
+        retValue.put(Queue.class, ArrayDeque::new);
+        retValue.put(Deque.class, ArrayDeque::new);
+        retValue.put(Map.class, HashMap::new);
+        retValue.put(SortedMap.class, TreeMap::new);
+        retValue.put(NavigableMap.class, TreeMap::new);
+        retValue.put(ConcurrentMap.class, ConcurrentHashMap::new);
+        return Collections.unmodifiableMap(retValue);
+    }
+
+    /**
+     * Resolve all properties of bean class, getter of {@link Object#getClass()} is not property.
+     *
+     * @param beanClass class of bean.
+     * @return unmodifiable map of properties by their names.
+     */
+    private static Map<String, BeanProperty> resolve(Class<?> beanClass) {
+        Map<String, BeanProperty> retValue = new LinkedHashMap<>();
+        for (Method method : beanClass.getMethods()) {
+            Class<?> type = method.getReturnType();
+            String methodName = method.getName();
+            if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0
+                    && methodName.startsWith("get") && methodName.length() > 3
+                    && type != void.class && method.getDeclaringClass() != Object.class) {
+                MethodHandle getter = handle(method);
+                if (getter != null) {
+                    MethodHandle setter = null;
+                    try {
+                        setter = handle(beanClass.getMethod("set" + methodName.substring(3), type));
+                    } catch (NoSuchMethodException e) {
+                        // property without setter is read only
+                    }
+                    if (setter != null) {
+                        setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    }
+                    String name = decapitalize(methodName.substring(3));
+                    retValue.put(name, new BeanProperty(
+                            name, type, getter.asType(MethodType.methodType(Object.class, Object.class)), setter,
+                            init(type)
+                    ));
+                }
+            }
+        }
+        return Collections.unmodifiableMap(retValue);
+    }
+
+    /**
+     * Provide method handle of public method. Public method of class which is not public is made accessible, when it
+     * is not possible, for example because package of bean is not open, method is not accessible.
+     *
+     * @param method public method of bean.
+     * @return method handle or null when method is not accessible.
+     */
+    private static MethodHandle handle(Method method) {
+        MethodHandle retValue = null;
+        if (!Modifier.isStatic(method.getModifiers())) {
+            try {
+                retValue = MethodHandles.publicLookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                try {
+                    method.setAccessible(true);
+                    retValue = MethodHandles.lookup().unreflect(method);
+                } catch (IllegalAccessException | RuntimeException inaccessible) {
+                    // method is not accessible
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide supplier of new instance of property type.
+     *
+     * @param type declared type of property.
+     * @return supplier or null when type can't be instantiated.
+     */
+    private static Supplier<?> init(Class<?> type) {
+        Supplier<?> retValue = IMPLEMENTATIONS.get(type);
+        if (retValue == null && !type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+            try {
+                Constructor<?> constructor = type.getConstructor();
+                MethodHandle handle = MethodHandles.publicLookup().unreflectConstructor(constructor)
+                        .asType(MethodType.methodType(Object.class));
+                retValue = () -> {
+                    try {
+                        return (Object) handle.invokeExact();
+                    } catch (Throwable e) {
+                        throw failure(e);
+                    }
+                };
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // type without accessible constructor is never initialized
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Convert method name suffix into property name by rules of java beans, first letter is converted to lower case
+     * unless first two letters are upper case.
+     *
+     * @param suffix method name without get or set prefix.
+     * @return name of property.
+     */
+    private static String decapitalize(String suffix) {
+        String retValue = suffix;
+        if (!(suffix.length() > 1 && Character.isUpperCase(suffix.charAt(1))
+                && Character.isUpperCase(suffix.charAt(0)))) {
+            retValue = Character.toLowerCase(suffix.charAt(0)) + suffix.substring(1);
+        }
+        return retValue;
+    }
+
+    /**
+     * Convert throwable of method handle call into unchecked exception.
+     *
+     * @param e throwable of called method.
+     * @return runtime exception to be thrown.
+     */
+    private static RuntimeException failure(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return e instanceof RuntimeException ? (RuntimeException) e : new IllegalStateException(e);
+    }
+}
@@ -0,0 +1,485 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import cz.ad.java.tools.collection.core.CollectionAddUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of bean collection utils accessing collection and map members of bean by property name, for generic
+ * mapping code which doesn't know bean type at compile time. Getter and setter are resolved once per bean class as
+ * {@link BeanProperty} backed by method handles, so access by name doesn't pay for reflective method invocation.
+ * Member is initialized with same semantics as by getter and setter pair, by {@link BeanProperty#init()} supplier
+ * matching declared type of property and new instance is stored by setter when bean has it.
+ * <p>
+ * Property name can be path of nested properties separated by dot, for example {@code customer.addresses}, which is
+ * compiled into {@link BeanPropertyPath} at first use and cached. Modifications create null intermediate beans on
+ * demand, queries never create them. Hot code can keep compiled path and use overloads accepting it to skip lookup of
+ * path by its name.
+ */
+public class BeanPropertyCollectionUtils extends DefaultBeanCollectionUtils {
+
+    /**
+     * Constructor allow to initialize new instance by provided collection utils. Must not be null.
+     *
+     * @param collectionAddUtils instance of collection utils used to internally to perform operation on the top of
+     *                           collections.  Must not be null.
+     * @throws IllegalArgumentException when collection utils instance provided as parameter is null.
+     */
+    public BeanPropertyCollectionUtils(CollectionAddUtils collectionAddUtils) throws IllegalArgumentException {
+        super(collectionAddUtils);
+    }
+
+    /**
+     * Default constructor initialize new internal instance of collection utils.
+     */
+    public BeanPropertyCollectionUtils() {
+        super();
+    }
+
+    /**
+     * Verify if collection or map property of bean has no records.
+     *
+     * @param bean     root bean.
+     * @param property name or path of property.
+     * @return true if bean, property name or value of property is null or value is empty, otherwise false.
+     * @throws IllegalArgumentException when bean has no collection or map property of provided name.
+     */
+    public boolean isEmpty(Object bean, String property) throws IllegalArgumentException {
+        return bean == null || property == null || isEmpty(bean, path(bean, property));
+    }
+
+    /**
+     * Verify if collection or map property of bean has no records.
+     *
+     * @param bean bean of path root class.
+     * @param path compiled path of property.
+     * @return true if bean, path or value of property is null or value is empty, otherwise false.
+     * @throws IllegalArgumentException when leaf of path is not collection or map.
+     */
+    public boolean isEmpty(Object bean, BeanPropertyPath path) throws IllegalArgumentException {
+        boolean retValue = true;
+        if (bean != null && path != null) {
+            BeanProperty leaf = path.leaf();
+            if (leaf.isCollection()) {
+                retValue = collectionUtils.isEmpty((Collection<?>) path.get(bean));
+            } else if (leaf.isMap()) {
+                retValue = collectionUtils.isEmpty((Map<?, ?>) path.get(bean));
+            } else {
+                throw new IllegalArgumentException("Property " + leaf.name() + " is not collection or map");
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Verify if collection or map property of bean has records.
+     *
+     * @param bean     root bean.
+     * @param property name or path of property.
+     * @return true if value of property has records, otherwise false.
+     * @throws IllegalArgumentException when bean has no collection or map property of provided name.
+     */
+    public boolean isNotEmpty(Object bean, String property) throws IllegalArgumentException {
+        return !isEmpty(bean, property);
+    }
+
+    /**
+     * Verify if collection or map property of bean has records.
+     *
+     * @param bean bean of path root class.
+     * @param path compiled path of property.
+     * @return true if value of property has records, otherwise false.
+     * @throws IllegalArgumentException when leaf of path is not collection or map.
+     */
+    public boolean isNotEmpty(Object bean, BeanPropertyPath path) throws IllegalArgumentException {
+        return !isEmpty(bean, path);
+    }
+
+    /**
+     * Validate safely if collection property of bean contains value.
+     *
+     * @param bean     root bean.
+     * @param property name or path of collection property.
+     * @param value    value searched in collection for presence.
+     * @param <V>      type of value.
+     * @return true when value is in collection, otherwise false.
+     * @throws IllegalArgumentException when bean has no collection property of provided name.
+     */
+    public <V> boolean contains(Object bean, String property, V value) throws IllegalArgumentException {
+        return bean != null && property != null && contains(bean, path(bean, property), value);
+    }
+
+    /**
+     * Validate safely if collection property of bean contains value.
+     *
+     * @param bean  bean of path root class.
+     * @param path  compiled path of collection property.
+     * @param value value searched in collection for presence.
+     * @param <V>   type of value.
+     * @return true when value is in collection, otherwise false.
+     * @throws IllegalArgumentException when leaf of path is not collection.
+     */
+    public <V> boolean contains(Object bean, BeanPropertyPath path, V value) throws IllegalArgumentException {
+        boolean retValue = false;
+        if (bean != null && path != null) {
+            retValue = collectionUtils.contains(this.<Collection<V>>get(bean, path, true), value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate safely if map property of bean contains key.
+     *
+     * @param bean     root bean.
+     * @param property name or path of map property.
+     * @param key      key searched in map for presence.
+     * @param <K>      type of key.
+     * @return true when key is in map, otherwise false.
+     * @throws IllegalArgumentException when bean has no map property of provided name.
+     */
+    public <K> boolean containsKey(Object bean, String property, K key) throws IllegalArgumentException {
+        return bean != null && property != null && containsKey(bean, path(bean, property), key);
+    }
+
+    /**
+     * Validate safely if map property of bean contains key.
+     *
+     * @param bean bean of path root class.
+     * @param path compiled path of map property.
+     * @param key  key searched in map for presence.
+     * @param <K>  type of key.
+     * @return true when key is in map, otherwise false.
+     * @throws IllegalArgumentException when leaf of path is not map.
+     */
+    public <K> boolean containsKey(Object bean, BeanPropertyPath path, K key) throws IllegalArgumentException {
+        boolean retValue = false;
+        if (bean != null && path != null) {
+            retValue = collectionUtils.contains(this.<Map<K, Object>>get(bean, path, false), key);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely value into collection property of bean, if property or intermediate bean of path is null it is
+     * initialized and stored into bean.
+     *
+     * @param bean     root bean.
+     * @param property name or path of collection property.
+     * @param value    value to be added into collection.
+     * @param <C>      type of collection.
+     * @param <V>      type of value.
+     * @return collection of property with added value, null when bean or property name is null or property can't be
+     *         initialized.
+     * @throws IllegalArgumentException when bean has no collection property of provided name.
+     */
+    public <C extends Collection<V>, V> C add(Object bean, String property, V value) throws IllegalArgumentException {
+        return bean != null && property != null ? add(bean, path(bean, property), value) : null;
+    }
+
+    /**
+     * Add safely value into collection property of bean, if property or intermediate bean of path is null it is
+     * initialized and stored into bean.
+     *
+     * @param bean  bean of path root class.
+     * @param path  compiled path of collection property.
+     * @param value value to be added into collection.
+     * @param <C>   type of collection.
+     * @param <V>   type of value.
+     * @return collection of property with added value, null when bean or path is null or property can't be
+     *         initialized.
+     * @throws IllegalArgumentException when leaf of path is not collection.
+     */
+    public <C extends Collection<V>, V> C add(Object bean, BeanPropertyPath path, V value)
+            throws IllegalArgumentException {
+        C retValue = null;
+        if (bean != null && path != null) {
+            retValue = initIfNeeded(bean, path);
+            if (retValue != null) {
+                retValue.add(value);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely values from source collection into collection property of bean, if property or intermediate bean of
+     * path is null and source has values, it is initialized and stored into bean.
+     *
+     * @param bean     root bean.
+     * @param property name or path of collection property.
+     * @param source   values to be added into collection.
+     * @param <T>      type of target collection.
+     * @param <S>      type of source collection.
+     * @param <V>      type of value in collection.
+     * @return collection of property with added values if source was not empty, otherwise null.
+     * @throws IllegalArgumentException when bean has no collection property of provided name.
+     */
+    public <T extends Collection<V>, S extends Collection<V>, V> T addAll(Object bean, String property, S source)
+            throws IllegalArgumentException {
+        return bean != null && property != null ? addAll(bean, path(bean, property), source) : null;
+    }
+
+    /**
+     * Add safely values from source collection into collection property of bean, if property or intermediate bean of
+     * path is null and source has values, it is initialized and stored into bean.
+     *
+     * @param bean   bean of path root class.
+     * @param path   compiled path of collection property.
+     * @param source values to be added into collection.
+     * @param <T>    type of target collection.
+     * @param <S>    type of source collection.
+     * @param <V>    type of value in collection.
+     * @return collection of property with added values if source was not empty, otherwise null.
+     * @throws IllegalArgumentException when leaf of path is not collection.
+     */
+    public <T extends Collection<V>, S extends Collection<V>, V> T addAll(Object bean, BeanPropertyPath path, S source)
+            throws IllegalArgumentException {
+        T retValue = null;
+        if (bean != null && path != null && collectionUtils.isNotEmpty(source)) {
+            retValue = initIfNeeded(bean, path);
+            if (retValue != null) {
+                retValue.addAll(source);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely key and value pair into map property of bean, if property or intermediate bean of path is null it is
+     * initialized and stored into bean.
+     *
+     * @param bean     root bean.
+     * @param property name or path of map property.
+     * @param key      key connected to value in map.
+     * @param value    value stored in map connected to key.
+     * @param <M>      type of map.
+     * @param <K>      type of key.
+     * @param <V>      type of value.
+     * @return map of property with added key and value, null when bean or property name is null or property can't be
+     *         initialized.
+     * @throws IllegalArgumentException when bean has no map property of provided name.
+     */
+    public <M extends Map<K, V>, K, V> M put(Object bean, String property, K key, V value)
+            throws IllegalArgumentException {
+        return bean != null && property != null ? put(bean, path(bean, property), key, value) : null;
+    }
+
+    /**
+     * Put safely key and value pair into map property of bean, if property or intermediate bean of path is null it is
+     * initialized and stored into bean.
+     *
+     * @param bean  bean of path root class.
+     * @param path  compiled path of map property.
+     * @param key   key connected to value in map.
+     * @param value value stored in map connected to key.
+     * @param <M>   type of map.
+     * @param <K>   type of key.
+     * @param <V>   type of value.
+     * @return map of property with added key and value, null when bean or path is null or property can't be
+     *         initialized.
+     * @throws IllegalArgumentException when leaf of path is not map.
+     */
+    public <M extends Map<K, V>, K, V> M put(Object bean, BeanPropertyPath path, K key, V value)
+            throws IllegalArgumentException {
+        M retValue = null;
+        if (bean != null && path != null) {
+            retValue = initMapIfNeeded(bean, path);
+            if (retValue != null) {
+                retValue.put(key, value);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely values from source map into map property of bean, if property or intermediate bean of path is null
+     * and source has records, it is initialized and stored into bean.
+     *
+     * @param bean     root bean.
+     * @param property name or path of map property.
+     * @param source   map with source data.
+     * @param <T>      type of target map.
+     * @param <S>      type of source map.
+     * @param <K>      type of key.
+     * @param <V>      type of value.
+     * @return map of property with all values from source map if it was not empty, otherwise null.
+     * @throws IllegalArgumentException when bean has no map property of provided name.
+     */
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(Object bean, String property, S source)
+            throws IllegalArgumentException {
+        return bean != null && property != null ? putAll(bean, path(bean, property), source) : null;
+    }
+
+    /**
+     * Put safely values from source map into map property of bean, if property or intermediate bean of path is null
+     * and source has records, it is initialized and stored into bean.
+     *
+     * @param bean   bean of path root class.
+     * @param path   compiled path of map property.
+     * @param source map with source data.
+     * @param <T>    type of target map.
+     * @param <S>    type of source map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return map of property with all values from source map if it was not empty, otherwise null.
+     * @throws IllegalArgumentException when leaf of path is not map.
+     */
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(Object bean, BeanPropertyPath path, S source)
+            throws IllegalArgumentException {
+        T retValue = null;
+        if (bean != null && path != null && collectionUtils.isNotEmpty(source)) {
+            retValue = initMapIfNeeded(bean, path);
+            if (retValue != null) {
+                retValue.putAll(source);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove safely all values of source collection from collection property of bean.
+     *
+     * @param bean     root bean.
+     * @param property name or path of collection property.
+     * @param source   values to be removed from collection.
+     * @param <S>      type of source collection.
+     * @param <V>      type of value in collection.
+     * @return true when collection was changed, otherwise false.
+     * @throws IllegalArgumentException when bean has no collection property of provided name.
+     */
+    public <S extends Collection<V>, V> boolean removeAll(Object bean, String property, S source)
+            throws IllegalArgumentException {
+        return bean != null && property != null && removeAll(bean, path(bean, property), source);
+    }
+
+    /**
+     * Remove safely all values of source collection from collection property of bean.
+     *
+     * @param bean   bean of path root class.
+     * @param path   compiled path of collection property.
+     * @param source values to be removed from collection.
+     * @param <S>    type of source collection.
+     * @param <V>    type of value in collection.
+     * @return true when collection was changed, otherwise false.
+     * @throws IllegalArgumentException when leaf of path is not collection.
+     */
+    public <S extends Collection<V>, V> boolean removeAll(Object bean, BeanPropertyPath path, S source)
+            throws IllegalArgumentException {
+        boolean retValue = false;
+        if (bean != null && path != null) {
+            retValue = collectionUtils.removeAll(this.<Collection<V>>get(bean, path, true), source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide compiled path of property of bean class.
+     *
+     * @param bean     root bean, must not be null.
+     * @param property name or path of property.
+     * @return compiled path.
+     * @throws IllegalArgumentException when path can't be compiled for class of bean.
+     */
+    protected BeanPropertyPath path(Object bean, String property) throws IllegalArgumentException {
+        return BeanPropertyPath.of(bean.getClass(), property);
+    }
+
+    /**
+     * Read value of collection or map property of bean without creating intermediate beans.
+     *
+     * @param bean       root bean, must not be null.
+     * @param path       compiled path of property.
+     * @param collection true when collection property is expected, false for map property.
+     * @param <C>        type of collection or map.
+     * @return value of property or null when it is not reachable.
+     * @throws IllegalArgumentException when leaf of path is not of expected kind.
+     */
+    @SuppressWarnings("unchecked")
+    protected <C> C get(Object bean, BeanPropertyPath path, boolean collection) throws IllegalArgumentException {
+        checkKind(path.leaf(), collection);
+        return (C) path.get(bean);
+    }
+
+    /**
+     * Initialize collection property of bean and intermediate beans of path if needed by same logic as getter and
+     * setter pair of bean.
+     *
+     * @param bean bean of path root class.
+     * @param path compiled path of collection property.
+     * @param <C>  type of collection.
+     * @param <V>  type of value in collection.
+     * @return value of property or initialized collection, null when property is not reachable.
+     * @throws IllegalArgumentException when leaf of path is not collection.
+     */
+    @SuppressWarnings("unchecked")
+    protected <C extends Collection<V>, V> C initIfNeeded(Object bean, BeanPropertyPath path)
+            throws IllegalArgumentException {
+        BeanProperty property = path.leaf();
+        checkKind(property, true);
+        Function<Object, C> getter = (Function<Object, C>) (Function<Object, ?>) property;
+        BiConsumer<Object, C> setter = property.isWritable()
+                ? (BiConsumer<Object, C>) (BiConsumer<Object, ?>) property : null;
+        return initIfNeeded(path.parent(bean, true), getter, setter, (Supplier<C>) property.init(),
+                property.type());
+    }
+
+    /**
+     * Initialize map property of bean and intermediate beans of path if needed by same logic as getter and setter
+     * pair of bean.
+     *
+     * @param bean bean of path root class.
+     * @param path compiled path of map property.
+     * @param <M>  type of map.
+     * @param <K>  type of key in map.
+     * @param <V>  type of value in map.
+     * @return value of property or initialized map, null when property is not reachable.
+     * @throws IllegalArgumentException when leaf of path is not map.
+     */
+    @SuppressWarnings("unchecked")
+    protected <M extends Map<K, V>, K, V> M initMapIfNeeded(Object bean, BeanPropertyPath path)
+            throws IllegalArgumentException {
+        BeanProperty property = path.leaf();
+        checkKind(property, false);
+        Function<Object, M> getter = (Function<Object, M>) (Function<Object, ?>) property;
+        BiConsumer<Object, M> setter = property.isWritable()
+                ? (BiConsumer<Object, M>) (BiConsumer<Object, ?>) property : null;
+        return initMapIfNeeded(path.parent(bean, true), getter, setter, (Supplier<M>) property.init(),
+                property.type());
+    }
+
+    /**
+     * Verify that property is of expected kind.
+     *
+     * @param property   property of bean.
+     * @param collection true when collection property is expected, false for map property.
+     * @throws IllegalArgumentException when property is of other kind.
+     */
+    protected void checkKind(BeanProperty property, boolean collection) throws IllegalArgumentException {
+        if (collection ? !property.isCollection() : !property.isMap()) {
+            throw new IllegalArgumentException("Property " + property.name() + " is not "
+                    + (collection ? "collection" : "map"));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Path of properties leading from root bean to nested property, for example {@code customer.addresses} of order bean.
+ * Path is compiled once per root class into chain of {@link BeanProperty} resolved by declared types of properties,
+ * so navigation doesn't parse path or look up getters again and hand written null check ladders are replaced by
+ * single call. Intermediate bean which is null is created on demand by {@link #parent(Object, boolean)}, with same
+ * semantics as used by bean collection utils for collections: new instance is created by public constructor without
+ * parameters and stored by setter, when intermediate bean can't be created or stored, leaf is not reachable.
+ */
+public final class BeanPropertyPath {
+    /**
+     * Separator of property names in path.
+     */
+    public static final char SEPARATOR = '.';
+    /**
+     * Compiled paths of root classes by their source.
+     */
+    private static final ClassValue<ConcurrentMap<String, BeanPropertyPath>> PATHS = new ClassValue<
+            ConcurrentMap<String, BeanPropertyPath>>() {
+        @Override
+        protected ConcurrentMap<String, BeanPropertyPath> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Class of root bean.
+     */
+    private final Class<?> rootClass;
+    /**
+     * Source of path.
+     */
+    private final String path;
+    /**
+     * Properties of path from root bean to leaf.
+     */
+    private final BeanProperty[] properties;
+
+    /**
+     * Create new compiled path.
+     *
+     * @param rootClass  class of root bean.
+     * @param path       source of path.
+     * @param properties properties of path from root bean to leaf.
+     */
+    private BeanPropertyPath(Class<?> rootClass, String path, BeanProperty[] properties) {
+        this.rootClass = rootClass;
+        this.path = path;
+        this.properties = properties;
+    }
+
+    /**
+     * Provide compiled path of root class, path is compiled at first request and cached for next requests.
+     *
+     * @param rootClass class of root bean.
+     * @param path      property names separated by dot.
+     * @return compiled path.
+     * @throws IllegalArgumentException when path is empty, property of path doesn't exist or intermediate property is
+     *                                  collection or map.
+     */
+    public static BeanPropertyPath of(Class<?> rootClass, String path) throws IllegalArgumentException {
+        ConcurrentMap<String, BeanPropertyPath> paths = PATHS.get(rootClass);
+        BeanPropertyPath retValue = paths.get(path);
+        if (retValue == null) {
+            retValue = compile(rootClass, path);
+            paths.putIfAbsent(path, retValue);
+        }
+        return retValue;
+    }
+
+    /**
+     * Compile path of root class without caching.
+     *
+     * @param rootClass class of root bean.
+     * @param path      property names separated by dot.
+     * @return compiled path.
+     * @throws IllegalArgumentException when path is empty, property of path doesn't exist or intermediate property is
+     *                                  collection or map.
+     */
+    public static BeanPropertyPath compile(Class<?> rootClass, String path) throws IllegalArgumentException {
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("Path must not be empty");
+        }
+        int length = 1;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == SEPARATOR) {
+                length++;
+            }
+        }
+        BeanProperty[] properties = new BeanProperty[length];
+        Class<?> type = rootClass;
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            int end = path.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end == start) {
+                throw new IllegalArgumentException("Path " + path + " contains empty property name");
+            }
+            if (i > 0 && (properties[i - 1].isCollection() || properties[i - 1].isMap())) {
+                throw new IllegalArgumentException("Property " + properties[i - 1].name() + " of path " + path
+                        + " is collection or map, it can't be navigated");
+            }
+            properties[i] = BeanProperty.of(type, path.substring(start, end));
+            type = properties[i].type();
+            start = end + 1;
+        }
+        return new BeanPropertyPath(rootClass, path, properties);
+    }
+
+    /**
+     * Provide class of root bean.
+     *
+     * @return class of root bean.
+     */
+    public Class<?> rootClass() {
+        return rootClass;
+    }
+
+    /**
+     * Provide source of path.
+     *
+     * @return property names separated by dot.
+     */
+    public String path() {
+        return path;
+    }
+
+    /**
+     * Provide last property of path.
+     *
+     * @return leaf property.
+     */
+    public BeanProperty leaf() {
+        return properties[properties.length - 1];
+    }
+
+    /**
+     * Navigate from root bean to bean owning leaf property.
+     *
+     * @param root   root bean.
+     * @param create true to create intermediate beans which are null.
+     * @return bean owning leaf property or null when root is null or intermediate bean is null and it is not created.
+     */
+    public Object parent(Object root, boolean create) {
+        Object retValue = root;
+        for (int i = 0; i < properties.length - 1 && retValue != null; i++) {
+            BeanProperty property = properties[i];
+            Object bean = retValue;
+            retValue = property.get(bean);
+            if (retValue == null && create) {
+                Supplier<?> init = property.init();
+                if (init != null && property.isWritable()) {
+                    retValue = init.get();
+                    property.set(bean, retValue);
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Read value of leaf property without creating intermediate beans.
+     *
+     * @param root root bean.
+     * @return value of leaf property or null when it is not reachable.
+     */
+    public Object get(Object root) {
+        Object parent = parent(root, false);
+        return parent != null ? leaf().get(parent) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "BeanPropertyPath{" +
+                "rootClass=" + rootClass.getName() +
+                ", path=" + path +
+                '}';
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Net changes of collection or map recorded by {@link ChangeTracking} wrapper. Add and removal of same element cancel
+ * each other, so log contains only difference between state at start of recording and current state, regardless of
+ * amount of modifications done in between. Elements are provided in order of their first change. Changed value of
+ * map entry is provided as removal of original entry and addition of new entry.
+ *
+ * @param <E> type of changed elements, values for collections and entries for maps.
+ */
+public final class ChangeLog<E> {
+    /**
+     * Shared empty log.
+     */
+    private static final ChangeLog<?> EMPTY = new ChangeLog<>(Collections.emptyList(), Collections.emptyList());
+
+    /**
+     * Elements added since start of recording.
+     */
+    private final List<E> added;
+    /**
+     * Elements removed since start of recording.
+     */
+    private final List<E> removed;
+
+    /**
+     * Create new log.
+     *
+     * @param added   elements added since start of recording.
+     * @param removed elements removed since start of recording.
+     */
+    ChangeLog(List<E> added, List<E> removed) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Provide shared empty log.
+     *
+     * @param <E> type of changed elements.
+     * @return log without changes.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ChangeLog<E> empty() {
+        return (ChangeLog<E>) EMPTY;
+    }
+
+    /**
+     * Provide elements added since start of recording, element added several times into list is provided several
+     * times.
+     *
+     * @return unmodifiable list of added elements.
+     */
+    public List<E> added() {
+        return added;
+    }
+
+    /**
+     * Provide elements removed since start of recording, element removed several times from list is provided several
+     * times.
+     *
+     * @return unmodifiable list of removed elements.
+     */
+    public List<E> removed() {
+        return removed;
+    }
+
+    /**
+     * Verify if log contains any change.
+     *
+     * @return true when nothing was added or removed, otherwise false.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * Provide amount of changed elements.
+     *
+     * @return sum of added and removed elements.
+     */
+    public int size() {
+        return added.size() + removed.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeLog{" +
+                "added=" + added +
+                ", removed=" + removed +
+                '}';
+    }
+
+    /**
+     * Recorder of net changes counting additions and removals of every changed element. Counter of element is dropped
+     * once additions and removals cancel each other, so memory of recorder depends on amount of changed elements only.
+     *
+     * @param <E> type of changed elements.
+     */
+    static final class Recorder<E> {
+        /**
+         * Net amount of additions of changed elements, negative for removals, in order of first change.
+         */
+        private LinkedHashMap<E, int[]> counts;
+
+        /**
+         * Record addition of element.
+         *
+         * @param element added element.
+         */
+        void added(E element) {
+            change(element, 1);
+        }
+
+        /**
+         * Record removal of element.
+         *
+         * @param element removed element.
+         */
+        void removed(E element) {
+            change(element, -1);
+        }
+
+        /**
+         * Verify if any change is recorded.
+         *
+         * @return true when recorded changes don't cancel each other.
+         */
+        boolean isChanged() {
+            return counts != null && !counts.isEmpty();
+        }
+
+        /**
+         * Provide recorded changes and clear recorder.
+         *
+         * @return log of recorded changes.
+         */
+        ChangeLog<E> drain() {
+            ChangeLog<E> retValue = empty();
+            if (isChanged()) {
+                List<E> added = new ArrayList<>();
+                List<E> removed = new ArrayList<>();
+                counts.forEach((element, count) -> {
+                    List<E> target = count[0] > 0 ? added : removed;
+                    for (int i = Math.abs(count[0]); i > 0; i--) {
+                        target.add(element);
+                    }
+                });
+                counts = null;
+                retValue = new ChangeLog<>(added, removed);
+            }
+            return retValue;
+        }
+
+        /**
+         * Change net amount of additions of element.
+         *
+         * @param element changed element.
+         * @param delta   1 for addition, -1 for removal.
+         */
+        private void change(E element, int delta) {
+            if (counts == null) {
+                counts = new LinkedHashMap<>();
+            }
+            int[] count = counts.get(element);
+            if (count == null) {
+                counts.put(element, new int[]{delta});
+            } else if ((count[0] += delta) == 0) {
+                counts.remove(element);
+            }
+        }
+    }
+}
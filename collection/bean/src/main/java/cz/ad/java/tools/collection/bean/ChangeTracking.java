@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+/**
+ * Collection or map recording its modifications into compact delta log, so persistence layer can store only changes
+ * instead of comparing whole collection with its previous state. Changes are recorded since creation of tracking
+ * wrapper or since last drain of changes.
+ *
+ * @param <E> type of changed elements, values for collections and entries for maps.
+ */
+public interface ChangeTracking<E> {
+
+    /**
+     * Verify if any change is recorded since last drain.
+     *
+     * @return true when recorded changes don't cancel each other, otherwise false.
+     */
+    boolean isChanged();
+
+    /**
+     * Provide changes recorded since last drain and start recording of new changes.
+     *
+     * @return log of recorded changes, empty log when nothing changed.
+     */
+    ChangeLog<E> drainChanges();
+}
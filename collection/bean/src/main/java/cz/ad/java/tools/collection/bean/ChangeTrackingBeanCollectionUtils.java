@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import cz.ad.java.tools.collection.core.BulkOperationMonitor;
+import cz.ad.java.tools.collection.core.CollectionAddUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of bean collection utils installing change tracking wrappers into bean members during their lazy
+ * initialization. List, set and map created by init supplier is wrapped by {@link ChangeTrackingList},
+ * {@link ChangeTrackingSet} or {@link ChangeTrackingMap} before it is set into bean, so persistence layer can store
+ * only changes drained from bean instead of comparing whole members with their previous state. Members which are not
+ * null are used as they are, bean loaded with existing collections can be tracked by setting wrappers into it.
+ * <p>
+ * Wrapper can be set into bean only when type of member declared by bean accepts it, which getter and setter functions
+ * don't expose. Declared type is therefore provided by caller, either explicitly by overloads accepting type of member
+ * or by {@link BeanProperty} resolved for property name or path. Member declared by implementation type, for example
+ * {@code ArrayList}, can't hold wrapper and new instance is set unwrapped, so its changes are not tracked. Operations
+ * without declared type throw {@link UnsupportedOperationException} when they would initialize member, instead of
+ * setting untracked instance silently. Existing members are used by all operations.
+ */
+public class ChangeTrackingBeanCollectionUtils extends BeanPropertyCollectionUtils {
+
+    /**
+     * Constructor allow to initialize new instance by provided collection utils. Must not be null.
+     *
+     * @param collectionAddUtils instance of collection utils used to internally to perform operation on the top of
+     *                           collections.  Must not be null.
+     * @throws IllegalArgumentException when collection utils instance provided as parameter is null.
+     */
+    public ChangeTrackingBeanCollectionUtils(CollectionAddUtils collectionAddUtils) throws IllegalArgumentException {
+        super(collectionAddUtils);
+    }
+
+    /**
+     * Default constructor initialize new internal instance of collection utils.
+     */
+    public ChangeTrackingBeanCollectionUtils() {
+        super();
+    }
+
+    /**
+     * Drain changes of all tracked collection and map members of bean. Members are located by public getters of bean
+     * class resolved once per class by {@link BeanProperty}.
+     *
+     * @param bean bean owning tracked members.
+     * @return changes of members by property names in order of getters, only changed members are provided. Empty map
+     *         when bean is null or nothing changed.
+     */
+    public Map<String, ChangeLog<?>> drainChanges(Object bean) {
+        Map<String, ChangeLog<?>> retValue = new LinkedHashMap<>();
+        if (bean != null) {
+            for (BeanProperty property : BeanProperty.properties(bean.getClass()).values()) {
+                if (property.isCollection() || property.isMap()) {
+                    Object member = property.get(bean);
+                    if (member instanceof ChangeTracking && ((ChangeTracking<?>) member).isChanged()) {
+                        retValue.put(property.name(), ((ChangeTracking<?>) member).drainChanges());
+                    }
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Drain changes of collection member of bean accessed by getter function applied on bean.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value in collection.
+     * @return changes of collection, empty log when bean or member is null or member is not tracked.
+     */
+    @SuppressWarnings("unchecked")
+    public <B, C extends Collection<V>, V> ChangeLog<V> drainChanges(B bean, Function<B, C> getter) {
+        ChangeLog<V> retValue = ChangeLog.empty();
+        if (bean != null && getter != null) {
+            C collection = getter.apply(bean);
+            if (collection instanceof ChangeTracking) {
+                retValue = ((ChangeTracking<V>) collection).drainChanges();
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Drain changes of map member of bean accessed by getter function applied on bean.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param <B>    type of bean.
+     * @param <M>    type of map.
+     * @param <K>    type of key in map.
+     * @param <V>    type of value in map.
+     * @return changes of map entries, empty log when bean or member is null or member is not tracked.
+     */
+    @SuppressWarnings("unchecked")
+    public <B, M extends Map<K, V>, K, V> ChangeLog<Map.Entry<K, V>> drainMapChanges(B bean, Function<B, M> getter) {
+        ChangeLog<Map.Entry<K, V>> retValue = ChangeLog.empty();
+        if (bean != null && getter != null) {
+            M map = getter.apply(bean);
+            if (map instanceof ChangeTracking) {
+                retValue = ((ChangeTracking<Map.Entry<K, V>>) map).drainChanges();
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely value into bean collection member accessed by provided getter, if input collection is null use init to
+     * supply new instance of collection, which is tracked when declared type of member accepts wrapper.
+     *
+     * @param getter supplier providing access to collection member in bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provide new instance in case when provided collection is null.
+     * @param type   type of member declared by bean, for example {@code List.class}.
+     * @param value  value to be added into collection.
+     * @param <C>    type of collection.
+     * @param <V>    type of value in collection.
+     * @return provided collection or initialized new instance with added value.
+     */
+    public <C extends Collection<V>, V> C add(
+            Supplier<C> getter, Consumer<C> setter, Supplier<C> init, Class<? super C> type, V value
+    ) {
+        C retValue = initIfNeeded(getter, setter, init, type);
+        if (retValue != null) {
+            retValue.add(value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely key and value pair into bean map member accessed by provided getter, if input map is null init is used
+     * to supply new instance, which is tracked when declared type of member accepts wrapper.
+     *
+     * @param getter supplier providing access to map member in bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provided new instance in case when provided map is null.
+     * @param type   type of member declared by bean, for example {@code Map.class}.
+     * @param key    key connected to value in map.
+     * @param value  value stored in map connected to key.
+     * @param <M>    type of map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return provided map or initialized by supplier with added key and value.
+     */
+    public <M extends Map<K, V>, K, V> M put(
+            Supplier<M> getter, Consumer<M> setter, Supplier<M> init, Class<? super M> type, K key, V value
+    ) {
+        M retValue = initMapIfNeeded(getter, setter, init, type);
+        if (retValue != null) {
+            retValue.put(key, value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely value into bean collection member accessed by getter function applied on bean, if collection is null
+     * use init to supply new instance of collection, which is tracked when declared type of member accepts wrapper.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provide new instance in case when provided collection is null.
+     * @param type   type of member declared by bean, for example {@code List.class}.
+     * @param value  value to be added into collection.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value in collection.
+     * @return provided collection or initialized new instance with added value, null when bean or getter is null.
+     */
+    public <B, C extends Collection<V>, V> C add(
+            B bean, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init, Class<? super C> type, V value
+    ) {
+        C retValue = initIfNeeded(bean, getter, setter, init, type);
+        if (retValue != null) {
+            retValue.add(value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely values from source collection into bean collection member accessed by getter function applied on
+     * bean, if collection is null it is initialized by init supplier and tracked when declared type of member accepts
+     * wrapper. If provided source is null or empty null is return.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provide new instance in case when provided collection is null.
+     * @param type   type of member declared by bean, for example {@code List.class}.
+     * @param source values to be added into collection.
+     * @param <B>    type of bean.
+     * @param <T>    type of target collection.
+     * @param <S>    type of source collection.
+     * @param <V>    type of value in collection.
+     * @return original target collection or initialized new collection with added provided values if source was not
+     *         empty, otherwise null.
+     */
+    public <B, T extends Collection<V>, S extends Collection<V>, V> T addAll(
+            B bean, Function<B, T> getter, BiConsumer<B, T> setter, Supplier<T> init, Class<? super T> type, S source
+    ) {
+        T retValue = null;
+        if (collectionUtils.isNotEmpty(source)) {
+            retValue = initIfNeeded(bean, getter, setter, init, type);
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, retValue);
+            if (retValue != null) {
+                retValue.addAll(source);
+            }
+            BulkOperationMonitor.report(measurement, "addAll", retValue, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely key and value pair into bean map member accessed by getter function applied on bean, if map is null
+     * init is used to supply new instance, which is tracked when declared type of member accepts wrapper.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provided new instance in case when provided map is null.
+     * @param type   type of member declared by bean, for example {@code Map.class}.
+     * @param key    key connected to value in map.
+     * @param value  value stored in map connected to key.
+     * @param <B>    type of bean.
+     * @param <M>    type of map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return provided map or initialized by supplier with added key and value, null when bean or getter is null.
+     */
+    public <B, M extends Map<K, V>, K, V> M put(
+            B bean, Function<B, M> getter, BiConsumer<B, M> setter, Supplier<M> init, Class<? super M> type, K key,
+            V value
+    ) {
+        M retValue = initMapIfNeeded(bean, getter, setter, init, type);
+        if (retValue != null) {
+            retValue.put(key, value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely values from source map into bean map member accessed by getter function applied on bean and when map
+     * is null new instance is created by provided supplier and tracked when declared type of member accepts wrapper.
+     * When source map has no records null is returned.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provided new instance in case when provided map is null.
+     * @param type   type of member declared by bean, for example {@code Map.class}.
+     * @param source map with source data
+     * @param <B>    type of bean.
+     * @param <T>    type of target map.
+     * @param <S>    type of source map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return target map or initialized new map with all values from provided values map if it was not empty.
+     *         Otherwise, null.
+     */
+    public <B, T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(
+            B bean, Function<B, T> getter, BiConsumer<B, T> setter, Supplier<T> init, Class<? super T> type, S source
+    ) {
+        T retValue = null;
+        if (collectionUtils.isNotEmpty(source)) {
+            retValue = initMapIfNeeded(bean, getter, setter, init, type);
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, retValue);
+            if (retValue != null) {
+                retValue.putAll(source);
+            }
+            BulkOperationMonitor.report(measurement, "putAll", retValue, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Wrap new collection or map by change tracking wrapper before it is set into bean. Wrapper is used only when it is
+     * instance of type of member declared by bean, otherwise new instance is set as it is. Getters of bean are not
+     * invoked, declared type is provided by caller.
+     *
+     * @param bean   bean owning member, null when member is accessed by supplier and consumer.
+     * @param member new collection or map created by init supplier.
+     * @param type   type of member declared by bean provided by caller, null when it is unknown.
+     * @param <T>    type of member.
+     * @return wrapper of member or member itself when it isn't tracked.
+     * @throws UnsupportedOperationException when member can be tracked, but its declared type is unknown.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> T onInitialized(Object bean, T member, Class<?> type) throws UnsupportedOperationException {
+        T retValue = member;
+        Object wrapper = member instanceof ChangeTracking ? null : track(member);
+        if (wrapper != null) {
+            if (type == null) {
+                throw new UnsupportedOperationException("Declared type of member is required to track changes of "
+                        + member.getClass().getName() + ", use operation accepting type or property name");
+            }
+            if (type.isInstance(wrapper)) {
+                retValue = (T) wrapper;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Create change tracking wrapper of collection or map.
+     *
+     * @param member collection or map to be tracked.
+     * @return wrapper of list, set or map, null for other members.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Object track(Object member) {
+        Object retValue = null;
+        if (member instanceof List) {
+            retValue = ChangeTrackingList.of((List) member);
+        } else if (member instanceof Set) {
+            retValue = new ChangeTrackingSet<>((Set) member);
+        } else if (member instanceof Map) {
+            retValue = new ChangeTrackingMap<>((Map) member);
+        }
+        return retValue;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+/**
+ * List wrapper recording added and removed values into compact delta log. All modifications including modifications by
+ * iterators are delegated to wrapped list and recorded, list log contains net changes of values, changes of their
+ * positions are not recorded. Structural modifications are counted by {@code modCount}, so sub lists of wrapper fail
+ * fast after wrapper is modified directly. Wrapper is not synchronized, it is safe for concurrent use only when wrapped
+ * list is. Wrapper created by {@link #of(List)} implements {@link RandomAccess} when wrapped list does, so code
+ * choosing indexed access by this marker keeps doing so for tracked list.
+ *
+ * @param <E> type of value in list.
+ */
+public class ChangeTrackingList<E> extends AbstractList<E> implements ChangeTracking<E> {
+    /**
+     * Wrapped list storing values.
+     */
+    protected final List<E> delegate;
+    /**
+     * Recorder of changes done since last drain.
+     */
+    protected final ChangeLog.Recorder<E> recorder = new ChangeLog.Recorder<>();
+
+    /**
+     * Create new wrapper of provided list, values already stored in list are not recorded as changes.
+     *
+     * @param delegate wrapped list storing values. Must not be null.
+     * @throws IllegalArgumentException when wrapped list is null.
+     */
+    public ChangeTrackingList(List<E> delegate) throws IllegalArgumentException {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Wrapped list must not be null");
+        }
+        this.delegate = delegate;
+    }
+
+    /**
+     * Create new wrapper of provided list implementing {@link RandomAccess} when wrapped list implements it, values
+     * already stored in list are not recorded as changes.
+     *
+     * @param delegate wrapped list storing values. Must not be null.
+     * @param <E>      type of value in list.
+     * @return new wrapper of list.
+     * @throws IllegalArgumentException when wrapped list is null.
+     */
+    public static <E> ChangeTrackingList<E> of(List<E> delegate) throws IllegalArgumentException {
+        return delegate instanceof RandomAccess ? new RandomAccessList<>(delegate) : new ChangeTrackingList<>(delegate);
+    }
+
+    @Override
+    public boolean isChanged() {
+        return recorder.isChanged();
+    }
+
+    @Override
+    public ChangeLog<E> drainChanges() {
+        return recorder.drain();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public E get(int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return delegate.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return delegate.lastIndexOf(o);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E retValue = delegate.set(index, element);
+        recorder.removed(retValue);
+        recorder.added(element);
+        return retValue;
+    }
+
+    @Override
+    public boolean add(E e) {
+        boolean retValue = delegate.add(e);
+        if (retValue) {
+            modCount++;
+            recorder.added(e);
+        }
+        return retValue;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        delegate.add(index, element);
+        modCount++;
+        recorder.added(element);
+    }
+
+    @Override
+    public E remove(int index) {
+        E retValue = delegate.remove(index);
+        modCount++;
+        recorder.removed(retValue);
+        return retValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+        boolean retValue = delegate.remove(o);
+        if (retValue) {
+            modCount++;
+            recorder.removed((E) o);
+        }
+        return retValue;
+    }
+
+    @Override
+    public void clear() {
+        for (E value : delegate) {
+            recorder.removed(value);
+        }
+        delegate.clear();
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return new TrackingListIterator(delegate.listIterator(index));
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeTrackingList{" +
+                "delegate=" + delegate +
+                '}';
+    }
+
+    /**
+     * Wrapper of list with fast indexed access marked by {@link RandomAccess}.
+     *
+     * @param <E> type of value in list.
+     */
+    protected static class RandomAccessList<E> extends ChangeTrackingList<E> implements RandomAccess {
+
+        /**
+         * Create new wrapper of provided list, values already stored in list are not recorded as changes.
+         *
+         * @param delegate wrapped list storing values. Must not be null.
+         * @throws IllegalArgumentException when wrapped list is null.
+         */
+        protected RandomAccessList(List<E> delegate) throws IllegalArgumentException {
+            super(delegate);
+        }
+    }
+
+    /**
+     * Iterator of wrapped list recording modifications done by iterator.
+     */
+    private final class TrackingListIterator implements ListIterator<E> {
+        /**
+         * Iterator of wrapped list.
+         */
+        private final ListIterator<E> iterator;
+        /**
+         * Value returned by last move of iterator.
+         */
+        private E last;
+
+        private TrackingListIterator(ListIterator<E> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+            last = iterator.next();
+            return last;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return iterator.hasPrevious();
+        }
+
+        @Override
+        public E previous() {
+            last = iterator.previous();
+            return last;
+        }
+
+        @Override
+        public int nextIndex() {
+            return iterator.nextIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+            return iterator.previousIndex();
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+            modCount++;
+            recorder.removed(last);
+        }
+
+        @Override
+        public void set(E e) {
+            iterator.set(e);
+            recorder.removed(last);
+            recorder.added(e);
+            last = e;
+        }
+
+        @Override
+        public void add(E e) {
+            iterator.add(e);
+            modCount++;
+            recorder.added(e);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map wrapper recording put and removed entries into compact delta log. New key is recorded as added entry, changed
+ * value of existing key as removed original entry and added new entry, removed key as removed entry. All modifications
+ * including modifications by views and their iterators are delegated to wrapped map and recorded. Wrapper is not
+ * synchronized, it is safe for concurrent use only when wrapped map is.
+ *
+ * @param <K> type of key in map.
+ * @param <V> type of value in map.
+ */
+public class ChangeTrackingMap<K, V> extends AbstractMap<K, V> implements ChangeTracking<Map.Entry<K, V>> {
+    /**
+     * Wrapped map storing entries.
+     */
+    protected final Map<K, V> delegate;
+    /**
+     * Recorder of changes done since last drain.
+     */
+    protected final ChangeLog.Recorder<Map.Entry<K, V>> recorder = new ChangeLog.Recorder<>();
+    /**
+     * Lazily created view of entries.
+     */
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Create new wrapper of provided map, entries already stored in map are not recorded as changes.
+     *
+     * @param delegate wrapped map storing entries. Must not be null.
+     * @throws IllegalArgumentException when wrapped map is null.
+     */
+    public ChangeTrackingMap(Map<K, V> delegate) throws IllegalArgumentException {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Wrapped map must not be null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isChanged() {
+        return recorder.isChanged();
+    }
+
+    @Override
+    public ChangeLog<Map.Entry<K, V>> drainChanges() {
+        return recorder.drain();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return delegate.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int size = delegate.size();
+        V retValue = delegate.put(key, value);
+        // unchanged size means key was already present, possibly with null value
+        if (delegate.size() == size) {
+            changed(key, retValue, value);
+        } else {
+            recorder.added(entry(key, value));
+        }
+        return retValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int size = delegate.size();
+        V retValue = delegate.remove(key);
+        if (delegate.size() != size) {
+            recorder.removed(entry((K) key, retValue));
+        }
+        return retValue;
+    }
+
+    @Override
+    public void clear() {
+        for (Map.Entry<K, V> entry : delegate.entrySet()) {
+            recorder.removed(entry(entry.getKey(), entry.getValue()));
+        }
+        delegate.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> retValue = entrySet;
+        if (retValue == null) {
+            retValue = new EntrySet();
+            entrySet = retValue;
+        }
+        return retValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeTrackingMap{" +
+                "delegate=" + delegate +
+                '}';
+    }
+
+    /**
+     * Record change of value of existing key.
+     *
+     * @param key      key of changed entry.
+     * @param oldValue original value of key.
+     * @param newValue new value of key.
+     */
+    private void changed(K key, V oldValue, V newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            recorder.removed(entry(key, oldValue));
+            recorder.added(entry(key, newValue));
+        }
+    }
+
+    /**
+     * Create immutable snapshot of entry recorded in log.
+     *
+     * @param key   key of entry.
+     * @param value value of entry.
+     * @param <K>   type of key.
+     * @param <V>   type of value.
+     * @return immutable entry.
+     */
+    private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+
+    /**
+     * View of entries of wrapped map recording removals by iterator and value changes by entries.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return delegate.entrySet().contains(o);
+        }
+
+        @Override
+        public void clear() {
+            ChangeTrackingMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            Iterator<Map.Entry<K, V>> iterator = delegate.entrySet().iterator();
+            return new Iterator<Map.Entry<K, V>>() {
+                private Map.Entry<K, V> last;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    last = iterator.next();
+                    return new TrackingEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    Map.Entry<K, V> removed = entry(last.getKey(), last.getValue());
+                    iterator.remove();
+                    recorder.removed(removed);
+                }
+            };
+        }
+    }
+
+    /**
+     * Entry of wrapped map recording change of its value.
+     */
+    private final class TrackingEntry implements Map.Entry<K, V> {
+        /**
+         * Entry of wrapped map.
+         */
+        private final Map.Entry<K, V> entry;
+
+        private TrackingEntry(Map.Entry<K, V> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public K getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue() {
+            return entry.getValue();
+        }
+
+        @Override
+        public V setValue(V value) {
+            V retValue = entry.setValue(value);
+            changed(entry.getKey(), retValue, value);
+            return retValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return entry.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return entry.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return entry.toString();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Set wrapper recording added and removed values into compact delta log. All modifications including removal by
+ * iterator are delegated to wrapped set and recorded, adding of value already present in set is not a change. Wrapper
+ * is not synchronized, it is safe for concurrent use only when wrapped set is.
+ *
+ * @param <E> type of value in set.
+ */
+public class ChangeTrackingSet<E> extends AbstractSet<E> implements ChangeTracking<E> {
+    /**
+     * Wrapped set storing values.
+     */
+    protected final Set<E> delegate;
+    /**
+     * Recorder of changes done since last drain.
+     */
+    protected final ChangeLog.Recorder<E> recorder = new ChangeLog.Recorder<>();
+
+    /**
+     * Create new wrapper of provided set, values already stored in set are not recorded as changes.
+     *
+     * @param delegate wrapped set storing values. Must not be null.
+     * @throws IllegalArgumentException when wrapped set is null.
+     */
+    public ChangeTrackingSet(Set<E> delegate) throws IllegalArgumentException {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Wrapped set must not be null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isChanged() {
+        return recorder.isChanged();
+    }
+
+    @Override
+    public ChangeLog<E> drainChanges() {
+        return recorder.drain();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate.contains(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+        boolean retValue = delegate.add(e);
+        if (retValue) {
+            recorder.added(e);
+        }
+        return retValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+        boolean retValue = delegate.remove(o);
+        if (retValue) {
+            recorder.removed((E) o);
+        }
+        return retValue;
+    }
+
+    @Override
+    public void clear() {
+        for (E value : delegate) {
+            recorder.removed(value);
+        }
+        delegate.clear();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> iterator = delegate.iterator();
+        return new Iterator<E>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                recorder.removed(last);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeTrackingSet{" +
+                "delegate=" + delegate +
+                '}';
+    }
+}
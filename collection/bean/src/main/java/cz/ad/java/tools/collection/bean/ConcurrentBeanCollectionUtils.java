@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import cz.ad.java.tools.collection.core.CollectionAddUtils;
+import cz.ad.java.tools.collection.core.ConcurrentCollectionUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of bean collection utils for beans shared by many threads. Getter and setter pair can't initialize
+ * bean member atomically, two threads adding into null member can both set new instance and values added by one of
+ * them are lost. Methods of this class accept {@link AtomicReferenceFieldUpdater} of volatile bean field instead, field
+ * is initialized by compare and set, so only one instance is published and values of all threads are added into it.
+ * <p>
+ * Collections and maps created by convenience methods are concurrent when default constructor is used, as internal
+ * collection utils are {@link ConcurrentCollectionUtils}. Collection or map provided by init supplier must be safe for
+ * concurrent modification when bean is shared by threads.
+ */
+public class ConcurrentBeanCollectionUtils extends DefaultBeanCollectionUtils {
+
+    /**
+     * Constructor allow to initialize new instance by provided collection utils. Must not be null.
+     *
+     * @param collectionAddUtils instance of collection utils used to internally to perform operation on the top of
+     *                           collections.  Must not be null.
+     * @throws IllegalArgumentException when collection utils instance provided as parameter is null.
+     */
+    public ConcurrentBeanCollectionUtils(CollectionAddUtils collectionAddUtils) throws IllegalArgumentException {
+        super(collectionAddUtils);
+    }
+
+    /**
+     * Default constructor initialize new internal instance of concurrent collection utils.
+     */
+    public ConcurrentBeanCollectionUtils() {
+        this(new ConcurrentCollectionUtils());
+    }
+
+    /**
+     * Add safely value into collection stored in bean field, if field is null it is atomically initialized by init
+     * supplier.
+     *
+     * @param bean  bean owning field.
+     * @param field updater of volatile bean field storing collection.
+     * @param init  supplier to provide new instance in case when field is null.
+     * @param value value to be added into collection.
+     * @param <B>   type of bean.
+     * @param <C>   type of collection.
+     * @param <V>   type of value in collection.
+     * @return collection of field with added value or null when bean or field is null or field can't be initialized.
+     */
+    public <B, C extends Collection<V>, V> C add(
+            B bean, AtomicReferenceFieldUpdater<B, C> field, Supplier<C> init, V value
+    ) {
+        C retValue = initIfNeeded(bean, field, init);
+        if (retValue != null) {
+            retValue.add(value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely values from source collection into collection stored in bean field, if field is null and source has
+     * values, field is atomically initialized by init supplier.
+     *
+     * @param bean   bean owning field.
+     * @param field  updater of volatile bean field storing collection.
+     * @param init   supplier to provide new instance in case when field is null.
+     * @param source values to be added into collection.
+     * @param <B>    type of bean.
+     * @param <T>    type of target collection.
+     * @param <S>    type of source collection.
+     * @param <V>    type of value in collection.
+     * @return collection of field with added values if source was not empty, otherwise null.
+     */
+    public <B, T extends Collection<V>, S extends Collection<V>, V> T addAll(
+            B bean, AtomicReferenceFieldUpdater<B, T> field, Supplier<T> init, S source
+    ) {
+        T retValue = null;
+        if (collectionUtils.isNotEmpty(source)) {
+            retValue = initIfNeeded(bean, field, init);
+            if (retValue != null) {
+                retValue.addAll(source);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely key and value pair into map stored in bean field, if field is null it is atomically initialized by
+     * init supplier.
+     *
+     * @param bean  bean owning field.
+     * @param field updater of volatile bean field storing map.
+     * @param init  supplier to provide new instance in case when field is null.
+     * @param key   key connected to value in map.
+     * @param value value stored in map connected to key.
+     * @param <B>   type of bean.
+     * @param <M>   type of map.
+     * @param <K>   type of key in map.
+     * @param <V>   type of value in map.
+     * @return map of field with added entry or null when bean or field is null or field can't be initialized.
+     */
+    public <B, M extends Map<K, V>, K, V> M put(
+            B bean, AtomicReferenceFieldUpdater<B, M> field, Supplier<M> init, K key, V value
+    ) {
+        M retValue = initIfNeeded(bean, field, init);
+        if (retValue != null) {
+            retValue.put(key, value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely entries from source map into map stored in bean field, if field is null and source has entries, field
+     * is atomically initialized by init supplier.
+     *
+     * @param bean   bean owning field.
+     * @param field  updater of volatile bean field storing map.
+     * @param init   supplier to provide new instance in case when field is null.
+     * @param source map with source data.
+     * @param <B>    type of bean.
+     * @param <T>    type of target map.
+     * @param <S>    type of source map.
+     * @param <K>    type of key in map.
+     * @param <V>    type of value in map.
+     * @return map of field with added entries if source was not empty, otherwise null.
+     */
+    public <B, T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(
+            B bean, AtomicReferenceFieldUpdater<B, T> field, Supplier<T> init, S source
+    ) {
+        T retValue = null;
+        if (collectionUtils.isNotEmpty(source)) {
+            retValue = initIfNeeded(bean, field, init);
+            if (retValue != null) {
+                retValue.putAll(source);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide value mapped to key in map stored in bean field, field and missing value are atomically initialized.
+     * Concurrent maps store only first mapped value, so all threads receive same value of key.
+     *
+     * @param bean    bean owning field.
+     * @param field   updater of volatile bean field storing map.
+     * @param init    supplier to provide new instance in case when field is null.
+     * @param key     key of value.
+     * @param mapping function providing value for missing key, null result doesn't modify map.
+     * @param <B>     type of bean.
+     * @param <M>     type of map.
+     * @param <K>     type of key in map.
+     * @param <V>     type of value in map.
+     * @return value mapped to key or null when map can't be initialized or mapping function is null.
+     */
+    public <B, M extends Map<K, V>, K, V> V computeIfAbsent(
+            B bean, AtomicReferenceFieldUpdater<B, M> field, Supplier<M> init, K key,
+            Function<? super K, ? extends V> mapping
+    ) {
+        V retValue = null;
+        M map = initIfNeeded(bean, field, init);
+        if (map != null && mapping != null) {
+            retValue = map.computeIfAbsent(key, mapping);
+        }
+        return retValue;
+    }
+
+    /**
+     * Initialize bean field if needed to prepare add operation. When field is null init supplier is used to create new
+     * instance, which is stored by compare and set. When other thread initializes field first, its instance is returned
+     * and instance provided by init supplier is dropped.
+     *
+     * @param bean  bean owning field.
+     * @param field updater of volatile bean field.
+     * @param init  supplier providing new instance in case when it is needed.
+     * @param <B>   type of bean.
+     * @param <T>   type of field.
+     * @return value of field or null when bean or field is null or field is null and init is null or provides null.
+     */
+    protected <B, T> T initIfNeeded(B bean, AtomicReferenceFieldUpdater<B, T> field, Supplier<T> init) {
+        T retValue = null;
+        if (bean != null && field != null) {
+            retValue = field.get(bean);
+            if (retValue == null && init != null) {
+                T created = init.get();
+                if (created != null) {
+                    retValue = field.compareAndSet(bean, null, created) ? created : field.get(bean);
+                }
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentBeanCollectionUtils{" +
+                "collectionUtils=" + collectionUtils +
+                '}';
+    }
+}
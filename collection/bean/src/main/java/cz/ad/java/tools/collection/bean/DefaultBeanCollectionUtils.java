@@ -18,24 +18,45 @@
 
 package cz.ad.java.tools.collection.bean;
 
+import cz.ad.java.tools.collection.core.BulkOperationMonitor;
 import cz.ad.java.tools.collection.core.CollectionAddUtils;
 import cz.ad.java.tools.collection.core.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 /**
  * Default implementation of bean oriented collection utils.
  */
 public class DefaultBeanCollectionUtils implements BeanCollectionAddUtils {
+    /**
+     * Minimal amount of beans processed by single parallel task of batch operations.
+     */
+    protected static final int MINIMAL_BATCH_TASK_SIZE = 1 << 10;
+
     /**
      * Store instance of internally used collection utils.
      */
     protected CollectionAddUtils collectionUtils;
+    /**
+     * Monitor notified about finished bulk operations performed directly on bean members.
+     */
+    protected BulkOperationMonitor bulkOperationMonitor;
 
     /**
      * Constructor allow to initialize new instance provided in interface by shared default instance of CollectionUtils.
@@ -46,10 +67,29 @@ public class DefaultBeanCollectionUtils implements BeanCollectionAddUtils {
      * @throws IllegalArgumentException when collection utils instance provided as parameter is null.
      */
     public DefaultBeanCollectionUtils(CollectionAddUtils collectionAddUtils) throws IllegalArgumentException {
+        this(collectionAddUtils, BulkOperationMonitor.DEFAULT_INSTANCE);
+    }
+
+    /**
+     * Constructor allow to initialize new instance with provided collection utils and monitor notified about bulk
+     * operations performed directly on bean members. Operations delegated to collection utils are reported by
+     * collection utils itself.
+     *
+     * @param collectionAddUtils   instance of collection utils used to internally to perform operation on the top of
+     *                             collections.  Must not be null.
+     * @param bulkOperationMonitor monitor notified about finished bulk operations. Must not be null.
+     * @throws IllegalArgumentException when collection utils or monitor provided as parameter is null.
+     */
+    public DefaultBeanCollectionUtils(CollectionAddUtils collectionAddUtils, BulkOperationMonitor bulkOperationMonitor)
+            throws IllegalArgumentException {
         if (collectionAddUtils == null) {
             throw new IllegalArgumentException("CollectionAddUtils must not be null");
         }
+        if (bulkOperationMonitor == null) {
+            throw new IllegalArgumentException("Bulk operation monitor must not be null");
+        }
         this.collectionUtils = collectionAddUtils;
+        this.bulkOperationMonitor = bulkOperationMonitor;
     }
 
     /**
@@ -57,6 +97,7 @@ public class DefaultBeanCollectionUtils implements BeanCollectionAddUtils {
      */
     public DefaultBeanCollectionUtils() {
         collectionUtils = CollectionUtils.instance();
+        bulkOperationMonitor = BulkOperationMonitor.DEFAULT_INSTANCE;
     }
 
     /**
@@ -193,9 +234,11 @@ public class DefaultBeanCollectionUtils implements BeanCollectionAddUtils {
         T retValue = null;
         if (collectionUtils.isNotEmpty(source)) {
             retValue = initIfNeeded(getter, setter, init);
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, retValue);
             if (retValue != null) {
                 retValue.addAll(source);
             }
+            BulkOperationMonitor.report(measurement, "addAll", retValue, source);
         }
         return retValue;
     }
@@ -239,9 +282,11 @@ public class DefaultBeanCollectionUtils implements BeanCollectionAddUtils {
         T retValue = null;
         if (collectionUtils.isNotEmpty(source)) {
             retValue = initMapIfNeeded(getter, setter, init);
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, retValue);
             if (retValue != null) {
                 retValue.putAll(source);
             }
+            BulkOperationMonitor.report(measurement, "putAll", retValue, source);
         }
         return retValue;
     }
@@ -459,6 +504,414 @@ public class DefaultBeanCollectionUtils implements BeanCollectionAddUtils {
         return retValue;
     }
 
+    /**
+     * Verify if bean collection member accessed by getter function applied on bean has no records.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @return true if bean, getter or provided collection is null or collection is empty, otherwise false.
+     */
+    @Override
+    public <B, C extends Collection<V>, V> boolean isEmpty(B bean, Function<B, C> getter) {
+        boolean retValue = true;
+        if (bean != null && getter != null) {
+            retValue = collectionUtils.isEmpty(getter.apply(bean));
+        }
+        return retValue;
+    }
+
+    /**
+     * Verify if bean collection member accessed by getter function applied on bean has records.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @return true if provided collection has records, otherwise false.
+     */
+    @Override
+    public <B, C extends Collection<V>, V> boolean isNotEmpty(B bean, Function<B, C> getter) {
+        boolean retValue = false;
+        if (bean != null && getter != null) {
+            retValue = collectionUtils.isNotEmpty(getter.apply(bean));
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate safely if bean collection member accessed by getter function applied on bean contains value.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param value  value searched in collection for presence.
+     * @return true when value is in collection, otherwise false.
+     */
+    @Override
+    public <B, C extends Collection<V>, V> boolean contains(B bean, Function<B, C> getter, V value) {
+        boolean retValue = false;
+        if (bean != null && getter != null) {
+            retValue = collectionUtils.contains(getter.apply(bean), value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate safely if bean map member accessed by getter function applied on bean contains key.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param key    key searched in map for presence.
+     * @return true when key is in map, otherwise false.
+     */
+    @Override
+    public <B, M extends Map<K, V>, K, V> boolean containsKey(B bean, Function<B, M> getter, K key) {
+        boolean retValue = false;
+        if (bean != null && getter != null) {
+            retValue = collectionUtils.contains(getter.apply(bean), key);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely value into bean collection member accessed by getter function applied on bean, if collection is null
+     * use init to supply new instance of collection, which is set into bean by setter function.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provide new instance in case when provided collection is null.
+     * @param value  value to be added into collection.
+     * @return provided collection or initialized new instance with added value, null when bean or getter is null.
+     */
+    @Override
+    public <B, C extends Collection<V>, V> C add(
+            B bean, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init, V value
+    ) {
+        C retValue = initIfNeeded(bean, getter, setter, init);
+        if (retValue != null) {
+            retValue.add(value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely values from source collection into bean collection member accessed by getter function applied on
+     * bean, if collection is null it is initialized by init supplier and set into bean by setter function. If provided
+     * source is null or empty null is return.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provide new instance in case when provided collection is null.
+     * @param source values to be added into collection.
+     * @return original target collection or initialized new collection with added provided values if source was not
+     *         empty, otherwise null.
+     */
+    @Override
+    public <B, T extends Collection<V>, S extends Collection<V>, V> T addAll(
+            B bean, Function<B, T> getter, BiConsumer<B, T> setter, Supplier<T> init, S source
+    ) {
+        T retValue = null;
+        if (collectionUtils.isNotEmpty(source)) {
+            retValue = initIfNeeded(bean, getter, setter, init);
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, retValue);
+            if (retValue != null) {
+                retValue.addAll(source);
+            }
+            BulkOperationMonitor.report(measurement, "addAll", retValue, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely key and value pair into bean map member accessed by getter function applied on bean, if map is null
+     * init is used to supply new instance, which is set into bean by setter function.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provided new instance in case when provided map is null.
+     * @param key    key connected to value in map.
+     * @param value  value stored in map connected to key.
+     * @return provided map or initialized by supplier with added key and value, null when bean or getter is null.
+     */
+    @Override
+    public <B, M extends Map<K, V>, K, V> M put(
+            B bean, Function<B, M> getter, BiConsumer<B, M> setter, Supplier<M> init, K key, V value
+    ) {
+        M retValue = initMapIfNeeded(bean, getter, setter, init);
+        if (retValue != null) {
+            retValue.put(key, value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely values from source map into bean map member accessed by getter function applied on bean and when map
+     * is null new instance is created by provided supplier and set into bean by setter function. When source map has
+     * no records null is returned.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provided new instance in case when provided map is null.
+     * @param source map with source data
+     * @return target map or initialized new map with all values from provided values map if it was not empty.
+     *         Otherwise, null.
+     */
+    @Override
+    public <B, T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(
+            B bean, Function<B, T> getter, BiConsumer<B, T> setter, Supplier<T> init, S source
+    ) {
+        T retValue = null;
+        if (collectionUtils.isNotEmpty(source)) {
+            retValue = initMapIfNeeded(bean, getter, setter, init);
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, retValue);
+            if (retValue != null) {
+                retValue.putAll(source);
+            }
+            BulkOperationMonitor.report(measurement, "putAll", retValue, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add value into collection member of every provided bean in single pass, null members are initialized by init
+     * supplier and set into bean by setter function. Null beans are skipped.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer used in case when bean member is null and needs to be initialized.
+     * @param init   supplier to provide new instance in case when collection member is null.
+     * @param value  value to be added into collections.
+     * @return amount of collections modified by added value.
+     */
+    @Override
+    public <B, C extends Collection<V>, V> int addToAll(
+            Collection<B> beans, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init, V value
+    ) {
+        return addToAll(beans, getter, setter, init, value, null);
+    }
+
+    /**
+     * Add value into collection member of every provided bean, beans are split into ranges processed in parallel by
+     * provided executor when their amount exceeds minimal task size. Last range is processed by calling thread.
+     *
+     * @param beans    beans owning collection members.
+     * @param getter   function providing collection member of bean, called concurrently.
+     * @param setter   consumer used in case when bean member is null and needs to be initialized, called concurrently.
+     * @param init     supplier to provide new instance in case when collection member is null, called concurrently.
+     * @param value    value to be added into collections.
+     * @param executor executor running parallel ranges, null to process beans sequentially by calling thread.
+     * @return amount of collections modified by added value.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B, C extends Collection<V>, V> int addToAll(
+            Collection<B> beans, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init, V value,
+            Executor executor
+    ) {
+        int retValue = 0;
+        if (collectionUtils.isNotEmpty(beans) && getter != null) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, null);
+            if (isBatchParallel(beans, executor)) {
+                Object[] array = beans.toArray();
+                retValue = processRanges(array.length, executor, (from, to) -> {
+                    int count = 0;
+                    for (int i = from; i < to; i++) {
+                        C collection = initIfNeeded((B) array[i], getter, setter, init);
+                        if (collection != null && collection.add(value)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                });
+            } else {
+                for (B bean : beans) {
+                    C collection = initIfNeeded(bean, getter, setter, init);
+                    if (collection != null && collection.add(value)) {
+                        retValue++;
+                    }
+                }
+            }
+            BulkOperationMonitor.report(measurement, "addToAll", null, beans);
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove value from collection member of every provided bean in single pass. Null beans and null members are
+     * skipped.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean.
+     * @param value  value to be removed from collections.
+     * @return amount of collections modified by removal.
+     */
+    @Override
+    public <B, C extends Collection<V>, V> int removeFromAll(Collection<B> beans, Function<B, C> getter, V value) {
+        return removeFromAll(beans, getter, value, null);
+    }
+
+    /**
+     * Remove value from collection member of every provided bean, beans are split into ranges processed in parallel by
+     * provided executor when their amount exceeds minimal task size. Last range is processed by calling thread.
+     *
+     * @param beans    beans owning collection members.
+     * @param getter   function providing collection member of bean, called concurrently.
+     * @param value    value to be removed from collections.
+     * @param executor executor running parallel ranges, null to process beans sequentially by calling thread.
+     * @return amount of collections modified by removal.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B, C extends Collection<V>, V> int removeFromAll(
+            Collection<B> beans, Function<B, C> getter, V value, Executor executor
+    ) {
+        int retValue = 0;
+        if (collectionUtils.isNotEmpty(beans) && getter != null) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, null);
+            if (isBatchParallel(beans, executor)) {
+                Object[] array = beans.toArray();
+                retValue = processRanges(array.length, executor, (from, to) -> {
+                    int count = 0;
+                    for (int i = from; i < to; i++) {
+                        if (array[i] != null) {
+                            C collection = getter.apply((B) array[i]);
+                            if (collection != null && collection.remove(value)) {
+                                count++;
+                            }
+                        }
+                    }
+                    return count;
+                });
+            } else {
+                for (B bean : beans) {
+                    if (bean != null) {
+                        C collection = getter.apply(bean);
+                        if (collection != null && collection.remove(value)) {
+                            retValue++;
+                        }
+                    }
+                }
+            }
+            BulkOperationMonitor.report(measurement, "removeFromAll", null, beans);
+        }
+        return retValue;
+    }
+
+    /**
+     * Collect values of collection member of all provided beans into single list. List is created with capacity of
+     * all collected values, so it is never resized.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean.
+     * @return list of all values in order of beans, null when beans or getter is null.
+     */
+    @Override
+    public <B, C extends Collection<V>, V> List<V> collectAll(Collection<B> beans, Function<B, C> getter) {
+        return collectAll(beans, getter, ArrayList::new);
+    }
+
+    /**
+     * Collect values of collection member of all provided beans into single collection created by sized init function.
+     * First pass sums sizes of members, so target is created with final capacity, second pass adds values.
+     *
+     * @param beans  beans owning collection members.
+     * @param getter function providing collection member of bean.
+     * @param init   function creating target collection for provided amount of values.
+     * @return collection of all values, null when beans, getter or init is null.
+     */
+    @Override
+    public <B, C extends Collection<V>, T extends Collection<V>, V> T collectAll(
+            Collection<B> beans, Function<B, C> getter, IntFunction<T> init
+    ) {
+        T retValue = null;
+        if (beans != null && getter != null && init != null) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, null);
+            long size = 0;
+            for (B bean : beans) {
+                if (bean != null) {
+                    C collection = getter.apply(bean);
+                    if (collection != null) {
+                        size += collection.size();
+                    }
+                }
+            }
+            retValue = init.apply((int) Math.min(size, Integer.MAX_VALUE));
+            for (B bean : beans) {
+                if (bean != null) {
+                    C collection = getter.apply(bean);
+                    if (collection != null) {
+                        retValue.addAll(collection);
+                    }
+                }
+            }
+            BulkOperationMonitor.report(measurement, "collectAll", retValue, beans);
+        }
+        return retValue;
+    }
+
+    /**
+     * Decide if batch operation over provided beans should be split into parallel tasks.
+     *
+     * @param beans    beans processed by operation.
+     * @param executor executor running parallel tasks, can be null.
+     * @return true when executor is provided and beans exceed minimal task size.
+     */
+    protected boolean isBatchParallel(Collection<?> beans, Executor executor) {
+        return executor != null && beans.size() > MINIMAL_BATCH_TASK_SIZE;
+    }
+
+    /**
+     * Split range of positions into tasks executed by provided executor and sum their results. Last task is executed
+     * by calling thread, which then waits for other tasks. Failure of any task is rethrown after all tasks finished.
+     * When executor rejects task, remaining tasks are neither submitted nor executed and rejection is rethrown after
+     * already submitted tasks finished, so no task modifies processed beans after method returns.
+     *
+     * @param size     amount of processed positions.
+     * @param executor executor running tasks.
+     * @param task     task processing positions from inclusive to exclusive and providing amount of modifications.
+     * @return sum of results of all tasks.
+     */
+    protected int processRanges(int size, Executor executor, IntBinaryOperator task) {
+        int taskSize = Math.max(MINIMAL_BATCH_TASK_SIZE, size / (Runtime.getRuntime().availableProcessors() << 2));
+        int tasks = (size + taskSize - 1) / taskSize;
+        int[] results = new int[tasks];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks - 1];
+        RuntimeException failure = null;
+        int submitted = 0;
+        try {
+            for (; submitted < futures.length; submitted++) {
+                int index = submitted;
+                futures[index] = CompletableFuture.runAsync(
+                        () -> results[index] = task.applyAsInt(index * taskSize, (index + 1) * taskSize), executor);
+            }
+        } catch (RejectedExecutionException e) {
+            failure = e;
+        }
+        if (failure == null) {
+            try {
+                results[tasks - 1] = task.applyAsInt((tasks - 1) * taskSize, size);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        try {
+            CompletableFuture.allOf(Arrays.copyOf(futures, submitted)).join();
+        } catch (CompletionException e) {
+            if (failure == null) {
+                failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        int retValue = 0;
+        for (int result : results) {
+            retValue += result;
+        }
+        return retValue;
+    }
+
     /**
      * Initialize collection inside bean if needed to prepare add operation. When getter provides null instance init
      * supplier is used to create new instance. If setter consumer is not null new instance is propagated into bean by
@@ -472,12 +925,32 @@ public class DefaultBeanCollectionUtils implements BeanCollectionAddUtils {
      * @return provided collection by getter supplier if is not null otherwise initialized collection by init supplier.
      */
     protected <C extends Collection<V>, V> C initIfNeeded(Supplier<C> getter, Consumer<C> setter, Supplier<C> init) {
+        return initIfNeeded(getter, setter, init, null);
+    }
+
+    /**
+     * Initialize collection inside bean if needed to prepare add operation with known declared type of member. When
+     * getter provides null instance init supplier is used to create new instance. If setter consumer is not null new
+     * instance is propagated into bean by using this consumer.
+     *
+     * @param getter supplier of access to bean collection member.
+     * @param setter consumer of initialized value to set bean collection member value.
+     * @param init   supplier providing new instance of collection in case when it is needed.
+     * @param type   type of member declared by bean, null when it is unknown.
+     * @param <C>    type of collection.
+     * @param <V>    type of value in collection.
+     * @return provided collection by getter supplier if is not null otherwise initialized collection by init supplier.
+     */
+    protected <C extends Collection<V>, V> C initIfNeeded(
+            Supplier<C> getter, Consumer<C> setter, Supplier<C> init, Class<?> type
+    ) {
         C retValue = null;
         if (getter != null) {
             retValue = getter.get();
             if (retValue == null && init != null) {
                 retValue = init.get();
                 if (retValue != null && setter != null) {
+                    retValue = onInitialized(null, retValue, type);
                     setter.accept(retValue);
                 }
             }
@@ -499,12 +972,33 @@ public class DefaultBeanCollectionUtils implements BeanCollectionAddUtils {
      * @return provided map by getter supplier if is not null otherwise initialized map by init supplier.
      */
     protected <M extends Map<K, V>, K, V> M initMapIfNeeded(Supplier<M> getter, Consumer<M> setter, Supplier<M> init) {
+        return initMapIfNeeded(getter, setter, init, null);
+    }
+
+    /**
+     * Initialize map inside bean if needed to prepare add operation with known declared type of member. When getter
+     * provides null instance init supplier is used to create new instance. If setter consumer is not null new instance
+     * is propagated into bean by using this consumer.
+     *
+     * @param getter supplier of access to bean map member.
+     * @param setter consumer of initialized value to set bean map member value.
+     * @param init   supplier providing new instance of map in case when it is needed.
+     * @param type   type of member declared by bean, null when it is unknown.
+     * @param <M>    type of map.
+     * @param <K>    type of key in map.
+     * @param <V>    type of value in map.
+     * @return provided map by getter supplier if is not null otherwise initialized map by init supplier.
+     */
+    protected <M extends Map<K, V>, K, V> M initMapIfNeeded(
+            Supplier<M> getter, Consumer<M> setter, Supplier<M> init, Class<?> type
+    ) {
         M retValue = null;
         if (getter != null) {
             retValue = getter.get();
             if (retValue == null && init != null) {
                 retValue = init.get();
                 if (retValue != null && setter != null) {
+                    retValue = onInitialized(null, retValue, type);
                     setter.accept(retValue);
                 }
             }
@@ -512,23 +1006,146 @@ public class DefaultBeanCollectionUtils implements BeanCollectionAddUtils {
         return retValue;
     }
 
+    /**
+     * Initialize collection member of bean if needed to prepare add operation. When getter function provides null
+     * instance init supplier is used to create new instance. If setter is not null new instance is propagated into bean
+     * by using this setter.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer of bean and initialized value to set bean collection member value.
+     * @param init   supplier providing new instance of collection in case when it is needed.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value in collection.
+     * @return provided collection by getter function if is not null otherwise initialized collection by init supplier.
+     */
+    protected <B, C extends Collection<V>, V> C initIfNeeded(
+            B bean, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init
+    ) {
+        return initIfNeeded(bean, getter, setter, init, null);
+    }
+
+    /**
+     * Initialize collection member of bean if needed to prepare add operation with known declared type of member. When
+     * getter function provides null instance init supplier is used to create new instance. If setter is not null new
+     * instance is propagated into bean by using this setter.
+     *
+     * @param bean   bean owning collection member.
+     * @param getter function providing collection member of bean.
+     * @param setter consumer of bean and initialized value to set bean collection member value.
+     * @param init   supplier providing new instance of collection in case when it is needed.
+     * @param type   type of member declared by bean, null when it is unknown.
+     * @param <B>    type of bean.
+     * @param <C>    type of collection.
+     * @param <V>    type of value in collection.
+     * @return provided collection by getter function if is not null otherwise initialized collection by init supplier.
+     */
+    protected <B, C extends Collection<V>, V> C initIfNeeded(
+            B bean, Function<B, C> getter, BiConsumer<B, C> setter, Supplier<C> init, Class<?> type
+    ) {
+        C retValue = null;
+        if (bean != null && getter != null) {
+            retValue = getter.apply(bean);
+            if (retValue == null && init != null) {
+                retValue = init.get();
+                if (retValue != null && setter != null) {
+                    retValue = onInitialized(bean, retValue, type);
+                    setter.accept(bean, retValue);
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Initialize map member of bean if needed to prepare add operation. When getter function provides null instance
+     * init supplier is used to create new instance. If setter is not null new instance is propagated into bean by using
+     * this setter.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer of bean and initialized value to set bean map member value.
+     * @param init   supplier providing new instance of map in case when it is needed.
+     * @param <B>    type of bean.
+     * @param <M>    type of map.
+     * @param <K>    type of key in map.
+     * @param <V>    type of value in map.
+     * @return provided map by getter function if is not null otherwise initialized map by init supplier.
+     */
+    protected <B, M extends Map<K, V>, K, V> M initMapIfNeeded(
+            B bean, Function<B, M> getter, BiConsumer<B, M> setter, Supplier<M> init
+    ) {
+        return initMapIfNeeded(bean, getter, setter, init, null);
+    }
+
+    /**
+     * Initialize map member of bean if needed to prepare add operation with known declared type of member. When getter
+     * function provides null instance init supplier is used to create new instance. If setter is not null new instance
+     * is propagated into bean by using this setter.
+     *
+     * @param bean   bean owning map member.
+     * @param getter function providing map member of bean.
+     * @param setter consumer of bean and initialized value to set bean map member value.
+     * @param init   supplier providing new instance of map in case when it is needed.
+     * @param type   type of member declared by bean, null when it is unknown.
+     * @param <B>    type of bean.
+     * @param <M>    type of map.
+     * @param <K>    type of key in map.
+     * @param <V>    type of value in map.
+     * @return provided map by getter function if is not null otherwise initialized map by init supplier.
+     */
+    protected <B, M extends Map<K, V>, K, V> M initMapIfNeeded(
+            B bean, Function<B, M> getter, BiConsumer<B, M> setter, Supplier<M> init, Class<?> type
+    ) {
+        M retValue = null;
+        if (bean != null && getter != null) {
+            retValue = getter.apply(bean);
+            if (retValue == null && init != null) {
+                retValue = init.get();
+                if (retValue != null && setter != null) {
+                    retValue = onInitialized(bean, retValue, type);
+                    setter.accept(bean, retValue);
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Hook invoked by lazy initialization with new instance of collection or map created by init supplier before it is
+     * set into bean. Returned instance is set into bean and used by operation instead of new instance. Default
+     * implementation returns new instance as it is.
+     *
+     * @param bean   bean owning member, null when member is accessed by supplier and consumer.
+     * @param member new instance of collection or map created by init supplier. Not null.
+     * @param type   type of member declared by bean provided by caller, null when it is unknown.
+     * @param <T>    type of member.
+     * @return instance to be set into bean, must be assignable to type of member declared by bean.
+     */
+    protected <T> T onInitialized(Object bean, T member, Class<?> type) {
+        return member;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         DefaultBeanCollectionUtils utils = (DefaultBeanCollectionUtils) o;
-        return Objects.equals(collectionUtils, utils.collectionUtils);
+        return Objects.equals(collectionUtils, utils.collectionUtils)
+                && Objects.equals(bulkOperationMonitor, utils.bulkOperationMonitor);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(collectionUtils);
+        return Objects.hash(collectionUtils, bulkOperationMonitor);
     }
 
     @Override
     public String toString() {
         return "DefaultBeanCollectionUtils{" +
                 "collectionUtils=" + collectionUtils +
+                ", bulkOperationMonitor=" + bulkOperationMonitor +
                 '}';
     }
 
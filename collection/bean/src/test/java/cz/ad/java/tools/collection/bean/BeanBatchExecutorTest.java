@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanBatchExecutorTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new BeanBatchExecutor(null, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BeanBatchExecutor(BeanCollectionUtils.DEFAULT_INSTANCE, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BeanBatchExecutor(BeanCollectionUtils.DEFAULT_INSTANCE, 1, null));
+        BeanBatchExecutor executor = new BeanBatchExecutor();
+        assertSame(BeanCollectionUtils.DEFAULT_INSTANCE, executor.utils);
+        assertEquals(BeanBatchExecutor.DEFAULT_PARALLELISM, executor.parallelism);
+    }
+
+    @Test
+    void newExecutor() throws InterruptedException {
+        ExecutorService executor = BeanBatchExecutor.newExecutor();
+        try {
+            boolean[] virtual = new boolean[1];
+            executor.execute(() -> virtual[0] = Thread.currentThread().toString().startsWith("VirtualThread"));
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(BeanBatchExecutor.isVirtualThreadSupported(), virtual[0]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void forEach() throws InterruptedException {
+        BeanBatchExecutor testedInstance = testedInstance(4);
+        assertTrue(testedInstance.forEach(null, bean -> { }).isSuccessful());
+        assertEquals(0, testedInstance.forEach(Arrays.asList(1, 2), null).succeeded());
+
+        List<Integer> beans = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            beans.add(i);
+        }
+        beans.add(null);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        BeanBatchResult<Integer> result = testedInstance.forEach(beans, bean -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            if (bean % 10 == 0) {
+                throw new IllegalStateException("Bean " + bean);
+            }
+        });
+        assertTrue(maxRunning.get() <= 4);
+        assertEquals(90, result.succeeded());
+        assertFalse(result.isSuccessful());
+        assertEquals(10, result.failures().size());
+        Set<Integer> failed = new HashSet<>();
+        for (BeanBatchResult.Failure<Integer> failure : result.failures()) {
+            assertTrue(failure.cause() instanceof IllegalStateException);
+            failed.add(failure.bean());
+        }
+        assertEquals(new HashSet<>(Arrays.asList(0, 10, 20, 30, 40, 50, 60, 70, 80, 90)), failed);
+        assertThrows(UnsupportedOperationException.class, () -> result.failures().clear());
+    }
+
+    @Test
+    void blockingGettersOverlap() throws InterruptedException {
+        BeanBatchExecutor testedInstance = testedInstance(32);
+        List<SlowBean> beans = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            beans.add(new SlowBean());
+        }
+        long start = System.nanoTime();
+        BeanBatchResult<SlowBean> result = testedInstance.addToAll(beans, SlowBean::getList, SlowBean::setList,
+                ArrayList::new, 1);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(result.isSuccessful());
+        assertEquals(32, result.succeeded());
+        // serialized getters would wait 32 * 50 ms
+        assertTrue(elapsed < 32 * SlowBean.DELAY / 2, "Elapsed " + elapsed);
+        for (SlowBean bean : beans) {
+            assertEquals(Arrays.asList(1), bean.list);
+        }
+
+        result = testedInstance.removeFromAll(beans, SlowBean::getList, 1);
+        assertEquals(32, result.succeeded());
+        for (SlowBean bean : beans) {
+            assertTrue(bean.list.isEmpty());
+        }
+    }
+
+    @Test
+    void putToAll() throws InterruptedException {
+        BeanBatchExecutor testedInstance = testedInstance(2);
+        List<DefaultBeanCollectionUtilsTest.TestBean> beans = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            beans.add(new DefaultBeanCollectionUtilsTest.TestBean());
+        }
+        BeanBatchResult<DefaultBeanCollectionUtilsTest.TestBean> result = testedInstance.putToAll(beans,
+                DefaultBeanCollectionUtilsTest.TestBean::getMap, DefaultBeanCollectionUtilsTest.TestBean::setMap,
+                HashMap::new, 1, 2);
+        assertEquals(10, result.succeeded());
+        for (DefaultBeanCollectionUtilsTest.TestBean bean : beans) {
+            assertEquals(Integer.valueOf(2), bean.getMap().get(1));
+        }
+    }
+
+    @Test
+    void rejected() throws InterruptedException {
+        BeanBatchExecutor testedInstance = new BeanBatchExecutor(BeanCollectionUtils.DEFAULT_INSTANCE, 2, () -> {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.shutdown();
+            return executor;
+        });
+        BeanBatchResult<Integer> result = testedInstance.forEach(Arrays.asList(1, 2, 3), bean -> { });
+        assertEquals(0, result.succeeded());
+        assertEquals(3, result.failures().size());
+        assertTrue(result.failures().get(0).cause() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    void interrupted() {
+        BeanBatchExecutor testedInstance = testedInstance(1);
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> testedInstance.forEach(Arrays.asList(1, 2), bean -> { }));
+        assertFalse(Thread.interrupted());
+    }
+
+    protected BeanBatchExecutor testedInstance(int parallelism) {
+        return new BeanBatchExecutor(new DefaultBeanCollectionUtils(), parallelism);
+    }
+
+    /**
+     * Bean with getter blocking like lazy loading proxy.
+     */
+    public static class SlowBean {
+        static final long DELAY = 50;
+
+        private List<Integer> list;
+
+        public List<Integer> getList() {
+            try {
+                Thread.sleep(DELAY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return list;
+        }
+
+        public void setList(List<Integer> list) {
+            this.list = list;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class BeanCollectionAddUtilsTest {
 
@@ -108,6 +109,72 @@ class BeanCollectionAddUtilsTest {
         assertNull(added);
     }
 
+    @Test
+    void beanAddList() {
+        BeanCollectionAddUtils instance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean testBean = new DefaultBeanCollectionUtilsTest.TestBean();
+        List<Integer> added = instance.addList(null, DefaultBeanCollectionUtilsTest.TestBean::getList,
+                DefaultBeanCollectionUtilsTest.TestBean::setList, 1);
+        assertNull(added);
+        added = instance.addList(testBean, DefaultBeanCollectionUtilsTest.TestBean::getList,
+                DefaultBeanCollectionUtilsTest.TestBean::setList, 1);
+        assertSame(added, testBean.getList());
+    }
+
+    @Test
+    void beanAddSet() {
+        BeanCollectionAddUtils instance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean testBean = new DefaultBeanCollectionUtilsTest.TestBean();
+        Set<Integer> added = instance.addSet(testBean, DefaultBeanCollectionUtilsTest.TestBean::getSet,
+                DefaultBeanCollectionUtilsTest.TestBean::setSet, 1);
+        assertSame(added, testBean.getSet());
+    }
+
+    @Test
+    void beanAddAllList() {
+        BeanCollectionAddUtils instance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean testBean = new DefaultBeanCollectionUtilsTest.TestBean();
+        List<Integer> list = new ArrayList<>();
+        List<Integer> added = instance.addAllList(testBean, DefaultBeanCollectionUtilsTest.TestBean::getList,
+                DefaultBeanCollectionUtilsTest.TestBean::setList, list);
+        assertNull(added);
+        list.add(1);
+        added = instance.addAllList(testBean, DefaultBeanCollectionUtilsTest.TestBean::getList,
+                DefaultBeanCollectionUtilsTest.TestBean::setList, list);
+        assertSame(added, testBean.getList());
+    }
+
+    @Test
+    void beanAddAllSet() {
+        BeanCollectionAddUtils instance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean testBean = new DefaultBeanCollectionUtilsTest.TestBean();
+        List<Integer> list = new ArrayList<>();
+        list.add(1);
+        Set<Integer> added = instance.addAllSet(testBean, DefaultBeanCollectionUtilsTest.TestBean::getSet,
+                DefaultBeanCollectionUtilsTest.TestBean::setSet, list);
+        assertSame(added, testBean.getSet());
+    }
+
+    @Test
+    void beanPutMap() {
+        BeanCollectionAddUtils instance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean testBean = new DefaultBeanCollectionUtilsTest.TestBean();
+        Map<Integer, Integer> added = instance.putMap(testBean, DefaultBeanCollectionUtilsTest.TestBean::getMap,
+                DefaultBeanCollectionUtilsTest.TestBean::setMap, 1, 1);
+        assertSame(added, testBean.getMap());
+    }
+
+    @Test
+    void beanPutAllMap() {
+        BeanCollectionAddUtils instance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean testBean = new DefaultBeanCollectionUtilsTest.TestBean();
+        Map<Integer, Integer> map = new HashMap<>();
+        map.put(1, 1);
+        Map<Integer, Integer> added = instance.putAllMap(testBean, DefaultBeanCollectionUtilsTest.TestBean::getMap,
+                DefaultBeanCollectionUtilsTest.TestBean::setMap, map);
+        assertSame(added, testBean.getMap());
+    }
+
     protected BeanCollectionAddUtils testedInstance() {
         return new DefaultBeanCollectionUtils();
     }
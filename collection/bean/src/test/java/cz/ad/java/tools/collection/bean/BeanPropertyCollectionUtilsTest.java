@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanPropertyCollectionUtilsTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new BeanPropertyCollectionUtils(null));
+    }
+
+    @Test
+    void isEmpty() {
+        BeanPropertyCollectionUtils instance = testedInstance();
+        BeanPropertyTest.PropertyBean bean = new BeanPropertyTest.PropertyBean();
+        assertTrue(instance.isEmpty(null, "items"));
+        assertTrue(instance.isEmpty(bean, (String) null));
+        assertTrue(instance.isEmpty(bean, "items"));
+        assertTrue(instance.isEmpty(bean, "attributes"));
+        assertFalse(instance.isNotEmpty(bean, "items"));
+        bean.setItems(new ArrayList<>(Collections.singletonList("a")));
+        assertFalse(instance.isEmpty(bean, "items"));
+        assertTrue(instance.isNotEmpty(bean, "items"));
+        assertThrows(IllegalArgumentException.class, () -> instance.isEmpty(bean, "missing"));
+    }
+
+    @Test
+    void add() {
+        BeanPropertyCollectionUtils instance = testedInstance();
+        assertNull(instance.add(null, "items", "a"));
+        BeanPropertyTest.PropertyBean bean = new BeanPropertyTest.PropertyBean();
+        List<String> items = instance.add(bean, "items", "a");
+        assertSame(items, bean.getItems());
+        assertSame(items, instance.add(bean, "items", "b"));
+        assertEquals(Arrays.asList("a", "b"), items);
+        assertTrue(instance.contains(bean, "items", "a"));
+        assertFalse(instance.contains(bean, "items", "c"));
+        assertFalse(instance.contains(null, "items", "a"));
+        // read only property without instance can't be initialized
+        assertEquals(Collections.emptyList(), BeanProperty.of(bean.getClass(), "readOnly").get(bean));
+        assertNull(instance.add(bean, "URLs", "a"));
+        assertThrows(IllegalArgumentException.class, () -> instance.add(bean, "attributes", "a"));
+        assertThrows(IllegalArgumentException.class, () -> instance.contains(bean, "attributes", "a"));
+    }
+
+    @Test
+    void addAll() {
+        BeanPropertyCollectionUtils instance = testedInstance();
+        BeanPropertyTest.PropertyBean bean = new BeanPropertyTest.PropertyBean();
+        assertNull(instance.addAll(bean, "items", Collections.emptyList()));
+        assertNull(bean.getItems());
+        List<String> items = instance.addAll(bean, "items", Arrays.asList("a", "b"));
+        assertSame(items, bean.getItems());
+        assertEquals(Arrays.asList("a", "b"), items);
+    }
+
+    @Test
+    void put() {
+        BeanPropertyCollectionUtils instance = testedInstance();
+        assertNull(instance.put(null, "attributes", "a", 1));
+        BeanPropertyTest.PropertyBean bean = new BeanPropertyTest.PropertyBean();
+        SortedMap<String, Integer> attributes = instance.put(bean, "attributes", "a", 1);
+        assertTrue(attributes instanceof TreeMap);
+        assertSame(attributes, bean.getAttributes());
+        assertTrue(instance.containsKey(bean, "attributes", "a"));
+        assertFalse(instance.containsKey(bean, "attributes", "b"));
+        assertThrows(IllegalArgumentException.class, () -> instance.put(bean, "items", "a", 1));
+        assertThrows(IllegalArgumentException.class, () -> instance.containsKey(bean, "items", "a"));
+    }
+
+    @Test
+    void putAll() {
+        BeanPropertyCollectionUtils instance = testedInstance();
+        BeanPropertyTest.PropertyBean bean = new BeanPropertyTest.PropertyBean();
+        assertNull(instance.putAll(bean, "attributes", new HashMap<>()));
+        Map<String, Integer> source = Collections.singletonMap("a", 1);
+        Map<String, Integer> attributes = instance.putAll(bean, "attributes", source);
+        assertSame(attributes, bean.getAttributes());
+        assertEquals(source, attributes);
+    }
+
+    @Test
+    void nonPublicBean() {
+        BeanPropertyCollectionUtils instance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean bean = new DefaultBeanCollectionUtilsTest.TestBean();
+        instance.add(bean, "set", 1);
+        instance.put(bean, "map", 1, 2);
+        assertEquals(Collections.singleton(1), bean.getSet());
+        assertEquals(Collections.singletonMap(1, 2), bean.getMap());
+    }
+
+    @Test
+    void path() {
+        BeanPropertyCollectionUtils instance = testedInstance();
+        BeanPropertyPathTest.Order order = new BeanPropertyPathTest.Order();
+        assertTrue(instance.isEmpty(order, "customer.addresses"));
+        assertFalse(instance.contains(order, "customer.addresses", "a"));
+        assertFalse(instance.containsKey(order, "customer.attributes", "a"));
+        assertFalse(instance.removeAll(order, "customer.addresses", Collections.singleton("a")));
+        assertNull(order.getCustomer());
+        List<String> addresses = instance.add(order, "customer.addresses", "a");
+        assertSame(addresses, order.getCustomer().getAddresses());
+        assertTrue(instance.isNotEmpty(order, "customer.addresses"));
+        assertTrue(instance.contains(order, "customer.addresses", "a"));
+        instance.addAll(order, "customer.addresses", Arrays.asList("b", "c"));
+        assertTrue(instance.removeAll(order, "customer.addresses", Arrays.asList("a", "c")));
+        assertEquals(Collections.singletonList("b"), addresses);
+        instance.put(order, "customer.attributes", "a", "b");
+        instance.putAll(order, "customer.attributes", Collections.singletonMap("c", "d"));
+        assertTrue(instance.containsKey(order, "customer.attributes", "c"));
+        assertEquals(2, order.getCustomer().getAttributes().size());
+        assertNull(instance.add(order, "readOnlyCustomer.addresses", "a"));
+        assertThrows(IllegalArgumentException.class, () -> instance.add(order, "customer", "a"));
+        assertThrows(IllegalArgumentException.class, () -> instance.isEmpty(order, "customer"));
+    }
+
+    @Test
+    void compiledPath() {
+        BeanPropertyCollectionUtils instance = testedInstance();
+        BeanPropertyPath addresses = BeanPropertyPath.of(BeanPropertyPathTest.Order.class, "customer.addresses");
+        BeanPropertyPath attributes = BeanPropertyPath.of(BeanPropertyPathTest.Order.class, "customer.attributes");
+        BeanPropertyPathTest.Order order = new BeanPropertyPathTest.Order();
+        assertNull(instance.add(null, addresses, "a"));
+        assertNull(instance.add(order, (BeanPropertyPath) null, "a"));
+        assertTrue(instance.isEmpty(order, addresses));
+        assertNull(instance.addAll(order, addresses, Collections.emptyList()));
+        assertNull(order.getCustomer());
+        instance.add(order, addresses, "a");
+        assertTrue(instance.isNotEmpty(order, addresses));
+        assertTrue(instance.contains(order, addresses, "a"));
+        assertEquals(Arrays.asList("a", "b"), instance.addAll(order, addresses, Collections.singletonList("b")));
+        assertTrue(instance.removeAll(order, addresses, Collections.singletonList("a")));
+        assertNull(instance.putAll(order, attributes, Collections.emptyMap()));
+        instance.put(order, attributes, "a", "b");
+        assertTrue(instance.containsKey(order, attributes, "a"));
+        assertEquals(Collections.singletonMap("a", "b"),
+                instance.putAll(order, attributes, Collections.singletonMap("a", "b")));
+        assertThrows(IllegalArgumentException.class, () -> instance.put(order, addresses, "a", "b"));
+    }
+
+    protected BeanPropertyCollectionUtils testedInstance() {
+        return new BeanPropertyCollectionUtils();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BeanPropertyPathTest {
+
+    @Test
+    void compile() {
+        BeanPropertyPath path = BeanPropertyPath.compile(Order.class, "customer.addresses");
+        assertEquals(Order.class, path.rootClass());
+        assertEquals("customer.addresses", path.path());
+        assertEquals("addresses", path.leaf().name());
+        assertEquals("items", BeanPropertyPath.compile(Order.class, "items").leaf().name());
+        assertThrows(IllegalArgumentException.class, () -> BeanPropertyPath.compile(Order.class, null));
+        assertThrows(IllegalArgumentException.class, () -> BeanPropertyPath.compile(Order.class, ""));
+        assertThrows(IllegalArgumentException.class, () -> BeanPropertyPath.compile(Order.class, "customer..items"));
+        assertThrows(IllegalArgumentException.class, () -> BeanPropertyPath.compile(Order.class, "customer."));
+        assertThrows(IllegalArgumentException.class, () -> BeanPropertyPath.compile(Order.class, "customer.missing"));
+        assertThrows(IllegalArgumentException.class, () -> BeanPropertyPath.compile(Order.class, "items.empty"));
+    }
+
+    @Test
+    void of() {
+        BeanPropertyPath path = BeanPropertyPath.of(Order.class, "customer.addresses");
+        assertSame(path, BeanPropertyPath.of(Order.class, "customer.addresses"));
+        assertNotSame(path, BeanPropertyPath.compile(Order.class, "customer.addresses"));
+        assertThrows(IllegalArgumentException.class, () -> BeanPropertyPath.of(Order.class, "customer.missing"));
+    }
+
+    @Test
+    void parent() {
+        BeanPropertyPath path = BeanPropertyPath.of(Order.class, "customer.addresses");
+        Order order = new Order();
+        assertNull(path.parent(null, true));
+        assertNull(path.parent(order, false));
+        assertNull(order.getCustomer());
+        Object customer = path.parent(order, true);
+        assertNotNull(customer);
+        assertSame(customer, order.getCustomer());
+        assertSame(customer, path.parent(order, true));
+        assertSame(order, BeanPropertyPath.of(Order.class, "items").parent(order, true));
+        // intermediate bean without setter or constructor can't be created
+        assertNull(BeanPropertyPath.of(Order.class, "readOnlyCustomer.addresses").parent(order, true));
+        assertNull(BeanPropertyPath.of(Order.class, "contact.addresses").parent(order, true));
+    }
+
+    @Test
+    void get() {
+        BeanPropertyPath path = BeanPropertyPath.of(Order.class, "customer.addresses");
+        Order order = new Order();
+        assertNull(path.get(order));
+        assertNull(order.getCustomer());
+        order.setCustomer(new Customer());
+        assertNull(path.get(order));
+        List<String> addresses = new ArrayList<>();
+        order.getCustomer().setAddresses(addresses);
+        assertSame(addresses, path.get(order));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("BeanPropertyPath{rootClass=" + Order.class.getName() + ", path=customer.addresses}",
+                BeanPropertyPath.of(Order.class, "customer.addresses").toString());
+    }
+
+    public static class Order {
+        private Customer customer;
+        private AbstractContact contact;
+        private List<String> items;
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(Customer customer) {
+            this.customer = customer;
+        }
+
+        public Customer getReadOnlyCustomer() {
+            return null;
+        }
+
+        public AbstractContact getContact() {
+            return contact;
+        }
+
+        public void setContact(AbstractContact contact) {
+            this.contact = contact;
+        }
+
+        public List<String> getItems() {
+            return items;
+        }
+
+        public void setItems(List<String> items) {
+            this.items = items;
+        }
+    }
+
+    public static class Customer {
+        private List<String> addresses;
+        private Map<String, String> attributes;
+
+        public List<String> getAddresses() {
+            return addresses;
+        }
+
+        public void setAddresses(List<String> addresses) {
+            this.addresses = addresses;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, String> attributes) {
+            this.attributes = attributes;
+        }
+    }
+
+    public abstract static class AbstractContact {
+        private List<String> addresses;
+
+        public List<String> getAddresses() {
+            return addresses;
+        }
+
+        public void setAddresses(List<String> addresses) {
+            this.addresses = addresses;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanPropertyTest {
+
+    @Test
+    void of() {
+        BeanProperty property = BeanProperty.of(PropertyBean.class, "items");
+        assertEquals("items", property.name());
+        assertEquals(List.class, property.type());
+        assertTrue(property.isCollection());
+        assertTrue(property.isWritable());
+        assertSame(property, BeanProperty.of(PropertyBean.class, "items"));
+        assertFalse(BeanProperty.of(PropertyBean.class, "name").isCollection());
+        assertFalse(BeanProperty.of(PropertyBean.class, "name").isMap());
+        assertThrows(IllegalArgumentException.class, () -> BeanProperty.of(PropertyBean.class, "class"));
+        assertThrows(IllegalArgumentException.class, () -> BeanProperty.of(PropertyBean.class, "missing"));
+    }
+
+    @Test
+    void properties() {
+        Map<String, BeanProperty> properties = BeanProperty.properties(PropertyBean.class);
+        assertEquals("URLs", properties.get("URLs").name());
+        assertEquals(6, properties.size());
+        assertThrows(UnsupportedOperationException.class, () -> properties.remove("items"));
+        assertFalse(properties.get("readOnly").isWritable());
+        assertFalse(properties.get("attributes").isCollection());
+        assertTrue(properties.get("attributes").isMap());
+    }
+
+    @Test
+    void getAndSet() {
+        PropertyBean bean = new PropertyBean();
+        BeanProperty property = BeanProperty.of(PropertyBean.class, "items");
+        assertNull(property.get(bean));
+        List<String> items = new ArrayList<>();
+        property.set(bean, items);
+        assertSame(items, bean.getItems());
+        assertSame(items, property.apply(bean));
+        property.accept(bean, null);
+        assertNull(bean.getItems());
+        BeanProperty readOnly = BeanProperty.of(PropertyBean.class, "readOnly");
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.set(bean, items));
+        assertThrows(ClassCastException.class, () -> property.set(bean, new TreeMap<>()));
+    }
+
+    @Test
+    void init() {
+        assertTrue(BeanProperty.of(PropertyBean.class, "items").init().get() instanceof ArrayList);
+        assertTrue(BeanProperty.of(PropertyBean.class, "attributes").init().get() instanceof TreeMap);
+        assertTrue(BeanProperty.of(PropertyBean.class, "history").init().get() instanceof LinkedList);
+        assertNull(BeanProperty.of(PropertyBean.class, "URLs").init());
+    }
+
+    @Test
+    void nonPublicBean() {
+        DefaultBeanCollectionUtilsTest.TestBean bean = new DefaultBeanCollectionUtilsTest.TestBean();
+        bean.setList(new ArrayList<>());
+        BeanProperty property = BeanProperty.of(DefaultBeanCollectionUtilsTest.TestBean.class, "list");
+        assertSame(bean.getList(), property.get(bean));
+        assertEquals(4, BeanProperty.properties(DefaultBeanCollectionUtilsTest.TestBean.class).size());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("BeanProperty{name=items, type=java.util.List, writable=true}",
+                BeanProperty.of(PropertyBean.class, "items").toString());
+    }
+
+    public static class PropertyBean {
+        private List<String> items;
+        private SortedMap<String, Integer> attributes;
+        private LinkedList<String> history;
+        private AbstractUrls urls;
+
+        public List<String> getItems() {
+            return items;
+        }
+
+        public void setItems(List<String> items) {
+            this.items = items;
+        }
+
+        public SortedMap<String, Integer> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(SortedMap<String, Integer> attributes) {
+            this.attributes = attributes;
+        }
+
+        public LinkedList<String> getHistory() {
+            return history;
+        }
+
+        public void setHistory(LinkedList<String> history) {
+            this.history = history;
+        }
+
+        public AbstractUrls getURLs() {
+            return urls;
+        }
+
+        public List<String> getReadOnly() {
+            return Collections.emptyList();
+        }
+
+        public String getName() {
+            return "name";
+        }
+    }
+
+    public abstract static class AbstractUrls extends ArrayList<String> {
+        private static final long serialVersionUID = 1L;
+    }
+}
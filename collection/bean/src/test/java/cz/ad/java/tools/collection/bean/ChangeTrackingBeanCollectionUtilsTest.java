@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeTrackingBeanCollectionUtilsTest {
+
+    @Test
+    void beanInit() {
+        ChangeTrackingBeanCollectionUtils testedInstance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean bean = new DefaultBeanCollectionUtilsTest.TestBean();
+        List<Integer> list = testedInstance.add(bean, DefaultBeanCollectionUtilsTest.TestBean::getList,
+                DefaultBeanCollectionUtilsTest.TestBean::setList, ArrayList::new, List.class, 1);
+        assertTrue(list instanceof ChangeTrackingList);
+        assertTrue(list instanceof RandomAccess);
+        assertSame(list, bean.getList());
+        testedInstance.add(bean, DefaultBeanCollectionUtilsTest.TestBean::getSet,
+                DefaultBeanCollectionUtilsTest.TestBean::setSet, HashSet::new, Set.class, 2);
+        assertTrue(bean.getSet() instanceof ChangeTrackingSet);
+        testedInstance.put(bean, DefaultBeanCollectionUtilsTest.TestBean::getMap,
+                DefaultBeanCollectionUtilsTest.TestBean::setMap, HashMap::new, Map.class, 3, 4);
+        assertTrue(bean.getMap() instanceof ChangeTrackingMap);
+
+        Map<String, ChangeLog<?>> changes = testedInstance.drainChanges(bean);
+        assertEquals(new HashSet<>(Arrays.asList("list", "set", "map")), changes.keySet());
+        assertEquals(Collections.singletonList(1), changes.get("list").added());
+        assertEquals(Collections.singletonList(2), changes.get("set").added());
+        assertTrue(testedInstance.drainChanges(bean).isEmpty());
+
+        bean.getList().add(5);
+        testedInstance.add(bean, DefaultBeanCollectionUtilsTest.TestBean::getList,
+                DefaultBeanCollectionUtilsTest.TestBean::setList, ArrayList::new, 6);
+        changes = testedInstance.drainChanges(bean);
+        assertEquals(Collections.singleton("list"), changes.keySet());
+        assertEquals(Arrays.asList(5, 6), changes.get("list").added());
+    }
+
+    @Test
+    void bulkInit() {
+        ChangeTrackingBeanCollectionUtils testedInstance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean bean = new DefaultBeanCollectionUtilsTest.TestBean();
+        assertNull(testedInstance.addAll(bean, DefaultBeanCollectionUtilsTest.TestBean::getList,
+                DefaultBeanCollectionUtilsTest.TestBean::setList, ArrayList::new, List.class, Collections.emptyList()));
+        assertNull(bean.getList());
+        testedInstance.addAll(bean, DefaultBeanCollectionUtilsTest.TestBean::getList,
+                DefaultBeanCollectionUtilsTest.TestBean::setList, ArrayList::new, List.class, Arrays.asList(1, 2));
+        testedInstance.putAll(bean, DefaultBeanCollectionUtilsTest.TestBean::getMap,
+                DefaultBeanCollectionUtilsTest.TestBean::setMap, HashMap::new, Map.class,
+                Collections.singletonMap(3, 4));
+        assertEquals(Arrays.asList(1, 2),
+                testedInstance.drainChanges(bean, DefaultBeanCollectionUtilsTest.TestBean::getList).added());
+        assertEquals(1, testedInstance.drainMapChanges(bean, DefaultBeanCollectionUtilsTest.TestBean::getMap).size());
+    }
+
+    @Test
+    void supplierInit() {
+        ChangeTrackingBeanCollectionUtils testedInstance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean bean = new DefaultBeanCollectionUtilsTest.TestBean();
+        assertThrows(UnsupportedOperationException.class,
+                () -> testedInstance.add(bean::getList, bean::setList, ArrayList::new, 1));
+        assertThrows(UnsupportedOperationException.class,
+                () -> testedInstance.put(bean::getMap, bean::setMap, HashMap::new, 2, 3));
+        assertNull(bean.getList());
+        assertNull(bean.getMap());
+
+        testedInstance.add(bean::getList, bean::setList, ArrayList::new, List.class, 1);
+        testedInstance.put(bean::getMap, bean::setMap, HashMap::new, Map.class, 2, 3);
+        testedInstance.add(bean::getList, bean::setList, ArrayList::new, 4);
+        assertEquals(Arrays.asList(1, 4), bean.getList());
+        assertEquals(Collections.singletonMap(2, 3), bean.getMap());
+        assertTrue(bean.getList() instanceof ChangeTrackingList);
+        assertTrue(bean.getMap() instanceof ChangeTrackingMap);
+        assertEquals(new HashSet<>(Arrays.asList("list", "map")), testedInstance.drainChanges(bean).keySet());
+    }
+
+    @Test
+    void propertyInit() {
+        ChangeTrackingBeanCollectionUtils testedInstance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean bean = new DefaultBeanCollectionUtilsTest.TestBean();
+        testedInstance.add(bean, "list", 1);
+        testedInstance.put(bean, "map", 2, 3);
+        assertTrue(bean.getList() instanceof ChangeTrackingList);
+        assertTrue(bean.getMap() instanceof ChangeTrackingMap);
+        assertEquals(new HashSet<>(Arrays.asList("list", "map")), testedInstance.drainChanges(bean).keySet());
+
+        ConcreteBean concrete = new ConcreteBean();
+        testedInstance.add(concrete, "items", 1);
+        assertFalse(concrete.getItems() instanceof ChangeTracking);
+        assertEquals(Collections.singletonList(1), concrete.getItems());
+    }
+
+    @Test
+    void onInitialized() {
+        ChangeTrackingBeanCollectionUtils testedInstance = testedInstance();
+        DefaultBeanCollectionUtilsTest.TestBean bean = new DefaultBeanCollectionUtilsTest.TestBean();
+        List<Integer> list = new ArrayList<>();
+        assertThrows(UnsupportedOperationException.class, () -> testedInstance.onInitialized(null, list, null));
+        assertThrows(UnsupportedOperationException.class, () -> testedInstance.onInitialized(bean, list, null));
+        assertTrue(testedInstance.onInitialized(null, list, List.class) instanceof ChangeTrackingList);
+        assertTrue(testedInstance.onInitialized(bean, list, Collection.class) instanceof ChangeTrackingList);
+        assertSame(list, testedInstance.onInitialized(bean, list, ArrayList.class));
+        ChangeTrackingList<Integer> tracked = new ChangeTrackingList<>(list);
+        assertSame(tracked, testedInstance.onInitialized(bean, tracked, null));
+        assertFalse(testedInstance.onInitialized(bean, new LinkedList<>(), List.class) instanceof RandomAccess);
+        assertSame(bean, testedInstance.onInitialized(bean, bean, null));
+    }
+
+    @Test
+    void notTracked() {
+        ChangeTrackingBeanCollectionUtils testedInstance = testedInstance();
+        assertTrue(testedInstance.drainChanges(null).isEmpty());
+        DefaultBeanCollectionUtilsTest.TestBean bean = new DefaultBeanCollectionUtilsTest.TestBean();
+        List<Integer> existing = new ArrayList<>();
+        bean.setList(existing);
+        testedInstance.add(bean, DefaultBeanCollectionUtilsTest.TestBean::getList,
+                DefaultBeanCollectionUtilsTest.TestBean::setList, ArrayList::new, 1);
+        assertSame(existing, bean.getList());
+        assertTrue(testedInstance.drainChanges(bean).isEmpty());
+        assertTrue(testedInstance.drainChanges(bean, DefaultBeanCollectionUtilsTest.TestBean::getList).isEmpty());
+
+        ConcreteBean concrete = new ConcreteBean();
+        assertThrows(UnsupportedOperationException.class, () -> testedInstance.add(concrete, ConcreteBean::getItems,
+                ConcreteBean::setItems, ArrayList::new, 1));
+        ArrayList<Integer> list = testedInstance.add(concrete, ConcreteBean::getItems, ConcreteBean::setItems,
+                ArrayList::new, ArrayList.class, 1);
+        assertSame(list, concrete.getItems());
+        assertFalse(list instanceof ChangeTracking);
+        assertEquals(Collections.singletonList(1), concrete.getItems());
+    }
+
+    private ChangeTrackingBeanCollectionUtils testedInstance() {
+        return new ChangeTrackingBeanCollectionUtils();
+    }
+
+    /**
+     * Bean declaring member by implementation type, which can't be replaced by wrapper.
+     */
+    public static class ConcreteBean {
+        private ArrayList<Integer> items;
+
+        public ArrayList<Integer> getItems() {
+            return items;
+        }
+
+        public void setItems(ArrayList<Integer> items) {
+            this.items = items;
+        }
+    }
+}
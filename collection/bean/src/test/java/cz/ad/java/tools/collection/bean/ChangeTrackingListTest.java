@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeTrackingListTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeTrackingList<>(null));
+        ChangeTrackingList<Integer> list = testedInstance(1, 2);
+        assertEquals(Arrays.asList(1, 2), list);
+        assertFalse(list.isChanged());
+        assertSame(ChangeLog.empty(), list.drainChanges());
+    }
+
+    @Test
+    void of() {
+        assertThrows(IllegalArgumentException.class, () -> ChangeTrackingList.of(null));
+        ChangeTrackingList<Integer> list = ChangeTrackingList.of(new ArrayList<>(Arrays.asList(1, 2, 3)));
+        assertTrue(list instanceof RandomAccess);
+        assertTrue(list.subList(0, 2) instanceof RandomAccess);
+        list.add(4);
+        assertEquals(Collections.singletonList(4), list.drainChanges().added());
+        assertFalse(ChangeTrackingList.of(new LinkedList<>()) instanceof RandomAccess);
+        assertFalse(new ChangeTrackingList<>(new ArrayList<>()) instanceof RandomAccess);
+    }
+
+    @Test
+    void addRemove() {
+        ChangeTrackingList<Integer> list = testedInstance(1, 2);
+        list.add(3);
+        list.add(0, 4);
+        list.addAll(Arrays.asList(5, 5));
+        list.remove(Integer.valueOf(1));
+        list.remove(0);
+        assertFalse(list.remove(Integer.valueOf(42)));
+        assertEquals(Arrays.asList(2, 3, 5, 5), list);
+        assertTrue(list.isChanged());
+        ChangeLog<Integer> changes = list.drainChanges();
+        assertEquals(Arrays.asList(3, 5, 5), changes.added());
+        assertEquals(Collections.singletonList(1), changes.removed());
+        assertEquals(4, changes.size());
+        assertFalse(list.isChanged());
+        assertTrue(list.drainChanges().isEmpty());
+    }
+
+    @Test
+    void cancelledChanges() {
+        ChangeTrackingList<Integer> list = testedInstance(1);
+        list.add(2);
+        list.remove(Integer.valueOf(2));
+        list.remove(Integer.valueOf(1));
+        list.add(1);
+        assertFalse(list.isChanged());
+        list.set(0, 3);
+        list.set(0, 1);
+        assertTrue(list.drainChanges().isEmpty());
+    }
+
+    @Test
+    void iterator() {
+        ChangeTrackingList<Integer> list = new ChangeTrackingList<>(new LinkedList<>(Arrays.asList(1, 2, 3, 4)));
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        ListIterator<Integer> listIterator = list.listIterator();
+        listIterator.next();
+        listIterator.set(5);
+        listIterator.add(6);
+        list.removeIf(value -> value == 4);
+        list.replaceAll(value -> value == 3 ? 7 : value);
+        assertEquals(Arrays.asList(5, 6, 7), list);
+        ChangeLog<Integer> changes = list.drainChanges();
+        assertEquals(Arrays.asList(5, 6, 7), changes.added());
+        assertEquals(Arrays.asList(1, 2, 4, 3), changes.removed());
+        assertThrows(UnsupportedOperationException.class, () -> changes.added().clear());
+    }
+
+    @Test
+    void clear() {
+        ChangeTrackingList<Integer> list = testedInstance(1, 2);
+        list.add(3);
+        list.clear();
+        assertTrue(list.isEmpty());
+        ChangeLog<Integer> changes = list.drainChanges();
+        assertTrue(changes.added().isEmpty());
+        assertEquals(Arrays.asList(1, 2), changes.removed());
+        list.add(4);
+        list.subList(0, 1).clear();
+        assertFalse(list.isChanged());
+    }
+
+    @Test
+    void subList() {
+        ChangeTrackingList<Integer> list = testedInstance(1, 2, 3);
+        List<Integer> subList = list.subList(1, 3);
+        subList.remove(0);
+        assertEquals(Arrays.asList(1, 3), list);
+        assertEquals(Collections.singletonList(2), list.drainChanges().removed());
+        list.add(4);
+        assertThrows(ConcurrentModificationException.class, subList::size);
+        List<Integer> head = list.subList(0, 1);
+        list.remove(Integer.valueOf(4));
+        assertThrows(ConcurrentModificationException.class, () -> head.get(0));
+        List<Integer> cleared = list.subList(0, 1);
+        list.clear();
+        assertThrows(ConcurrentModificationException.class, cleared::size);
+    }
+
+    private ChangeTrackingList<Integer> testedInstance(Integer... values) {
+        List<Integer> delegate = new ArrayList<>(Arrays.asList(values));
+        return new ChangeTrackingList<>(delegate);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeTrackingMapTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeTrackingMap<>(null));
+        ChangeTrackingMap<Integer, String> map = testedInstance();
+        assertEquals(2, map.size());
+        assertEquals("a", map.get(1));
+        assertFalse(map.isChanged());
+    }
+
+    @Test
+    void putRemove() {
+        ChangeTrackingMap<Integer, String> map = testedInstance();
+        assertNull(map.put(3, "c"));
+        assertEquals("a", map.put(1, "x"));
+        assertEquals("b", map.put(2, "b"));
+        assertEquals("b", map.remove(2));
+        assertNull(map.remove(42));
+        ChangeLog<Map.Entry<Integer, String>> changes = map.drainChanges();
+        assertEquals(Arrays.asList(entry(3, "c"), entry(1, "x")), changes.added());
+        assertEquals(Arrays.asList(entry(1, "a"), entry(2, "b")), changes.removed());
+        assertFalse(map.isChanged());
+    }
+
+    @Test
+    void nullValue() {
+        ChangeTrackingMap<Integer, String> map = testedInstance();
+        map.put(3, null);
+        assertEquals(Collections.singletonList(entry(3, null)), map.drainChanges().added());
+        map.put(3, "c");
+        ChangeLog<Map.Entry<Integer, String>> changes = map.drainChanges();
+        assertEquals(Collections.singletonList(entry(3, "c")), changes.added());
+        assertEquals(Collections.singletonList(entry(3, null)), changes.removed());
+        map.remove(3);
+        map.put(3, "c");
+        assertFalse(map.isChanged());
+    }
+
+    @Test
+    void defaultMethods() {
+        ChangeTrackingMap<Integer, String> map = testedInstance();
+        map.putIfAbsent(3, "c");
+        map.merge(1, "a", String::concat);
+        map.computeIfPresent(2, (key, value) -> null);
+        ChangeLog<Map.Entry<Integer, String>> changes = map.drainChanges();
+        assertEquals(Arrays.asList(entry(3, "c"), entry(1, "aa")), changes.added());
+        assertEquals(Arrays.asList(entry(1, "a"), entry(2, "b")), changes.removed());
+    }
+
+    @Test
+    void views() {
+        ChangeTrackingMap<Integer, String> map = testedInstance();
+        Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+        Map.Entry<Integer, String> entry = iterator.next();
+        entry.setValue("x");
+        assertEquals("x", map.get(1));
+        iterator.next();
+        iterator.remove();
+        map.keySet().remove(1);
+        ChangeLog<Map.Entry<Integer, String>> changes = map.drainChanges();
+        assertTrue(changes.added().isEmpty());
+        assertEquals(Arrays.asList(entry(1, "a"), entry(2, "b")), changes.removed());
+
+        map.put(4, "d");
+        map.values().clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.isChanged());
+    }
+
+    private static Map.Entry<Integer, String> entry(Integer key, String value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+
+    private ChangeTrackingMap<Integer, String> testedInstance() {
+        Map<Integer, String> delegate = new LinkedHashMap<>();
+        delegate.put(1, "a");
+        delegate.put(2, "b");
+        return new ChangeTrackingMap<>(delegate);
+    }
+}
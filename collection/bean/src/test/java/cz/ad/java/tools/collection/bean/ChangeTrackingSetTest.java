@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeTrackingSetTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeTrackingSet<>(null));
+        ChangeTrackingSet<Integer> set = testedInstance(1, 2);
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), set);
+        assertFalse(set.isChanged());
+    }
+
+    @Test
+    void addRemove() {
+        ChangeTrackingSet<Integer> set = testedInstance(1, 2);
+        assertFalse(set.add(1));
+        assertTrue(set.add(3));
+        assertTrue(set.remove(2));
+        assertFalse(set.remove(42));
+        set.removeAll(Arrays.asList(3, 4));
+        set.addAll(Arrays.asList(5, 6));
+        set.retainAll(Arrays.asList(1, 5));
+        ChangeLog<Integer> changes = set.drainChanges();
+        assertEquals(Collections.singletonList(5), changes.added());
+        assertEquals(Collections.singletonList(2), changes.removed());
+        assertFalse(set.isChanged());
+    }
+
+    @Test
+    void iteratorAndClear() {
+        ChangeTrackingSet<Integer> set = testedInstance(1, 2, 3);
+        Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(Collections.singletonList(1), set.drainChanges().removed());
+        set.add(4);
+        set.clear();
+        ChangeLog<Integer> changes = set.drainChanges();
+        assertTrue(changes.added().isEmpty());
+        assertEquals(Arrays.asList(2, 3), changes.removed());
+    }
+
+    private ChangeTrackingSet<Integer> testedInstance(Integer... values) {
+        return new ChangeTrackingSet<>(new LinkedHashSet<>(Arrays.asList(values)));
+    }
+}
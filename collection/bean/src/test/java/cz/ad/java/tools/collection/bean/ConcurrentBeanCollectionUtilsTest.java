@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.bean;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import cz.ad.java.tools.collection.core.ConcurrentCollectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentBeanCollectionUtilsTest {
+
+    private static final int THREADS = 8;
+
+    private static final int VALUES = 1000;
+
+    @Test
+    void constructor() {
+        ConcurrentBeanCollectionUtils utils = new ConcurrentBeanCollectionUtils(CollectionUtils.DEFAULT_INSTANCE);
+        assertSame(CollectionUtils.DEFAULT_INSTANCE, utils.collectionUtils);
+
+        utils = new ConcurrentBeanCollectionUtils();
+        assertTrue(utils.collectionUtils instanceof ConcurrentCollectionUtils);
+        assertEquals(new ConcurrentBeanCollectionUtils(), utils);
+        assertEquals(new ConcurrentBeanCollectionUtils().hashCode(), utils.hashCode());
+        assertNotEquals(new DefaultBeanCollectionUtils(utils.collectionUtils), utils);
+        assertTrue(utils.toString().startsWith("ConcurrentBeanCollectionUtils{collectionUtils="));
+    }
+
+    @Test
+    void add() {
+        ConcurrentBeanCollectionUtils instance = testedInstance();
+        SharedBean bean = new SharedBean();
+        assertNull(instance.add(null, SharedBean.LIST, ArrayList::new, 1));
+        assertNull(instance.add(bean, null, ArrayList::new, 1));
+        assertNull(instance.add(bean, SharedBean.LIST, () -> null, 1));
+        List<Integer> list = instance.add(bean, SharedBean.LIST, ArrayList::new, 1);
+        assertSame(list, bean.list);
+        assertSame(list, instance.addAll(bean, SharedBean.LIST, ArrayList::new, List.of(2, 3)));
+        assertEquals(List.of(1, 2, 3), bean.list);
+        assertNull(instance.addAll(new SharedBean(), SharedBean.LIST, ArrayList::new, List.of()));
+
+        // getter and setter based methods are still available
+        assertEquals(Set.of(1), instance.addSet(() -> bean.set, value -> bean.set = value, 1));
+    }
+
+    @Test
+    void put() {
+        ConcurrentBeanCollectionUtils instance = testedInstance();
+        SharedBean bean = new SharedBean();
+        assertNull(instance.put(null, SharedBean.MAP, HashMap::new, 1, List.of(1)));
+        Map<Integer, List<Integer>> map = instance.put(bean, SharedBean.MAP, HashMap::new, 1, List.of(1));
+        assertSame(map, bean.map);
+        assertSame(map, instance.putAll(bean, SharedBean.MAP, HashMap::new, Map.of(2, List.of(2))));
+        assertNull(instance.putAll(new SharedBean(), SharedBean.MAP, HashMap::new, Map.of()));
+        assertEquals(List.of(1), instance.computeIfAbsent(bean, SharedBean.MAP, HashMap::new, 1, key -> List.of()));
+        assertEquals(List.of(), instance.computeIfAbsent(bean, SharedBean.MAP, HashMap::new, 3, key -> List.of()));
+        assertNull(instance.computeIfAbsent(bean, SharedBean.MAP, HashMap::new, 4, null));
+        assertEquals(3, bean.map.size());
+    }
+
+    @Test
+    void concurrentInitialization() throws Exception {
+        ConcurrentBeanCollectionUtils instance = testedInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < 20; round++) {
+                SharedBean bean = new SharedBean();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int thread = 0; thread < THREADS; thread++) {
+                    int offset = thread * VALUES;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = offset; i < offset + VALUES; i++) {
+                            instance.add(bean, SharedBean.SET, ConcurrentHashMap::newKeySet, i);
+                            instance.computeIfAbsent(bean, SharedBean.MAP, ConcurrentHashMap::new, i % 10,
+                                    key -> new ArrayList<>());
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                assertEquals(THREADS * VALUES, bean.set.size());
+                assertEquals(10, bean.map.size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ConcurrentBeanCollectionUtils testedInstance() {
+        return new ConcurrentBeanCollectionUtils();
+    }
+
+    static class SharedBean {
+        static final AtomicReferenceFieldUpdater<SharedBean, List<Integer>> LIST = updater(List.class, "list");
+
+        static final AtomicReferenceFieldUpdater<SharedBean, Set<Integer>> SET = updater(Set.class, "set");
+
+        static final AtomicReferenceFieldUpdater<SharedBean, Map<Integer, List<Integer>>> MAP =
+                updater(Map.class, "map");
+
+        protected volatile List<Integer> list;
+
+        protected volatile Set<Integer> set;
+
+        protected volatile Map<Integer, List<Integer>> map;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> AtomicReferenceFieldUpdater<SharedBean, T> updater(Class<?> type, String name) {
+            return (AtomicReferenceFieldUpdater) AtomicReferenceFieldUpdater.newUpdater(SharedBean.class, type, name);
+        }
+    }
+}
@@ -18,17 +18,25 @@
 
 package cz.ad.java.tools.collection.bean;
 
+import cz.ad.java.tools.collection.core.BulkOperationMonitor;
 import cz.ad.java.tools.collection.core.CollectionAddUtils;
 import cz.ad.java.tools.collection.core.CollectionUtils;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -51,6 +59,10 @@ class DefaultBeanCollectionUtilsTest {
 
         utils = new DefaultBeanCollectionUtils();
         assertNotSame(defaultInstance, utils.collectionUtils);
+        assertSame(BulkOperationMonitor.DEFAULT_INSTANCE, utils.bulkOperationMonitor);
+        assertThrows(IllegalArgumentException.class, () -> new DefaultBeanCollectionUtils(defaultInstance, null));
+        utils = new DefaultBeanCollectionUtils(defaultInstance, BulkOperationMonitor.DISABLED);
+        assertSame(BulkOperationMonitor.DISABLED, utils.bulkOperationMonitor);
     }
 
     @Test
@@ -242,6 +254,31 @@ class DefaultBeanCollectionUtilsTest {
         assertEquals(1, put.get(1));
     }
 
+    @Test
+    void bulkOperationMonitor() {
+        List<String> operations = new ArrayList<>();
+        BulkOperationMonitor monitor = new BulkOperationMonitor() {
+            @Override
+            public boolean isEnabled() {
+                return true;
+            }
+
+            @Override
+            public void completed(String operation, Object target, Object source, int targetSize, int sourceSize,
+                                  long start) {
+                operations.add(operation + ":" + targetSize + ":" + sourceSize);
+            }
+        };
+        DefaultBeanCollectionUtils instance = new DefaultBeanCollectionUtils(CollectionUtils.DEFAULT_INSTANCE, monitor);
+        TestBean testBean = new TestBean();
+        instance.addAll(testBean::getList, testBean::setList, ArrayList::new, List.of(1, 2));
+        instance.addAll(testBean::getList, testBean::setList, ArrayList::new, List.of(3));
+        instance.addAll(testBean::getList, testBean::setList, ArrayList::new, List.of());
+        instance.putAll(testBean::getMap, testBean::setMap, HashMap::new, Map.of(1, 1));
+        assertEquals(List.of(1, 2, 3), testBean.getList());
+        assertEquals(List.of("addAll:0:2", "addAll:2:1", "putAll:0:1"), operations);
+    }
+
     @Test
     void contains() {
         DefaultBeanCollectionUtils testesInstance = testesInstance();
@@ -534,6 +571,222 @@ class DefaultBeanCollectionUtilsTest {
         assertTrue(all);
     }
 
+    @Test
+    void beanIsEmpty() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        TestBean testBean = new TestBean();
+        assertTrue(testesInstance.isEmpty(null, TestBean::getList));
+        assertTrue(testesInstance.isEmpty(testBean, null));
+        assertTrue(testesInstance.isEmpty(testBean, TestBean::getList));
+        assertFalse(testesInstance.isNotEmpty(testBean, TestBean::getList));
+        testBean.setList(new ArrayList<>());
+        assertTrue(testesInstance.isEmpty(testBean, TestBean::getList));
+        testBean.getList().add(1);
+        assertFalse(testesInstance.isEmpty(testBean, TestBean::getList));
+        assertTrue(testesInstance.isNotEmpty(testBean, TestBean::getList));
+        assertFalse(testesInstance.isNotEmpty(null, TestBean::getList));
+    }
+
+    @Test
+    void beanContains() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        TestBean testBean = new TestBean();
+        assertFalse(testesInstance.contains(null, TestBean::getList, 1));
+        assertFalse(testesInstance.contains(testBean, TestBean::getList, 1));
+        assertFalse(testesInstance.containsKey(testBean, TestBean::getMap, 1));
+        testesInstance.add(testBean, TestBean::getList, TestBean::setList, ArrayList::new, 1);
+        testesInstance.put(testBean, TestBean::getMap, TestBean::setMap, HashMap::new, 1, 2);
+        assertTrue(testesInstance.contains(testBean, TestBean::getList, 1));
+        assertFalse(testesInstance.contains(testBean, TestBean::getList, 2));
+        assertTrue(testesInstance.containsKey(testBean, TestBean::getMap, 1));
+        assertFalse(testesInstance.containsKey(testBean, TestBean::getMap, 2));
+        assertFalse(testesInstance.containsKey(testBean, null, 1));
+    }
+
+    @Test
+    void beanAdd() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        List<Integer> added = testesInstance.add(null, TestBean::getList, TestBean::setList, ArrayList::new, 1);
+        assertNull(added);
+        TestBean testBean = new TestBean();
+        added = testesInstance.add(testBean, TestBean::getList, TestBean::setList, null, 1);
+        assertNull(added);
+        added = testesInstance.add(testBean, TestBean::getList, null, ArrayList::new, 1);
+        assertNotNull(added);
+        assertNull(testBean.getList());
+        added = testesInstance.add(testBean, TestBean::getList, TestBean::setList, ArrayList::new, 1);
+        assertSame(added, testBean.getList());
+        List<Integer> next = testesInstance.add(testBean, TestBean::getList, TestBean::setList, ArrayList::new, 2);
+        assertSame(added, next);
+        assertEquals(2, next.size());
+    }
+
+    @Test
+    void beanAddAll() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        TestBean testBean = new TestBean();
+        List<Integer> source = new ArrayList<>();
+        List<Integer> added = testesInstance.addAll(testBean, TestBean::getList, TestBean::setList, ArrayList::new,
+                null);
+        assertNull(added);
+        added = testesInstance.addAll(testBean, TestBean::getList, TestBean::setList, ArrayList::new, source);
+        assertNull(added);
+        source.add(1);
+        added = testesInstance.addAll(null, TestBean::getList, TestBean::setList, ArrayList::new, source);
+        assertNull(added);
+        added = testesInstance.addAll(testBean, TestBean::getList, TestBean::setList, ArrayList::new, source);
+        assertSame(added, testBean.getList());
+        assertEquals(source, added);
+    }
+
+    @Test
+    void beanPut() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        Map<Integer, Integer> put = testesInstance.put(null, TestBean::getMap, TestBean::setMap, HashMap::new, 1, 1);
+        assertNull(put);
+        TestBean testBean = new TestBean();
+        put = testesInstance.put(testBean, TestBean::getMap, TestBean::setMap, null, 1, 1);
+        assertNull(put);
+        put = testesInstance.put(testBean, TestBean::getMap, TestBean::setMap, HashMap::new, 1, 2);
+        assertSame(put, testBean.getMap());
+        assertEquals(2, put.get(1));
+    }
+
+    @Test
+    void beanPutAll() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        TestBean testBean = new TestBean();
+        Map<Integer, Integer> source = new HashMap<>();
+        Map<Integer, Integer> put = testesInstance.putAll(testBean, TestBean::getMap, TestBean::setMap, HashMap::new,
+                source);
+        assertNull(put);
+        source.put(1, 2);
+        put = testesInstance.putAll(testBean, TestBean::getMap, TestBean::setMap, HashMap::new, source);
+        assertSame(put, testBean.getMap());
+        assertEquals(source, put);
+    }
+
+    @Test
+    void addToAll() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        assertEquals(0, testesInstance.addToAll(null, TestBean::getSet, TestBean::setSet, HashSet::new, 1));
+        List<TestBean> beans = new ArrayList<>();
+        assertEquals(0, testesInstance.addToAll(beans, TestBean::getSet, TestBean::setSet, HashSet::new, 1));
+        TestBean initialized = new TestBean();
+        initialized.setSet(new HashSet<>());
+        initialized.getSet().add(1);
+        beans.add(initialized);
+        beans.add(null);
+        beans.add(new TestBean());
+        assertEquals(0, testesInstance.addToAll(beans, null, TestBean::setSet, HashSet::new, 1));
+        assertEquals(1, testesInstance.addToAll(beans, TestBean::getSet, TestBean::setSet, HashSet::new, 1));
+        assertEquals(1, beans.get(2).getSet().size());
+        assertEquals(2, testesInstance.addToAll(beans, TestBean::getSet, TestBean::setSet, HashSet::new, 2));
+        assertEquals(2, initialized.getSet().size());
+    }
+
+    @Test
+    void addToAllParallel() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        List<TestBean> beans = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            beans.add(new TestBean());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            int added = testesInstance.addToAll(beans, TestBean::getList, TestBean::setList, ArrayList::new, 1,
+                    executor);
+            assertEquals(beans.size(), added);
+            for (TestBean bean : beans) {
+                assertEquals(1, bean.getList().size());
+            }
+            assertEquals(beans.size(), testesInstance.removeFromAll(beans, TestBean::getList, 1, executor));
+            assertEquals(0, testesInstance.removeFromAll(beans, TestBean::getList, 1, executor));
+            for (TestBean bean : beans) {
+                assertTrue(bean.getList().isEmpty());
+            }
+            beans.get(9_999).setList(null);
+            assertThrows(UnsupportedOperationException.class, () -> testesInstance.addToAll(beans, TestBean::getList,
+                    TestBean::setList, Collections::emptyList, 1, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void processRangesRejected() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        AtomicInteger accepted = new AtomicInteger();
+        Executor bounded = command -> {
+            if (accepted.getAndIncrement() >= 2) {
+                throw new RejectedExecutionException("bounded");
+            }
+            pool.execute(command);
+        };
+        AtomicInteger finished = new AtomicInteger();
+        try {
+            assertThrows(RejectedExecutionException.class, () -> testesInstance.processRanges(
+                    DefaultBeanCollectionUtils.MINIMAL_BATCH_TASK_SIZE * 8, bounded, (from, to) -> {
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return finished.incrementAndGet();
+                    }));
+            assertEquals(2, finished.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void removeFromAll() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        assertEquals(0, testesInstance.removeFromAll(null, TestBean::getList, 1));
+        List<TestBean> beans = new ArrayList<>();
+        TestBean testBean = new TestBean();
+        testBean.setList(new ArrayList<>());
+        testBean.getList().add(1);
+        testBean.getList().add(2);
+        beans.add(testBean);
+        beans.add(null);
+        beans.add(new TestBean());
+        assertEquals(0, testesInstance.removeFromAll(beans, null, 1));
+        assertEquals(1, testesInstance.removeFromAll(beans, TestBean::getList, 1));
+        assertEquals(0, testesInstance.removeFromAll(beans, TestBean::getList, 1));
+        assertEquals(1, testBean.getList().size());
+    }
+
+    @Test
+    void collectAll() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        assertNull(testesInstance.collectAll(null, TestBean::getList));
+        List<TestBean> beans = new ArrayList<>();
+        assertNull(testesInstance.collectAll(beans, null));
+        assertTrue(testesInstance.collectAll(beans, TestBean::getList).isEmpty());
+        for (int i = 0; i < 3; i++) {
+            TestBean testBean = new TestBean();
+            testBean.setList(new ArrayList<>());
+            testBean.getList().add(i);
+            testBean.getList().add(i + 1);
+            beans.add(testBean);
+        }
+        beans.add(null);
+        beans.add(new TestBean());
+        List<Integer> values = testesInstance.collectAll(beans, TestBean::getList);
+        assertEquals(Arrays.asList(0, 1, 1, 2, 2, 3), values);
+        int[] requested = new int[1];
+        Set<Integer> set = testesInstance.collectAll(beans, TestBean::getList, size -> {
+            requested[0] = size;
+            return new HashSet<>(size);
+        });
+        assertEquals(6, requested[0]);
+        assertEquals(4, set.size());
+        assertNull(testesInstance.collectAll(beans, TestBean::getList, null));
+    }
+
     @Test
     void initIfNeeded() {
         DefaultBeanCollectionUtils testesInstance = testesInstance();
@@ -558,6 +811,29 @@ class DefaultBeanCollectionUtilsTest {
         assertNotNull(collection);
     }
 
+    @Test
+    void beanInitIfNeeded() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        TestBean testBean = new TestBean();
+        Collection<Integer> collection = testesInstance.initIfNeeded(testBean, null, TestBean::setList, ArrayList::new);
+        assertNull(collection);
+        collection = testesInstance.initIfNeeded(testBean, TestBean::getList, TestBean::setList, null);
+        assertNull(collection);
+        collection = testesInstance.initIfNeeded(testBean, TestBean::getList, TestBean::setList, ArrayList::new);
+        assertSame(collection, testBean.getList());
+    }
+
+    @Test
+    void beanInitMapIfNeeded() {
+        DefaultBeanCollectionUtils testesInstance = testesInstance();
+        TestBean testBean = new TestBean();
+        Map<Integer, Integer> map = testesInstance.initMapIfNeeded(null, TestBean::getMap, TestBean::setMap,
+                HashMap::new);
+        assertNull(map);
+        map = testesInstance.initMapIfNeeded(testBean, TestBean::getMap, TestBean::setMap, HashMap::new);
+        assertSame(map, testBean.getMap());
+    }
+
     protected DefaultBeanCollectionUtils testesInstance() {
         return new DefaultBeanCollectionUtils();
     }
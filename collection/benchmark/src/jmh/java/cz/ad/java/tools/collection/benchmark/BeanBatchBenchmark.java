@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.bean.DefaultBeanCollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of fan out of single value into collection member of many beans. Loop calling bean operation per bean is
+ * compared with batch operation processed sequentially and in parallel by fork/join pool. Value is added and removed
+ * again by every invocation, so collections keep their size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class BeanBatchBenchmark {
+    /**
+     * Amount of beans in batch.
+     */
+    @Param({"10000", "2000000"})
+    public int size;
+
+    private final DefaultBeanCollectionUtils utils = new DefaultBeanCollectionUtils();
+    private List<BeanCollectionUtilsBenchmark.Bean> beans;
+    private ForkJoinPool pool;
+    private Integer value;
+
+    /**
+     * Prepare beans with initialized lists.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        beans = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BeanCollectionUtilsBenchmark.Bean bean = new BeanCollectionUtilsBenchmark.Bean();
+            bean.setItems(new ArrayList<>());
+            beans.add(bean);
+        }
+        pool = new ForkJoinPool();
+        value = 42;
+    }
+
+    /**
+     * Release threads of pool.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int perBean() {
+        int retValue = 0;
+        for (BeanCollectionUtilsBenchmark.Bean bean : beans) {
+            utils.add(bean, BeanCollectionUtilsBenchmark.Bean::getItems, BeanCollectionUtilsBenchmark.Bean::setItems,
+                    ArrayList::new, value);
+            retValue++;
+        }
+        for (BeanCollectionUtilsBenchmark.Bean bean : beans) {
+            bean.getItems().remove(value);
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public int batch() {
+        int retValue = utils.addToAll(beans, BeanCollectionUtilsBenchmark.Bean::getItems,
+                BeanCollectionUtilsBenchmark.Bean::setItems, ArrayList::new, value);
+        utils.removeFromAll(beans, BeanCollectionUtilsBenchmark.Bean::getItems, value);
+        return retValue;
+    }
+
+    @Benchmark
+    public int parallelBatch() {
+        int retValue = utils.addToAll(beans, BeanCollectionUtilsBenchmark.Bean::getItems,
+                BeanCollectionUtilsBenchmark.Bean::setItems, ArrayList::new, value, pool);
+        utils.removeFromAll(beans, BeanCollectionUtilsBenchmark.Bean::getItems, value, pool);
+        return retValue;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.bean.BeanCollectionAddUtils;
+import cz.ad.java.tools.collection.bean.BeanPropertyCollectionUtils;
+import cz.ad.java.tools.collection.bean.DefaultBeanCollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of adding value into collection member of bean. Getter and setter passed as bound method references,
+ * {@code bean::getItems}, capture bean and are allocated per call when escape analysis doesn't remove them, unbound
+ * method references passed together with bean, {@code Bean::getItems}, are constants without any allocation. Access by
+ * property name through method handles resolved once per class is compared with reflective call of getter. List is
+ * cleared after each add, so only cost of accessors is measured. Allocation profiler, {@code -prof gc}, is enabled by
+ * build, its {@code gc.alloc.rate.norm} shows allocation per call. Add with unbound method references,
+ * {@link #beanAccessors()} and {@link #beanAddList()}, is expected to report no allocation per call once compiled,
+ * while {@link #capturingAccessors()} reports allocated lambdas unless escape analysis removes them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class BeanCollectionUtilsBenchmark {
+    private final BeanCollectionAddUtils utils = new DefaultBeanCollectionUtils();
+    private final BeanPropertyCollectionUtils propertyUtils = new BeanPropertyCollectionUtils();
+    private Bean bean;
+    private Integer value;
+    private Method getter;
+
+    /**
+     * Prepare bean with initialized list.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        bean = new Bean();
+        getter = Bean.class.getMethod("getItems");
+        bean.setItems(new ArrayList<>());
+        value = 42;
+    }
+
+    @Benchmark
+    public List<Integer> capturingAccessors() {
+        Bean target = bean;
+        List<Integer> retValue = utils.add(target::getItems, target::setItems, ArrayList::new, value);
+        retValue.clear();
+        return retValue;
+    }
+
+    @Benchmark
+    public List<Integer> beanAccessors() {
+        List<Integer> retValue = utils.add(bean, Bean::getItems, Bean::setItems, ArrayList::new, value);
+        retValue.clear();
+        return retValue;
+    }
+
+    @Benchmark
+    public List<Integer> beanAddList() {
+        List<Integer> retValue = utils.addList(bean, Bean::getItems, Bean::setItems, value);
+        retValue.clear();
+        return retValue;
+    }
+
+    @Benchmark
+    public List<Integer> propertyName() {
+        List<Integer> retValue = propertyUtils.add(bean, "items", value);
+        retValue.clear();
+        return retValue;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Integer> reflection() throws ReflectiveOperationException {
+        List<Integer> retValue = (List<Integer>) getter.invoke(bean);
+        retValue.add(value);
+        retValue.clear();
+        return retValue;
+    }
+
+    /**
+     * Bean with list member accessed by benchmarked utils.
+     */
+    public static class Bean {
+        private List<Integer> items;
+
+        public List<Integer> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Integer> items) {
+            this.items = items;
+        }
+    }
+}
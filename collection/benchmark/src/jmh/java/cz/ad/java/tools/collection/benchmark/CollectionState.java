@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collection;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Shared read only collection data prepared once per trial for every combination of collection type and size.
+ * Target contains values from 0 to size - 1, source contains every second value of target, so all source values are
+ * present in target.
+ */
+@State(Scope.Benchmark)
+public class CollectionState {
+    /**
+     * Type of collection used for target and source.
+     */
+    @Param({"ARRAY_LIST", "HASH_SET", "OPEN_HASH_SET", "TREE_SET", "LINKED_LIST"})
+    public CollectionType type;
+    /**
+     * Amount of records in target collection.
+     */
+    @Param({"0", "10", "1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * Collection used as target of operations.
+     */
+    public Collection<Integer> target;
+    /**
+     * Collection used as source of operations, contains half of target values.
+     */
+    public Collection<Integer> source;
+    /**
+     * Array with same values as target.
+     */
+    public Integer[] array;
+    /**
+     * Value located in the middle of target collection.
+     */
+    public Integer present;
+    /**
+     * Value not present in target collection.
+     */
+    public Integer absent;
+    /**
+     * Supplier of new empty collection of benchmarked type.
+     */
+    public Supplier<Collection<Integer>> init;
+    /**
+     * Function providing new empty collection of benchmarked type with capacity for requested size.
+     */
+    public IntFunction<Collection<Integer>> sizedInit;
+
+    /**
+     * Prepare data for trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = type.create();
+        source = type.create();
+        array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            Integer value = i;
+            target.add(value);
+            array[i] = value;
+            if ((i & 1) == 0) {
+                source.add(value);
+            }
+        }
+        present = size / 2;
+        absent = -1;
+        init = type::create;
+        sizedInit = type::create;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import cz.ad.java.tools.collection.core.OpenHashSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.TreeSet;
+
+/**
+ * Types of collections used as benchmark parameter to measure operations on the top of different data structures.
+ */
+public enum CollectionType {
+    /**
+     * Array backed list with linear lookup.
+     */
+    ARRAY_LIST {
+        @Override
+        public <V> Collection<V> create() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public <V> Collection<V> create(int expectedSize) {
+            return new ArrayList<>(expectedSize);
+        }
+    },
+    /**
+     * Hash table backed set with constant lookup.
+     */
+    HASH_SET {
+        @Override
+        public <V> Collection<V> create() {
+            return new HashSet<>();
+        }
+
+        @Override
+        public <V> Collection<V> create(int expectedSize) {
+            return new HashSet<>(CollectionUtils.hashCapacity(expectedSize));
+        }
+    },
+    /**
+     * Open addressing hash table backed set with constant lookup and without node per record.
+     */
+    OPEN_HASH_SET {
+        @Override
+        public <V> Collection<V> create() {
+            return new OpenHashSet<>();
+        }
+
+        @Override
+        public <V> Collection<V> create(int expectedSize) {
+            return new OpenHashSet<>(expectedSize);
+        }
+    },
+    /**
+     * Red-black tree backed set with logarithmic lookup.
+     */
+    TREE_SET {
+        @Override
+        public <V> Collection<V> create() {
+            return new TreeSet<>();
+        }
+
+        @Override
+        public <V> Collection<V> create(int expectedSize) {
+            return new TreeSet<>();
+        }
+    },
+    /**
+     * Linked list with linear lookup and node per record.
+     */
+    LINKED_LIST {
+        @Override
+        public <V> Collection<V> create() {
+            return new LinkedList<>();
+        }
+
+        @Override
+        public <V> Collection<V> create(int expectedSize) {
+            return new LinkedList<>();
+        }
+    };
+
+    /**
+     * Create new empty instance of collection of this type.
+     *
+     * @param <V> type of value in collection.
+     * @return new empty collection.
+     */
+    public abstract <V> Collection<V> create();
+
+    /**
+     * Create new empty instance of collection of this type with capacity for expected amount of values, types without
+     * capacity ignore expected size.
+     *
+     * @param expectedSize amount of values expected to be stored in collection.
+     * @param <V>          type of value in collection.
+     * @return new empty collection.
+     */
+    public abstract <V> Collection<V> create(int expectedSize);
+
+    /**
+     * Create new instance of collection of this type filled by all values from provided source.
+     *
+     * @param source values to be copied into new collection.
+     * @param <V>    type of value in collection.
+     * @return new collection with copy of all source values.
+     */
+    public <V> Collection<V> copyOf(Collection<V> source) {
+        Collection<V> retValue = create();
+        retValue.addAll(source);
+        return retValue;
+    }
+}
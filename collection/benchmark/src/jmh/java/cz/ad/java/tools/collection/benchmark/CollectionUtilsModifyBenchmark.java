@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.CollectionAddUtils;
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of operations of {@link CollectionUtils} modifying provided data. Target of every invocation is fresh copy
+ * of shared trial data created in invocation level setup, which is not part of measured time. For small sizes is
+ * result affected by timestamp overhead of invocation level setup and should be compared only relatively.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectionUtilsModifyBenchmark {
+    /**
+     * Benchmarked instance.
+     */
+    private final CollectionAddUtils utils = CollectionUtils.DEFAULT_INSTANCE;
+
+    /**
+     * Copy of shared collection data recreated before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class MutableCollectionState {
+        /**
+         * Modifiable copy of target collection.
+         */
+        public Collection<Integer> target;
+
+        /**
+         * Create new copy of target collection.
+         *
+         * @param shared trial data used as source of copy.
+         */
+        @Setup(Level.Invocation)
+        public void setUp(CollectionState shared) {
+            target = shared.type.copyOf(shared.target);
+        }
+    }
+
+    /**
+     * Copy of shared map data recreated before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class MutableMapState {
+        /**
+         * Modifiable copy of target map.
+         */
+        public Map<Integer, Integer> target;
+
+        /**
+         * Create new copy of target map.
+         *
+         * @param shared trial data used as source of copy.
+         */
+        @Setup(Level.Invocation)
+        public void setUp(MapState shared) {
+            target = shared.type.copyOf(shared.target);
+        }
+    }
+
+    @Benchmark
+    public Collection<Integer> add(CollectionState shared, MutableCollectionState state) {
+        return utils.add(state.target, shared.init, shared.absent);
+    }
+
+    @Benchmark
+    public Collection<Integer> addInit(CollectionState shared) {
+        return utils.add(null, shared.init, shared.absent);
+    }
+
+    @Benchmark
+    public Collection<Integer> addAll(CollectionState shared, MutableCollectionState state) {
+        return utils.addAll(state.target, shared.init, shared.source);
+    }
+
+    @Benchmark
+    public Collection<Integer> addAllInit(CollectionState shared) {
+        return utils.addAll(null, shared.init, shared.target);
+    }
+
+    @Benchmark
+    public Collection<Integer> addAllSizedInit(CollectionState shared) {
+        return utils.addAllSized(null, shared.sizedInit, shared.target);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> put(MapState shared, MutableMapState state) {
+        return utils.put(state.target, shared.init, shared.absent, shared.absent);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> putInit(MapState shared) {
+        return utils.put(null, shared.init, shared.absent, shared.absent);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> putAll(MapState shared, MutableMapState state) {
+        return utils.putAll(state.target, shared.init, shared.source);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> putAllInit(MapState shared) {
+        return utils.putAll(null, shared.init, shared.target);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> putAllSizedInit(MapState shared) {
+        return utils.putAllSized(null, shared.sizedInit, shared.target);
+    }
+
+    @Benchmark
+    public boolean remove(CollectionState shared, MutableCollectionState state) {
+        return utils.remove(state.target, shared.present);
+    }
+
+    @Benchmark
+    public boolean removeEntry(MapState shared, MutableMapState state) {
+        return utils.remove(state.target, shared.present, shared.present);
+    }
+
+    @Benchmark
+    public boolean removeKey(MapState shared, MutableMapState state) {
+        return utils.remove(state.target, shared.present);
+    }
+
+    @Benchmark
+    public boolean removeAllCollection(CollectionState shared, MutableCollectionState state) {
+        return utils.removeAll(state.target, shared.source);
+    }
+
+    @Benchmark
+    public boolean removeAllMap(MapState shared, MutableMapState state) {
+        return utils.removeAll(state.target, shared.source);
+    }
+
+    @Benchmark
+    public boolean removeAllKeys(MapState shared, MutableMapState state) {
+        return utils.removeAll(state.target, shared.keys);
+    }
+
+    @Benchmark
+    public boolean retainAll(CollectionState shared, MutableCollectionState state) {
+        return utils.retainAll(state.target, shared.source);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.CollectionAddUtils;
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of read only operations of {@link CollectionUtils} which do not modify provided data, so data prepared once
+ * per trial are shared between all invocations.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectionUtilsQueryBenchmark {
+    /**
+     * Benchmarked instance.
+     */
+    private final CollectionAddUtils utils = CollectionUtils.DEFAULT_INSTANCE;
+
+    @Benchmark
+    public boolean isEmptyCollection(CollectionState state) {
+        return utils.isEmpty(state.target);
+    }
+
+    @Benchmark
+    public boolean isEmptyMap(MapState state) {
+        return utils.isEmpty(state.target);
+    }
+
+    @Benchmark
+    public boolean isEmptyArray(CollectionState state) {
+        return utils.isEmpty(state.array);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyCollection(CollectionState state) {
+        return utils.isNotEmpty(state.target);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyMap(MapState state) {
+        return utils.isNotEmpty(state.target);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyArray(CollectionState state) {
+        return utils.isNotEmpty(state.array);
+    }
+
+    @Benchmark
+    public boolean containsPresent(CollectionState state) {
+        return utils.contains(state.target, state.present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent(CollectionState state) {
+        return utils.contains(state.target, state.absent);
+    }
+
+    @Benchmark
+    public boolean containsKeyPresent(MapState state) {
+        return utils.contains(state.target, state.present);
+    }
+
+    @Benchmark
+    public boolean containsKeyAbsent(MapState state) {
+        return utils.contains(state.target, state.absent);
+    }
+
+    @Benchmark
+    public boolean containsValue(MapState state) {
+        return utils.containsValue(state.target, state.present);
+    }
+
+    @Benchmark
+    public boolean containsAllCollection(CollectionState state) {
+        return utils.containsAll(state.target, state.source);
+    }
+
+    @Benchmark
+    public boolean containsAllMap(MapState state) {
+        return utils.containsAll(state.target, state.source);
+    }
+
+    @Benchmark
+    public boolean containsAllKeys(MapState state) {
+        return utils.containsAll(state.target, state.keys);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of map operations with composite keys, which have expensive hash code and equals. Every operation is
+ * compared with legacy implementation looking up every key twice, by containsKey followed by get or remove, so cost of
+ * single lookup implementation should be about half of legacy one.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CompositeKeyBenchmark {
+    /**
+     * Amount of entries in target map.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Map<CompositeKey, Integer> base;
+    private Map<CompositeKey, Integer> source;
+    private Set<CompositeKey> keys;
+    private Map<CompositeKey, Integer> target;
+    private CompositeKey present;
+
+    /**
+     * Prepare data for trial. Source and keys contain every second entry of target.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        base = new HashMap<>(CollectionUtils.hashCapacity(size));
+        source = new HashMap<>(CollectionUtils.hashCapacity(size / 2));
+        keys = new HashSet<>(CollectionUtils.hashCapacity(size / 2));
+        for (int i = 0; i < size; i++) {
+            CompositeKey key = new CompositeKey("tenant-" + (i % 17), "account-" + i, i);
+            base.put(key, i);
+            if ((i & 1) == 0) {
+                CompositeKey copy = new CompositeKey(key.tenant, key.account, key.id);
+                source.put(copy, i);
+                keys.add(copy);
+            }
+        }
+        present = new CompositeKey("tenant-0", "account-0", 0);
+    }
+
+    /**
+     * Create new copy of target before every invocation.
+     */
+    @Setup(Level.Invocation)
+    public void copyTarget() {
+        target = new HashMap<>(base);
+    }
+
+    @Benchmark
+    public boolean containsAll() {
+        return CollectionUtils.DEFAULT_INSTANCE.containsAll(base, source);
+    }
+
+    @Benchmark
+    public boolean containsAllLegacy() {
+        boolean retValue = true;
+        for (Map.Entry<CompositeKey, Integer> entry : source.entrySet()) {
+            if (!base.containsKey(entry.getKey()) || !base.get(entry.getKey()).equals(entry.getValue())) {
+                retValue = false;
+                break;
+            }
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public boolean remove() {
+        return CollectionUtils.DEFAULT_INSTANCE.remove(target, present);
+    }
+
+    @Benchmark
+    public boolean removeLegacy() {
+        boolean retValue = false;
+        if (target.containsKey(present)) {
+            target.remove(present);
+            retValue = true;
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public boolean removeAllKeys() {
+        return CollectionUtils.DEFAULT_INSTANCE.removeAll(target, keys);
+    }
+
+    @Benchmark
+    public boolean removeAllKeysLegacy() {
+        boolean retValue = false;
+        for (CompositeKey key : keys) {
+            if (target.containsKey(key)) {
+                target.remove(key);
+                retValue = true;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Key composed of several fields without cached hash code, so every lookup computes hash of all fields and
+     * compares all fields on match.
+     */
+    public static final class CompositeKey {
+        private final String tenant;
+        private final String account;
+        private final long id;
+
+        /**
+         * Create new key.
+         *
+         * @param tenant  tenant part of key.
+         * @param account account part of key.
+         * @param id      numeric part of key.
+         */
+        public CompositeKey(String tenant, String account, long id) {
+            this.tenant = tenant;
+            this.account = account;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CompositeKey that = (CompositeKey) o;
+            return id == that.id && Objects.equals(tenant, that.tenant) && Objects.equals(account, that.account);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tenant, account, id);
+        }
+    }
+}
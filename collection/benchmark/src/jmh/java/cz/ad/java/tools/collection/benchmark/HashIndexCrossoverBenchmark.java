@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.DefaultCollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing removeAll, retainAll and containsAll on lists performed by direct lookup in list and by temporary
+ * hash index, to locate size of source where hash index starts to be faster. Threshold 0 force index for every source
+ * size, threshold MAX disable index.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class HashIndexCrossoverBenchmark {
+    /**
+     * Amount of records in target list.
+     */
+    @Param({"1000", "50000"})
+    public int targetSize;
+    /**
+     * Amount of records in source list.
+     */
+    @Param({"1", "2", "4", "8", "16", "32", "64", "128", "1024", "20000"})
+    public int sourceSize;
+    /**
+     * Hash index threshold of benchmarked instance.
+     */
+    @Param({"0", "2147483647"})
+    public int hashIndexThreshold;
+
+    private DefaultCollectionUtils utils;
+    private List<Integer> base;
+    private List<Integer> source;
+    private List<Integer> target;
+
+    /**
+     * Prepare data for trial. Source contains every second value of target, so half of target records is affected.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        utils = new DefaultCollectionUtils(hashIndexThreshold);
+        base = new ArrayList<>(targetSize);
+        for (int i = 0; i < targetSize; i++) {
+            base.add(i);
+        }
+        source = new ArrayList<>(sourceSize);
+        for (int i = 0; i < sourceSize; i++) {
+            source.add(i * 2);
+        }
+    }
+
+    /**
+     * Create new copy of target before every invocation.
+     */
+    @Setup(Level.Invocation)
+    public void copyTarget() {
+        target = new ArrayList<>(base);
+    }
+
+    @Benchmark
+    public boolean removeAll() {
+        return utils.removeAll(target, source);
+    }
+
+    @Benchmark
+    public boolean containsAll() {
+        return utils.containsAll(base, source);
+    }
+
+    @Benchmark
+    public boolean retainAll() {
+        return utils.retainAll(target, source);
+    }
+}
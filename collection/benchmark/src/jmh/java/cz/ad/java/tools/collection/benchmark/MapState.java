@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Shared read only map data prepared once per trial for every combination of map type and size. Target maps every key
+ * from 0 to size - 1 to same value, source and keys contain every second entry of target.
+ */
+@State(Scope.Benchmark)
+public class MapState {
+    /**
+     * Type of map used for target and source.
+     */
+    @Param({"HASH_MAP", "OPEN_HASH_MAP", "CONCURRENT_HASH_MAP", "TREE_MAP"})
+    public MapType type;
+    /**
+     * Amount of entries in target map.
+     */
+    @Param({"0", "10", "1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * Map used as target of operations.
+     */
+    public Map<Integer, Integer> target;
+    /**
+     * Map used as source of operations, contains half of target entries.
+     */
+    public Map<Integer, Integer> source;
+    /**
+     * Set of keys used as source of operations, contains half of target keys.
+     */
+    public Set<Integer> keys;
+    /**
+     * Key located in the middle of target map.
+     */
+    public Integer present;
+    /**
+     * Key not present in target map.
+     */
+    public Integer absent;
+    /**
+     * Supplier of new empty map of benchmarked type.
+     */
+    public Supplier<Map<Integer, Integer>> init;
+    /**
+     * Function providing new empty map of benchmarked type with capacity for requested size.
+     */
+    public IntFunction<Map<Integer, Integer>> sizedInit;
+
+    /**
+     * Prepare data for trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = type.create();
+        source = type.create();
+        keys = type == MapType.TREE_MAP ? new TreeSet<>() : new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            Integer value = i;
+            target.put(value, value);
+            if ((i & 1) == 0) {
+                source.put(value, value);
+                keys.add(value);
+            }
+        }
+        present = size / 2;
+        absent = -1;
+        init = type::create;
+        sizedInit = type::create;
+    }
+}
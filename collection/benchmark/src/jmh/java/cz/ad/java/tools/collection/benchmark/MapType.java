@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import cz.ad.java.tools.collection.core.OpenHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Types of maps used as benchmark parameter to measure operations on the top of different data structures.
+ */
+public enum MapType {
+    /**
+     * Hash table backed map.
+     */
+    HASH_MAP {
+        @Override
+        public <K, V> Map<K, V> create() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public <K, V> Map<K, V> create(int expectedSize) {
+            return new HashMap<>(CollectionUtils.hashCapacity(expectedSize));
+        }
+    },
+    /**
+     * Open addressing hash table backed map without node per entry.
+     */
+    OPEN_HASH_MAP {
+        @Override
+        public <K, V> Map<K, V> create() {
+            return new OpenHashMap<>();
+        }
+
+        @Override
+        public <K, V> Map<K, V> create(int expectedSize) {
+            return new OpenHashMap<>(expectedSize);
+        }
+    },
+    /**
+     * Hash table backed map supporting concurrent access.
+     */
+    CONCURRENT_HASH_MAP {
+        @Override
+        public <K, V> Map<K, V> create() {
+            return new ConcurrentHashMap<>();
+        }
+
+        @Override
+        public <K, V> Map<K, V> create(int expectedSize) {
+            return new ConcurrentHashMap<>(expectedSize);
+        }
+    },
+    /**
+     * Red-black tree backed map.
+     */
+    TREE_MAP {
+        @Override
+        public <K, V> Map<K, V> create() {
+            return new TreeMap<>();
+        }
+
+        @Override
+        public <K, V> Map<K, V> create(int expectedSize) {
+            return new TreeMap<>();
+        }
+    };
+
+    /**
+     * Create new empty instance of map of this type.
+     *
+     * @param <K> type of key in map.
+     * @param <V> type of value in map.
+     * @return new empty map.
+     */
+    public abstract <K, V> Map<K, V> create();
+
+    /**
+     * Create new empty instance of map of this type with capacity for expected amount of entries, types without
+     * capacity ignore expected size.
+     *
+     * @param expectedSize amount of entries expected to be stored in map.
+     * @param <K>          type of key in map.
+     * @param <V>          type of value in map.
+     * @return new empty map.
+     */
+    public abstract <K, V> Map<K, V> create(int expectedSize);
+
+    /**
+     * Create new instance of map of this type filled by all entries from provided source.
+     *
+     * @param source entries to be copied into new map.
+     * @param <K>    type of key in map.
+     * @param <V>    type of value in map.
+     * @return new map with copy of all source entries.
+     */
+    public <K, V> Map<K, V> copyOf(Map<K, V> source) {
+        Map<K, V> retValue = create();
+        retValue.putAll(source);
+        return retValue;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.CollectionAddUtils;
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of grouping rows into multimap of lists. Multimap helpers of collection utils are compared with common
+ * pattern of computeIfAbsent with lambda creating list, which is evaluated as capturing when sized list is created.
+ * Run with allocation profiler, {@code -prof gc}, to compare allocation rate per grouped row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class MultimapBenchmark {
+    /**
+     * Amount of grouped rows.
+     */
+    @Param({"100000", "1000000"})
+    public int rows;
+    /**
+     * Amount of distinct keys of rows.
+     */
+    @Param({"100", "10000"})
+    public int keys;
+
+    private Integer[] rowKeys;
+    private Integer[] rowValues;
+
+    /**
+     * Prepare random keys and values of rows.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        rowKeys = new Integer[rows];
+        rowValues = new Integer[rows];
+        for (int i = 0; i < rows; i++) {
+            rowKeys[i] = random.nextInt(keys);
+            rowValues[i] = i;
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> putToList() {
+        CollectionAddUtils utils = CollectionUtils.DEFAULT_INSTANCE;
+        Map<Integer, List<Integer>> retValue = new HashMap<>(CollectionUtils.hashCapacity(keys));
+        for (int i = 0; i < rows; i++) {
+            utils.putToList(retValue, rowKeys[i], rowValues[i]);
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> putToListSized() {
+        CollectionAddUtils utils = CollectionUtils.DEFAULT_INSTANCE;
+        Map<Integer, List<Integer>> retValue = new HashMap<>(CollectionUtils.hashCapacity(keys));
+        int expectedValues = rows / keys;
+        for (int i = 0; i < rows; i++) {
+            utils.putToList(retValue, rowKeys[i], rowValues[i], expectedValues);
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> computeIfAbsent() {
+        Map<Integer, List<Integer>> retValue = new HashMap<>(CollectionUtils.hashCapacity(keys));
+        for (int i = 0; i < rows; i++) {
+            retValue.computeIfAbsent(rowKeys[i], key -> new ArrayList<>()).add(rowValues[i]);
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> computeIfAbsentSized() {
+        Map<Integer, List<Integer>> retValue = new HashMap<>(CollectionUtils.hashCapacity(keys));
+        int expectedValues = rows / keys;
+        for (int i = 0; i < rows; i++) {
+            retValue.computeIfAbsent(rowKeys[i], key -> new ArrayList<>(expectedValues)).add(rowValues[i]);
+        }
+        return retValue;
+    }
+}
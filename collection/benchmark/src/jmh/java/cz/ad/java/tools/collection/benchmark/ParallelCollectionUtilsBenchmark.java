@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import cz.ad.java.tools.collection.core.DefaultCollectionUtils;
+import cz.ad.java.tools.collection.core.ParallelCollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing sequential and fork/join processing of bulk map operations on big maps. Source contains every
+ * second entry of target, so half of target entries is affected by removal.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ParallelCollectionUtilsBenchmark {
+    /**
+     * Type of target map.
+     */
+    @Param({"HASH_MAP", "CONCURRENT_HASH_MAP"})
+    public MapType type;
+    /**
+     * Amount of entries in target map.
+     */
+    @Param({"100000", "10000000"})
+    public int size;
+    /**
+     * True to use fork/join implementation, false for sequential default implementation.
+     */
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private CollectionUtils utils;
+    private Map<Integer, Integer> base;
+    private Map<Integer, Integer> source;
+    private Map<Integer, Integer> target;
+
+    /**
+     * Prepare data for trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        utils = parallel ? new ParallelCollectionUtils() : new DefaultCollectionUtils();
+        base = type.create(size);
+        source = MapType.HASH_MAP.create(size / 2);
+        for (int i = 0; i < size; i++) {
+            Integer value = i;
+            base.put(value, value);
+            if ((i & 1) == 0) {
+                source.put(value, value);
+            }
+        }
+    }
+
+    /**
+     * Create new copy of target before every invocation.
+     */
+    @Setup(Level.Invocation)
+    public void copyTarget() {
+        target = type.copyOf(base);
+    }
+
+    @Benchmark
+    public boolean containsAll() {
+        return utils.containsAll(base, source);
+    }
+
+    @Benchmark
+    public boolean containsAllKeys() {
+        return utils.containsAll(base, source.keySet());
+    }
+
+    @Benchmark
+    public boolean removeAll() {
+        return utils.removeAll(target, source);
+    }
+
+    @Benchmark
+    public boolean removeAllKeys() {
+        return utils.removeAll(target, source.keySet());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import cz.ad.java.tools.collection.core.DefaultPrimitiveArrayUtils;
+import cz.ad.java.tools.collection.core.PrimitiveArrayUtils;
+import cz.ad.java.tools.collection.vector.VectorPrimitiveArrayUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of scans of primitive long arrays compared to same operations over boxed values in list. Searched value is
+ * located at the end of array, so whole array is scanned. Scans of arrays are measured by scalar default
+ * implementation and by implementation using Vector API, operations over boxed values don't depend on implementation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PrimitiveArrayUtilsBenchmark {
+    /**
+     * Amount of values in array.
+     */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+    /**
+     * Implementation of primitive array utils.
+     */
+    @Param({"default", "vector"})
+    public String implementation;
+
+    private PrimitiveArrayUtils utils;
+    private long[] array;
+    private long[] searched;
+    private List<Long> boxed;
+    private List<Long> boxedSearched;
+    private long last;
+
+    /**
+     * Prepare data for trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        utils = "vector".equals(implementation) ? new VectorPrimitiveArrayUtils() : new DefaultPrimitiveArrayUtils();
+        array = new long[size];
+        boxed = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            array[i] = i * 31L;
+            boxed.add(array[i]);
+        }
+        last = array[size - 1];
+        searched = new long[Math.min(size, 64)];
+        boxedSearched = new ArrayList<>(searched.length);
+        for (int i = 0; i < searched.length; i++) {
+            searched[i] = array[size - 1 - i];
+            boxedSearched.add(searched[i]);
+        }
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return utils.indexOf(array, last);
+    }
+
+    @Benchmark
+    public int indexOfBoxed() {
+        return boxed.indexOf(last);
+    }
+
+    @Benchmark
+    public int count() {
+        return utils.count(array, last);
+    }
+
+    @Benchmark
+    public boolean containsAll() {
+        return utils.containsAll(array, searched);
+    }
+
+    @Benchmark
+    public boolean containsAllBoxed() {
+        return CollectionUtils.DEFAULT_INSTANCE.containsAll(boxed, boxedSearched);
+    }
+}
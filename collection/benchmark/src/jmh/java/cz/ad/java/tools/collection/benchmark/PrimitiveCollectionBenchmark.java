@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.benchmark;
+
+import cz.ad.java.tools.collection.core.CollectionAddUtils;
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import cz.ad.java.tools.collection.core.primitive.LongHashSet;
+import cz.ad.java.tools.collection.core.primitive.LongObjectHashMap;
+import cz.ad.java.tools.collection.core.primitive.PrimitiveCollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of lookups and insertions with long keys in primitive collections compared to same operations over boxed
+ * keys in hash set and hash map. Run with {@code -prof gc} to compare allocation rate, primitive operations should not
+ * allocate at all.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class PrimitiveCollectionBenchmark {
+    /**
+     * Amount of keys in collections.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    private PrimitiveCollectionUtils utils;
+    private CollectionAddUtils boxedUtils;
+    private long[] keys;
+    private LongHashSet set;
+    private Set<Long> boxedSet;
+    private LongObjectHashMap<Object> map;
+    private Map<Long, Object> boxedMap;
+    private Object value;
+
+    /**
+     * Prepare data for trial. Keys are above range of cached boxed values, so every boxing allocates.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        utils = PrimitiveCollectionUtils.DEFAULT_INSTANCE;
+        boxedUtils = CollectionUtils.DEFAULT_INSTANCE;
+        keys = new long[size];
+        set = new LongHashSet(size);
+        boxedSet = new HashSet<>(CollectionUtils.hashCapacity(size));
+        map = new LongObjectHashMap<>(size);
+        boxedMap = new HashMap<>(CollectionUtils.hashCapacity(size));
+        value = new Object();
+        for (int i = 0; i < size; i++) {
+            keys[i] = 1_000_000_000L + i * 7919L;
+            set.add(keys[i]);
+            boxedSet.add(keys[i]);
+            map.put(keys[i], value);
+            boxedMap.put(keys[i], value);
+        }
+    }
+
+    @Benchmark
+    public int containsSet() {
+        int retValue = 0;
+        for (long key : keys) {
+            if (utils.contains(set, key)) {
+                retValue++;
+            }
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public int containsSetBoxed() {
+        int retValue = 0;
+        for (long key : keys) {
+            if (boxedUtils.contains(boxedSet, key)) {
+                retValue++;
+            }
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public int containsMap() {
+        int retValue = 0;
+        for (long key : keys) {
+            if (utils.contains(map, key)) {
+                retValue++;
+            }
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public int containsMapBoxed() {
+        int retValue = 0;
+        for (long key : keys) {
+            if (boxedUtils.contains(boxedMap, key)) {
+                retValue++;
+            }
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public LongObjectHashMap<Object> putMap() {
+        LongObjectHashMap<Object> retValue = null;
+        for (long key : keys) {
+            retValue = utils.putMap(retValue, key, value);
+        }
+        return retValue;
+    }
+
+    @Benchmark
+    public Map<Long, Object> putMapBoxed() {
+        Map<Long, Object> retValue = null;
+        for (long key : keys) {
+            retValue = boxedUtils.putMap(retValue, key, value);
+        }
+        return retValue;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Service provider interface notified about finished bulk operations of collection utils, for example to report slow
+ * or oversized operations into monitoring. Implementation is discovered by {@link ServiceLoader}, so monitoring is
+ * enabled by adding provider on class path without change of call sites. When no provider is available
+ * {@link #DISABLED} monitor is used.
+ * <p>
+ * Collection utils ask {@link #isEnabled()} before every bulk operation and measure operation only when monitor is
+ * enabled, so disabled monitor costs single call of constant method, which is removed by compiler after inlining.
+ * Implementations of bulk operations use {@link #measure(BulkOperationMonitor, Object)} and
+ * {@link #report(Measurement, String, Object, Object)}, which do this check and capture state of target before
+ * operation. Helpers are static, because default methods would initialize this interface together with every
+ * implementation and service loading of {@link #DEFAULT_INSTANCE} would then instantiate provider during its own
+ * initialization.
+ */
+public interface BulkOperationMonitor {
+    /**
+     * Monitor never notified about any operation.
+     */
+    BulkOperationMonitor DISABLED = new DisabledBulkOperationMonitor();
+    /**
+     * Provide single shared instance of bulk operation monitor discovered by service loader.
+     */
+    BulkOperationMonitor DEFAULT_INSTANCE = instance();
+
+    /**
+     * Provide bulk operation monitor discovered by service loader using context class loader of current thread.
+     *
+     * @return first discovered monitor or disabled monitor when no provider is available.
+     */
+    static BulkOperationMonitor instance() {
+        return load(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Provide bulk operation monitor discovered by service loader using provided class loader.
+     *
+     * @param loader class loader used to discover providers, null for system class loader.
+     * @return first discovered monitor or disabled monitor when no provider is available.
+     */
+    static BulkOperationMonitor load(ClassLoader loader) {
+        Iterator<BulkOperationMonitor> providers = ServiceLoader.load(BulkOperationMonitor.class, loader).iterator();
+        return providers.hasNext() ? providers.next() : DISABLED;
+    }
+
+    /**
+     * Verify if monitor should be notified about bulk operations. Implementation should be cheap as it is called
+     * before every bulk operation.
+     *
+     * @return true when operations should be measured and reported to monitor, otherwise false.
+     */
+    boolean isEnabled();
+
+    /**
+     * Notify monitor about finished bulk operation. Monitor decides if operation is reported, for example by its size
+     * or duration.
+     *
+     * @param operation  name of operation, for example removeAll.
+     * @param target     target of operation, can be null.
+     * @param source     source of operation, can be null.
+     * @param targetSize size of target before operation.
+     * @param sourceSize size of source.
+     * @param start      value of {@link System#nanoTime()} captured before operation.
+     */
+    void completed(String operation, Object target, Object source, int targetSize, int sourceSize, long start);
+
+    /**
+     * Start measurement of bulk operation when monitor is enabled. Size of target is captured before operation
+     * modifies it.
+     *
+     * @param monitor monitor notified about finished operation.
+     * @param target  target of operation, collection, map or null.
+     * @return measurement passed to {@link #report(Measurement, String, Object, Object)}, null when monitor is
+     *         disabled.
+     */
+    static Measurement measure(BulkOperationMonitor monitor, Object target) {
+        return monitor.isEnabled() ? new Measurement(monitor, System.nanoTime(), Measurement.size(target)) : null;
+    }
+
+    /**
+     * Notify monitor about finished bulk operation measured by {@link #measure(BulkOperationMonitor, Object)}. Nothing
+     * is reported when measurement is null, as monitor was disabled at start of operation.
+     *
+     * @param measurement measurement of operation, can be null.
+     * @param operation   name of operation, for example removeAll.
+     * @param target      target of operation, can be null.
+     * @param source      source of operation, collection, map or null.
+     */
+    static void report(Measurement measurement, String operation, Object target, Object source) {
+        if (measurement != null) {
+            measurement.monitor.completed(operation, target, source, measurement.targetSize,
+                    Measurement.size(source), measurement.start);
+        }
+    }
+
+    /**
+     * State of bulk operation captured at its start.
+     */
+    final class Measurement {
+        /**
+         * Monitor notified about finished operation.
+         */
+        private final BulkOperationMonitor monitor;
+        /**
+         * Value of {@link System#nanoTime()} captured before operation.
+         */
+        private final long start;
+        /**
+         * Size of target before operation.
+         */
+        private final int targetSize;
+
+        /**
+         * Create new measurement.
+         *
+         * @param monitor    monitor notified about finished operation.
+         * @param start      value of {@link System#nanoTime()} captured before operation.
+         * @param targetSize size of target before operation.
+         */
+        Measurement(BulkOperationMonitor monitor, long start, int targetSize) {
+            this.monitor = monitor;
+            this.start = start;
+            this.targetSize = targetSize;
+        }
+
+        /**
+         * Provide size of collection or map.
+         *
+         * @param value collection, map or other object.
+         * @return size of collection or map, 0 for null or other objects.
+         */
+        static int size(Object value) {
+            int retValue = 0;
+            if (value instanceof Collection) {
+                retValue = ((Collection<?>) value).size();
+            } else if (value instanceof Map) {
+                retValue = ((Map<?, ?>) value).size();
+            }
+            return retValue;
+        }
+
+        /**
+         * Provide value of {@link System#nanoTime()} captured before operation.
+         *
+         * @return start of operation.
+         */
+        public long start() {
+            return start;
+        }
+
+        /**
+         * Provide size of target before operation.
+         *
+         * @return size of target.
+         */
+        public int targetSize() {
+            return targetSize;
+        }
+
+        @Override
+        public String toString() {
+            return "Measurement{" +
+                    "start=" + start +
+                    ", targetSize=" + targetSize +
+                    '}';
+        }
+    }
+}
@@ -18,29 +18,38 @@
 
 package cz.ad.java.tools.collection.core;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 /**
  * Extension of collection utils to simplify amount of parameters for adding by selecting type of collection or map used
- * for initialization of empty parameters.
+ * for initialization of empty parameters. Collections and maps are created by {@link #collectionFactory()}.
  */
 public interface CollectionAddUtils extends CollectionUtils {
+    /**
+     * Provide factory creating collections and maps used for initialization of empty parameters.
+     *
+     * @return collection factory discovered by service loader.
+     */
+    default CollectionFactory collectionFactory() {
+        return CollectionFactory.DEFAULT_INSTANCE;
+    }
+
     /**
      * Add safely value to list, if input collection is null use init to supply new instance of collection.
      *
      * @param list  used as target for adding value.
      * @param value value to be added into list.
      * @param <V>   type of value.
-     * @return provided list or initialized new instance of ArrayList with added value.
+     * @return provided list or new list created by collection factory with added value.
      */
     default <V> List<V> addList(List<V> list, V value) {
-        return add(list, ArrayList::new, value);
+        return add(list, CollectionInit.of(this).list(), value);
     }
 
     /**
@@ -49,10 +58,10 @@ public interface CollectionAddUtils extends CollectionUtils {
      * @param set   used as target for adding value.
      * @param value value to be added into collection.
      * @param <V>   type of value.
-     * @return provided set or initialized new instance of HashSet with added value.
+     * @return provided set or new set created by collection factory with added value.
      */
     default <V> Set<V> addSet(Set<V> set, V value) {
-        return add(set, HashSet::new, value);
+        return add(set, CollectionInit.of(this).set(), value);
     }
 
     /**
@@ -63,11 +72,11 @@ public interface CollectionAddUtils extends CollectionUtils {
      * @param source values to be added into collection.
      * @param <S>    type of source collection.
      * @param <V>    type of value in collection.
-     * @return original target list or initialized new ArrayList with added provided values if source was not empty,
-     *         otherwise target collection parameter value without change.
+     * @return original target list or new list created by collection factory for source size with added provided
+     *         values if source was not empty, otherwise target collection parameter value without change.
      */
     default <S extends Collection<V>, V> List<V> addAllList(List<V> list, S source) {
-        return addAll(list, ArrayList::new, source);
+        return addAllSized(list, CollectionInit.of(this).sizedList(), source);
     }
 
     /**
@@ -78,11 +87,11 @@ public interface CollectionAddUtils extends CollectionUtils {
      * @param source values to be added into collection.
      * @param <S>    type of source collection.
      * @param <V>    type of value in collection.
-     * @return original target list or initialized new ArrayList with added provided values if source was not empty,
-     *         otherwise target collection parameter value without change.
+     * @return original target set or new set created by collection factory for source size with added provided
+     *         values if source was not empty, otherwise target collection parameter value without change.
      */
     default <S extends Collection<V>, V> Set<V> addAllSet(Set<V> list, S source) {
-        return addAll(list, HashSet::new, source);
+        return addAllSized(list, CollectionInit.of(this).sizedSet(), source);
     }
 
     /**
@@ -96,7 +105,7 @@ public interface CollectionAddUtils extends CollectionUtils {
      * @return provided map or initialized by supplier with added key and value.
      */
     default <K, V> Map<K, V> putMap(Map<K, V> map, K key, V value) {
-        return put(map, HashMap::new, key, value);
+        return put(map, CollectionInit.of(this).map(), key, value);
     }
 
     /**
@@ -108,10 +117,168 @@ public interface CollectionAddUtils extends CollectionUtils {
      * @param <S>    type of source map.
      * @param <K>    type of key.
      * @param <V>    type of value.
-     * @return target map or initialized new map with all values from provided values map if it was not empty.
-     *         Otherwise, value of target parameter without change.
+     * @return target map or new map created by collection factory for source size with all values from provided
+     *         values map if it was not empty. Otherwise, value of target parameter without change.
      */
     default <S extends Map<K, V>, K, V> Map<K, V> putAllMap(Map<K, V> target, S source) {
-        return putAll(target, HashMap::new, source);
+        return putAllSized(target, CollectionInit.of(this).sizedMap(), source);
+    }
+
+    /**
+     * Add safely value into collection mapped to key in multimap. When map is null new map is created by collection
+     * factory, when key has no collection new collection is created by provided init supplier. Existing collection is
+     * found by single lookup of key and collection put concurrently by other thread into concurrent map is reused.
+     * Supplier is adapted to mapping function of concurrent map only when key has no collection.
+     *
+     * @param map   multimap of collections used as target for adding value.
+     * @param key   key of collection.
+     * @param init  supplier of new collection for key without collection.
+     * @param value value to be added into collection.
+     * @param <C>   type of collection in map.
+     * @param <K>   type of key.
+     * @param <V>   type of value in collection.
+     * @return provided map or new map created by collection factory with added value.
+     */
+    default <C extends Collection<V>, K, V> Map<K, C> putToCollection(Map<K, C> map, K key, Supplier<C> init, V value) {
+        Map<K, C> retValue = map != null ? map : collectionFactory().newMap();
+        CollectionInit.collection(retValue, key, init).add(value);
+        return retValue;
+    }
+
+    /**
+     * Add safely value into list mapped to key in multimap. When map is null new map is created by collection factory,
+     * when key has no list new list is created by collection factory. Existing list is found by single lookup of key.
+     *
+     * @param map   multimap of lists used as target for adding value.
+     * @param key   key of list.
+     * @param value value to be added into list.
+     * @param <K>   type of key.
+     * @param <V>   type of value in list.
+     * @return provided map or new map created by collection factory with added value.
+     */
+    default <K, V> Map<K, List<V>> putToList(Map<K, List<V>> map, K key, V value) {
+        Map<K, List<V>> retValue = map != null ? map : collectionFactory().newMap();
+        Function<K, List<V>> init = CollectionInit.of(this).keyedList();
+        CollectionInit.computeCollection(retValue, key, init).add(value);
+        return retValue;
+    }
+
+    /**
+     * Add safely value into list mapped to key in multimap. When map is null new map is created by collection factory,
+     * when key has no list new list for expected amount of values is created by collection factory. Existing list is
+     * found by single lookup of key.
+     *
+     * @param map            multimap of lists used as target for adding value.
+     * @param key            key of list.
+     * @param value          value to be added into list.
+     * @param expectedValues amount of values expected to be stored in new list of key.
+     * @param <K>            type of key.
+     * @param <V>            type of value in list.
+     * @return provided map or new map created by collection factory with added value.
+     * @throws IllegalArgumentException when new list is needed and expected amount of values is negative.
+     */
+    default <K, V> Map<K, List<V>> putToList(Map<K, List<V>> map, K key, V value, int expectedValues)
+            throws IllegalArgumentException {
+        Map<K, List<V>> retValue = map != null ? map : collectionFactory().newMap();
+        CollectionInit.collection(retValue, key, CollectionInit.of(this).<V>sizedList(), expectedValues)
+                .add(value);
+        return retValue;
+    }
+
+    /**
+     * Add safely value into set mapped to key in multimap. When map is null new map is created by collection factory,
+     * when key has no set new set is created by collection factory. Existing set is found by single lookup of key.
+     *
+     * @param map   multimap of sets used as target for adding value.
+     * @param key   key of set.
+     * @param value value to be added into set.
+     * @param <K>   type of key.
+     * @param <V>   type of value in set.
+     * @return provided map or new map created by collection factory with added value.
+     */
+    default <K, V> Map<K, Set<V>> putToSet(Map<K, Set<V>> map, K key, V value) {
+        Map<K, Set<V>> retValue = map != null ? map : collectionFactory().newMap();
+        Function<K, Set<V>> init = CollectionInit.of(this).keyedSet();
+        CollectionInit.computeCollection(retValue, key, init).add(value);
+        return retValue;
+    }
+
+    /**
+     * Add safely value into set mapped to key in multimap. When map is null new map is created by collection factory,
+     * when key has no set new set for expected amount of values is created by collection factory. Existing set is found
+     * by single lookup of key.
+     *
+     * @param map            multimap of sets used as target for adding value.
+     * @param key            key of set.
+     * @param value          value to be added into set.
+     * @param expectedValues amount of values expected to be stored in new set of key.
+     * @param <K>            type of key.
+     * @param <V>            type of value in set.
+     * @return provided map or new map created by collection factory with added value.
+     * @throws IllegalArgumentException when new set is needed and expected amount of values is negative.
+     */
+    default <K, V> Map<K, Set<V>> putToSet(Map<K, Set<V>> map, K key, V value, int expectedValues)
+            throws IllegalArgumentException {
+        Map<K, Set<V>> retValue = map != null ? map : collectionFactory().newMap();
+        CollectionInit.collection(retValue, key, CollectionInit.of(this).<V>sizedSet(), expectedValues)
+                .add(value);
+        return retValue;
+    }
+
+    /**
+     * Add safely values from source collection into list mapped to key in multimap. When source is null or empty map
+     * is returned without change. Otherwise, null map is created by collection factory and missing list of key is
+     * created by collection factory for source size.
+     *
+     * @param map    multimap of lists used as target for adding values.
+     * @param key    key of list.
+     * @param source values to be added into list.
+     * @param <S>    type of source collection.
+     * @param <K>    type of key.
+     * @param <V>    type of value in list.
+     * @return provided map or new map created by collection factory with added values if source was not empty,
+     *         otherwise map parameter value without change.
+     */
+    default <S extends Collection<? extends V>, K, V> Map<K, List<V>> putAllToList(
+            Map<K, List<V>> map, K key, S source
+    ) {
+        Map<K, List<V>> retValue = map;
+        if (source != null && !source.isEmpty()) {
+            if (retValue == null) {
+                retValue = collectionFactory().newMap();
+            }
+            IntFunction<List<V>> init = CollectionInit.of(this).sizedList();
+            CollectionInit.collection(retValue, key, init, source.size()).addAll(source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove safely value from collection mapped to key in multimap. When collection becomes empty, key is removed from
+     * map, so multimap never contains keys without values. Empty collection is removed by conditional
+     * {@link Map#remove(Object, Object)}, so on concurrent map key is not removed when other thread replaced its
+     * collection meanwhile. Value added concurrently into same collection after it became empty is removed with it.
+     *
+     * @param map   multimap of collections.
+     * @param key   key of collection.
+     * @param value value to be removed from collection.
+     * @param <M>   type of map.
+     * @param <C>   type of collection in map.
+     * @param <K>   type of key.
+     * @param <V>   type of value in collection.
+     * @return true when value was removed from collection of key, otherwise false.
+     */
+    default <M extends Map<K, C>, C extends Collection<V>, K, V> boolean removeFromMulti(M map, K key, V value) {
+        boolean retValue = false;
+        if (map != null) {
+            C values = map.get(key);
+            if (values != null) {
+                retValue = values.remove(value);
+                if (values.isEmpty()) {
+                    map.remove(key, values);
+                }
+            }
+        }
+        return retValue;
     }
 }
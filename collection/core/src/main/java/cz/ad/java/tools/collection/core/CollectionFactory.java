@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Service provider interface deciding which implementations of lists, sets and maps are created by convenience methods
+ * of {@link CollectionAddUtils} when target is not initialized. Implementation is discovered by {@link ServiceLoader},
+ * so memory efficient collections can be used without change of call sites. When no provider is available
+ * {@link DefaultCollectionFactory} is used.
+ */
+public interface CollectionFactory {
+    /**
+     * Provide single shared instance of collection factory discovered by service loader.
+     */
+    CollectionFactory DEFAULT_INSTANCE = instance();
+
+    /**
+     * Provide collection factory discovered by service loader using context class loader of current thread.
+     *
+     * @return first discovered collection factory or new instance of default collection factory when no provider is
+     *         available.
+     */
+    static CollectionFactory instance() {
+        return load(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Provide collection factory discovered by service loader using provided class loader.
+     *
+     * @param loader class loader used to discover providers, null for system class loader.
+     * @return first discovered collection factory or new instance of default collection factory when no provider is
+     *         available.
+     */
+    static CollectionFactory load(ClassLoader loader) {
+        Iterator<CollectionFactory> providers = ServiceLoader.load(CollectionFactory.class, loader).iterator();
+        return providers.hasNext() ? providers.next() : new DefaultCollectionFactory();
+    }
+
+    /**
+     * Create new empty list.
+     *
+     * @param <V> type of value in list.
+     * @return new empty list.
+     */
+    <V> List<V> newList();
+
+    /**
+     * Create new empty list able to store expected amount of values without resizing.
+     *
+     * @param expectedSize amount of values expected to be stored in list.
+     * @param <V>          type of value in list.
+     * @return new empty list.
+     */
+    <V> List<V> newList(int expectedSize);
+
+    /**
+     * Create new empty set.
+     *
+     * @param <V> type of value in set.
+     * @return new empty set.
+     */
+    <V> Set<V> newSet();
+
+    /**
+     * Create new empty set able to store expected amount of values without resizing.
+     *
+     * @param expectedSize amount of values expected to be stored in set.
+     * @param <V>          type of value in set.
+     * @return new empty set.
+     */
+    <V> Set<V> newSet(int expectedSize);
+
+    /**
+     * Create new empty map.
+     *
+     * @param <K> type of key in map.
+     * @param <V> type of value in map.
+     * @return new empty map.
+     */
+    <K, V> Map<K, V> newMap();
+
+    /**
+     * Create new empty map able to store expected amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries expected to be stored in map.
+     * @param <K>          type of key in map.
+     * @param <V>          type of value in map.
+     * @return new empty map.
+     */
+    <K, V> Map<K, V> newMap(int expectedSize);
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Init suppliers and functions of single collection factory used by convenience methods of {@link CollectionAddUtils}
+ * together with lookup of collections in multimaps.
+ * Method reference to factory of utils instance captures factory and allocates new object on every call, so suppliers
+ * are created once per factory. {@link DefaultCollectionUtils} and its subclasses keep instance of their factory, so
+ * utils with different factories used alternately don't allocate them again. Other implementations of utils share
+ * last used instance.
+ */
+final class CollectionInit {
+    /**
+     * Last used init suppliers of utils not keeping their own instance, replaced when utils with different factory are
+     * used.
+     */
+    private static volatile CollectionInit last = new CollectionInit(CollectionFactory.DEFAULT_INSTANCE);
+
+    /**
+     * Factory creating collections and maps.
+     */
+    private final CollectionFactory factory;
+    /**
+     * Supplier of new lists.
+     */
+    private final Supplier<List<Object>> list;
+    /**
+     * Function creating lists for expected size.
+     */
+    private final IntFunction<List<Object>> sizedList;
+    /**
+     * Function creating lists for keys of multimap.
+     */
+    private final Function<Object, List<Object>> keyedList;
+    /**
+     * Supplier of new sets.
+     */
+    private final Supplier<Set<Object>> set;
+    /**
+     * Function creating sets for expected size.
+     */
+    private final IntFunction<Set<Object>> sizedSet;
+    /**
+     * Function creating sets for keys of multimap.
+     */
+    private final Function<Object, Set<Object>> keyedSet;
+    /**
+     * Supplier of new maps.
+     */
+    private final Supplier<Map<Object, Object>> map;
+    /**
+     * Function creating maps for expected size.
+     */
+    private final IntFunction<Map<Object, Object>> sizedMap;
+
+    /**
+     * Create init suppliers of provided factory.
+     *
+     * @param factory factory creating collections and maps.
+     */
+    private CollectionInit(CollectionFactory factory) {
+        this.factory = factory;
+        this.list = factory::newList;
+        this.sizedList = factory::newList;
+        this.keyedList = key -> factory.newList();
+        this.set = factory::newSet;
+        this.sizedSet = factory::newSet;
+        this.keyedSet = key -> factory.newSet();
+        this.map = factory::newMap;
+        this.sizedMap = factory::newMap;
+    }
+
+    /**
+     * Provide init suppliers of factory of provided utils. Instance kept by {@link DefaultCollectionUtils} is used when
+     * it belongs to current factory of utils, otherwise instance is resolved by factory.
+     *
+     * @param utils utils providing collection factory.
+     * @return init suppliers of factory of provided utils.
+     */
+    static CollectionInit of(CollectionAddUtils utils) {
+        CollectionFactory factory = utils.collectionFactory();
+        CollectionInit retValue = utils instanceof DefaultCollectionUtils
+                ? ((DefaultCollectionUtils) utils).collectionInit : null;
+        if (retValue == null || retValue.factory != factory) {
+            retValue = of(factory);
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide init suppliers of provided factory, last used instance is reused when it belongs to same factory.
+     *
+     * @param factory factory creating collections and maps.
+     * @return init suppliers of provided factory.
+     */
+    static CollectionInit of(CollectionFactory factory) {
+        CollectionInit retValue = last;
+        if (retValue.factory != factory) {
+            retValue = new CollectionInit(factory);
+            last = retValue;
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide collection mapped to key in multimap, missing collection is created by init function and put into map.
+     * Concurrent map resolves collection by single {@link ConcurrentMap#computeIfAbsent(Object, Function)}, so
+     * collection put by other thread meanwhile is used. Other maps are searched by single lookup and missing collection
+     * is put into them.
+     *
+     * @param map  multimap of collections.
+     * @param key  key of collection.
+     * @param init function creating new collection for key without collection.
+     * @param <C>  type of collection in map.
+     * @param <K>  type of key.
+     * @return collection mapped to key.
+     */
+    static <C, K> C computeCollection(Map<K, C> map, K key, Function<? super K, ? extends C> init) {
+        C retValue;
+        if (map instanceof ConcurrentMap) {
+            retValue = map.computeIfAbsent(key, init);
+        } else {
+            retValue = map.get(key);
+            if (retValue == null) {
+                retValue = init.apply(key);
+                map.put(key, retValue);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide collection mapped to key in multimap, missing collection is created by init supplier and put into map.
+     * Existing collection is found by single lookup, supplier is adapted to function of concurrent map only when key
+     * has no collection.
+     *
+     * @param map  multimap of collections.
+     * @param key  key of collection.
+     * @param init supplier of new collection for key without collection.
+     * @param <C>  type of collection in map.
+     * @param <K>  type of key.
+     * @return collection mapped to key.
+     */
+    static <C, K> C collection(Map<K, C> map, K key, Supplier<C> init) {
+        C retValue = map.get(key);
+        if (retValue == null) {
+            retValue = computeCollection(map, key, ignored -> init.get());
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide collection mapped to key in multimap, missing collection is created by init function for expected amount
+     * of values and put into map. Existing collection is found by single lookup, init function is adapted to function
+     * of concurrent map only when key has no collection.
+     *
+     * @param map          multimap of collections.
+     * @param key          key of collection.
+     * @param init         function creating new collection for expected amount of values.
+     * @param expectedSize amount of values expected to be stored in new collection.
+     * @param <C>          type of collection in map.
+     * @param <K>          type of key.
+     * @return collection mapped to key.
+     */
+    static <C, K> C collection(Map<K, C> map, K key, IntFunction<C> init, int expectedSize) {
+        C retValue = map.get(key);
+        if (retValue == null) {
+            retValue = computeCollection(map, key, ignored -> init.apply(expectedSize));
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide supplier of new lists.
+     *
+     * @param <V> type of value in list.
+     * @return supplier of new lists.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <V> Supplier<List<V>> list() {
+        return (Supplier) list;
+    }
+
+    /**
+     * Provide function creating lists for expected size.
+     *
+     * @param <V> type of value in list.
+     * @return function creating lists for expected size.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <V> IntFunction<List<V>> sizedList() {
+        return (IntFunction) sizedList;
+    }
+
+    /**
+     * Provide function creating lists for keys of multimap.
+     *
+     * @param <K> type of key in multimap.
+     * @param <V> type of value in list.
+     * @return function creating lists for keys of multimap.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <K, V> Function<K, List<V>> keyedList() {
+        return (Function) keyedList;
+    }
+
+    /**
+     * Provide supplier of new sets.
+     *
+     * @param <V> type of value in set.
+     * @return supplier of new sets.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <V> Supplier<Set<V>> set() {
+        return (Supplier) set;
+    }
+
+    /**
+     * Provide function creating sets for expected size.
+     *
+     * @param <V> type of value in set.
+     * @return function creating sets for expected size.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <V> IntFunction<Set<V>> sizedSet() {
+        return (IntFunction) sizedSet;
+    }
+
+    /**
+     * Provide function creating sets for keys of multimap.
+     *
+     * @param <K> type of key in multimap.
+     * @param <V> type of value in set.
+     * @return function creating sets for keys of multimap.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <K, V> Function<K, Set<V>> keyedSet() {
+        return (Function) keyedSet;
+    }
+
+    /**
+     * Provide supplier of new maps.
+     *
+     * @param <K> type of key in map.
+     * @param <V> type of value in map.
+     * @return supplier of new maps.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <K, V> Supplier<Map<K, V>> map() {
+        return (Supplier) map;
+    }
+
+    /**
+     * Provide function creating maps for expected size.
+     *
+     * @param <K> type of key in map.
+     * @param <V> type of value in map.
+     * @return function creating maps for expected size.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <K, V> IntFunction<Map<K, V>> sizedMap() {
+        return (IntFunction) sizedMap;
+    }
+
+    @Override
+    public String toString() {
+        return "CollectionInit{" +
+                "factory=" + factory +
+                '}';
+    }
+}
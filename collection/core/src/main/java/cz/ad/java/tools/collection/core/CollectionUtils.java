@@ -21,6 +21,7 @@ package cz.ad.java.tools.collection.core;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 /**
@@ -42,6 +43,21 @@ public interface CollectionUtils {
         return new DefaultCollectionUtils();
     }
 
+    /**
+     * Calculate initial capacity of hash based collection or map with default load factor 0.75, so it can hold
+     * expected amount of records without rehashing. Capacity is saturated at maximal integer value.
+     *
+     * @param expectedSize amount of records expected to be stored.
+     * @return initial capacity to be used for construction of HashSet or HashMap.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    static int hashCapacity(int expectedSize) throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        return (int) Math.ceil(expectedSize / 0.75d);
+    }
+
     /**
      * Verify if collection has no records.
      *
@@ -129,6 +145,28 @@ public interface CollectionUtils {
      */
     <T extends Collection<V>, S extends Collection<V>, V> T addAll(T target, Supplier<T> init, S source);
 
+    /**
+     * Add safely values from source collection into destination collection if provided destination is null it is
+     * initialized by sized init function receiving size of source, so new collection can be created with capacity for
+     * all added values. If provided source is null or empty target without change is return. Default implementation
+     * delegates to {@link #addAll(Collection, Supplier, Collection)} with init applied on size of source.
+     *
+     * @param target used as target for adding value.
+     * @param init   function to provide new instance with capacity for provided size in case when provided collection
+     *               is null.
+     * @param source values to be added into collection.
+     * @param <T>    type of destination collection.
+     * @param <S>    type of source collection.
+     * @param <V>    type of value in collection.
+     * @return original target collection or initialized new collection with added provided values if source was not
+     *         empty, otherwise target collection parameter value without change.
+     */
+    default <T extends Collection<V>, S extends Collection<V>, V> T addAllSized(
+            T target, IntFunction<T> init, S source
+    ) {
+        return addAll(target, () -> init.apply(source != null ? source.size() : 0), source);
+    }
+
     /**
      * Put safely key and value pair into map, if input map is null init is used to supply new instance.
      *
@@ -159,6 +197,26 @@ public interface CollectionUtils {
      */
     <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(T target, Supplier<T> init, S source);
 
+    /**
+     * Put safely values from source map into target map and when target map is null new instance is created by provided
+     * sized init function receiving size of source, so new map can be created with capacity for all records. When
+     * source map has no records target parameter is returned without change. Default implementation delegates to
+     * {@link #putAll(Map, Supplier, Map)} with init applied on size of source.
+     *
+     * @param target map for records provided in values map.
+     * @param init   function to provide new instance with capacity for provided size in case when provided map is null.
+     * @param source map with source data
+     * @param <T>    type of target map.
+     * @param <S>    type of source map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return target map or initialized new map with all values from provided values map if it was not empty.
+     *         Otherwise, value of target parameter without change.
+     */
+    default <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAllSized(T target, IntFunction<T> init, S source) {
+        return putAll(target, () -> init.apply(source != null ? source.size() : 0), source);
+    }
+
     /**
      * Validate if provided collection contains provided value.
      *
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collection factory creating collections and maps safe for modification by many threads. Sets are key set views of
+ * {@link ConcurrentHashMap}, maps are {@link ConcurrentHashMap} instances and lists are synchronized array lists, as
+ * there is no lock-free list with random access. Factory is used by default by {@link ConcurrentCollectionUtils}.
+ */
+public class ConcurrentCollectionFactory implements CollectionFactory {
+
+    /**
+     * Default non parametric constructor of factory used by concurrent collection utils.
+     */
+    public ConcurrentCollectionFactory() {
+    }
+
+    /**
+     * Create new empty synchronized array list.
+     *
+     * @return new empty synchronized list.
+     */
+    @Override
+    public <V> List<V> newList() {
+        return Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     * Create new empty synchronized array list with capacity for expected amount of values.
+     *
+     * @param expectedSize amount of values expected to be stored in list.
+     * @return new empty synchronized list.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    @Override
+    public <V> List<V> newList(int expectedSize) throws IllegalArgumentException {
+        return Collections.synchronizedList(new ArrayList<>(expectedSize));
+    }
+
+    /**
+     * Create new empty concurrent hash set.
+     *
+     * @return new empty key set view of concurrent hash map.
+     */
+    @Override
+    public <V> Set<V> newSet() {
+        return ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Create new empty concurrent hash set able to store expected amount of values without resizing.
+     *
+     * @param expectedSize amount of values expected to be stored in set.
+     * @return new empty key set view of concurrent hash map.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    @Override
+    public <V> Set<V> newSet(int expectedSize) throws IllegalArgumentException {
+        return ConcurrentHashMap.newKeySet(expectedSize);
+    }
+
+    /**
+     * Create new empty concurrent hash map.
+     *
+     * @return new empty concurrent hash map.
+     */
+    @Override
+    public <K, V> Map<K, V> newMap() {
+        return new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create new empty concurrent hash map able to store expected amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries expected to be stored in map.
+     * @return new empty concurrent hash map.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    @Override
+    public <K, V> Map<K, V> newMap(int expectedSize) throws IllegalArgumentException {
+        return new ConcurrentHashMap<>(expectedSize);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o != null && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentCollectionFactory{}";
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of collection utils for structures shared by many threads. Collections and maps created for
+ * initialization of empty parameters are concurrent by default, see {@link ConcurrentCollectionFactory}.
+ * <p>
+ * Methods accepting collection or map parameter can't publish initialized instance to other threads, so shared
+ * structures are accessed through {@link AtomicReference} holders. Holder is initialized by compare and set, so when
+ * many threads add into empty holder at same time only one initialized instance is published and values of all
+ * threads are added into it. Values of concurrent maps are initialized by {@link ConcurrentMap#computeIfAbsent}, so
+ * all threads receive same value of key.
+ */
+public class ConcurrentCollectionUtils extends DefaultCollectionUtils {
+
+    /**
+     * Default non parametric constructor using default hash index threshold and concurrent collection factory.
+     */
+    public ConcurrentCollectionUtils() {
+        this(DEFAULT_HASH_INDEX_THRESHOLD);
+    }
+
+    /**
+     * Constructor allowing to define hash index threshold, concurrent collection factory is used.
+     *
+     * @param hashIndexThreshold size of collection and amount of lookups above which temporary hash index is used. Must
+     *                           not be negative.
+     * @throws IllegalArgumentException when provided threshold is negative.
+     */
+    public ConcurrentCollectionUtils(int hashIndexThreshold) throws IllegalArgumentException {
+        this(hashIndexThreshold, new ConcurrentCollectionFactory());
+    }
+
+    /**
+     * Constructor allowing to define hash index threshold and factory creating collections and maps used for
+     * initialization of empty parameters. Factory should create collections safe for concurrent modification.
+     *
+     * @param hashIndexThreshold size of collection and amount of lookups above which temporary hash index is used. Must
+     *                           not be negative.
+     * @param collectionFactory  factory creating collections and maps used for initialization of empty parameters.
+     * @throws IllegalArgumentException when provided threshold is negative or factory is null.
+     */
+    public ConcurrentCollectionUtils(int hashIndexThreshold, CollectionFactory collectionFactory)
+            throws IllegalArgumentException {
+        this(hashIndexThreshold, collectionFactory, BulkOperationMonitor.DEFAULT_INSTANCE);
+    }
+
+    /**
+     * Constructor allowing to define hash index threshold, factory creating collections and maps used for
+     * initialization of empty parameters and monitor notified about finished bulk operations. Factory should create
+     * collections safe for concurrent modification.
+     *
+     * @param hashIndexThreshold   size of collection and amount of lookups above which temporary hash index is used.
+     *                             Must not be negative.
+     * @param collectionFactory    factory creating collections and maps used for initialization of empty parameters.
+     * @param bulkOperationMonitor monitor notified about finished bulk operations, for example
+     *                             {@link BulkOperationMonitor#DISABLED}.
+     * @throws IllegalArgumentException when provided threshold is negative or factory or monitor is null.
+     */
+    public ConcurrentCollectionUtils(int hashIndexThreshold, CollectionFactory collectionFactory,
+                                     BulkOperationMonitor bulkOperationMonitor) throws IllegalArgumentException {
+        super(hashIndexThreshold, collectionFactory, bulkOperationMonitor);
+    }
+
+    /**
+     * Provide value of holder, if holder is empty it is atomically initialized by value provided by init supplier. When
+     * other thread initializes holder first, its value is returned and value provided by init supplier is dropped.
+     *
+     * @param holder holder of shared value.
+     * @param init   supplier to provide new instance in case when holder is empty.
+     * @param <T>    type of value in holder.
+     * @return value of holder or null when holder is null or it is empty and init is null or provides null.
+     */
+    public <T> T initIfNeeded(AtomicReference<T> holder, Supplier<T> init) {
+        T retValue = null;
+        if (holder != null) {
+            retValue = holder.get();
+            if (retValue == null && init != null) {
+                T created = init.get();
+                if (created != null) {
+                    retValue = holder.compareAndSet(null, created) ? created : holder.get();
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely value into collection stored in holder, if holder is empty it is atomically initialized by init
+     * supplier. Collection must be safe for concurrent modification when holder is shared by threads.
+     *
+     * @param holder holder of shared collection.
+     * @param init   supplier to provide new instance in case when holder is empty.
+     * @param value  value to be added into collection.
+     * @param <C>    type of collection.
+     * @param <V>    type of value in collection.
+     * @return collection of holder with added value or null when holder is null or can't be initialized.
+     */
+    public <C extends Collection<V>, V> C addShared(AtomicReference<C> holder, Supplier<C> init, V value) {
+        C retValue = initIfNeeded(holder, init);
+        if (retValue != null) {
+            retValue.add(value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely values from source collection into collection stored in holder, if holder is empty and source has
+     * values, holder is atomically initialized by init supplier.
+     *
+     * @param holder holder of shared collection.
+     * @param init   supplier to provide new instance in case when holder is empty.
+     * @param source values to be added into collection.
+     * @param <T>    type of target collection.
+     * @param <S>    type of source collection.
+     * @param <V>    type of value in collection.
+     * @return collection of holder with added values, value of holder without change when source is empty.
+     */
+    public <T extends Collection<V>, S extends Collection<V>, V> T addAllShared(
+            AtomicReference<T> holder, Supplier<T> init, S source
+    ) {
+        T retValue = holder != null ? holder.get() : null;
+        if (isNotEmpty(source)) {
+            retValue = initIfNeeded(holder, init);
+            if (retValue != null) {
+                retValue.addAll(source);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely key and value pair into map stored in holder, if holder is empty it is atomically initialized by init
+     * supplier. Map must be safe for concurrent modification when holder is shared by threads.
+     *
+     * @param holder holder of shared map.
+     * @param init   supplier to provide new instance in case when holder is empty.
+     * @param key    key connected to value in map.
+     * @param value  value stored in map connected to key.
+     * @param <M>    type of map.
+     * @param <K>    type of key in map.
+     * @param <V>    type of value in map.
+     * @return map of holder with added entry or null when holder is null or can't be initialized.
+     */
+    public <M extends Map<K, V>, K, V> M putShared(AtomicReference<M> holder, Supplier<M> init, K key, V value) {
+        M retValue = initIfNeeded(holder, init);
+        if (retValue != null) {
+            retValue.put(key, value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely entries from source map into map stored in holder, if holder is empty and source has entries, holder
+     * is atomically initialized by init supplier.
+     *
+     * @param holder holder of shared map.
+     * @param init   supplier to provide new instance in case when holder is empty.
+     * @param source map with source data.
+     * @param <T>    type of target map.
+     * @param <S>    type of source map.
+     * @param <K>    type of key in map.
+     * @param <V>    type of value in map.
+     * @return map of holder with added entries, value of holder without change when source is empty.
+     */
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAllShared(
+            AtomicReference<T> holder, Supplier<T> init, S source
+    ) {
+        T retValue = holder != null ? holder.get() : null;
+        if (isNotEmpty(source)) {
+            retValue = initIfNeeded(holder, init);
+            if (retValue != null) {
+                retValue.putAll(source);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide value mapped to key, when key is not mapped value provided by mapping function is stored. Concurrent
+     * maps store only first mapped value, so all threads receive same value, and
+     * {@link java.util.concurrent.ConcurrentHashMap} applies mapping function at most once per key.
+     *
+     * @param map     map of values.
+     * @param key     key of value.
+     * @param mapping function providing value for missing key, null result doesn't modify map.
+     * @param <M>     type of map.
+     * @param <K>     type of key in map.
+     * @param <V>     type of value in map.
+     * @return value mapped to key or null when map or mapping function is null.
+     */
+    public <M extends Map<K, V>, K, V> V computeIfAbsent(M map, K key, Function<? super K, ? extends V> mapping) {
+        V retValue = null;
+        if (map != null && mapping != null) {
+            retValue = map.computeIfAbsent(key, mapping);
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide value mapped to key in map stored in holder, holder and missing value are atomically initialized.
+     *
+     * @param holder  holder of shared map.
+     * @param init    supplier to provide new instance in case when holder is empty.
+     * @param key     key of value.
+     * @param mapping function providing value for missing key, null result doesn't modify map.
+     * @param <M>     type of map.
+     * @param <K>     type of key in map.
+     * @param <V>     type of value in map.
+     * @return value mapped to key or null when map can't be initialized or mapping function is null.
+     */
+    public <M extends Map<K, V>, K, V> V computeIfAbsentShared(
+            AtomicReference<M> holder, Supplier<M> init, K key, Function<? super K, ? extends V> mapping
+    ) {
+        return computeIfAbsent(initIfNeeded(holder, init), key, mapping);
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentCollectionUtils{" +
+                "hashIndexThreshold=" + hashIndexThreshold +
+                ", collectionFactory=" + collectionFactory +
+                ", bulkOperationMonitor=" + bulkOperationMonitor +
+                '}';
+    }
+}
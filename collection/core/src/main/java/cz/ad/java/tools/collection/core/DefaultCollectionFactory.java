@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Default collection factory creating {@link ArrayList}, {@link HashSet} and {@link HashMap} instances. Hash based
+ * collections created for expected size are presized by {@link CollectionUtils#hashCapacity(int)}, so they store
+ * expected amount of records without rehashing.
+ */
+public class DefaultCollectionFactory implements CollectionFactory {
+
+    /**
+     * Default non parametric constructor of factory used when no provider is discovered by service loader.
+     */
+    public DefaultCollectionFactory() {
+    }
+
+    /**
+     * Create new empty array list.
+     *
+     * @return new empty array list.
+     */
+    @Override
+    public <V> List<V> newList() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Create new empty array list with capacity for expected amount of values.
+     *
+     * @param expectedSize amount of values expected to be stored in list.
+     * @return new empty array list.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    @Override
+    public <V> List<V> newList(int expectedSize) throws IllegalArgumentException {
+        return new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Create new empty hash set.
+     *
+     * @return new empty hash set.
+     */
+    @Override
+    public <V> Set<V> newSet() {
+        return new HashSet<>();
+    }
+
+    /**
+     * Create new empty hash set with capacity for expected amount of values without rehashing.
+     *
+     * @param expectedSize amount of values expected to be stored in set.
+     * @return new empty hash set.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    @Override
+    public <V> Set<V> newSet(int expectedSize) throws IllegalArgumentException {
+        return new HashSet<>(CollectionUtils.hashCapacity(expectedSize));
+    }
+
+    /**
+     * Create new empty hash map.
+     *
+     * @return new empty hash map.
+     */
+    @Override
+    public <K, V> Map<K, V> newMap() {
+        return new HashMap<>();
+    }
+
+    /**
+     * Create new empty hash map with capacity for expected amount of entries without rehashing.
+     *
+     * @param expectedSize amount of entries expected to be stored in map.
+     * @return new empty hash map.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    @Override
+    public <K, V> Map<K, V> newMap(int expectedSize) throws IllegalArgumentException {
+        return new HashMap<>(CollectionUtils.hashCapacity(expectedSize));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o != null && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultCollectionFactory{}";
+    }
+}
@@ -19,8 +19,12 @@
 package cz.ad.java.tools.collection.core;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 /**
@@ -29,9 +33,111 @@ import java.util.function.Supplier;
  */
 public class DefaultCollectionUtils implements CollectionAddUtils {
     /**
-     * Default non parametric constructor.
+     * Default size of collection and amount of lookups above which is lookup done by temporary hash index.
+     */
+    public static final int DEFAULT_HASH_INDEX_THRESHOLD = 16;
+    /**
+     * Sentinel default value signaling absence of key in map lookup.
+     */
+    private static final Object ABSENT = new Object();
+
+    /**
+     * Size of collection without constant time lookup and amount of lookups into it above which bulk operations build
+     * temporary hash index of collection values, to perform operation in linear time instead of quadratic.
+     */
+    protected int hashIndexThreshold;
+    /**
+     * Factory creating collections and maps used for initialization of empty parameters.
+     */
+    protected CollectionFactory collectionFactory;
+    /**
+     * Monitor notified about finished bulk operations.
+     */
+    protected BulkOperationMonitor bulkOperationMonitor;
+    /**
+     * Init suppliers of collection factory used by convenience methods, resolved once per instance so utils with
+     * different factories don't create them on every call.
+     */
+    CollectionInit collectionInit;
+
+    /**
+     * Default non parametric constructor using default hash index threshold.
      */
     public DefaultCollectionUtils() {
+        this(DEFAULT_HASH_INDEX_THRESHOLD);
+    }
+
+    /**
+     * Constructor allowing to define size of collection and amount of lookups above which is lookup done by temporary
+     * hash index.
+     *
+     * @param hashIndexThreshold size of collection and amount of lookups above which temporary hash index is used. Must
+     *                           not be negative.
+     * @throws IllegalArgumentException when provided threshold is negative.
+     */
+    public DefaultCollectionUtils(int hashIndexThreshold) throws IllegalArgumentException {
+        this(hashIndexThreshold, CollectionFactory.DEFAULT_INSTANCE);
+    }
+
+    /**
+     * Constructor allowing to define hash index threshold and factory creating collections and maps used for
+     * initialization of empty parameters.
+     *
+     * @param hashIndexThreshold size of collection and amount of lookups above which temporary hash index is used. Must
+     *                           not be negative.
+     * @param collectionFactory  factory creating collections and maps used for initialization of empty parameters.
+     * @throws IllegalArgumentException when provided threshold is negative or factory is null.
+     */
+    public DefaultCollectionUtils(int hashIndexThreshold, CollectionFactory collectionFactory)
+            throws IllegalArgumentException {
+        this(hashIndexThreshold, collectionFactory, BulkOperationMonitor.DEFAULT_INSTANCE);
+    }
+
+    /**
+     * Constructor allowing to define hash index threshold, factory creating collections and maps used for
+     * initialization of empty parameters and monitor notified about finished bulk operations.
+     *
+     * @param hashIndexThreshold   size of collection and amount of lookups above which temporary hash index is used.
+     *                             Must not be negative.
+     * @param collectionFactory    factory creating collections and maps used for initialization of empty parameters.
+     * @param bulkOperationMonitor monitor notified about finished bulk operations, for example
+     *                             {@link BulkOperationMonitor#DISABLED}.
+     * @throws IllegalArgumentException when provided threshold is negative or factory or monitor is null.
+     */
+    public DefaultCollectionUtils(int hashIndexThreshold, CollectionFactory collectionFactory,
+                                  BulkOperationMonitor bulkOperationMonitor) throws IllegalArgumentException {
+        if (hashIndexThreshold < 0) {
+            throw new IllegalArgumentException("Hash index threshold must not be negative");
+        }
+        if (collectionFactory == null) {
+            throw new IllegalArgumentException("Collection factory must be provided");
+        }
+        if (bulkOperationMonitor == null) {
+            throw new IllegalArgumentException("Bulk operation monitor must be provided");
+        }
+        this.hashIndexThreshold = hashIndexThreshold;
+        this.collectionFactory = collectionFactory;
+        this.bulkOperationMonitor = bulkOperationMonitor;
+        this.collectionInit = CollectionInit.of(collectionFactory);
+    }
+
+    /**
+     * Provide monitor notified about finished bulk operations.
+     *
+     * @return bulk operation monitor.
+     */
+    public BulkOperationMonitor bulkOperationMonitor() {
+        return bulkOperationMonitor;
+    }
+
+    /**
+     * Provide factory creating collections and maps used for initialization of empty parameters.
+     *
+     * @return collection factory provided in constructor.
+     */
+    @Override
+    public CollectionFactory collectionFactory() {
+        return collectionFactory;
     }
 
     /**
@@ -132,6 +238,7 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
      */
     @Override
     public <T extends Collection<V>, S extends Collection<V>, V> T addAll(T target, Supplier<T> init, S source) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
         T retValue = target;
         if (isNotEmpty(source)) {
             if (retValue == null) {
@@ -141,6 +248,37 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
                 retValue.addAll(source);
             }
         }
+        BulkOperationMonitor.report(measurement, "addAll", retValue, source);
+        return retValue;
+    }
+
+    /**
+     * Add safely values from source collection into destination collection if provided destination is null it is
+     * initialized by sized init function receiving size of source. If provided source is null or empty target without
+     * change is return.
+     *
+     * @param target used as target for adding value.
+     * @param init   function to provide new instance with capacity for provided size in case when provided collection
+     *               is null.
+     * @param source values to be added into collection.
+     * @return original target collection or initialized new collection with added provided values if source was not
+     *         empty, otherwise target collection parameter value without change.
+     */
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> T addAllSized(
+            T target, IntFunction<T> init, S source
+    ) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+        T retValue = target;
+        if (isNotEmpty(source)) {
+            if (retValue == null) {
+                retValue = init.apply(source.size());
+            }
+            if (retValue != null) {
+                retValue.addAll(source);
+            }
+        }
+        BulkOperationMonitor.report(measurement, "addAllSized", retValue, source);
         return retValue;
     }
 
@@ -177,6 +315,7 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
      */
     @Override
     public <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(T target, Supplier<T> init, S source) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
         T retValue = target;
         if (isNotEmpty(source)) {
             if (retValue == null) {
@@ -186,6 +325,34 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
                 retValue.putAll(source);
             }
         }
+        BulkOperationMonitor.report(measurement, "putAll", retValue, source);
+        return retValue;
+    }
+
+    /**
+     * Put safely values from source map into target map and when target map is null new instance is created by provided
+     * sized init function receiving size of source. When source map has no records target parameter is returned without
+     * change.
+     *
+     * @param target map for records provided in values map.
+     * @param init   function to provide new instance with capacity for provided size in case when provided map is null.
+     * @param source map with source data
+     * @return target map or initialized new map with all values from provided values map if it was not empty.
+     *         Otherwise, value of target parameter without change.
+     */
+    @Override
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAllSized(T target, IntFunction<T> init, S source) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+        T retValue = target;
+        if (isNotEmpty(source)) {
+            if (retValue == null) {
+                retValue = init.apply(source.size());
+            }
+            if (retValue != null) {
+                retValue.putAll(source);
+            }
+        }
+        BulkOperationMonitor.report(measurement, "putAllSized", retValue, source);
         return retValue;
     }
 
@@ -235,7 +402,22 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
      */
     @Override
     public <T extends Collection<V>, S extends Collection<V>, V> boolean containsAll(T target, S source) {
-        return target != null && isNotEmpty(source) && target.containsAll(source);
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+        boolean retValue = false;
+        if (target != null && isNotEmpty(source)) {
+            if (SortedMerge.isSameOrder(target, source)
+                    && isMergeBeneficial(source.size(), target.size(), target.size(), source.size())) {
+                // Values of sets sorted by same comparator are distinct, so bigger source can't be part of target.
+                retValue = source.size() <= target.size()
+                        && SortedMerge.containsAll(
+                        target.iterator(), source.iterator(), SortedMerge.comparator(target));
+            } else {
+                // Every source value is looked up in target, linear target is hashed when it pays off.
+                retValue = indexIfNeeded(target, source.size()).containsAll(source);
+            }
+        }
+        BulkOperationMonitor.report(measurement, "containsAll", target, source);
+        return retValue;
     }
 
     /**
@@ -248,22 +430,25 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
      */
     @Override
     public <T extends Map<K, V>, S extends Map<K, V>, K, V> boolean containsAll(T target, S source) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
         boolean retValue = false;
         if (isNotEmpty(source) && isNotEmpty(target)) {
-            retValue = true;
-            for (Map.Entry<K, V> entry : source.entrySet()) {
-                if (target.containsKey(entry.getKey())) {
-                    V value = target.get(entry.getKey());
-                    if (!value.equals(entry.getValue())) {
+            if (SortedMerge.isSameOrder(target, source)
+                    && isMergeBeneficial(source.size(), target.size(), target.size(), source.size())) {
+                // Keys of maps sorted by same comparator are distinct, so bigger source can't be part of target.
+                retValue = source.size() <= target.size() && SortedMerge.containsAllEntries(
+                        target.entrySet().iterator(), source.entrySet().iterator(), SortedMerge.comparator(target));
+            } else {
+                retValue = true;
+                for (Map.Entry<K, V> entry : source.entrySet()) {
+                    if (!containsEntry(target, entry.getKey(), entry.getValue())) {
                         retValue = false;
                         break;
                     }
-                } else {
-                    retValue = false;
-                    break;
                 }
             }
         }
+        BulkOperationMonitor.report(measurement, "containsAll", target, source);
         return retValue;
     }
 
@@ -277,16 +462,25 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
      */
     @Override
     public <T extends Map<K, V>, S extends Set<K>, K, V> boolean containsAll(T target, S source) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
         boolean retValue = false;
         if (isNotEmpty(source) && isNotEmpty(target)) {
-            retValue = true;
-            for (K key : source) {
-                if (!target.containsKey(key)) {
-                    retValue = false;
-                    break;
+            if (SortedMerge.isSameOrder(target, source)
+                    && isMergeBeneficial(source.size(), target.size(), target.size(), source.size())) {
+                // Keys sorted by same comparator are distinct, so bigger source can't be part of target.
+                retValue = source.size() <= target.size() && SortedMerge.containsAll(
+                        target.keySet().iterator(), source.iterator(), SortedMerge.comparator(target));
+            } else {
+                retValue = true;
+                for (K key : source) {
+                    if (!target.containsKey(key)) {
+                        retValue = false;
+                        break;
+                    }
                 }
             }
         }
+        BulkOperationMonitor.report(measurement, "containsAll", target, source);
         return retValue;
     }
 
@@ -326,10 +520,7 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
     public <M extends Map<K, V>, K, V> boolean remove(M map, K key) {
         boolean retValue = false;
         if (isNotEmpty(map)) {
-            if (map.containsKey(key)) {
-                map.remove(key);
-                retValue = true;
-            }
+            retValue = removeKey(map, key);
         }
         return retValue;
     }
@@ -343,10 +534,24 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
      */
     @Override
     public <T extends Collection<V>, S extends Collection<V>, V> boolean removeAll(T target, S source) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
         boolean retValue = false;
         if (isNotEmpty(source) && isNotEmpty(target)) {
-            retValue = target.removeAll(source);
+            int lookups = Math.min(target.size(), source.size());
+            int lookupSize = Math.max(target.size(), source.size());
+            if (SortedMerge.isSameOrder(target, source)
+                    && isMergeBeneficial(lookups, lookupSize, target.size(), source.size())) {
+                retValue = SortedMerge.removeAll(target.iterator(), source.iterator(), SortedMerge.comparator(target));
+            } else {
+                Collection<V> lookup = source;
+                // Set implementation of removeAll iterates source when target is bigger, lookup in source is not used.
+                if (!(target instanceof Set) || target.size() <= source.size()) {
+                    lookup = indexIfNeeded(source, target.size());
+                }
+                retValue = target.removeAll(lookup);
+            }
         }
+        BulkOperationMonitor.report(measurement, "removeAll", target, source);
         return retValue;
     }
 
@@ -359,14 +564,22 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
      */
     @Override
     public <T extends Map<K, V>, S extends Map<K, V>, K, V> boolean removeAll(T target, S source) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
         boolean retValue = false;
         if (isNotEmpty(source) && isNotEmpty(target)) {
-            for (Map.Entry<K, V> entry : source.entrySet()) {
-                if (target.remove(entry.getKey(), entry.getValue())) {
-                    retValue = true;
+            if (SortedMerge.isSameOrder(target, source)
+                    && isMergeBeneficial(source.size(), target.size(), target.size(), source.size())) {
+                retValue = SortedMerge.removeAllEntries(target.entrySet().iterator(), source.entrySet().iterator(),
+                        SortedMerge.comparator(target));
+            } else {
+                for (Map.Entry<K, V> entry : source.entrySet()) {
+                    if (target.remove(entry.getKey(), entry.getValue())) {
+                        retValue = true;
+                    }
                 }
             }
         }
+        BulkOperationMonitor.report(measurement, "removeAll", target, source);
         return retValue;
     }
 
@@ -379,15 +592,25 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
      */
     @Override
     public <T extends Map<K, V>, S extends Set<K>, K, V> boolean removeAll(T target, S source) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
         boolean retValue = false;
         if (isNotEmpty(source) && isNotEmpty(target)) {
-            for (K key : source) {
-                if (target.containsKey(key)) {
-                    target.remove(key);
-                    retValue = true;
+            if (SortedMerge.isSameOrder(target, source)
+                    && isMergeBeneficial(source.size(), target.size(), target.size(), source.size())) {
+                retValue = SortedMerge.removeAll(target.keySet().iterator(), source.iterator(),
+                        SortedMerge.comparator(target));
+            } else {
+                int size = target.size();
+                for (K key : source) {
+                    if (target.remove(key) != null) {
+                        retValue = true;
+                    }
                 }
+                // removal of keys mapped to null is recognized by change of size, concurrent maps have no null values
+                retValue = retValue || !(target instanceof ConcurrentMap) && target.size() != size;
             }
         }
+        BulkOperationMonitor.report(measurement, "removeAll", target, source);
         return retValue;
     }
 
@@ -400,15 +623,135 @@ public class DefaultCollectionUtils implements CollectionAddUtils {
      */
     @Override
     public <T extends Collection<V>, S extends Collection<V>, V> boolean retainAll(T target, S source) {
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
         boolean retValue = false;
         if (isNotEmpty(target) && isNotEmpty(source)) {
-            retValue = target.retainAll(source);
+            if (SortedMerge.isSameOrder(target, source)
+                    && isMergeBeneficial(target.size(), source.size(), target.size(), source.size())) {
+                retValue = SortedMerge.retainAll(target.iterator(), source.iterator(), SortedMerge.comparator(target));
+            } else {
+                retValue = target.retainAll(indexIfNeeded(source, target.size()));
+            }
         }
+        BulkOperationMonitor.report(measurement, "retainAll", target, source);
         return retValue;
     }
 
+    /**
+     * Validate if provided map contains provided key mapped to value equal to provided value. Key is looked up in map
+     * only once, absence of key is recognized by sentinel default value, so null value mapped to key is recognized
+     * without second lookup.
+     *
+     * @param map   map to be validated, must not be null.
+     * @param key   key of validated entry.
+     * @param value value of validated entry, can be null.
+     * @param <K>   type of key.
+     * @param <V>   type of value.
+     * @return true when map contains key mapped to equal value, otherwise false.
+     */
+    @SuppressWarnings("unchecked")
+    protected <K, V> boolean containsEntry(Map<K, V> map, K key, V value) {
+        Object current = ((Map<K, Object>) map).getOrDefault(key, ABSENT);
+        return current != ABSENT && Objects.equals(current, value);
+    }
+
+    /**
+     * Remove provided key from map by single lookup of key. Concurrent maps don't support null values, so removal is
+     * recognized by returned value, for other maps is removal recognized by change of map size, as returned null value
+     * can be value mapped to removed key.
+     *
+     * @param map map to be modified, must not be null.
+     * @param key key to be removed.
+     * @param <K> type of key.
+     * @param <V> type of value.
+     * @return true when key was removed from map, otherwise false.
+     */
+    protected <K, V> boolean removeKey(Map<K, V> map, K key) {
+        boolean retValue;
+        if (map instanceof ConcurrentMap) {
+            retValue = map.remove(key) != null;
+        } else {
+            int size = map.size();
+            retValue = map.remove(key) != null || map.size() != size;
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide collection used for repeated lookup of values. When provided collection is not a set and both its size
+     * and expected amount of lookups exceed hash index threshold, temporary hash index of collection values is created,
+     * to avoid linear search in collection for every lookup. Otherwise, collection is used directly as building of
+     * index costs more than few linear searches.
+     *
+     * @param collection collection used for lookup of values.
+     * @param lookups    expected amount of lookups into collection.
+     * @param <V>        type of value in collection.
+     * @return provided collection or new hash set with all values of collection.
+     */
+    protected <V> Collection<V> indexIfNeeded(Collection<V> collection, int lookups) {
+        Collection<V> retValue = collection;
+        if (!(collection instanceof Set) && collection.size() > hashIndexThreshold && lookups > hashIndexThreshold) {
+            retValue = new HashSet<>(collection);
+        }
+        return retValue;
+    }
+
+    /**
+     * Decide if bulk operation over two collections or maps sorted by same comparator is performed by single linear
+     * merge walk over both inputs instead of lookups one by one in sorted structure. Merge walk is used when
+     * logarithmic lookups cost more than visit of all records in both inputs.
+     *
+     * @param lookups    amount of lookups performed without merge walk.
+     * @param lookupSize size of sorted structure used for lookups.
+     * @param targetSize size of target of operation.
+     * @param sourceSize size of source of operation.
+     * @return true when merge walk should be used.
+     */
+    protected boolean isMergeBeneficial(int lookups, int lookupSize, int targetSize, int sourceSize) {
+        return SortedMerge.isBeneficial(lookups, lookupSize, targetSize, sourceSize);
+    }
+
+    /**
+     * Provide size of collection reported to bulk operation monitor.
+     *
+     * @param collection collection or null.
+     * @return size of collection, 0 for null.
+     */
+    protected static int size(Collection<?> collection) {
+        return collection != null ? collection.size() : 0;
+    }
+
+    /**
+     * Provide size of map reported to bulk operation monitor.
+     *
+     * @param map map or null.
+     * @return size of map, 0 for null.
+     */
+    protected static int size(Map<?, ?> map) {
+        return map != null ? map.size() : 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DefaultCollectionUtils utils = (DefaultCollectionUtils) o;
+        return hashIndexThreshold == utils.hashIndexThreshold
+                && Objects.equals(collectionFactory, utils.collectionFactory)
+                && Objects.equals(bulkOperationMonitor, utils.bulkOperationMonitor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hashIndexThreshold, collectionFactory, bulkOperationMonitor);
+    }
+
     @Override
     public String toString() {
-        return "DefaultCollectionUtils{}";
+        return "DefaultCollectionUtils{" +
+                "hashIndexThreshold=" + hashIndexThreshold +
+                ", collectionFactory=" + collectionFactory +
+                ", bulkOperationMonitor=" + bulkOperationMonitor +
+                '}';
     }
 }
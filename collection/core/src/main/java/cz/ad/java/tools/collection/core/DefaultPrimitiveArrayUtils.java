@@ -0,0 +1,449 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Implement interface for basic operations with arrays of primitive values. Linear scans compare several values per
+ * loop iteration to reduce amount of branches, which allows processor to evaluate comparisons in parallel. Used as
+ * fallback when no implementation using SIMD instructions is provided to service loader of
+ * {@link PrimitiveArrayUtils}.
+ */
+public class DefaultPrimitiveArrayUtils implements PrimitiveArrayUtils {
+    /**
+     * Amount of values compared in single iteration of linear scan.
+     */
+    protected static final int UNROLL = 4;
+
+    /**
+     * Size of array and amount of searched values above which bulk lookups sort copy of array and use binary search, to
+     * perform operation in linearithmic time instead of quadratic.
+     */
+    protected int searchIndexThreshold;
+
+    /**
+     * Default non parametric constructor using default search index threshold.
+     */
+    public DefaultPrimitiveArrayUtils() {
+        this(DEFAULT_SEARCH_INDEX_THRESHOLD);
+    }
+
+    /**
+     * Constructor allowing to define size of array and amount of searched values above which is lookup done by binary
+     * search in sorted copy of array.
+     *
+     * @param searchIndexThreshold size of array and amount of searched values above which sorted copy is used. Must not
+     *                             be negative.
+     * @throws IllegalArgumentException when provided threshold is negative.
+     */
+    public DefaultPrimitiveArrayUtils(int searchIndexThreshold) throws IllegalArgumentException {
+        if (searchIndexThreshold < 0) {
+            throw new IllegalArgumentException("Search index threshold must not be negative");
+        }
+        this.searchIndexThreshold = searchIndexThreshold;
+    }
+
+    /**
+     * Verify if array has no records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array is null or has 0 length, otherwise false.
+     */
+    @Override
+    public boolean isEmpty(int[] array) {
+        return array == null || array.length == 0;
+    }
+
+    /**
+     * Verify if array has records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array has records, otherwise false.
+     */
+    @Override
+    public boolean isNotEmpty(int[] array) {
+        return !isEmpty(array);
+    }
+
+    /**
+     * Validate if provided array contains provided value.
+     *
+     * @param array array to be validated for presence of provided value.
+     * @param value value searched in array for presence.
+     * @return true when value is in array, otherwise false also for null array.
+     */
+    @Override
+    public boolean contains(int[] array, int value) {
+        return indexOf(array, value) >= 0;
+    }
+
+    /**
+     * Locate first position of provided value in array. Array is scanned by blocks of four values compared without
+     * branches between them, position inside of block is resolved after block with match is found.
+     *
+     * @param array array to be searched for provided value.
+     * @param value value searched in array.
+     * @return index of first occurrence of value, or -1 when value is not present or array is null.
+     */
+    @Override
+    public int indexOf(int[] array, int value) {
+        int retValue = -1;
+        if (array != null) {
+            int i = 0;
+            int bound = array.length - (UNROLL - 1);
+            for (; i < bound; i += UNROLL) {
+                if (array[i] == value | array[i + 1] == value
+                        | array[i + 2] == value | array[i + 3] == value) {
+                    break;
+                }
+            }
+            for (; i < array.length; i++) {
+                if (array[i] == value) {
+                    retValue = i;
+                    break;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate safely if provided array contains all provided values. In case when empty or null values are provided it
+     * is considered as false result. When both arrays exceed search index threshold, values are looked up by binary
+     * search in sorted copy of array instead of linear scan for every value.
+     *
+     * @param array  array to be validated if contains all provided values.
+     * @param values values used for validation.
+     * @return true in case when array contains all provided values, otherwise false.
+     */
+    @Override
+    public boolean containsAll(int[] array, int[] values) {
+        boolean retValue = false;
+        if (array != null && isNotEmpty(values)) {
+            retValue = true;
+            if (isIndexBeneficial(array.length, values.length)) {
+                int[] sorted = array.clone();
+                Arrays.sort(sorted);
+                for (int value : values) {
+                    if (Arrays.binarySearch(sorted, value) < 0) {
+                        retValue = false;
+                        break;
+                    }
+                }
+            } else {
+                for (int value : values) {
+                    if (indexOf(array, value) < 0) {
+                        retValue = false;
+                        break;
+                    }
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Count occurrences of provided value in array.
+     *
+     * @param array array where occurrences are counted.
+     * @param value counted value.
+     * @return amount of occurrences of value in array, 0 for null array.
+     */
+    @Override
+    public int count(int[] array, int value) {
+        int retValue = 0;
+        if (array != null) {
+            for (int current : array) {
+                retValue += current == value ? 1 : 0;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Verify if array has no records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array is null or has 0 length, otherwise false.
+     */
+    @Override
+    public boolean isEmpty(long[] array) {
+        return array == null || array.length == 0;
+    }
+
+    /**
+     * Verify if array has records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array has records, otherwise false.
+     */
+    @Override
+    public boolean isNotEmpty(long[] array) {
+        return !isEmpty(array);
+    }
+
+    /**
+     * Validate if provided array contains provided value.
+     *
+     * @param array array to be validated for presence of provided value.
+     * @param value value searched in array for presence.
+     * @return true when value is in array, otherwise false also for null array.
+     */
+    @Override
+    public boolean contains(long[] array, long value) {
+        return indexOf(array, value) >= 0;
+    }
+
+    /**
+     * Locate first position of provided value in array. Array is scanned by blocks of four values compared without
+     * branches between them, position inside of block is resolved after block with match is found.
+     *
+     * @param array array to be searched for provided value.
+     * @param value value searched in array.
+     * @return index of first occurrence of value, or -1 when value is not present or array is null.
+     */
+    @Override
+    public int indexOf(long[] array, long value) {
+        int retValue = -1;
+        if (array != null) {
+            int i = 0;
+            int bound = array.length - (UNROLL - 1);
+            for (; i < bound; i += UNROLL) {
+                if (array[i] == value | array[i + 1] == value
+                        | array[i + 2] == value | array[i + 3] == value) {
+                    break;
+                }
+            }
+            for (; i < array.length; i++) {
+                if (array[i] == value) {
+                    retValue = i;
+                    break;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate safely if provided array contains all provided values. In case when empty or null values are provided it
+     * is considered as false result. When both arrays exceed search index threshold, values are looked up by binary
+     * search in sorted copy of array instead of linear scan for every value.
+     *
+     * @param array  array to be validated if contains all provided values.
+     * @param values values used for validation.
+     * @return true in case when array contains all provided values, otherwise false.
+     */
+    @Override
+    public boolean containsAll(long[] array, long[] values) {
+        boolean retValue = false;
+        if (array != null && isNotEmpty(values)) {
+            retValue = true;
+            if (isIndexBeneficial(array.length, values.length)) {
+                long[] sorted = array.clone();
+                Arrays.sort(sorted);
+                for (long value : values) {
+                    if (Arrays.binarySearch(sorted, value) < 0) {
+                        retValue = false;
+                        break;
+                    }
+                }
+            } else {
+                for (long value : values) {
+                    if (indexOf(array, value) < 0) {
+                        retValue = false;
+                        break;
+                    }
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Count occurrences of provided value in array.
+     *
+     * @param array array where occurrences are counted.
+     * @param value counted value.
+     * @return amount of occurrences of value in array, 0 for null array.
+     */
+    @Override
+    public int count(long[] array, long value) {
+        int retValue = 0;
+        if (array != null) {
+            for (long current : array) {
+                retValue += current == value ? 1 : 0;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Verify if array has no records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array is null or has 0 length, otherwise false.
+     */
+    @Override
+    public boolean isEmpty(double[] array) {
+        return array == null || array.length == 0;
+    }
+
+    /**
+     * Verify if array has records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array has records, otherwise false.
+     */
+    @Override
+    public boolean isNotEmpty(double[] array) {
+        return !isEmpty(array);
+    }
+
+    /**
+     * Validate if provided array contains provided value.
+     *
+     * @param array array to be validated for presence of provided value.
+     * @param value value searched in array for presence.
+     * @return true when value is in array, otherwise false also for null array.
+     */
+    @Override
+    public boolean contains(double[] array, double value) {
+        return indexOf(array, value) >= 0;
+    }
+
+    /**
+     * Locate first position of provided value in array. Array is scanned by blocks of four values compared without
+     * branches between them, position inside of block is resolved after block with match is found.
+     *
+     * @param array array to be searched for provided value.
+     * @param value value searched in array.
+     * @return index of first occurrence of value, or -1 when value is not present or array is null.
+     */
+    @Override
+    public int indexOf(double[] array, double value) {
+        int retValue = -1;
+        if (array != null) {
+            long bits = Double.doubleToLongBits(value);
+            int i = 0;
+            int bound = array.length - (UNROLL - 1);
+            for (; i < bound; i += UNROLL) {
+                if (Double.doubleToLongBits(array[i]) == bits
+                        | Double.doubleToLongBits(array[i + 1]) == bits
+                        | Double.doubleToLongBits(array[i + 2]) == bits
+                        | Double.doubleToLongBits(array[i + 3]) == bits) {
+                    break;
+                }
+            }
+            for (; i < array.length; i++) {
+                if (Double.doubleToLongBits(array[i]) == bits) {
+                    retValue = i;
+                    break;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate safely if provided array contains all provided values. In case when empty or null values are provided it
+     * is considered as false result. When both arrays exceed search index threshold, values are looked up by binary
+     * search in sorted copy of array instead of linear scan for every value.
+     *
+     * @param array  array to be validated if contains all provided values.
+     * @param values values used for validation.
+     * @return true in case when array contains all provided values, otherwise false.
+     */
+    @Override
+    public boolean containsAll(double[] array, double[] values) {
+        boolean retValue = false;
+        if (array != null && isNotEmpty(values)) {
+            retValue = true;
+            if (isIndexBeneficial(array.length, values.length)) {
+                double[] sorted = array.clone();
+                Arrays.sort(sorted);
+                for (double value : values) {
+                    if (Arrays.binarySearch(sorted, value) < 0) {
+                        retValue = false;
+                        break;
+                    }
+                }
+            } else {
+                for (double value : values) {
+                    if (indexOf(array, value) < 0) {
+                        retValue = false;
+                        break;
+                    }
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Count occurrences of provided value in array.
+     *
+     * @param array array where occurrences are counted.
+     * @param value counted value.
+     * @return amount of occurrences of value in array, 0 for null array.
+     */
+    @Override
+    public int count(double[] array, double value) {
+        int retValue = 0;
+        if (array != null) {
+            long bits = Double.doubleToLongBits(value);
+            for (double current : array) {
+                retValue += Double.doubleToLongBits(current) == bits ? 1 : 0;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Decide if searched values are looked up by binary search in sorted copy of array instead of linear scan.
+     *
+     * @param length  length of searched array.
+     * @param lookups amount of searched values.
+     * @return true when sorted copy of array should be used.
+     */
+    protected boolean isIndexBeneficial(int length, int lookups) {
+        return length > searchIndexThreshold && lookups > searchIndexThreshold;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DefaultPrimitiveArrayUtils utils = (DefaultPrimitiveArrayUtils) o;
+        return searchIndexThreshold == utils.searchIndexThreshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(searchIndexThreshold);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultPrimitiveArrayUtils{" +
+                "searchIndexThreshold=" + searchIndexThreshold +
+                '}';
+    }
+}
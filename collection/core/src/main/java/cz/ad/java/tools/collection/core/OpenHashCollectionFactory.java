@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collection factory creating {@link OpenHashSet} and {@link OpenHashMap} instances, which store records in flat arrays
+ * without node object per record, and {@link ArrayList} instances for lists. Factory can be registered as service
+ * provider of {@link CollectionFactory} or provided to constructor of {@link DefaultCollectionUtils}.
+ */
+public class OpenHashCollectionFactory implements CollectionFactory {
+
+    /**
+     * Default non parametric constructor, required by service loader when factory is registered as provider.
+     */
+    public OpenHashCollectionFactory() {
+    }
+
+    /**
+     * Create new empty array list.
+     *
+     * @return new empty array list.
+     */
+    @Override
+    public <V> List<V> newList() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Create new empty array list with capacity for expected amount of values.
+     *
+     * @param expectedSize amount of values expected to be stored in list.
+     * @return new empty array list.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    @Override
+    public <V> List<V> newList(int expectedSize) throws IllegalArgumentException {
+        return new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Create new empty open addressing hash set.
+     *
+     * @return new empty open addressing hash set.
+     */
+    @Override
+    public <V> Set<V> newSet() {
+        return new OpenHashSet<>();
+    }
+
+    /**
+     * Create new empty open addressing hash set able to store expected amount of values without resizing.
+     *
+     * @param expectedSize amount of values expected to be stored in set.
+     * @return new empty open addressing hash set.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    @Override
+    public <V> Set<V> newSet(int expectedSize) throws IllegalArgumentException {
+        return new OpenHashSet<>(expectedSize);
+    }
+
+    /**
+     * Create new empty open addressing hash map.
+     *
+     * @return new empty open addressing hash map.
+     */
+    @Override
+    public <K, V> Map<K, V> newMap() {
+        return new OpenHashMap<>();
+    }
+
+    /**
+     * Create new empty open addressing hash map able to store expected amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries expected to be stored in map.
+     * @return new empty open addressing hash map.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    @Override
+    public <K, V> Map<K, V> newMap(int expectedSize) throws IllegalArgumentException {
+        return new OpenHashMap<>(expectedSize);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o != null && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "OpenHashCollectionFactory{}";
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Hash map storing keys and values directly in flat arrays with open addressing and linear probing, so no node object
+ * is allocated per entry as by {@link java.util.HashMap}. Map permits null key and null values, it is not synchronized
+ * and iterators of its views are fail-fast. Entries provided by entry set iterator are created on demand and write
+ * value changes through to map. Constructors without parameters and with expected size make map usable as init
+ * supplier or sized init function of {@link CollectionUtils}, for example {@code OpenHashMap::new}.
+ *
+ * @param <K> type of key in map.
+ * @param <V> type of value in map.
+ */
+public class OpenHashMap<K, V> extends AbstractMap<K, V> {
+    /**
+     * Default load factor of map.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = OpenHashTable.DEFAULT_LOAD_FACTOR;
+
+    /**
+     * Table storing entries of map.
+     */
+    private final OpenHashTable table;
+    /**
+     * Lazily created view of keys.
+     */
+    private Set<K> keySet;
+    /**
+     * Lazily created view of entries.
+     */
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Create new empty map with default expected size and load factor.
+     */
+    public OpenHashMap() {
+        this(OpenHashTable.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Create new empty map able to store expected amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries stored without resizing.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public OpenHashMap(int expectedSize) throws IllegalArgumentException {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Create new empty map able to store expected amount of entries without resizing using provided load factor.
+     *
+     * @param expectedSize amount of entries stored without resizing.
+     * @param loadFactor   maximal ratio of stored entries to length of table, must be greater than 0 and lower than 1.
+     * @throws IllegalArgumentException when expected size is negative or load factor is out of range.
+     */
+    public OpenHashMap(int expectedSize, float loadFactor) throws IllegalArgumentException {
+        table = new OpenHashTable(expectedSize, loadFactor, true);
+    }
+
+    /**
+     * Create new map with all entries of provided map.
+     *
+     * @param source entries to be put into map.
+     * @throws NullPointerException when source is null.
+     */
+    public OpenHashMap(Map<? extends K, ? extends V> source) {
+        this(source.size());
+        for (Map.Entry<? extends K, ? extends V> entry : source.entrySet()) {
+            insert(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public int size() {
+        return table.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return table.indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        boolean retValue = false;
+        Object[] keys = table.keys;
+        Object[] values = table.values;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && Objects.equals(values[i], value)) {
+                retValue = true;
+                break;
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int pos = table.indexOf(key);
+        return pos >= 0 ? (V) table.values[pos] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        int pos = table.indexOf(key);
+        return pos >= 0 ? (V) table.values[pos] : defaultValue;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return insert(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        table.ensureCapacity(table.size + m.size());
+        super.putAll(m);
+    }
+
+    /**
+     * Put value connected to key into table, used by overridable {@link #put(Object, Object)} and by constructor, which
+     * must not call overridable methods.
+     *
+     * @param key   key connected to value.
+     * @param value value stored in map.
+     * @return previous value connected to key or null when key was not present.
+     */
+    @SuppressWarnings("unchecked")
+    private V insert(K key, V value) {
+        Object masked = OpenHashTable.maskNull(key);
+        int pos = table.slot(masked);
+        V retValue = null;
+        if (table.keys[pos] == null) {
+            table.insert(pos, masked, value);
+        } else {
+            retValue = (V) table.values[pos];
+            table.values[pos] = value;
+        }
+        return retValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Object masked = OpenHashTable.maskNull(key);
+        int pos = table.slot(masked);
+        V retValue = table.keys[pos] != null ? (V) table.values[pos] : null;
+        if (retValue == null) {
+            int modCount = table.modCount;
+            retValue = mappingFunction.apply(key);
+            if (modCount != table.modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (retValue != null) {
+                if (table.keys[pos] == null) {
+                    table.insert(pos, masked, retValue);
+                } else {
+                    table.values[pos] = retValue;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public V remove(Object key) {
+        int pos = table.indexOf(key);
+        return pos >= 0 ? castValue(table.removeAt(pos, null)) : null;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        int pos = table.indexOf(key);
+        boolean retValue = pos >= 0 && Objects.equals(table.values[pos], value);
+        if (retValue) {
+            table.removeAt(pos, null);
+        }
+        return retValue;
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int modCount = table.modCount;
+        Object[] keys = table.keys;
+        Object[] values = table.values;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept((K) OpenHashTable.unmaskNull(keys[i]), (V) values[i]);
+            }
+        }
+        if (modCount != table.modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> retValue = keySet;
+        if (retValue == null) {
+            retValue = new KeySet();
+            keySet = retValue;
+        }
+        return retValue;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> retValue = entrySet;
+        if (retValue == null) {
+            retValue = new EntrySet();
+            entrySet = retValue;
+        }
+        return retValue;
+    }
+
+    /**
+     * Cast value stored in table to type of map value.
+     *
+     * @param value value stored in table.
+     * @return value of map.
+     */
+    @SuppressWarnings("unchecked")
+    private V castValue(Object value) {
+        return (V) value;
+    }
+
+    /**
+     * View of map keys backed by map table.
+     */
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public int size() {
+            return table.size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int pos = table.indexOf(o);
+            boolean retValue = pos >= 0;
+            if (retValue) {
+                table.removeAt(pos, null);
+            }
+            return retValue;
+        }
+
+        @Override
+        public void clear() {
+            table.clear();
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return new OpenHashTable.TableIterator<K>(table) {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected K element(Object key, Object value) {
+                    return (K) OpenHashTable.unmaskNull(key);
+                }
+            };
+        }
+    }
+
+    /**
+     * View of map entries backed by map table.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return table.size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            boolean retValue = false;
+            if (o instanceof Map.Entry) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                int pos = table.indexOf(entry.getKey());
+                retValue = pos >= 0 && Objects.equals(table.values[pos], entry.getValue());
+            }
+            return retValue;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            boolean retValue = false;
+            if (o instanceof Map.Entry) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                retValue = OpenHashMap.this.remove(entry.getKey(), entry.getValue());
+            }
+            return retValue;
+        }
+
+        @Override
+        public void clear() {
+            table.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new OpenHashTable.TableIterator<Map.Entry<K, V>>(table) {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected Map.Entry<K, V> element(Object key, Object value) {
+                    return new TableEntry((K) OpenHashTable.unmaskNull(key), (V) value);
+                }
+            };
+        }
+    }
+
+    /**
+     * Entry provided by entry set iterator writing value changes through to map.
+     */
+    private final class TableEntry extends SimpleEntry<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private TableEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            int pos = table.indexOf(getKey());
+            if (pos < 0) {
+                throw new IllegalStateException("Entry was removed from map");
+            }
+            table.values[pos] = value;
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Hash set storing values directly in flat array with open addressing and linear probing, so no node object is
+ * allocated per value as by {@link java.util.HashSet}. Set permits null value, it is not synchronized and its iterator
+ * is fail-fast. Constructors without parameters and with expected size make set usable as init supplier or sized init
+ * function of {@link CollectionUtils}, for example {@code OpenHashSet::new}.
+ *
+ * @param <E> type of value in set.
+ */
+public class OpenHashSet<E> extends AbstractSet<E> {
+    /**
+     * Default load factor of set.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = OpenHashTable.DEFAULT_LOAD_FACTOR;
+
+    /**
+     * Table storing values of set.
+     */
+    private final OpenHashTable table;
+
+    /**
+     * Create new empty set with default expected size and load factor.
+     */
+    public OpenHashSet() {
+        this(OpenHashTable.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Create new empty set able to store expected amount of values without resizing.
+     *
+     * @param expectedSize amount of values stored without resizing.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public OpenHashSet(int expectedSize) throws IllegalArgumentException {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Create new empty set able to store expected amount of values without resizing using provided load factor.
+     *
+     * @param expectedSize amount of values stored without resizing.
+     * @param loadFactor   maximal ratio of stored values to length of table, must be greater than 0 and lower than 1.
+     * @throws IllegalArgumentException when expected size is negative or load factor is out of range.
+     */
+    public OpenHashSet(int expectedSize, float loadFactor) throws IllegalArgumentException {
+        table = new OpenHashTable(expectedSize, loadFactor, false);
+    }
+
+    /**
+     * Create new set with all values of provided collection.
+     *
+     * @param source values to be added into set.
+     * @throws NullPointerException when source is null.
+     */
+    public OpenHashSet(Collection<? extends E> source) {
+        this(source.size());
+        for (E value : source) {
+            insert(value);
+        }
+    }
+
+    @Override
+    public int size() {
+        return table.size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return table.indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean add(E e) {
+        return insert(e);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        table.ensureCapacity(table.size + c.size());
+        return super.addAll(c);
+    }
+
+    /**
+     * Add value into table, used by overridable {@link #add(Object)} and by constructor, which must not call
+     * overridable methods.
+     *
+     * @param value value to be added.
+     * @return true when value was not present in set.
+     */
+    private boolean insert(E value) {
+        Object masked = OpenHashTable.maskNull(value);
+        int pos = table.slot(masked);
+        boolean retValue = table.keys[pos] == null;
+        if (retValue) {
+            table.insert(pos, masked, null);
+        }
+        return retValue;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int pos = table.indexOf(o);
+        boolean retValue = pos >= 0;
+        if (retValue) {
+            table.removeAt(pos, null);
+        }
+        return retValue;
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new OpenHashTable.TableIterator<E>(table) {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected E element(Object key, Object value) {
+                return (E) OpenHashTable.unmaskNull(key);
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        int modCount = table.modCount;
+        Object[] keys = table.keys;
+        for (Object key : keys) {
+            if (key != null) {
+                action.accept((E) OpenHashTable.unmaskNull(key));
+            }
+        }
+        if (modCount != table.modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
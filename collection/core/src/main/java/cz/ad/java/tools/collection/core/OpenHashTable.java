@@ -0,0 +1,443 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Hash table with open addressing and linear probing shared by {@link OpenHashSet} and {@link OpenHashMap}. Keys are
+ * stored directly in flat array, values of map are stored in parallel array at same position, so no object is
+ * allocated per entry. Empty slot is represented by null, null key is stored as {@link #NULL_KEY} sentinel. Removal
+ * shifts following entries of probe sequence backward, so table never contains deleted markers and lookups of missing
+ * keys stop at first empty slot.
+ */
+final class OpenHashTable {
+    /**
+     * Default load factor of table.
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /**
+     * Default amount of entries stored without resizing of table.
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 12;
+    /**
+     * Sentinel stored in table instead of null key.
+     */
+    static final Object NULL_KEY = new Object();
+    /**
+     * Maximal length of table array.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * Maximal ratio of stored entries to length of table.
+     */
+    final float loadFactor;
+    /**
+     * Keys stored in table, null for empty slot.
+     */
+    Object[] keys;
+    /**
+     * Values stored at same positions as keys, null for tables without values.
+     */
+    Object[] values;
+    /**
+     * Amount of stored entries.
+     */
+    int size;
+    /**
+     * Amount of structural modifications used to detect concurrent modification by iterators.
+     */
+    int modCount;
+    /**
+     * Mask of hash code providing position in table.
+     */
+    private int mask;
+    /**
+     * Amount of entries after which is table resized.
+     */
+    private int threshold;
+
+    /**
+     * Create new empty table.
+     *
+     * @param expectedSize amount of entries stored without resizing of table.
+     * @param loadFactor   maximal ratio of stored entries to length of table, must be greater than 0 and lower than 1.
+     * @param withValues   true to store values together with keys.
+     * @throws IllegalArgumentException when expected size is negative or load factor is out of range.
+     */
+    OpenHashTable(int expectedSize, float loadFactor, boolean withValues) throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be greater than 0 and lower than 1: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        int capacity = capacity(expectedSize);
+        keys = new Object[capacity];
+        values = withValues ? new Object[capacity] : null;
+        setCapacity(capacity);
+    }
+
+    /**
+     * Replace null key by sentinel stored in table.
+     *
+     * @param key key provided by caller.
+     * @return key stored in table.
+     */
+    static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    /**
+     * Replace sentinel stored in table by null key.
+     *
+     * @param key key stored in table.
+     * @return key provided to caller.
+     */
+    static Object unmaskNull(Object key) {
+        return key == NULL_KEY ? null : key;
+    }
+
+    /**
+     * Spread bits of hash code, so keys with hash codes differing only in upper bits don't form long clusters.
+     *
+     * @param key masked key.
+     * @return mixed hash code.
+     */
+    private static int mix(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Locate position of provided key in table.
+     *
+     * @param key key provided by caller, can be null.
+     * @return position of key or -1 when key is not stored in table.
+     */
+    int indexOf(Object key) {
+        Object masked = maskNull(key);
+        int pos = mix(masked) & mask;
+        int retValue = -1;
+        for (Object current = keys[pos]; current != null; current = keys[pos]) {
+            if (current == masked || current.equals(masked)) {
+                retValue = pos;
+                break;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return retValue;
+    }
+
+    /**
+     * Locate position of provided key in table or position of empty slot where key should be inserted.
+     *
+     * @param masked masked key.
+     * @return position of key or of empty slot.
+     */
+    int slot(Object masked) {
+        int pos = mix(masked) & mask;
+        for (Object current = keys[pos]; current != null; current = keys[pos]) {
+            if (current == masked || current.equals(masked)) {
+                break;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return pos;
+    }
+
+    /**
+     * Store key and value into empty slot located by {@link #slot(Object)} and resize table when needed.
+     *
+     * @param pos    position of empty slot.
+     * @param masked masked key.
+     * @param value  value stored with key, ignored by tables without values.
+     * @throws IllegalStateException when table can't be resized anymore.
+     */
+    void insert(int pos, Object masked, Object value) throws IllegalStateException {
+        keys[pos] = masked;
+        if (values != null) {
+            values[pos] = value;
+        }
+        modCount++;
+        if (++size > threshold) {
+            if (keys.length == MAXIMUM_CAPACITY) {
+                keys[pos] = null;
+                if (values != null) {
+                    values[pos] = null;
+                }
+                size--;
+                throw new IllegalStateException("Table reached maximal capacity");
+            }
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Make sure table can store provided amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries expected to be stored.
+     */
+    void ensureCapacity(int expectedSize) {
+        int capacity = capacity(expectedSize);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    /**
+     * Remove entry at provided position and shift following entries of probe sequence backward.
+     *
+     * @param pos      position of removed entry.
+     * @param iterator iterator removing entry notified about entries moved from not visited part of table to visited
+     *                 one, null when removal is not done by iterator.
+     * @return value removed from table, null for tables without values.
+     */
+    Object removeAt(int pos, TableIterator<?> iterator) {
+        Object retValue = values != null ? values[pos] : null;
+        size--;
+        modCount++;
+        int last = pos;
+        int current = pos;
+        while (true) {
+            current = (current + 1) & mask;
+            Object key = keys[current];
+            if (key == null) {
+                break;
+            }
+            int home = mix(key) & mask;
+            // entry can move to last empty slot only when its home position is not between last and current position
+            boolean movable = last <= current ? home <= last || home > current : home <= last && home > current;
+            if (movable) {
+                if (iterator != null && current < last) {
+                    iterator.wrapped(key, values != null ? values[current] : null);
+                }
+                keys[last] = key;
+                if (values != null) {
+                    values[last] = values[current];
+                }
+                last = current;
+            }
+        }
+        keys[last] = null;
+        if (values != null) {
+            values[last] = null;
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all entries from table keeping its capacity.
+     */
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            if (values != null) {
+                Arrays.fill(values, null);
+            }
+            size = 0;
+            modCount++;
+        }
+    }
+
+    /**
+     * Calculate length of table array able to store provided amount of entries.
+     *
+     * @param expectedSize amount of entries to be stored.
+     * @return power of two length of table.
+     */
+    private int capacity(int expectedSize) {
+        long required = Math.max(2L, (long) Math.ceil(expectedSize / (double) loadFactor));
+        int retValue = MAXIMUM_CAPACITY;
+        if (required < MAXIMUM_CAPACITY) {
+            retValue = Integer.highestOneBit((int) required - 1) << 1;
+        }
+        return retValue;
+    }
+
+    /**
+     * Update mask and threshold for provided length of table array.
+     *
+     * @param capacity length of table array.
+     */
+    private void setCapacity(int capacity) {
+        mask = capacity - 1;
+        threshold = Math.min(capacity - 1, (int) (capacity * (double) loadFactor));
+    }
+
+    /**
+     * Move all entries into new table arrays of provided length.
+     *
+     * @param capacity length of new table arrays.
+     */
+    private void rehash(int capacity) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new Object[capacity];
+        values = oldValues != null ? new Object[capacity] : null;
+        setCapacity(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null) {
+                int pos = mix(key) & mask;
+                while (keys[pos] != null) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = key;
+                if (values != null) {
+                    values[pos] = oldValues[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterator over entries of table visiting positions from the end of table to its beginning. Removal by iterator
+     * shifts entries backward, entries moved from beginning of table, which was not visited yet, into already visited
+     * end of table are remembered and visited after all positions.
+     *
+     * @param <T> type of provided elements.
+     */
+    abstract static class TableIterator<T> implements Iterator<T> {
+        /**
+         * Iterated table.
+         */
+        private final OpenHashTable table;
+        /**
+         * Position of last visited slot.
+         */
+        private int pos;
+        /**
+         * Position of last provided entry, -1 when there is no entry to remove, -2 for entry from wrapped entries.
+         */
+        private int last = -1;
+        /**
+         * Amount of entries not provided yet.
+         */
+        private int remaining;
+        /**
+         * Amount of modifications of table expected by iterator.
+         */
+        private int expectedModCount;
+        /**
+         * Keys moved from not visited part of table to visited one.
+         */
+        private List<Object> wrappedKeys;
+        /**
+         * Values moved from not visited part of table to visited one.
+         */
+        private List<Object> wrappedValues;
+        /**
+         * Masked key of last provided entry from wrapped entries.
+         */
+        private Object lastWrapped;
+
+        /**
+         * Create new iterator over provided table.
+         *
+         * @param table iterated table.
+         */
+        TableIterator(OpenHashTable table) {
+            this.table = table;
+            this.pos = table.keys.length;
+            this.remaining = table.size;
+            this.expectedModCount = table.modCount;
+        }
+
+        /**
+         * Provide element of iterator for entry.
+         *
+         * @param key   masked key of entry.
+         * @param value value of entry, null for tables without values.
+         * @return element provided by iterator.
+         */
+        protected abstract T element(Object key, Object value);
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (table.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            T retValue = null;
+            Object[] keys = table.keys;
+            while (--pos >= 0) {
+                if (keys[pos] != null) {
+                    last = pos;
+                    retValue = element(keys[pos], table.values != null ? table.values[pos] : null);
+                    break;
+                }
+            }
+            if (pos < 0) {
+                int index = wrappedKeys.size() - 1;
+                last = -2;
+                lastWrapped = wrappedKeys.remove(index);
+                retValue = element(lastWrapped, wrappedValues.remove(index));
+            }
+            return retValue;
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            if (table.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (last >= 0) {
+                table.removeAt(last, this);
+            } else {
+                table.removeAt(table.indexOf(unmaskNull(lastWrapped)), null);
+            }
+            last = -1;
+            expectedModCount = table.modCount;
+        }
+
+        /**
+         * Remember entry moved by removal from not visited part of table to visited one.
+         *
+         * @param key   masked key of moved entry.
+         * @param value value of moved entry.
+         */
+        private void wrapped(Object key, Object value) {
+            if (wrappedKeys == null) {
+                wrappedKeys = new ArrayList<>(2);
+                wrappedValues = new ArrayList<>(2);
+            }
+            wrappedKeys.add(key);
+            wrappedValues.add(value);
+        }
+    }
+}
@@ -0,0 +1,555 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of collection utils splitting bulk operations over big inputs into fork/join tasks. Operations with
+ * input smaller than parallel threshold and operations over inputs sorted by same comparator are processed
+ * sequentially by {@link DefaultCollectionUtils}.
+ * <p>
+ * Concurrent targets like {@link ConcurrentHashMap}, its key set view or {@link ConcurrentSkipListSet} are modified by
+ * parallel tasks directly. Other targets are only read by parallel tasks, which evaluate records to be removed, and
+ * removal itself is applied sequentially by calling thread. Inputs must not be modified by other threads during
+ * operation and lookups into them must not change their state, so access ordered LinkedHashMap or WeakHashMap are not
+ * supported as lookup structure.
+ */
+public class ParallelCollectionUtils extends DefaultCollectionUtils {
+    /**
+     * Default minimal amount of records processed by operation to split it into parallel tasks.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+    /**
+     * Minimal amount of records processed by single task, smaller ranges are not split anymore.
+     */
+    protected static final int MINIMAL_TASK_SIZE = 1 << 10;
+
+    /**
+     * Pool executing parallel tasks.
+     */
+    protected ForkJoinPool pool;
+    /**
+     * Minimal amount of records processed by operation to split it into parallel tasks.
+     */
+    protected int parallelThreshold;
+
+    /**
+     * Default non parametric constructor using common fork/join pool and default thresholds.
+     */
+    public ParallelCollectionUtils() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Constructor allowing to define pool executing parallel tasks and parallel threshold, default hash index threshold
+     * is used.
+     *
+     * @param pool              pool executing parallel tasks.
+     * @param parallelThreshold minimal amount of records processed by operation to split it into parallel tasks. Must
+     *                          be positive.
+     * @throws IllegalArgumentException when pool is null or threshold is not positive.
+     */
+    public ParallelCollectionUtils(ForkJoinPool pool, int parallelThreshold) throws IllegalArgumentException {
+        this(pool, parallelThreshold, DEFAULT_HASH_INDEX_THRESHOLD);
+    }
+
+    /**
+     * Constructor allowing to define pool executing parallel tasks, parallel threshold and hash index threshold.
+     *
+     * @param pool               pool executing parallel tasks.
+     * @param parallelThreshold  minimal amount of records processed by operation to split it into parallel tasks. Must
+     *                           be positive.
+     * @param hashIndexThreshold size of collection and amount of lookups above which temporary hash index is used. Must
+     *                           not be negative.
+     * @throws IllegalArgumentException when pool is null or any threshold is out of range.
+     */
+    public ParallelCollectionUtils(ForkJoinPool pool, int parallelThreshold, int hashIndexThreshold)
+            throws IllegalArgumentException {
+        this(pool, parallelThreshold, hashIndexThreshold, CollectionFactory.DEFAULT_INSTANCE);
+    }
+
+    /**
+     * Constructor allowing to define pool executing parallel tasks, parallel threshold, hash index threshold and
+     * factory creating collections and maps used for initialization of empty parameters.
+     *
+     * @param pool               pool executing parallel tasks.
+     * @param parallelThreshold  minimal amount of records processed by operation to split it into parallel tasks. Must
+     *                           be positive.
+     * @param hashIndexThreshold size of collection and amount of lookups above which temporary hash index is used. Must
+     *                           not be negative.
+     * @param collectionFactory  factory creating collections and maps used for initialization of empty parameters.
+     * @throws IllegalArgumentException when pool or factory is null or any threshold is out of range.
+     */
+    public ParallelCollectionUtils(ForkJoinPool pool, int parallelThreshold, int hashIndexThreshold,
+                                   CollectionFactory collectionFactory) throws IllegalArgumentException {
+        this(pool, parallelThreshold, hashIndexThreshold, collectionFactory, BulkOperationMonitor.DEFAULT_INSTANCE);
+    }
+
+    /**
+     * Constructor allowing to define pool executing parallel tasks, parallel threshold, hash index threshold, factory
+     * creating collections and maps used for initialization of empty parameters and monitor notified about finished
+     * bulk operations, including operations processed by parallel tasks.
+     *
+     * @param pool                 pool executing parallel tasks.
+     * @param parallelThreshold    minimal amount of records processed by operation to split it into parallel tasks.
+     *                             Must be positive.
+     * @param hashIndexThreshold   size of collection and amount of lookups above which temporary hash index is used.
+     *                             Must not be negative.
+     * @param collectionFactory    factory creating collections and maps used for initialization of empty parameters.
+     * @param bulkOperationMonitor monitor notified about finished bulk operations, for example
+     *                             {@link BulkOperationMonitor#DISABLED}.
+     * @throws IllegalArgumentException when pool, factory or monitor is null or any threshold is out of range.
+     */
+    public ParallelCollectionUtils(ForkJoinPool pool, int parallelThreshold, int hashIndexThreshold,
+                                   CollectionFactory collectionFactory, BulkOperationMonitor bulkOperationMonitor)
+            throws IllegalArgumentException {
+        super(hashIndexThreshold, collectionFactory, bulkOperationMonitor);
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork/join pool must be provided");
+        }
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive");
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Validate safely if provided target contains all provided values. Lookups of source values are split into
+     * parallel tasks when source reach parallel threshold.
+     *
+     * @param target collection to be validated if contains all provided records.
+     * @param source collection with values used for validation.
+     * @return true in case when target contains all values provided in source, otherwise false.
+     */
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> boolean containsAll(T target, S source) {
+        boolean retValue;
+        if (target != null && isParallel(source) && !SortedMerge.isSameOrder(target, source)) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+            Collection<V> lookup = indexIfNeeded(target, source.size());
+            retValue = allMatch(source.toArray(), lookup::contains);
+            BulkOperationMonitor.report(measurement, "containsAll", target, source);
+        } else {
+            retValue = super.containsAll(target, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate safely if provided target contains all provided entries. Lookups of source entries are split into
+     * parallel tasks when source reach parallel threshold.
+     *
+     * @param target map to be validated if it contains all same entries provided in source.
+     * @param source map of map entries for validation.
+     * @return true in case when target contains all same key value pairs, otherwise false.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> boolean containsAll(T target, S source) {
+        boolean retValue;
+        if (isNotEmpty(target) && isParallel(source) && !SortedMerge.isSameOrder(target, source)) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+            retValue = allMatch(source.entrySet().toArray(),
+                    entry -> containsEntry(target, ((Map.Entry<K, V>) entry).getKey(),
+                            ((Map.Entry<K, V>) entry).getValue()));
+            BulkOperationMonitor.report(measurement, "containsAll", target, source);
+        } else {
+            retValue = super.containsAll(target, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate safely if provided target contains all provided keys. Lookups of source keys are split into parallel
+     * tasks when source reach parallel threshold.
+     *
+     * @param target map to be validated if it contains all keys provided in source.
+     * @param source set of key value for validation.
+     * @return true in case when target contains all keys, otherwise false.
+     */
+    @Override
+    public <T extends Map<K, V>, S extends Set<K>, K, V> boolean containsAll(T target, S source) {
+        boolean retValue;
+        if (isNotEmpty(target) && isParallel(source) && !SortedMerge.isSameOrder(target, source)) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+            retValue = allMatch(source.toArray(), target::containsKey);
+            BulkOperationMonitor.report(measurement, "containsAll", target, source);
+        } else {
+            retValue = super.containsAll(target, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all matching records from collection contained in values collection. Concurrent target is modified by
+     * parallel tasks when source reach parallel threshold. Other targets reaching parallel threshold are evaluated by
+     * parallel tasks and matching records are removed sequentially.
+     *
+     * @param target collection where values should be removed.
+     * @param source values to be removed from collection.
+     * @return true in case when collection is modified by provided values, otherwise false.
+     */
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> boolean removeAll(T target, S source) {
+        boolean retValue;
+        if (isEmpty(target) || isEmpty(source) || SortedMerge.isSameOrder(target, source)) {
+            retValue = super.removeAll(target, source);
+        } else if (isConcurrent(target) && isParallel(source)) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+            retValue = anyMatch(source.toArray(), target::remove);
+            BulkOperationMonitor.report(measurement, "removeAll", target, source);
+        } else if (!isConcurrent(target) && isParallel(target)
+                && (!(target instanceof Set) || target.size() <= source.size())) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+            Collection<V> lookup = indexIfNeeded(source, target.size());
+            retValue = removeMatching(target, lookup::contains);
+            BulkOperationMonitor.report(measurement, "removeAll", target, source);
+        } else {
+            retValue = super.removeAll(target, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all matching entries from target map located in source map. Concurrent target is modified by parallel
+     * tasks when source reach parallel threshold. For other targets are source entries reaching parallel threshold
+     * evaluated by parallel tasks and matching entries are removed sequentially.
+     *
+     * @param target for modification by removal.
+     * @param source map with key pairs to be removed from map.
+     * @return true when map is modified by removal, otherwise false.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> boolean removeAll(T target, S source) {
+        boolean retValue;
+        if (isNotEmpty(target) && isParallel(source) && !SortedMerge.isSameOrder(target, source)) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+            Object[] entries = source.entrySet().toArray();
+            if (isConcurrent(target)) {
+                retValue = anyMatch(entries, entry -> target.remove(((Map.Entry<K, V>) entry).getKey(),
+                        ((Map.Entry<K, V>) entry).getValue()));
+            } else {
+                boolean[] matches = match(entries, entry -> containsEntry(target,
+                        ((Map.Entry<K, V>) entry).getKey(), ((Map.Entry<K, V>) entry).getValue()));
+                retValue = false;
+                for (int i = 0; i < entries.length; i++) {
+                    if (matches[i]) {
+                        Map.Entry<K, V> entry = (Map.Entry<K, V>) entries[i];
+                        target.remove(entry.getKey(), entry.getValue());
+                        retValue = true;
+                    }
+                }
+            }
+            BulkOperationMonitor.report(measurement, "removeAll", target, source);
+        } else {
+            retValue = super.removeAll(target, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all matching keys from target map located in source set. Concurrent target is modified by parallel tasks
+     * when source reach parallel threshold. Other targets are modified sequentially by single removal of every key,
+     * because parallel lookup of keys followed by their removal would search every key twice.
+     *
+     * @param target for modification by removal.
+     * @param source set of keys to be removed from map.
+     * @return true when map is modified by removal, otherwise false.
+     */
+    @Override
+    public <T extends Map<K, V>, S extends Set<K>, K, V> boolean removeAll(T target, S source) {
+        boolean retValue;
+        if (isConcurrent(target) && isNotEmpty(target) && isParallel(source)
+                && !SortedMerge.isSameOrder(target, source)) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+            // concurrent maps don't support null values, so removed value always signals removal
+            retValue = anyMatch(source.toArray(), key -> target.remove(key) != null);
+            BulkOperationMonitor.report(measurement, "removeAll", target, source);
+        } else {
+            retValue = super.removeAll(target, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Retain all values existing in collection and provided values. Target reaching parallel threshold is evaluated by
+     * parallel tasks, concurrent target is also modified by them, other targets are modified sequentially.
+     *
+     * @param target collection to be modified.
+     * @param source values to retain in original collection.
+     * @return true if target collection was modified
+     */
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> boolean retainAll(T target, S source) {
+        boolean retValue;
+        if (isParallel(target) && isNotEmpty(source) && !SortedMerge.isSameOrder(target, source)) {
+            BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(bulkOperationMonitor, target);
+            Collection<V> lookup = indexIfNeeded(source, target.size());
+            if (isConcurrent(target)) {
+                retValue = anyMatch(target.toArray(), value -> !lookup.contains(value) && target.remove(value));
+            } else {
+                retValue = removeMatching(target, value -> !lookup.contains(value));
+            }
+            BulkOperationMonitor.report(measurement, "retainAll", target, source);
+        } else {
+            retValue = super.retainAll(target, source);
+        }
+        return retValue;
+    }
+
+    /**
+     * Decide if provided collection has enough records to be processed by parallel tasks.
+     *
+     * @param collection collection processed by operation.
+     * @return true when collection reach parallel threshold.
+     */
+    protected boolean isParallel(Collection<?> collection) {
+        return collection != null && collection.size() >= parallelThreshold;
+    }
+
+    /**
+     * Decide if provided map has enough entries to be processed by parallel tasks.
+     *
+     * @param map map processed by operation.
+     * @return true when map reach parallel threshold.
+     */
+    protected boolean isParallel(Map<?, ?> map) {
+        return map != null && map.size() >= parallelThreshold;
+    }
+
+    /**
+     * Decide if provided target supports modification from several threads at once.
+     *
+     * @param target target of modifying operation.
+     * @return true for concurrent maps, key set views of concurrent hash map and concurrent skip list sets.
+     */
+    protected boolean isConcurrent(Object target) {
+        return target instanceof ConcurrentMap
+                || target instanceof ConcurrentHashMap.KeySetView
+                || target instanceof ConcurrentSkipListSet;
+    }
+
+    /**
+     * Validate all provided values by predicate in parallel tasks. Evaluation is stopped once any value doesn't match.
+     *
+     * @param values    values to be validated.
+     * @param predicate validation of single value, called concurrently.
+     * @param <E>       type of values.
+     * @return true when all values match predicate.
+     */
+    protected <E> boolean allMatch(E[] values, Predicate<? super E> predicate) {
+        AtomicBoolean stop = new AtomicBoolean();
+        int size = taskSize(values.length);
+        return !pool.invoke(new AnyTask<>(values, 0, values.length, size, predicate.negate(), stop));
+    }
+
+    /**
+     * Evaluate predicate for all provided values in parallel tasks. Predicate is evaluated for every value without
+     * short circuit, so it can be used to apply modification of concurrent target.
+     *
+     * @param values    values to be processed.
+     * @param predicate operation with single value, called concurrently.
+     * @param <E>       type of values.
+     * @return true when predicate returned true for any value.
+     */
+    protected <E> boolean anyMatch(E[] values, Predicate<? super E> predicate) {
+        return pool.invoke(new AnyTask<>(values, 0, values.length, taskSize(values.length), predicate, null));
+    }
+
+    /**
+     * Evaluate predicate for all provided values in parallel tasks and collect results by position of value.
+     *
+     * @param values    values to be evaluated.
+     * @param predicate evaluation of single value, called concurrently.
+     * @param <E>       type of values.
+     * @return array of predicate results with same positions as provided values.
+     */
+    protected <E> boolean[] match(E[] values, Predicate<? super E> predicate) {
+        boolean[] retValue = new boolean[values.length];
+        pool.invoke(new MatchTask<>(values, retValue, 0, values.length, taskSize(values.length), predicate));
+        return retValue;
+    }
+
+    /**
+     * Remove from target all values matching predicate. Predicate is evaluated by parallel tasks over snapshot of
+     * target and matching values are removed by calling thread in single pass by iteration order of target.
+     *
+     * @param target    collection to be modified, its array snapshot must follow its iteration order.
+     * @param predicate evaluation of values to be removed, called concurrently.
+     * @param <V>       type of values.
+     * @return true when any value was removed.
+     */
+    @SuppressWarnings("unchecked")
+    protected <V> boolean removeMatching(Collection<V> target, Predicate<? super V> predicate) {
+        Object[] values = target.toArray();
+        boolean[] matches = match(values, value -> predicate.test((V) value));
+        boolean retValue = false;
+        for (boolean matched : matches) {
+            if (matched) {
+                retValue = true;
+                break;
+            }
+        }
+        if (retValue) {
+            int[] position = new int[1];
+            target.removeIf(value -> matches[position[0]++]);
+        }
+        return retValue;
+    }
+
+    /**
+     * Calculate amount of records processed by single task, so every worker of pool gets several tasks for balancing.
+     *
+     * @param length amount of processed records.
+     * @return amount of records processed by single task.
+     */
+    protected int taskSize(int length) {
+        return Math.max(MINIMAL_TASK_SIZE, length / (pool.getParallelism() << 2));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!super.equals(o)) return false;
+        ParallelCollectionUtils utils = (ParallelCollectionUtils) o;
+        return parallelThreshold == utils.parallelThreshold && Objects.equals(pool, utils.pool);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), pool, parallelThreshold);
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelCollectionUtils{" +
+                "hashIndexThreshold=" + hashIndexThreshold +
+                ", parallelThreshold=" + parallelThreshold +
+                ", parallelism=" + pool.getParallelism() +
+                ", collectionFactory=" + collectionFactory +
+                ", bulkOperationMonitor=" + bulkOperationMonitor +
+                '}';
+    }
+
+    /**
+     * Task evaluating predicate over range of values and providing true when any value matched. When stop flag is
+     * provided, evaluation of all tasks is stopped after first match.
+     * <p>
+     * Task is serializable only as subclass of fork/join task, it is never serialized, because it exists only during
+     * invocation in pool, so values and predicate are not required to be serializable.
+     *
+     * @param <E> type of values.
+     */
+    @SuppressWarnings("serial")
+    private static final class AnyTask<E> extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] values;
+        private final int from;
+        private final int to;
+        private final int size;
+        private final Predicate<? super E> predicate;
+        private final AtomicBoolean stop;
+
+        private AnyTask(E[] values, int from, int to, int size, Predicate<? super E> predicate, AtomicBoolean stop) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.size = size;
+            this.predicate = predicate;
+            this.stop = stop;
+        }
+
+        @Override
+        protected Boolean compute() {
+            boolean retValue = false;
+            if (to - from > size) {
+                int middle = (from + to) >>> 1;
+                AnyTask<E> right = new AnyTask<>(values, middle, to, size, predicate, stop);
+                right.fork();
+                retValue = new AnyTask<>(values, from, middle, size, predicate, stop).compute();
+                retValue = right.join() || retValue;
+            } else {
+                for (int i = from; i < to && (stop == null || !stop.get()); i++) {
+                    if (predicate.test(values[i])) {
+                        retValue = true;
+                        if (stop != null) {
+                            stop.set(true);
+                        }
+                    }
+                }
+            }
+            return retValue;
+        }
+    }
+
+    /**
+     * Task evaluating predicate over range of values and storing results into array by position of values. Same as
+     * {@link AnyTask} it is never serialized.
+     *
+     * @param <E> type of values.
+     */
+    @SuppressWarnings("serial")
+    private static final class MatchTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] values;
+        private final boolean[] results;
+        private final int from;
+        private final int to;
+        private final int size;
+        private final Predicate<? super E> predicate;
+
+        private MatchTask(E[] values, boolean[] results, int from, int to, int size, Predicate<? super E> predicate) {
+            this.values = values;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.size = size;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > size) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MatchTask<>(values, results, from, middle, size, predicate),
+                        new MatchTask<>(values, results, middle, to, size, predicate));
+            } else {
+                for (int i = from; i < to; i++) {
+                    results[i] = predicate.test(values[i]);
+                }
+            }
+        }
+    }
+}
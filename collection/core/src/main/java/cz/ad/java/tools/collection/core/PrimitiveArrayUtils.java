@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Define interface for basic operations with arrays of primitive values supporting null arrays, so large arrays of
+ * primitive values can be validated and searched without boxing of values into collections. Implementation is
+ * discovered by {@link ServiceLoader}, so scans using SIMD instructions can be provided by module requiring newer JDK.
+ * When no provider is available or provider can't be loaded in current runtime {@link DefaultPrimitiveArrayUtils} is
+ * used.
+ */
+public interface PrimitiveArrayUtils {
+    /**
+     * Default size of array and amount of searched values above which is lookup done by binary search in sorted copy of
+     * array. Shared by {@link DefaultPrimitiveArrayUtils} and bulk operations of primitive collections.
+     */
+    int DEFAULT_SEARCH_INDEX_THRESHOLD = 16;
+    /**
+     * Provide single shared default instance of primitive array utils.
+     */
+    PrimitiveArrayUtils DEFAULT_INSTANCE = instance();
+
+    /**
+     * Provide primitive array utils discovered by service loader using context class loader of current thread.
+     *
+     * @return first discovered primitive array utils or new instance of default primitive array utils when no provider
+     *         is available.
+     */
+    static PrimitiveArrayUtils instance() {
+        return load(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Provide primitive array utils discovered by service loader using provided class loader. Provider which can't be
+     * instantiated, for example because it requires module not resolved in current runtime, is skipped.
+     *
+     * @param loader class loader used to discover providers, null for system class loader.
+     * @return first discovered primitive array utils or new instance of default primitive array utils when no provider
+     *         is available.
+     */
+    static PrimitiveArrayUtils load(ClassLoader loader) {
+        PrimitiveArrayUtils retValue = null;
+        Iterator<PrimitiveArrayUtils> providers = ServiceLoader.load(PrimitiveArrayUtils.class, loader).iterator();
+        boolean available = true;
+        while (retValue == null && available) {
+            try {
+                available = providers.hasNext();
+                retValue = available ? providers.next() : null;
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // provider requires API which is not available in current runtime, next provider is used
+                retValue = null;
+            }
+        }
+        return retValue != null ? retValue : new DefaultPrimitiveArrayUtils();
+    }
+
+    /**
+     * Verify if array has no records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array is null or has 0 length, otherwise false.
+     */
+    boolean isEmpty(int[] array);
+
+    /**
+     * Verify if array has records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array has records, otherwise false.
+     */
+    boolean isNotEmpty(int[] array);
+
+    /**
+     * Validate if provided array contains provided value.
+     *
+     * @param array array to be validated for presence of provided value.
+     * @param value value searched in array for presence.
+     * @return true when value is in array, otherwise false also for null array.
+     */
+    boolean contains(int[] array, int value);
+
+    /**
+     * Locate first position of provided value in array.
+     *
+     * @param array array to be searched for provided value.
+     * @param value value searched in array.
+     * @return index of first occurrence of value, or -1 when value is not present or array is null.
+     */
+    int indexOf(int[] array, int value);
+
+    /**
+     * Validate safely if provided array contains all provided values. In case when empty or null values are provided it
+     * is considered as false result.
+     *
+     * @param array  array to be validated if contains all provided values.
+     * @param values values used for validation.
+     * @return true in case when array contains all provided values, otherwise false.
+     */
+    boolean containsAll(int[] array, int[] values);
+
+    /**
+     * Count occurrences of provided value in array.
+     *
+     * @param array array where occurrences are counted.
+     * @param value counted value.
+     * @return amount of occurrences of value in array, 0 for null array.
+     */
+    int count(int[] array, int value);
+
+    /**
+     * Verify if array has no records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array is null or has 0 length, otherwise false.
+     */
+    boolean isEmpty(long[] array);
+
+    /**
+     * Verify if array has records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array has records, otherwise false.
+     */
+    boolean isNotEmpty(long[] array);
+
+    /**
+     * Validate if provided array contains provided value.
+     *
+     * @param array array to be validated for presence of provided value.
+     * @param value value searched in array for presence.
+     * @return true when value is in array, otherwise false also for null array.
+     */
+    boolean contains(long[] array, long value);
+
+    /**
+     * Locate first position of provided value in array.
+     *
+     * @param array array to be searched for provided value.
+     * @param value value searched in array.
+     * @return index of first occurrence of value, or -1 when value is not present or array is null.
+     */
+    int indexOf(long[] array, long value);
+
+    /**
+     * Validate safely if provided array contains all provided values. In case when empty or null values are provided it
+     * is considered as false result.
+     *
+     * @param array  array to be validated if contains all provided values.
+     * @param values values used for validation.
+     * @return true in case when array contains all provided values, otherwise false.
+     */
+    boolean containsAll(long[] array, long[] values);
+
+    /**
+     * Count occurrences of provided value in array.
+     *
+     * @param array array where occurrences are counted.
+     * @param value counted value.
+     * @return amount of occurrences of value in array, 0 for null array.
+     */
+    int count(long[] array, long value);
+
+    /**
+     * Verify if array has no records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array is null or has 0 length, otherwise false.
+     */
+    boolean isEmpty(double[] array);
+
+    /**
+     * Verify if array has records.
+     *
+     * @param array instance to be validated.
+     * @return true if provided array has records, otherwise false.
+     */
+    boolean isNotEmpty(double[] array);
+
+    /**
+     * Validate if provided array contains provided value. Values are compared by their bit representation like by
+     * Double.equals, so NaN is found and 0.0 is not equal to -0.0.
+     *
+     * @param array array to be validated for presence of provided value.
+     * @param value value searched in array for presence.
+     * @return true when value is in array, otherwise false also for null array.
+     */
+    boolean contains(double[] array, double value);
+
+    /**
+     * Locate first position of provided value in array. Values are compared by their bit representation like by
+     * Double.equals.
+     *
+     * @param array array to be searched for provided value.
+     * @param value value searched in array.
+     * @return index of first occurrence of value, or -1 when value is not present or array is null.
+     */
+    int indexOf(double[] array, double value);
+
+    /**
+     * Validate safely if provided array contains all provided values. In case when empty or null values are provided it
+     * is considered as false result. Values are compared by their bit representation like by Double.equals.
+     *
+     * @param array  array to be validated if contains all provided values.
+     * @param values values used for validation.
+     * @return true in case when array contains all provided values, otherwise false.
+     */
+    boolean containsAll(double[] array, double[] values);
+
+    /**
+     * Count occurrences of provided value in array. Values are compared by their bit representation like by
+     * Double.equals.
+     *
+     * @param array array where occurrences are counted.
+     * @param value counted value.
+     * @return amount of occurrences of value in array, 0 for null array.
+     */
+    int count(double[] array, double value);
+}
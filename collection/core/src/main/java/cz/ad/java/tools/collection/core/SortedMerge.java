@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * Set algebra implemented by single linear merge walk over two iterators providing values in same order. Both
+ * iterators must provide distinct values sorted by same comparator, as it is guaranteed by sorted sets and key sets of
+ * sorted maps sharing comparator.
+ */
+final class SortedMerge {
+
+    /**
+     * Static helper class should not be initialized.
+     */
+    private SortedMerge() {
+    }
+
+    /**
+     * Validate if both provided instances are sorted sets or sorted maps sharing same comparator, so their values or
+     * keys can be processed by merge walk.
+     *
+     * @param target target instance of operation.
+     * @param source source instance of operation.
+     * @return true when both instances are sorted by same comparator.
+     */
+    static boolean isSameOrder(Object target, Object source) {
+        return isSorted(target) && isSorted(source) && Objects.equals(comparator(target), comparator(source));
+    }
+
+    /**
+     * Provide comparator of sorted set or sorted map.
+     *
+     * @param sorted sorted set or sorted map.
+     * @param <V>    type of sorted values or keys.
+     * @return comparator of provided instance, null for natural ordering.
+     */
+    @SuppressWarnings("unchecked")
+    static <V> Comparator<? super V> comparator(Object sorted) {
+        Comparator<? super V> retValue;
+        if (sorted instanceof SortedSet) {
+            retValue = ((SortedSet<V>) sorted).comparator();
+        } else {
+            retValue = ((SortedMap<V, ?>) sorted).comparator();
+        }
+        return retValue;
+    }
+
+    /**
+     * Decide if merge walk over both inputs is cheaper than lookup of values one by one in sorted structure with
+     * logarithmic lookup.
+     *
+     * @param lookups    amount of lookups performed without merge.
+     * @param lookupSize size of structure used for lookups.
+     * @param targetSize size of target visited by merge walk.
+     * @param sourceSize size of source visited by merge walk.
+     * @return true when merge walk is expected to be faster.
+     */
+    static boolean isBeneficial(int lookups, int lookupSize, int targetSize, int sourceSize) {
+        long depth = Integer.SIZE - Integer.numberOfLeadingZeros(lookupSize);
+        return lookups * depth > (long) targetSize + sourceSize;
+    }
+
+    /**
+     * Validate if target provides all values provided by source.
+     *
+     * @param target     iterator of sorted target values.
+     * @param source     iterator of sorted source values.
+     * @param comparator comparator used to sort both inputs, null for natural ordering.
+     * @param <V>        type of values.
+     * @return true when every source value is present in target.
+     */
+    static <V> boolean containsAll(Iterator<? extends V> target, Iterator<? extends V> source,
+                                   Comparator<? super V> comparator) {
+        boolean retValue = true;
+        while (retValue && source.hasNext()) {
+            V value = source.next();
+            retValue = false;
+            while (target.hasNext()) {
+                int result = compare(comparator, target.next(), value);
+                if (result >= 0) {
+                    retValue = result == 0;
+                    break;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove from target all values provided by source.
+     *
+     * @param target     iterator of sorted target values supporting removal.
+     * @param source     iterator of sorted source values.
+     * @param comparator comparator used to sort both inputs, null for natural ordering.
+     * @param <V>        type of values.
+     * @return true when target was modified.
+     */
+    static <V> boolean removeAll(Iterator<? extends V> target, Iterator<? extends V> source,
+                                 Comparator<? super V> comparator) {
+        boolean retValue = false;
+        if (source.hasNext()) {
+            V sourceValue = source.next();
+            while (target.hasNext()) {
+                V targetValue = target.next();
+                int result = compare(comparator, targetValue, sourceValue);
+                while (result > 0 && source.hasNext()) {
+                    sourceValue = source.next();
+                    result = compare(comparator, targetValue, sourceValue);
+                }
+                if (result == 0) {
+                    target.remove();
+                    retValue = true;
+                } else if (result > 0) {
+                    // source is exhausted, nothing more to remove
+                    break;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove from target all values not provided by source.
+     *
+     * @param target     iterator of sorted target values supporting removal.
+     * @param source     iterator of sorted source values.
+     * @param comparator comparator used to sort both inputs, null for natural ordering.
+     * @param <V>        type of values.
+     * @return true when target was modified.
+     */
+    static <V> boolean retainAll(Iterator<? extends V> target, Iterator<? extends V> source,
+                                 Comparator<? super V> comparator) {
+        boolean retValue = false;
+        boolean sourceAvailable = source.hasNext();
+        V sourceValue = sourceAvailable ? source.next() : null;
+        while (target.hasNext()) {
+            V targetValue = target.next();
+            int result = -1;
+            while (sourceAvailable) {
+                result = compare(comparator, targetValue, sourceValue);
+                if (result <= 0) {
+                    break;
+                }
+                sourceAvailable = source.hasNext();
+                if (sourceAvailable) {
+                    sourceValue = source.next();
+                }
+            }
+            if (!sourceAvailable || result != 0) {
+                target.remove();
+                retValue = true;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate if target provides all entries provided by source. Entries are matched by key and value of target entry
+     * must be equal to value of source entry, null values are equal to each other.
+     *
+     * @param target     iterator of target entries sorted by key.
+     * @param source     iterator of source entries sorted by key.
+     * @param comparator comparator used to sort keys of both inputs, null for natural ordering.
+     * @param <K>        type of key.
+     * @param <V>        type of value.
+     * @return true when every source entry is present in target.
+     */
+    static <K, V> boolean containsAllEntries(Iterator<? extends Map.Entry<K, V>> target,
+                                             Iterator<? extends Map.Entry<K, V>> source,
+                                             Comparator<? super K> comparator) {
+        boolean retValue = true;
+        while (retValue && source.hasNext()) {
+            Map.Entry<K, V> entry = source.next();
+            retValue = false;
+            while (target.hasNext()) {
+                Map.Entry<K, V> targetEntry = target.next();
+                int result = compare(comparator, targetEntry.getKey(), entry.getKey());
+                if (result >= 0) {
+                    retValue = result == 0 && Objects.equals(targetEntry.getValue(), entry.getValue());
+                    break;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove from target all entries provided by source. Entry is removed only when both key and value match.
+     *
+     * @param target     iterator of target entries sorted by key supporting removal.
+     * @param source     iterator of source entries sorted by key.
+     * @param comparator comparator used to sort keys of both inputs, null for natural ordering.
+     * @param <K>        type of key.
+     * @param <V>        type of value.
+     * @return true when target was modified.
+     */
+    static <K, V> boolean removeAllEntries(Iterator<? extends Map.Entry<K, V>> target,
+                                           Iterator<? extends Map.Entry<K, V>> source,
+                                           Comparator<? super K> comparator) {
+        boolean retValue = false;
+        if (source.hasNext()) {
+            Map.Entry<K, V> entry = source.next();
+            while (target.hasNext()) {
+                Map.Entry<K, V> targetEntry = target.next();
+                int result = compare(comparator, targetEntry.getKey(), entry.getKey());
+                while (result > 0 && source.hasNext()) {
+                    entry = source.next();
+                    result = compare(comparator, targetEntry.getKey(), entry.getKey());
+                }
+                if (result == 0) {
+                    V value = targetEntry.getValue();
+                    if (value == null ? entry.getValue() == null : value.equals(entry.getValue())) {
+                        target.remove();
+                        retValue = true;
+                    }
+                } else if (result > 0) {
+                    // source is exhausted, nothing more to remove
+                    break;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate if provided instance is sorted set or sorted map.
+     *
+     * @param value validated instance.
+     * @return true for sorted set or sorted map.
+     */
+    private static boolean isSorted(Object value) {
+        return value instanceof SortedSet || value instanceof SortedMap;
+    }
+
+    /**
+     * Compare values by provided comparator or by natural ordering when comparator is null.
+     *
+     * @param comparator comparator used for comparison, null for natural ordering.
+     * @param first      first compared value.
+     * @param second     second compared value.
+     * @param <V>        type of values.
+     * @return negative number, zero or positive number when first value is lower, equal or greater than second.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> int compare(Comparator<? super V> comparator, V first, V second) {
+        return comparator != null
+                ? comparator.compare(first, second)
+                : ((Comparable<? super V>) first).compareTo(second);
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import java.util.function.Supplier;
+
+/**
+ * Implement interface for basic null safe operations with primitive collections.
+ */
+public class DefaultPrimitiveCollectionUtils implements PrimitiveCollectionUtils {
+
+    /**
+     * Default non parametric constructor of stateless utils.
+     */
+    public DefaultPrimitiveCollectionUtils() {
+    }
+
+    /**
+     * Verify if list has no values.
+     *
+     * @param list instance to be validated.
+     * @return true if provided list is null or empty, otherwise false.
+     */
+    @Override
+    public boolean isEmpty(IntArrayList list) {
+        return list == null || list.isEmpty();
+    }
+
+    /**
+     * Verify if set has no values.
+     *
+     * @param set instance to be validated.
+     * @return true if provided set is null or empty, otherwise false.
+     */
+    @Override
+    public boolean isEmpty(LongHashSet set) {
+        return set == null || set.isEmpty();
+    }
+
+    /**
+     * Verify if map has no entries.
+     *
+     * @param map instance to be validated.
+     * @return true if provided map is null or empty, otherwise false.
+     */
+    @Override
+    public boolean isEmpty(LongObjectHashMap<?> map) {
+        return map == null || map.isEmpty();
+    }
+
+    /**
+     * Verify if map has no entries.
+     *
+     * @param map instance to be validated.
+     * @return true if provided map is null or empty, otherwise false.
+     */
+    @Override
+    public boolean isEmpty(IntIntHashMap map) {
+        return map == null || map.isEmpty();
+    }
+
+    /**
+     * Add safely value to list, if input list is null use init to supply new instance of list.
+     *
+     * @param list  used as target for adding value.
+     * @param init  supplier to provide new instance in case when provided list is null.
+     * @param value value to be added into list.
+     * @param <L>   type of list.
+     * @return provided list or initialized new instance with added value.
+     */
+    @Override
+    public <L extends IntArrayList> L addList(L list, Supplier<L> init, int value) {
+        L retValue = list;
+        if (retValue == null) {
+            retValue = init.get();
+        }
+        if (retValue != null) {
+            retValue.add(value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add safely value to set, if input set is null use init to supply new instance of set.
+     *
+     * @param set   used as target for adding value.
+     * @param init  supplier to provide new instance in case when provided set is null.
+     * @param value value to be added into set.
+     * @param <S>   type of set.
+     * @return provided set or initialized new instance with added value.
+     */
+    @Override
+    public <S extends LongHashSet> S addSet(S set, Supplier<S> init, long value) {
+        S retValue = set;
+        if (retValue == null) {
+            retValue = init.get();
+        }
+        if (retValue != null) {
+            retValue.add(value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely key and value pair into map, if input map is null init is used to supply new instance.
+     *
+     * @param map   used as target for adding values.
+     * @param init  supplier to provided new instance in case when provided map is null.
+     * @param key   key connected to value in map.
+     * @param value value stored in map connected to key.
+     * @param <M>   type of map.
+     * @param <V>   type of value.
+     * @return provided map or initialized by supplier with added key and value.
+     */
+    @Override
+    public <M extends LongObjectHashMap<V>, V> M putMap(M map, Supplier<M> init, long key, V value) {
+        M retValue = map;
+        if (retValue == null) {
+            retValue = init.get();
+        }
+        if (retValue != null) {
+            retValue.put(key, value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Put safely key and value pair into map, if input map is null init is used to supply new instance.
+     *
+     * @param map   used as target for adding values.
+     * @param init  supplier to provided new instance in case when provided map is null.
+     * @param key   key connected to value in map.
+     * @param value value stored in map connected to key.
+     * @param <M>   type of map.
+     * @return provided map or initialized by supplier with added key and value.
+     */
+    @Override
+    public <M extends IntIntHashMap> M putMap(M map, Supplier<M> init, int key, int value) {
+        M retValue = map;
+        if (retValue == null) {
+            retValue = init.get();
+        }
+        if (retValue != null) {
+            retValue.put(key, value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate if provided list contains provided value.
+     *
+     * @param list  list to be validated for presence of provided value.
+     * @param value value searched in list for presence.
+     * @return true when value is in list, otherwise false also for null list.
+     */
+    @Override
+    public boolean contains(IntArrayList list, int value) {
+        return list != null && list.contains(value);
+    }
+
+    /**
+     * Validate if provided set contains provided value.
+     *
+     * @param set   set to be validated for presence of provided value.
+     * @param value value searched in set for presence.
+     * @return true when value is in set, otherwise false also for null set.
+     */
+    @Override
+    public boolean contains(LongHashSet set, long value) {
+        return set != null && set.contains(value);
+    }
+
+    /**
+     * Validate if provided map contains provided key.
+     *
+     * @param map map to be validated for presence of provided key.
+     * @param key key searched in map for presence.
+     * @return true when key is in map, otherwise false also for null map.
+     */
+    @Override
+    public boolean contains(LongObjectHashMap<?> map, long key) {
+        return map != null && map.containsKey(key);
+    }
+
+    /**
+     * Validate if provided map contains provided key.
+     *
+     * @param map map to be validated for presence of provided key.
+     * @param key key searched in map for presence.
+     * @return true when key is in map, otherwise false also for null map.
+     */
+    @Override
+    public boolean contains(IntIntHashMap map, int key) {
+        return map != null && map.containsKey(key);
+    }
+
+    /**
+     * Remove all occurrences of values contained in source list from target list.
+     *
+     * @param target list where values should be removed.
+     * @param source values to be removed from list.
+     * @return true in case when list is modified, otherwise false also when any of lists is null.
+     */
+    @Override
+    public boolean removeAll(IntArrayList target, IntArrayList source) {
+        return !isEmpty(target) && !isEmpty(source) && target.removeAll(source);
+    }
+
+    /**
+     * Remove all values contained in source set from target set.
+     *
+     * @param target set where values should be removed.
+     * @param source values to be removed from set.
+     * @return true in case when set is modified, otherwise false also when any of sets is null.
+     */
+    @Override
+    public boolean removeAll(LongHashSet target, LongHashSet source) {
+        return !isEmpty(target) && !isEmpty(source) && target.removeAll(source);
+    }
+
+    /**
+     * Remove all keys contained in source set from target map.
+     *
+     * @param target map where keys should be removed.
+     * @param source keys to be removed from map.
+     * @return true in case when map is modified, otherwise false also when map or set is null.
+     */
+    @Override
+    public boolean removeAll(LongObjectHashMap<?> target, LongHashSet source) {
+        return !isEmpty(target) && !isEmpty(source) && target.removeAll(source);
+    }
+
+    /**
+     * Remove all keys contained in source list from target map.
+     *
+     * @param target map where keys should be removed.
+     * @param source keys to be removed from map.
+     * @return true in case when map is modified, otherwise false also when map or list is null.
+     */
+    @Override
+    public boolean removeAll(IntIntHashMap target, IntArrayList source) {
+        return !isEmpty(target) && !isEmpty(source) && target.removeAll(source);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o != null && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultPrimitiveCollectionUtils{}";
+    }
+}
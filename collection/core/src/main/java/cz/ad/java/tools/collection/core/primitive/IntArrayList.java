@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import cz.ad.java.tools.collection.core.PrimitiveArrayUtils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Growable list of primitive int values stored directly in array, so values are never boxed. List is not synchronized
+ * and result of modification during {@link #forEach(IntConsumer)} is undefined.
+ */
+public class IntArrayList {
+    /**
+     * Default capacity of list.
+     */
+    public static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Maximal length of array storing values.
+     */
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Array storing values of list at positions from 0 to size.
+     */
+    protected int[] elements;
+    /**
+     * Amount of values in list.
+     */
+    protected int size;
+
+    /**
+     * Create new empty list with default capacity.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create new empty list able to store expected amount of values without resizing.
+     *
+     * @param expectedSize amount of values stored without resizing.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public IntArrayList(int expectedSize) throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        elements = new int[expectedSize];
+    }
+
+    /**
+     * Provide amount of values in list.
+     *
+     * @return amount of values.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verify if list has no values.
+     *
+     * @return true when list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Provide value at position.
+     *
+     * @param index position of value.
+     * @return value at position.
+     * @throws IndexOutOfBoundsException when index is out of list.
+     */
+    public int get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replace value at position.
+     *
+     * @param index position of value.
+     * @param value new value.
+     * @return previous value at position.
+     * @throws IndexOutOfBoundsException when index is out of list.
+     */
+    public int set(int index, int value) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        int retValue = elements[index];
+        elements[index] = value;
+        return retValue;
+    }
+
+    /**
+     * Append value to the end of list.
+     *
+     * @param value added value.
+     * @return always true as list is modified.
+     */
+    public boolean add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+        return true;
+    }
+
+    /**
+     * Append all provided values to the end of list.
+     *
+     * @param values added values.
+     * @return true when list was modified.
+     */
+    public boolean addAll(int... values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+        return values.length > 0;
+    }
+
+    /**
+     * Append all values of provided list to the end of list.
+     *
+     * @param values list of added values.
+     * @return true when list was modified.
+     */
+    public boolean addAll(IntArrayList values) {
+        int added = values.size;
+        ensureCapacity(size + added);
+        System.arraycopy(values.elements, 0, elements, size, added);
+        size += added;
+        return added > 0;
+    }
+
+    /**
+     * Validate if list contains provided value.
+     *
+     * @param value searched value.
+     * @return true when value is in list.
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Locate first position of provided value in list.
+     *
+     * @param value searched value.
+     * @return position of first occurrence of value or -1 when value is not in list.
+     */
+    public int indexOf(int value) {
+        int retValue = -1;
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                retValue = i;
+                break;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove value at position and shift following values.
+     *
+     * @param index position of removed value.
+     * @return removed value.
+     * @throws IndexOutOfBoundsException when index is out of list.
+     */
+    public int removeAt(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        int retValue = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return retValue;
+    }
+
+    /**
+     * Remove first occurrence of value from list.
+     *
+     * @param value removed value.
+     * @return true when value was in list.
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        boolean retValue = index >= 0;
+        if (retValue) {
+            removeAt(index);
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all occurrences of values contained in provided list. Large lists of removed values are sorted and
+     * searched by binary search, so removal is done in linearithmic time instead of quadratic.
+     *
+     * @param values list of removed values.
+     * @return true when list was modified.
+     */
+    public boolean removeAll(IntArrayList values) {
+        int[] removed = Arrays.copyOf(values.elements, values.size);
+        boolean sorted = removed.length > PrimitiveArrayUtils.DEFAULT_SEARCH_INDEX_THRESHOLD;
+        if (sorted) {
+            Arrays.sort(removed);
+        }
+        PrimitiveArrayUtils arrayUtils = PrimitiveArrayUtils.DEFAULT_INSTANCE;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int value = elements[i];
+            if (!(sorted ? Arrays.binarySearch(removed, value) >= 0 : arrayUtils.contains(removed, value))) {
+                elements[kept++] = value;
+            }
+        }
+        boolean retValue = kept != size;
+        size = kept;
+        return retValue;
+    }
+
+    /**
+     * Remove all values from list keeping its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Make sure list can store provided amount of values without resizing.
+     *
+     * @param expectedSize amount of values expected to be stored.
+     */
+    public void ensureCapacity(int expectedSize) {
+        if (expectedSize > elements.length) {
+            grow(expectedSize);
+        }
+    }
+
+    /**
+     * Provide values of list in new array.
+     *
+     * @return array with all values of list in list order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Perform action for every value of list in list order.
+     *
+     * @param action action performed for values.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Resize array storing values to capacity for at least provided amount of values, array grows at least by half of
+     * its length to keep amortized constant time of append.
+     *
+     * @param minimalCapacity amount of values to be stored.
+     * @throws IllegalStateException when list can't be resized to required capacity.
+     */
+    protected void grow(int minimalCapacity) throws IllegalStateException {
+        if (minimalCapacity < 0 || minimalCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("List reached maximal capacity");
+        }
+        long capacity = Math.max(DEFAULT_CAPACITY, elements.length + ((long) elements.length >> 1));
+        elements = Arrays.copyOf(elements, (int) Math.min(MAXIMUM_CAPACITY, Math.max(capacity, minimalCapacity)));
+    }
+
+    /**
+     * Verify index is in range of list.
+     *
+     * @param index validated index.
+     * @throws IndexOutOfBoundsException when index is out of list.
+     */
+    private void checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntArrayList)) return false;
+        IntArrayList that = (IntArrayList) o;
+        boolean retValue = size == that.size;
+        for (int i = 0; retValue && i < size; i++) {
+            retValue = elements[i] == that.elements[i];
+        }
+        return retValue;
+    }
+
+    @Override
+    public int hashCode() {
+        int retValue = 1;
+        for (int i = 0; i < size; i++) {
+            retValue = 31 * retValue + elements[i];
+        }
+        return retValue;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
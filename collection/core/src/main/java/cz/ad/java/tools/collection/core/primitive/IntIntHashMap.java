@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import java.util.Arrays;
+
+/**
+ * Hash map with primitive int keys and int values stored directly in flat parallel arrays with open addressing and
+ * linear probing, so neither keys nor values are boxed and no node object is allocated per entry. Key 0 marks empty
+ * slot of table, so its value is kept in separate field. Missing keys are reported by value 0 unless default value is
+ * provided. Map is not synchronized and result of modification during {@link #forEach(IntIntConsumer)} is undefined.
+ */
+public class IntIntHashMap {
+    /**
+     * Keys stored in table, 0 for empty slot.
+     */
+    protected int[] keys;
+    /**
+     * Values stored at same positions as keys.
+     */
+    protected int[] values;
+    /**
+     * Flag of key 0 presence in map.
+     */
+    protected boolean hasZeroKey;
+    /**
+     * Value assigned to key 0.
+     */
+    protected int zeroValue;
+    /**
+     * Amount of entries stored in table, without key 0.
+     */
+    protected int assigned;
+    /**
+     * Mask of hash code providing position in table.
+     */
+    protected int mask;
+    /**
+     * Amount of entries in table after which is table resized.
+     */
+    protected int threshold;
+
+    /**
+     * Create new empty map with default expected size.
+     */
+    public IntIntHashMap() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Create new empty map able to store expected amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries stored without resizing.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public IntIntHashMap(int expectedSize) throws IllegalArgumentException {
+        allocate(PrimitiveHashing.capacity(expectedSize));
+    }
+
+    /**
+     * Provide amount of entries in map.
+     *
+     * @return amount of entries.
+     */
+    public int size() {
+        return hasZeroKey ? assigned + 1 : assigned;
+    }
+
+    /**
+     * Verify if map has no entries.
+     *
+     * @return true when map is empty.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Validate if map contains provided key.
+     *
+     * @param key searched key.
+     * @return true when key is in map.
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : keys[slot(key)] != 0;
+    }
+
+    /**
+     * Provide value assigned to key.
+     *
+     * @param key key of value.
+     * @return value assigned to key or 0 when key is not in map.
+     */
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * Provide value assigned to key or default value when key is not in map.
+     *
+     * @param key          key of value.
+     * @param defaultValue value returned when key is not in map.
+     * @return value assigned to key or default value.
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        int retValue = defaultValue;
+        if (key == 0) {
+            if (hasZeroKey) {
+                retValue = zeroValue;
+            }
+        } else {
+            int pos = slot(key);
+            if (keys[pos] != 0) {
+                retValue = values[pos];
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Assign value to key.
+     *
+     * @param key   key of value.
+     * @param value value assigned to key.
+     * @return value previously assigned to key or 0 when key was not in map.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    public int put(int key, int value) throws IllegalStateException {
+        int retValue = 0;
+        if (key == 0) {
+            retValue = zeroValue;
+            zeroValue = value;
+            hasZeroKey = true;
+        } else {
+            int pos = slot(key);
+            if (keys[pos] != 0) {
+                retValue = values[pos];
+                values[pos] = value;
+            } else {
+                insert(pos, key, value);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Add delta to value assigned to key, missing key is stored with value of delta. Operation allows to count
+     * occurrences of keys by single lookup.
+     *
+     * @param key   key of value.
+     * @param delta value added to value assigned to key.
+     * @return new value assigned to key.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    public int addTo(int key, int delta) throws IllegalStateException {
+        int retValue;
+        if (key == 0) {
+            retValue = hasZeroKey ? zeroValue + delta : delta;
+            zeroValue = retValue;
+            hasZeroKey = true;
+        } else {
+            int pos = slot(key);
+            if (keys[pos] != 0) {
+                retValue = values[pos] + delta;
+                values[pos] = retValue;
+            } else {
+                retValue = delta;
+                insert(pos, key, delta);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Assign all entries of provided map.
+     *
+     * @param source map with assigned entries.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    public void putAll(IntIntHashMap source) throws IllegalStateException {
+        ensureCapacity(assigned + source.assigned);
+        if (source.hasZeroKey) {
+            put(0, source.zeroValue);
+        }
+        int[] sourceKeys = source.keys;
+        for (int i = 0; i < sourceKeys.length; i++) {
+            if (sourceKeys[i] != 0) {
+                put(sourceKeys[i], source.values[i]);
+            }
+        }
+    }
+
+    /**
+     * Remove key and its value from map.
+     *
+     * @param key removed key.
+     * @return true when key was in map.
+     */
+    public boolean remove(int key) {
+        boolean retValue;
+        if (key == 0) {
+            retValue = hasZeroKey;
+            hasZeroKey = false;
+            zeroValue = 0;
+        } else {
+            int pos = slot(key);
+            retValue = keys[pos] != 0;
+            if (retValue) {
+                removeAt(pos);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all provided keys from map.
+     *
+     * @param removed list of removed keys.
+     * @return true when map was modified.
+     */
+    public boolean removeAll(IntArrayList removed) {
+        boolean retValue = false;
+        for (int i = 0; i < removed.size; i++) {
+            retValue |= remove(removed.elements[i]);
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all entries from map keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        assigned = 0;
+        hasZeroKey = false;
+        zeroValue = 0;
+    }
+
+    /**
+     * Make sure map can store provided amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries expected to be stored.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public void ensureCapacity(int expectedSize) throws IllegalArgumentException {
+        int capacity = PrimitiveHashing.capacity(expectedSize);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    /**
+     * Provide keys of map in new array.
+     *
+     * @return array with all keys of map in unspecified order.
+     */
+    public int[] keys() {
+        int[] retValue = new int[size()];
+        int index = 0;
+        if (hasZeroKey) {
+            index++;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                retValue[index++] = key;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Perform action for every entry of map.
+     *
+     * @param action action performed for entries.
+     */
+    public void forEach(IntIntConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Locate position of key in table or position of empty slot where key should be stored.
+     *
+     * @param key non-zero key.
+     * @return position of key or of empty slot.
+     */
+    protected int slot(int key) {
+        int pos = PrimitiveHashing.mix(key) & mask;
+        int current;
+        while ((current = keys[pos]) != 0 && current != key) {
+            pos = (pos + 1) & mask;
+        }
+        return pos;
+    }
+
+    /**
+     * Store new entry into empty slot located by {@link #slot(int)} and resize table when needed.
+     *
+     * @param pos   position of empty slot.
+     * @param key   non-zero key.
+     * @param value value assigned to key.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    protected void insert(int pos, int key, int value) throws IllegalStateException {
+        if (assigned >= threshold) {
+            PrimitiveHashing.checkGrowth(keys.length);
+            rehash(keys.length << 1);
+            pos = slot(key);
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        assigned++;
+    }
+
+    /**
+     * Remove entry at provided position and shift following entries of probe sequence backward, so table never
+     * contains deleted markers.
+     *
+     * @param pos position of removed entry.
+     */
+    protected void removeAt(int pos) {
+        assigned--;
+        int last = pos;
+        int current = pos;
+        int key;
+        while ((key = keys[current = (current + 1) & mask]) != 0) {
+            if (PrimitiveHashing.movable(PrimitiveHashing.mix(key) & mask, last, current)) {
+                keys[last] = key;
+                values[last] = values[current];
+                last = current;
+            }
+        }
+        keys[last] = 0;
+        values[last] = 0;
+    }
+
+    /**
+     * Move all entries into new table arrays of provided length.
+     *
+     * @param capacity length of new table arrays.
+     */
+    protected void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int pos = slot(oldKeys[i]);
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Allocate new empty table arrays of provided length.
+     *
+     * @param capacity length of table arrays.
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = PrimitiveHashing.threshold(capacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntIntHashMap)) return false;
+        IntIntHashMap that = (IntIntHashMap) o;
+        boolean retValue = size() == that.size() && hasZeroKey == that.hasZeroKey && zeroValue == that.zeroValue;
+        for (int i = 0; retValue && i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int pos = that.slot(keys[i]);
+                retValue = that.keys[pos] != 0 && values[i] == that.values[pos];
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public int hashCode() {
+        int retValue = hasZeroKey ? zeroValue : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                retValue += keys[i] ^ values[i];
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder retValue = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (retValue.length() > 1) {
+                retValue.append(", ");
+            }
+            retValue.append(key).append('=').append(value);
+        });
+        return retValue.append('}').toString();
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Hash set of primitive long values stored directly in flat array with open addressing and linear probing, so values
+ * are never boxed and no object is allocated per value. Value 0 marks empty slot of table, so it is tracked by separate
+ * flag. Set is not synchronized and result of modification during {@link #forEach(LongConsumer)} is undefined.
+ */
+public class LongHashSet {
+    /**
+     * Values stored in table, 0 for empty slot.
+     */
+    protected long[] keys;
+    /**
+     * Flag of value 0 presence in set.
+     */
+    protected boolean hasZeroKey;
+    /**
+     * Amount of values stored in table, without value 0.
+     */
+    protected int assigned;
+    /**
+     * Mask of hash code providing position in table.
+     */
+    protected int mask;
+    /**
+     * Amount of values in table after which is table resized.
+     */
+    protected int threshold;
+
+    /**
+     * Create new empty set with default expected size.
+     */
+    public LongHashSet() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Create new empty set able to store expected amount of values without resizing.
+     *
+     * @param expectedSize amount of values stored without resizing.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public LongHashSet(int expectedSize) throws IllegalArgumentException {
+        allocate(PrimitiveHashing.capacity(expectedSize));
+    }
+
+    /**
+     * Provide amount of values in set.
+     *
+     * @return amount of values.
+     */
+    public int size() {
+        return hasZeroKey ? assigned + 1 : assigned;
+    }
+
+    /**
+     * Verify if set has no values.
+     *
+     * @return true when set is empty.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Validate if set contains provided value.
+     *
+     * @param value searched value.
+     * @return true when value is in set.
+     */
+    public boolean contains(long value) {
+        return value == 0 ? hasZeroKey : keys[slot(value)] != 0;
+    }
+
+    /**
+     * Add value into set.
+     *
+     * @param value added value.
+     * @return true when set was modified, false when value was already present.
+     * @throws IllegalStateException when set can't be resized anymore.
+     */
+    public boolean add(long value) throws IllegalStateException {
+        boolean retValue;
+        if (value == 0) {
+            retValue = !hasZeroKey;
+            hasZeroKey = true;
+        } else {
+            int pos = slot(value);
+            retValue = keys[pos] == 0;
+            if (retValue) {
+                if (assigned >= threshold) {
+                    PrimitiveHashing.checkGrowth(keys.length);
+                    rehash(keys.length << 1);
+                    pos = slot(value);
+                }
+                keys[pos] = value;
+                assigned++;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Add all provided values into set.
+     *
+     * @param values added values.
+     * @return true when set was modified.
+     * @throws IllegalStateException when set can't be resized anymore.
+     */
+    public boolean addAll(long... values) throws IllegalStateException {
+        ensureCapacity(assigned + values.length);
+        boolean retValue = false;
+        for (long value : values) {
+            retValue |= add(value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add all values of provided set into set.
+     *
+     * @param values set of added values.
+     * @return true when set was modified.
+     * @throws IllegalStateException when set can't be resized anymore.
+     */
+    public boolean addAll(LongHashSet values) throws IllegalStateException {
+        ensureCapacity(assigned + values.assigned);
+        boolean retValue = values.hasZeroKey && add(0);
+        for (long value : values.keys) {
+            if (value != 0) {
+                retValue |= add(value);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove value from set.
+     *
+     * @param value removed value.
+     * @return true when value was present in set.
+     */
+    public boolean remove(long value) {
+        boolean retValue;
+        if (value == 0) {
+            retValue = hasZeroKey;
+            hasZeroKey = false;
+        } else {
+            int pos = slot(value);
+            retValue = keys[pos] != 0;
+            if (retValue) {
+                removeAt(pos);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all values of provided set from set.
+     *
+     * @param values set of removed values.
+     * @return true when set was modified.
+     */
+    public boolean removeAll(LongHashSet values) {
+        boolean retValue;
+        if (values == this) {
+            retValue = !isEmpty();
+            clear();
+        } else {
+            retValue = values.hasZeroKey && remove(0);
+            for (long value : values.keys) {
+                if (value != 0) {
+                    retValue |= remove(value);
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all values from set keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        assigned = 0;
+        hasZeroKey = false;
+    }
+
+    /**
+     * Make sure set can store provided amount of values without resizing.
+     *
+     * @param expectedSize amount of values expected to be stored.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public void ensureCapacity(int expectedSize) throws IllegalArgumentException {
+        int capacity = PrimitiveHashing.capacity(expectedSize);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    /**
+     * Provide values of set in new array.
+     *
+     * @return array with all values of set in unspecified order.
+     */
+    public long[] toArray() {
+        long[] retValue = new long[size()];
+        int index = 0;
+        if (hasZeroKey) {
+            index++;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                retValue[index++] = key;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Perform action for every value of set.
+     *
+     * @param action action performed for values.
+     */
+    public void forEach(LongConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0);
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Locate position of value in table or position of empty slot where value should be stored.
+     *
+     * @param value non-zero value.
+     * @return position of value or of empty slot.
+     */
+    protected int slot(long value) {
+        int pos = PrimitiveHashing.mix(value) & mask;
+        long current;
+        while ((current = keys[pos]) != 0 && current != value) {
+            pos = (pos + 1) & mask;
+        }
+        return pos;
+    }
+
+    /**
+     * Remove value at provided position and shift following values of probe sequence backward, so table never contains
+     * deleted markers.
+     *
+     * @param pos position of removed value.
+     */
+    protected void removeAt(int pos) {
+        assigned--;
+        int last = pos;
+        int current = pos;
+        long key;
+        while ((key = keys[current = (current + 1) & mask]) != 0) {
+            if (PrimitiveHashing.movable(PrimitiveHashing.mix(key) & mask, last, current)) {
+                keys[last] = key;
+                last = current;
+            }
+        }
+        keys[last] = 0;
+    }
+
+    /**
+     * Move all values into new table array of provided length.
+     *
+     * @param capacity length of new table array.
+     */
+    protected void rehash(int capacity) {
+        long[] oldKeys = keys;
+        allocate(capacity);
+        for (long key : oldKeys) {
+            if (key != 0) {
+                keys[slot(key)] = key;
+            }
+        }
+    }
+
+    /**
+     * Allocate new empty table array of provided length.
+     *
+     * @param capacity length of table array.
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        threshold = PrimitiveHashing.threshold(capacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongHashSet)) return false;
+        LongHashSet that = (LongHashSet) o;
+        boolean retValue = size() == that.size() && hasZeroKey == that.hasZeroKey;
+        for (int i = 0; retValue && i < keys.length; i++) {
+            retValue = keys[i] == 0 || that.contains(keys[i]);
+        }
+        return retValue;
+    }
+
+    @Override
+    public int hashCode() {
+        int retValue = 0;
+        for (long key : keys) {
+            retValue += Long.hashCode(key);
+        }
+        return retValue;
+    }
+
+    @Override
+    public String toString() {
+        long[] values = toArray();
+        Arrays.sort(values);
+        return Arrays.toString(values);
+    }
+}
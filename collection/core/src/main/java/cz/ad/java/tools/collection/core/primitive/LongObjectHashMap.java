@@ -0,0 +1,440 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * Hash map with primitive long keys and object values stored directly in flat parallel arrays with open addressing and
+ * linear probing, so keys are never boxed and no node object is allocated per entry. Key 0 marks empty slot of table,
+ * so its value is kept in separate field. Map permits null values, it is not synchronized and result of modification
+ * during {@link #forEach(LongObjectConsumer)} is undefined.
+ *
+ * @param <V> type of value in map.
+ */
+public class LongObjectHashMap<V> {
+    /**
+     * Keys stored in table, 0 for empty slot.
+     */
+    protected long[] keys;
+    /**
+     * Values stored at same positions as keys.
+     */
+    protected Object[] values;
+    /**
+     * Flag of key 0 presence in map.
+     */
+    protected boolean hasZeroKey;
+    /**
+     * Value assigned to key 0.
+     */
+    protected V zeroValue;
+    /**
+     * Amount of entries stored in table, without key 0.
+     */
+    protected int assigned;
+    /**
+     * Mask of hash code providing position in table.
+     */
+    protected int mask;
+    /**
+     * Amount of entries in table after which is table resized.
+     */
+    protected int threshold;
+
+    /**
+     * Create new empty map with default expected size.
+     */
+    public LongObjectHashMap() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Create new empty map able to store expected amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries stored without resizing.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public LongObjectHashMap(int expectedSize) throws IllegalArgumentException {
+        allocate(PrimitiveHashing.capacity(expectedSize));
+    }
+
+    /**
+     * Provide amount of entries in map.
+     *
+     * @return amount of entries.
+     */
+    public int size() {
+        return hasZeroKey ? assigned + 1 : assigned;
+    }
+
+    /**
+     * Verify if map has no entries.
+     *
+     * @return true when map is empty.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Validate if map contains provided key.
+     *
+     * @param key searched key.
+     * @return true when key is in map, also when it is assigned to null value.
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : keys[slot(key)] != 0;
+    }
+
+    /**
+     * Provide value assigned to key.
+     *
+     * @param key key of value.
+     * @return value assigned to key or null when key is not in map.
+     */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Provide value assigned to key or default value when key is not in map.
+     *
+     * @param key          key of value.
+     * @param defaultValue value returned when key is not in map.
+     * @return value assigned to key or default value.
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V defaultValue) {
+        V retValue = defaultValue;
+        if (key == 0) {
+            if (hasZeroKey) {
+                retValue = zeroValue;
+            }
+        } else {
+            int pos = slot(key);
+            if (keys[pos] != 0) {
+                retValue = (V) values[pos];
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Assign value to key.
+     *
+     * @param key   key of value.
+     * @param value value assigned to key.
+     * @return value previously assigned to key or null when key was not in map.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) throws IllegalStateException {
+        V retValue = null;
+        if (key == 0) {
+            retValue = zeroValue;
+            zeroValue = value;
+            hasZeroKey = true;
+        } else {
+            int pos = slot(key);
+            if (keys[pos] != 0) {
+                retValue = (V) values[pos];
+                values[pos] = value;
+            } else {
+                insert(pos, key, value);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Assign all entries of provided map.
+     *
+     * @param source map with assigned entries.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    @SuppressWarnings("unchecked")
+    public void putAll(LongObjectHashMap<? extends V> source) throws IllegalStateException {
+        ensureCapacity(assigned + source.assigned);
+        if (source.hasZeroKey) {
+            put(0, source.zeroValue);
+        }
+        long[] sourceKeys = source.keys;
+        for (int i = 0; i < sourceKeys.length; i++) {
+            if (sourceKeys[i] != 0) {
+                put(sourceKeys[i], (V) source.values[i]);
+            }
+        }
+    }
+
+    /**
+     * Provide value assigned to key and when key is not in map or has null value assign value created by provided
+     * function. Null value created by function is not stored.
+     *
+     * @param key             key of value.
+     * @param mappingFunction function creating value for key.
+     * @return current or created value assigned to key.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) throws IllegalStateException {
+        V retValue = get(key);
+        if (retValue == null) {
+            retValue = mappingFunction.apply(key);
+            if (retValue != null) {
+                put(key, retValue);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove key and its value from map.
+     *
+     * @param key removed key.
+     * @return value assigned to removed key or null when key was not in map.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        V retValue = null;
+        if (key == 0) {
+            retValue = zeroValue;
+            zeroValue = null;
+            hasZeroKey = false;
+        } else {
+            int pos = slot(key);
+            if (keys[pos] != 0) {
+                retValue = (V) values[pos];
+                removeAt(pos);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all provided keys from map.
+     *
+     * @param removed set of removed keys.
+     * @return true when map was modified.
+     */
+    public boolean removeAll(LongHashSet removed) {
+        boolean retValue = false;
+        if (removed.hasZeroKey && hasZeroKey) {
+            remove(0);
+            retValue = true;
+        }
+        for (long key : removed.keys) {
+            if (key != 0) {
+                int pos = slot(key);
+                if (keys[pos] != 0) {
+                    removeAt(pos);
+                    retValue = true;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all entries from map keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        assigned = 0;
+        hasZeroKey = false;
+        zeroValue = null;
+    }
+
+    /**
+     * Make sure map can store provided amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries expected to be stored.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public void ensureCapacity(int expectedSize) throws IllegalArgumentException {
+        int capacity = PrimitiveHashing.capacity(expectedSize);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    /**
+     * Provide keys of map in new array.
+     *
+     * @return array with all keys of map in unspecified order.
+     */
+    public long[] keys() {
+        long[] retValue = new long[size()];
+        int index = 0;
+        if (hasZeroKey) {
+            index++;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                retValue[index++] = key;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Perform action for every entry of map.
+     *
+     * @param action action performed for entries.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(LongObjectConsumer<? super V> action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Locate position of key in table or position of empty slot where key should be stored.
+     *
+     * @param key non-zero key.
+     * @return position of key or of empty slot.
+     */
+    protected int slot(long key) {
+        int pos = PrimitiveHashing.mix(key) & mask;
+        long current;
+        while ((current = keys[pos]) != 0 && current != key) {
+            pos = (pos + 1) & mask;
+        }
+        return pos;
+    }
+
+    /**
+     * Store new entry into empty slot located by {@link #slot(long)} and resize table when needed.
+     *
+     * @param pos   position of empty slot.
+     * @param key   non-zero key.
+     * @param value value assigned to key.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    protected void insert(int pos, long key, V value) throws IllegalStateException {
+        if (assigned >= threshold) {
+            PrimitiveHashing.checkGrowth(keys.length);
+            rehash(keys.length << 1);
+            pos = slot(key);
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        assigned++;
+    }
+
+    /**
+     * Remove entry at provided position and shift following entries of probe sequence backward, so table never
+     * contains deleted markers.
+     *
+     * @param pos position of removed entry.
+     */
+    protected void removeAt(int pos) {
+        assigned--;
+        int last = pos;
+        int current = pos;
+        long key;
+        while ((key = keys[current = (current + 1) & mask]) != 0) {
+            if (PrimitiveHashing.movable(PrimitiveHashing.mix(key) & mask, last, current)) {
+                keys[last] = key;
+                values[last] = values[current];
+                last = current;
+            }
+        }
+        keys[last] = 0;
+        values[last] = null;
+    }
+
+    /**
+     * Move all entries into new table arrays of provided length.
+     *
+     * @param capacity length of new table arrays.
+     */
+    protected void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int pos = slot(oldKeys[i]);
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Allocate new empty table arrays of provided length.
+     *
+     * @param capacity length of table arrays.
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = PrimitiveHashing.threshold(capacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongObjectHashMap)) return false;
+        LongObjectHashMap<?> that = (LongObjectHashMap<?>) o;
+        boolean retValue = size() == that.size() && hasZeroKey == that.hasZeroKey
+                && Objects.equals(zeroValue, that.zeroValue);
+        for (int i = 0; retValue && i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int pos = that.slot(keys[i]);
+                retValue = that.keys[pos] != 0 && Objects.equals(values[i], that.values[pos]);
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public int hashCode() {
+        int retValue = hasZeroKey ? Objects.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                retValue += Long.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder retValue = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (retValue.length() > 1) {
+                retValue.append(", ");
+            }
+            retValue.append(key).append('=').append(value == this ? "(this Map)" : value);
+        });
+        return retValue.append('}').toString();
+    }
+}
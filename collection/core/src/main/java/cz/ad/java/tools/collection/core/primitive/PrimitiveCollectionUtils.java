@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import java.util.function.Supplier;
+
+/**
+ * Define interface for basic null safe operations with primitive collections, mirroring
+ * {@link cz.ad.java.tools.collection.core.CollectionUtils}. All keys and values are passed as primitive arguments, so
+ * adding, lookup and removal never box them.
+ */
+public interface PrimitiveCollectionUtils {
+    /**
+     * Provide single shared default instance of primitive collection utils.
+     */
+    PrimitiveCollectionUtils DEFAULT_INSTANCE = instance();
+
+    /**
+     * Create new instance of primitive collection utils.
+     *
+     * @return new instance of primitive collection utils.
+     */
+    static PrimitiveCollectionUtils instance() {
+        return new DefaultPrimitiveCollectionUtils();
+    }
+
+    /**
+     * Verify if list has no values.
+     *
+     * @param list instance to be validated.
+     * @return true if provided list is null or empty, otherwise false.
+     */
+    boolean isEmpty(IntArrayList list);
+
+    /**
+     * Verify if set has no values.
+     *
+     * @param set instance to be validated.
+     * @return true if provided set is null or empty, otherwise false.
+     */
+    boolean isEmpty(LongHashSet set);
+
+    /**
+     * Verify if map has no entries.
+     *
+     * @param map instance to be validated.
+     * @return true if provided map is null or empty, otherwise false.
+     */
+    boolean isEmpty(LongObjectHashMap<?> map);
+
+    /**
+     * Verify if map has no entries.
+     *
+     * @param map instance to be validated.
+     * @return true if provided map is null or empty, otherwise false.
+     */
+    boolean isEmpty(IntIntHashMap map);
+
+    /**
+     * Add safely value to list, if input list is null use init to supply new instance of list.
+     *
+     * @param list  used as target for adding value.
+     * @param init  supplier to provide new instance in case when provided list is null.
+     * @param value value to be added into list.
+     * @param <L>   type of list.
+     * @return provided list or initialized new instance with added value.
+     */
+    <L extends IntArrayList> L addList(L list, Supplier<L> init, int value);
+
+    /**
+     * Add safely value to list, if input list is null new {@link IntArrayList} is created.
+     *
+     * @param list  used as target for adding value.
+     * @param value value to be added into list.
+     * @return provided list or new list with added value.
+     */
+    default IntArrayList addList(IntArrayList list, int value) {
+        return addList(list, IntArrayList::new, value);
+    }
+
+    /**
+     * Add safely value to set, if input set is null use init to supply new instance of set.
+     *
+     * @param set   used as target for adding value.
+     * @param init  supplier to provide new instance in case when provided set is null.
+     * @param value value to be added into set.
+     * @param <S>   type of set.
+     * @return provided set or initialized new instance with added value.
+     */
+    <S extends LongHashSet> S addSet(S set, Supplier<S> init, long value);
+
+    /**
+     * Add safely value to set, if input set is null new {@link LongHashSet} is created.
+     *
+     * @param set   used as target for adding value.
+     * @param value value to be added into set.
+     * @return provided set or new set with added value.
+     */
+    default LongHashSet addSet(LongHashSet set, long value) {
+        return addSet(set, LongHashSet::new, value);
+    }
+
+    /**
+     * Put safely key and value pair into map, if input map is null init is used to supply new instance.
+     *
+     * @param map   used as target for adding values.
+     * @param init  supplier to provided new instance in case when provided map is null.
+     * @param key   key connected to value in map.
+     * @param value value stored in map connected to key.
+     * @param <M>   type of map.
+     * @param <V>   type of value.
+     * @return provided map or initialized by supplier with added key and value.
+     */
+    <M extends LongObjectHashMap<V>, V> M putMap(M map, Supplier<M> init, long key, V value);
+
+    /**
+     * Put safely key and value pair into map, if input map is null new {@link LongObjectHashMap} is created.
+     *
+     * @param map   used as target for adding values.
+     * @param key   key connected to value in map.
+     * @param value value stored in map connected to key.
+     * @param <V>   type of value.
+     * @return provided map or new map with added key and value.
+     */
+    default <V> LongObjectHashMap<V> putMap(LongObjectHashMap<V> map, long key, V value) {
+        return putMap(map, LongObjectHashMap::new, key, value);
+    }
+
+    /**
+     * Put safely key and value pair into map, if input map is null init is used to supply new instance.
+     *
+     * @param map   used as target for adding values.
+     * @param init  supplier to provided new instance in case when provided map is null.
+     * @param key   key connected to value in map.
+     * @param value value stored in map connected to key.
+     * @param <M>   type of map.
+     * @return provided map or initialized by supplier with added key and value.
+     */
+    <M extends IntIntHashMap> M putMap(M map, Supplier<M> init, int key, int value);
+
+    /**
+     * Put safely key and value pair into map, if input map is null new {@link IntIntHashMap} is created.
+     *
+     * @param map   used as target for adding values.
+     * @param key   key connected to value in map.
+     * @param value value stored in map connected to key.
+     * @return provided map or new map with added key and value.
+     */
+    default IntIntHashMap putMap(IntIntHashMap map, int key, int value) {
+        return putMap(map, IntIntHashMap::new, key, value);
+    }
+
+    /**
+     * Validate if provided list contains provided value.
+     *
+     * @param list  list to be validated for presence of provided value.
+     * @param value value searched in list for presence.
+     * @return true when value is in list, otherwise false also for null list.
+     */
+    boolean contains(IntArrayList list, int value);
+
+    /**
+     * Validate if provided set contains provided value.
+     *
+     * @param set   set to be validated for presence of provided value.
+     * @param value value searched in set for presence.
+     * @return true when value is in set, otherwise false also for null set.
+     */
+    boolean contains(LongHashSet set, long value);
+
+    /**
+     * Validate if provided map contains provided key.
+     *
+     * @param map map to be validated for presence of provided key.
+     * @param key key searched in map for presence.
+     * @return true when key is in map, otherwise false also for null map.
+     */
+    boolean contains(LongObjectHashMap<?> map, long key);
+
+    /**
+     * Validate if provided map contains provided key.
+     *
+     * @param map map to be validated for presence of provided key.
+     * @param key key searched in map for presence.
+     * @return true when key is in map, otherwise false also for null map.
+     */
+    boolean contains(IntIntHashMap map, int key);
+
+    /**
+     * Remove all occurrences of values contained in source list from target list.
+     *
+     * @param target list where values should be removed.
+     * @param source values to be removed from list.
+     * @return true in case when list is modified, otherwise false also when any of lists is null.
+     */
+    boolean removeAll(IntArrayList target, IntArrayList source);
+
+    /**
+     * Remove all values contained in source set from target set.
+     *
+     * @param target set where values should be removed.
+     * @param source values to be removed from set.
+     * @return true in case when set is modified, otherwise false also when any of sets is null.
+     */
+    boolean removeAll(LongHashSet target, LongHashSet source);
+
+    /**
+     * Remove all keys contained in source set from target map.
+     *
+     * @param target map where keys should be removed.
+     * @param source keys to be removed from map.
+     * @return true in case when map is modified, otherwise false also when map or set is null.
+     */
+    boolean removeAll(LongObjectHashMap<?> target, LongHashSet source);
+
+    /**
+     * Remove all keys contained in source list from target map.
+     *
+     * @param target map where keys should be removed.
+     * @param source keys to be removed from map.
+     * @return true in case when map is modified, otherwise false also when map or list is null.
+     */
+    boolean removeAll(IntIntHashMap target, IntArrayList source);
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+/**
+ * Hashing support shared by open addressing hash tables with primitive keys. Tables use power of two length, linear
+ * probing and load factor {@link #LOAD_FACTOR}. Key 0 marks empty slot, so it is stored outside of table array.
+ */
+final class PrimitiveHashing {
+    /**
+     * Maximal ratio of stored keys to length of table.
+     */
+    static final double LOAD_FACTOR = 0.75d;
+    /**
+     * Default amount of keys stored without resizing of table.
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 12;
+    /**
+     * Maximal length of table array.
+     */
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private PrimitiveHashing() {
+    }
+
+    /**
+     * Spread bits of key, so sequential keys and keys differing only in upper bits don't form long clusters.
+     *
+     * @param key key stored in table.
+     * @return mixed hash code.
+     */
+    static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Spread bits of key, so sequential keys and keys differing only in upper bits don't form long clusters.
+     *
+     * @param key key stored in table.
+     * @return mixed hash code.
+     */
+    static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Calculate length of table array able to store provided amount of keys.
+     *
+     * @param expectedSize amount of keys to be stored.
+     * @return power of two length of table.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    static int capacity(int expectedSize) throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        long required = Math.max(2L, (long) Math.ceil(expectedSize / LOAD_FACTOR));
+        int retValue = MAXIMUM_CAPACITY;
+        if (required < MAXIMUM_CAPACITY) {
+            retValue = Integer.highestOneBit((int) required - 1) << 1;
+        }
+        return retValue;
+    }
+
+    /**
+     * Calculate amount of keys stored in table array of provided length after which table is resized.
+     *
+     * @param capacity length of table array.
+     * @return resize threshold.
+     */
+    static int threshold(int capacity) {
+        return Math.min(capacity - 1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    /**
+     * Verify if key stored at current position can be moved to last emptied position of probe sequence, which is
+     * possible only when its home position is not cyclically between last and current position.
+     *
+     * @param home    home position of key.
+     * @param last    emptied position.
+     * @param current position of key.
+     * @return true when key can be moved to emptied position.
+     */
+    static boolean movable(int home, int last, int current) {
+        return last <= current ? home <= last || home > current : home <= last && home > current;
+    }
+
+    /**
+     * Verify if table can be resized to double length.
+     *
+     * @param capacity current length of table array.
+     * @throws IllegalStateException when table reached maximal capacity.
+     */
+    static void checkGrowth(int capacity) throws IllegalStateException {
+        if (capacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Table reached maximal capacity");
+        }
+    }
+}
@@ -3,4 +3,9 @@
  */
 module cz.ad.java.tools.collection.core {
     exports cz.ad.java.tools.collection.core;
+    exports cz.ad.java.tools.collection.core.primitive;
+
+    uses cz.ad.java.tools.collection.core.CollectionFactory;
+    uses cz.ad.java.tools.collection.core.BulkOperationMonitor;
+    uses cz.ad.java.tools.collection.core.PrimitiveArrayUtils;
 }
\ No newline at end of file
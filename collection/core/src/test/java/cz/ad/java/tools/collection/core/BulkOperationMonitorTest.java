@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkOperationMonitorTest {
+
+    @Test
+    void instance() {
+        assertSame(BulkOperationMonitor.DISABLED, BulkOperationMonitor.instance());
+        assertSame(BulkOperationMonitor.DISABLED, BulkOperationMonitor.DEFAULT_INSTANCE);
+    }
+
+    @Test
+    void disabled() {
+        BulkOperationMonitor instance = BulkOperationMonitor.DISABLED;
+        assertFalse(instance.isEnabled());
+        instance.completed("removeAll", List.of(), List.of(), 0, 0, System.nanoTime());
+        assertEquals(new DisabledBulkOperationMonitor(), instance);
+        assertEquals(new DisabledBulkOperationMonitor().hashCode(), instance.hashCode());
+        assertNotEquals(new RecordingBulkOperationMonitor(), instance);
+        assertEquals("DisabledBulkOperationMonitor{}", instance.toString());
+    }
+
+    @Test
+    void load(@TempDir Path directory) throws IOException {
+        assertSame(BulkOperationMonitor.DISABLED, BulkOperationMonitor.load(getClass().getClassLoader()));
+
+        Path services = Files.createDirectories(directory.resolve("META-INF").resolve("services"));
+        Files.write(services.resolve(BulkOperationMonitor.class.getName()),
+                List.of(RecordingBulkOperationMonitor.class.getName()));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()},
+                getClass().getClassLoader())) {
+            assertTrue(BulkOperationMonitor.load(loader) instanceof RecordingBulkOperationMonitor);
+        }
+    }
+
+    @Test
+    void measurement() {
+        assertNull(BulkOperationMonitor.measure(BulkOperationMonitor.DISABLED, List.of(1)));
+        BulkOperationMonitor.report(null, "addAll", null, List.of(1));
+
+        RecordingBulkOperationMonitor instance = new RecordingBulkOperationMonitor();
+        BulkOperationMonitor.Measurement measurement = BulkOperationMonitor.measure(instance, Map.of(1, 1));
+        assertEquals(1, measurement.targetSize());
+        assertTrue(measurement.toString().contains("targetSize=1"));
+        BulkOperationMonitor.report(measurement, "putAll", null, List.of(1, 2));
+        BulkOperationMonitor.report(BulkOperationMonitor.measure(instance, null), "addToAll", null, "bean");
+        BulkOperationMonitor.report(null, "addAll", null, List.of(1));
+        assertEquals(List.of("putAll:1:2", "addToAll:0:0"), instance.operations);
+    }
+
+    /**
+     * Monitor remembering all reported operations.
+     */
+    public static class RecordingBulkOperationMonitor implements BulkOperationMonitor {
+        /**
+         * Reported operations in form name:targetSize:sourceSize.
+         */
+        public final List<String> operations = new ArrayList<>();
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void completed(String operation, Object target, Object source, int targetSize, int sourceSize,
+                              long start) {
+            assertTrue(System.nanoTime() - start >= 0);
+            operations.add(operation + ":" + targetSize + ":" + sourceSize);
+        }
+    }
+}
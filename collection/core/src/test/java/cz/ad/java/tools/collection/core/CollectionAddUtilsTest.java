@@ -20,14 +20,23 @@ package cz.ad.java.tools.collection.core;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CollectionAddUtilsTest {
@@ -96,4 +105,97 @@ class CollectionAddUtilsTest {
         assertEquals(2, result.size());
     }
 
-}
\ No newline at end of file
+    @Test
+    void putToCollection() {
+        Map<String, LinkedList<Integer>> result =
+                CollectionAddUtils.DEFAULT_INSTANCE.putToCollection(null, "a", LinkedList::new, 1);
+        assertEquals(Map.of("a", List.of(1)), result);
+        assertSame(result, CollectionAddUtils.DEFAULT_INSTANCE.putToCollection(result, "a", () -> null, 2));
+        assertEquals(List.of(1, 2), result.get("a"));
+
+        Map<String, Set<Integer>> concurrent = new ConcurrentHashMap<>();
+        Set<Integer> current = ConcurrentHashMap.newKeySet();
+        concurrent.put("a", current);
+        assertSame(concurrent, CollectionAddUtils.DEFAULT_INSTANCE.putToCollection(concurrent, "a", () -> null, 1));
+        assertSame(concurrent, CollectionAddUtils.DEFAULT_INSTANCE.putToCollection(concurrent, "b", HashSet::new, 2));
+        assertSame(current, concurrent.get("a"));
+        assertEquals(Map.of("a", Set.of(1), "b", Set.of(2)), concurrent);
+    }
+
+    @Test
+    void putToList() {
+        Map<String, List<Integer>> result = CollectionAddUtils.DEFAULT_INSTANCE.putToList(null, "a", 1);
+        assertEquals(Map.of("a", List.of(1)), result);
+        assertSame(result, CollectionAddUtils.DEFAULT_INSTANCE.putToList(result, "a", 2));
+        assertSame(result, CollectionAddUtils.DEFAULT_INSTANCE.putToList(result, "b", 3, 10));
+        assertEquals(Map.of("a", List.of(1, 2), "b", List.of(3)), result);
+        assertThrows(IllegalArgumentException.class,
+                () -> CollectionAddUtils.DEFAULT_INSTANCE.putToList(result, "c", 1, -1));
+        assertEquals(Map.of("a", List.of(1, 2, 1)), CollectionAddUtils.DEFAULT_INSTANCE.putToList(
+                new HashMap<>(Map.of("a", new ArrayList<>(List.of(1, 2)))), "a", 1, -1));
+    }
+
+    @Test
+    void putToSet() {
+        Map<String, Set<Integer>> result = CollectionAddUtils.DEFAULT_INSTANCE.putToSet(null, "a", 1);
+        assertEquals(Map.of("a", Set.of(1)), result);
+        assertSame(result, CollectionAddUtils.DEFAULT_INSTANCE.putToSet(result, "a", 1));
+        assertSame(result, CollectionAddUtils.DEFAULT_INSTANCE.putToSet(result, "b", 2, 10));
+        assertEquals(Map.of("a", Set.of(1), "b", Set.of(2)), result);
+
+        Map<String, Set<Integer>> concurrent = new ConcurrentHashMap<>();
+        assertSame(concurrent, CollectionAddUtils.DEFAULT_INSTANCE.putToSet(concurrent, "a", 1));
+        assertSame(concurrent, CollectionAddUtils.DEFAULT_INSTANCE.putToSet(concurrent, "a", 2, 10));
+        assertSame(concurrent, CollectionAddUtils.DEFAULT_INSTANCE.putToSet(concurrent, "b", 3, 10));
+        assertEquals(Map.of("a", Set.of(1, 2), "b", Set.of(3)), concurrent);
+    }
+
+    @Test
+    void putAllToList() {
+        assertNull(CollectionAddUtils.DEFAULT_INSTANCE.putAllToList(null, "a", null));
+        assertNull(CollectionAddUtils.DEFAULT_INSTANCE.putAllToList(null, "a", List.of()));
+        Map<String, List<Number>> result = CollectionAddUtils.DEFAULT_INSTANCE.putAllToList(null, "a", List.of(1, 2));
+        assertSame(result, CollectionAddUtils.DEFAULT_INSTANCE.putAllToList(result, "a", Set.of(3L)));
+        assertEquals(Map.of("a", List.of(1, 2, 3L)), result);
+    }
+
+    @Test
+    void removeFromMulti() {
+        assertFalse(CollectionAddUtils.DEFAULT_INSTANCE.removeFromMulti(null, "a", 1));
+        Map<String, List<Integer>> map = CollectionAddUtils.DEFAULT_INSTANCE.putAllToList(null, "a", List.of(1, 2));
+        assertFalse(CollectionAddUtils.DEFAULT_INSTANCE.removeFromMulti(map, "b", 1));
+        assertFalse(CollectionAddUtils.DEFAULT_INSTANCE.removeFromMulti(map, "a", 3));
+        assertTrue(CollectionAddUtils.DEFAULT_INSTANCE.removeFromMulti(map, "a", 1));
+        assertEquals(Map.of("a", List.of(2)), map);
+        assertTrue(CollectionAddUtils.DEFAULT_INSTANCE.removeFromMulti(map, "a", 2));
+        assertTrue(map.isEmpty());
+
+        Map<String, Set<Integer>> concurrent = new ConcurrentHashMap<>();
+        CollectionAddUtils.DEFAULT_INSTANCE.putToSet(concurrent, "a", 1);
+        CollectionAddUtils.DEFAULT_INSTANCE.putToSet(concurrent, "a", 2);
+        assertTrue(CollectionAddUtils.DEFAULT_INSTANCE.removeFromMulti(concurrent, "a", 1));
+        assertFalse(CollectionAddUtils.DEFAULT_INSTANCE.removeFromMulti(concurrent, "a", 1));
+        assertEquals(Map.of("a", Set.of(2)), concurrent);
+        assertTrue(CollectionAddUtils.DEFAULT_INSTANCE.removeFromMulti(concurrent, "a", 2));
+        assertTrue(concurrent.isEmpty());
+    }
+
+    @Test
+    void collectionFactory() {
+        assertEquals(CollectionFactory.DEFAULT_INSTANCE, CollectionAddUtils.DEFAULT_INSTANCE.collectionFactory());
+
+        CollectionAddUtils instance = new DefaultCollectionUtils(DefaultCollectionUtils.DEFAULT_HASH_INDEX_THRESHOLD,
+                new CollectionFactoryTest.SortedCollectionFactory());
+        assertTrue(instance.addList(null, 1) instanceof LinkedList);
+        assertTrue(instance.addAllList(null, List.of(1)) instanceof LinkedList);
+        assertTrue(instance.addSet(null, 1) instanceof TreeSet);
+        assertTrue(instance.addAllSet(null, List.of(1)) instanceof TreeSet);
+        assertTrue(instance.putMap(null, 1, 1) instanceof TreeMap);
+        assertTrue(instance.putAllMap(null, Map.of(1, 1)) instanceof TreeMap);
+        Map<Integer, List<Integer>> lists = instance.putToList(null, 1, 1);
+        assertTrue(lists instanceof TreeMap);
+        assertTrue(lists.get(1) instanceof LinkedList);
+        assertTrue(instance.putToSet(null, 1, 1).get(1) instanceof TreeSet);
+        assertTrue(instance.putAllToList(null, 1, List.of(1)).get(1) instanceof LinkedList);
+    }
+}
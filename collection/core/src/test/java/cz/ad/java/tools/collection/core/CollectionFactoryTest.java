@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollectionFactoryTest {
+
+    @Test
+    void instance() {
+        CollectionFactory instance = CollectionFactory.instance();
+        assertNotNull(instance);
+        assertEquals(new DefaultCollectionFactory(), instance);
+        assertNotNull(CollectionFactory.DEFAULT_INSTANCE);
+    }
+
+    @Test
+    void load(@TempDir Path directory) throws IOException {
+        assertEquals(new DefaultCollectionFactory(), CollectionFactory.load(getClass().getClassLoader()));
+
+        Path services = Files.createDirectories(directory.resolve("META-INF").resolve("services"));
+        Files.write(services.resolve(CollectionFactory.class.getName()),
+                List.of(SortedCollectionFactory.class.getName()));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()},
+                getClass().getClassLoader())) {
+            CollectionFactory factory = CollectionFactory.load(loader);
+            assertTrue(factory instanceof SortedCollectionFactory);
+        }
+    }
+
+    /**
+     * Factory provided as service by test class loader.
+     */
+    public static class SortedCollectionFactory implements CollectionFactory {
+
+        @Override
+        public <V> List<V> newList() {
+            return new LinkedList<>();
+        }
+
+        @Override
+        public <V> List<V> newList(int expectedSize) {
+            return new LinkedList<>();
+        }
+
+        @Override
+        public <V> Set<V> newSet() {
+            return new TreeSet<>();
+        }
+
+        @Override
+        public <V> Set<V> newSet(int expectedSize) {
+            return new TreeSet<>();
+        }
+
+        @Override
+        public <K, V> Map<K, V> newMap() {
+            return new TreeMap<>();
+        }
+
+        @Override
+        public <K, V> Map<K, V> newMap(int expectedSize) {
+            return new TreeMap<>();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollectionInitTest {
+
+    @Test
+    void of() {
+        CollectionInit instance = CollectionInit.of(CollectionFactory.DEFAULT_INSTANCE);
+        assertSame(instance, CollectionInit.of(CollectionFactory.DEFAULT_INSTANCE));
+        assertSame(instance.list(), CollectionInit.of(CollectionFactory.DEFAULT_INSTANCE).list());
+
+        CollectionFactory factory = new CollectionFactoryTest.SortedCollectionFactory();
+        CollectionInit sorted = CollectionInit.of(factory);
+        assertNotSame(instance, sorted);
+        assertSame(sorted, CollectionInit.of(factory));
+        assertTrue(sorted.toString().contains("factory="));
+    }
+
+    @Test
+    void ofUtils() {
+        DefaultCollectionUtils defaultUtils = new DefaultCollectionUtils();
+        ConcurrentCollectionUtils concurrentUtils = new ConcurrentCollectionUtils();
+        CollectionInit defaultInit = CollectionInit.of(defaultUtils);
+        CollectionInit concurrentInit = CollectionInit.of(concurrentUtils);
+        assertNotSame(defaultInit, concurrentInit);
+        // utils with different factories used alternately keep their own suppliers
+        assertSame(defaultInit, CollectionInit.of(defaultUtils));
+        assertSame(concurrentInit, CollectionInit.of(concurrentUtils));
+
+        CollectionFactory factory = new CollectionFactoryTest.SortedCollectionFactory();
+        defaultUtils.collectionFactory = factory;
+        CollectionInit sorted = CollectionInit.of(defaultUtils);
+        assertSame(CollectionInit.of(factory), sorted);
+        assertTrue(sorted.<Integer>list().get() instanceof LinkedList);
+    }
+
+    @Test
+    void suppliers() {
+        CollectionInit instance = CollectionInit.of(new CollectionFactoryTest.SortedCollectionFactory());
+        List<Integer> list = instance.<Integer>list().get();
+        assertTrue(list instanceof LinkedList);
+        assertTrue(instance.<Integer>sizedList().apply(10) instanceof LinkedList);
+        Set<Integer> set = instance.<Integer>set().get();
+        assertTrue(set instanceof TreeSet);
+        assertTrue(instance.<Integer>sizedSet().apply(10) instanceof TreeSet);
+        Map<Integer, String> map = instance.<Integer, String>map().get();
+        assertTrue(map instanceof TreeMap);
+        assertTrue(instance.<Integer, String>sizedMap().apply(10) instanceof TreeMap);
+        assertEquals(0, map.size());
+        assertTrue(instance.<String, Integer>keyedList().apply("a") instanceof LinkedList);
+        assertTrue(instance.<String, Integer>keyedSet().apply("a") instanceof TreeSet);
+    }
+
+    @Test
+    void collection() {
+        List<String> lookups = new ArrayList<>();
+        Map<String, List<Integer>> map = new HashMap<String, List<Integer>>() {
+            @Override
+            public List<Integer> get(Object key) {
+                lookups.add("get");
+                return super.get(key);
+            }
+
+            @Override
+            public List<Integer> put(String key, List<Integer> value) {
+                lookups.add("put");
+                return super.put(key, value);
+            }
+        };
+        CollectionInit instance = CollectionInit.of(CollectionFactory.DEFAULT_INSTANCE);
+        List<Integer> list = CollectionInit.computeCollection(map, "a", instance.<String, Integer>keyedList());
+        assertEquals(Arrays.asList("get", "put"), lookups);
+        lookups.clear();
+        assertSame(list, CollectionInit.collection(map, "a", instance.<Integer>sizedList(), 10));
+        assertSame(list, CollectionInit.collection(map, "a", () -> null));
+        assertEquals(Arrays.asList("get", "get"), lookups);
+        assertTrue(CollectionInit.collection(map, "b", instance.<Integer>sizedList(), 10).isEmpty());
+        assertTrue(CollectionInit.collection(map, "c", LinkedList::new) instanceof LinkedList);
+        assertEquals(3, map.size());
+
+        List<String> computed = new ArrayList<>();
+        Map<String, Set<Integer>> concurrent = new ConcurrentHashMap<String, Set<Integer>>() {
+            @Override
+            public Set<Integer> computeIfAbsent(String key, Function<? super String, ? extends Set<Integer>> init) {
+                computed.add(key);
+                return super.computeIfAbsent(key, init);
+            }
+        };
+        Set<Integer> set = CollectionInit.computeCollection(concurrent, "a", instance.<String, Integer>keyedSet());
+        assertSame(set, CollectionInit.computeCollection(concurrent, "a", instance.<String, Integer>keyedSet()));
+        assertSame(set, CollectionInit.collection(concurrent, "a", instance.<Integer>sizedSet(), 10));
+        assertSame(set, CollectionInit.collection(concurrent, "a", () -> null));
+        assertTrue(CollectionInit.collection(concurrent, "b", instance.<Integer>sizedSet(), 10).isEmpty());
+        assertEquals(Arrays.asList("a", "a", "b"), computed);
+    }
+}
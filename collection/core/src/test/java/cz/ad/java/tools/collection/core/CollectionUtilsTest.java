@@ -20,7 +20,10 @@ package cz.ad.java.tools.collection.core;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CollectionUtilsTest {
 
@@ -30,4 +33,21 @@ class CollectionUtilsTest {
         assertNotNull(instance);
         assertNotNull(CollectionUtils.DEFAULT_INSTANCE);
     }
-}
\ No newline at end of file
+
+    @Test
+    void hashCapacity() {
+        assertEquals(0, CollectionUtils.hashCapacity(0));
+        assertEquals(2, CollectionUtils.hashCapacity(1));
+        assertEquals(16, CollectionUtils.hashCapacity(12));
+        assertEquals(18, CollectionUtils.hashCapacity(13));
+        assertEquals(Integer.MAX_VALUE, CollectionUtils.hashCapacity(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtils.hashCapacity(-1));
+
+        for (int expected : new int[]{1, 12, 13, 1000, 786432, 786433, 1000000}) {
+            int capacity = CollectionUtils.hashCapacity(expected);
+            // table size chosen by hash map is next power of two, resize happens when size exceeds 3/4 of it
+            int table = Integer.highestOneBit(capacity - 1) << 1;
+            assertTrue(table * 3L / 4 >= expected, "resize expected for " + expected);
+        }
+    }
+}
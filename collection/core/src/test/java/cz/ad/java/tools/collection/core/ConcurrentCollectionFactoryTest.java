@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentCollectionFactoryTest {
+
+    @Test
+    void factory() {
+        ConcurrentCollectionFactory instance = new ConcurrentCollectionFactory();
+        List<Integer> list = instance.newList(10);
+        list.add(1);
+        assertEquals(List.of(1), list);
+        assertTrue(instance.newList().isEmpty());
+        assertTrue(instance.newSet() instanceof ConcurrentHashMap.KeySetView);
+        assertTrue(instance.newSet(10) instanceof ConcurrentHashMap.KeySetView);
+        assertTrue(instance.newMap() instanceof ConcurrentHashMap);
+        assertTrue(instance.newMap(10) instanceof ConcurrentHashMap);
+        assertThrows(IllegalArgumentException.class, () -> instance.newList(-1));
+        assertThrows(IllegalArgumentException.class, () -> instance.newSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> instance.newMap(-1));
+
+        assertEquals(new ConcurrentCollectionFactory(), instance);
+        assertEquals(new ConcurrentCollectionFactory().hashCode(), instance.hashCode());
+        assertNotEquals(new DefaultCollectionFactory(), instance);
+        assertEquals("ConcurrentCollectionFactory{}", instance.toString());
+    }
+
+    @Test
+    void collectionUtils() {
+        CollectionAddUtils utils = new ConcurrentCollectionUtils();
+        Set<Integer> set = utils.addSet(null, 1);
+        assertTrue(set instanceof ConcurrentHashMap.KeySetView);
+        Map<Integer, Integer> map = utils.putAllMap(null, Map.of(1, 2));
+        assertTrue(map instanceof ConcurrentHashMap);
+        assertEquals(Map.of(1, 2), map);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentCollectionUtilsTest {
+
+    private static final int THREADS = 8;
+
+    private static final int VALUES = 1000;
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentCollectionUtils(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentCollectionUtils(0, null));
+
+        ConcurrentCollectionUtils instance = new ConcurrentCollectionUtils();
+        assertEquals(new ConcurrentCollectionFactory(), instance.collectionFactory());
+        assertEquals(DefaultCollectionUtils.DEFAULT_HASH_INDEX_THRESHOLD, instance.hashIndexThreshold);
+        assertEquals(new ConcurrentCollectionUtils(), instance);
+        assertEquals(new ConcurrentCollectionUtils().hashCode(), instance.hashCode());
+        assertNotEquals(new DefaultCollectionUtils(), instance);
+        assertTrue(instance.toString().startsWith("ConcurrentCollectionUtils{"));
+        assertTrue(instance.toString().contains("bulkOperationMonitor="));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrentCollectionUtils(0, new ConcurrentCollectionFactory(), null));
+        ConcurrentCollectionUtils monitored = new ConcurrentCollectionUtils(0, new ConcurrentCollectionFactory(),
+                BulkOperationMonitor.DISABLED);
+        assertSame(BulkOperationMonitor.DISABLED, monitored.bulkOperationMonitor());
+        assertEquals(new ConcurrentCollectionFactory(), monitored.collectionFactory());
+    }
+
+    @Test
+    void initIfNeeded() {
+        ConcurrentCollectionUtils instance = testedInstance();
+        assertNull(instance.initIfNeeded(null, ArrayList::new));
+        AtomicReference<List<Integer>> holder = new AtomicReference<>();
+        assertNull(instance.initIfNeeded(holder, null));
+        assertNull(instance.initIfNeeded(holder, () -> null));
+        assertNull(holder.get());
+        List<Integer> list = instance.initIfNeeded(holder, ArrayList::new);
+        assertSame(list, holder.get());
+        assertSame(list, instance.initIfNeeded(holder, ArrayList::new));
+    }
+
+    @Test
+    void addShared() {
+        ConcurrentCollectionUtils instance = testedInstance();
+        assertNull(instance.addShared(null, ArrayList::new, 1));
+        AtomicReference<List<Integer>> holder = new AtomicReference<>();
+        List<Integer> list = instance.addShared(holder, ArrayList::new, 1);
+        assertSame(list, instance.addShared(holder, ArrayList::new, 2));
+        assertEquals(List.of(1, 2), holder.get());
+
+        AtomicReference<Set<Integer>> setHolder = new AtomicReference<>();
+        assertNull(instance.addAllShared(setHolder, ConcurrentHashMap::newKeySet, List.of()));
+        assertNull(setHolder.get());
+        assertEquals(Set.of(1, 2), instance.addAllShared(setHolder, ConcurrentHashMap::newKeySet, List.of(1, 2)));
+        assertEquals(Set.of(1, 2), instance.addAllShared(setHolder, ConcurrentHashMap::newKeySet, null));
+    }
+
+    @Test
+    void putShared() {
+        ConcurrentCollectionUtils instance = testedInstance();
+        assertNull(instance.putShared(null, HashMap::new, 1, 1));
+        AtomicReference<Map<Integer, Integer>> holder = new AtomicReference<>();
+        Map<Integer, Integer> map = instance.putShared(holder, HashMap::new, 1, 1);
+        assertSame(map, instance.putAllShared(holder, HashMap::new, Map.of(2, 2)));
+        assertEquals(Map.of(1, 1, 2, 2), holder.get());
+        AtomicReference<Map<Integer, Integer>> empty = new AtomicReference<>();
+        assertNull(instance.putAllShared(empty, HashMap::new, Map.of()));
+        assertNull(empty.get());
+    }
+
+    @Test
+    void computeIfAbsent() {
+        ConcurrentCollectionUtils instance = testedInstance();
+        assertNull(instance.computeIfAbsent(null, 1, key -> key));
+        Map<Integer, Integer> map = new HashMap<>();
+        assertNull(instance.computeIfAbsent(map, 1, null));
+        assertEquals(2, instance.computeIfAbsent(map, 1, key -> key + 1));
+        assertEquals(2, instance.computeIfAbsent(map, 1, key -> key + 2));
+
+        AtomicReference<Map<Integer, List<Integer>>> holder = new AtomicReference<>();
+        instance.computeIfAbsentShared(holder, ConcurrentHashMap::new, 1, key -> new ArrayList<>()).add(1);
+        assertEquals(Map.of(1, List.of(1)), holder.get());
+    }
+
+    @Test
+    void concurrentInitialization() throws Exception {
+        ConcurrentCollectionUtils instance = testedInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < 20; round++) {
+                AtomicReference<Set<Integer>> holder = new AtomicReference<>();
+                AtomicReference<Map<Integer, Set<Integer>>> groups = new AtomicReference<>();
+                AtomicInteger created = new AtomicInteger();
+                Map<Integer, Set<Integer>> multimap = instance.collectionFactory().newMap();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int thread = 0; thread < THREADS; thread++) {
+                    int offset = thread * VALUES;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = offset; i < offset + VALUES; i++) {
+                            instance.addShared(holder, ConcurrentHashMap::newKeySet, i);
+                            instance.computeIfAbsentShared(groups, ConcurrentHashMap::new, i % 10, key -> {
+                                created.incrementAndGet();
+                                return ConcurrentHashMap.newKeySet();
+                            }).add(i);
+                            instance.putToSet(multimap, i % 10, i);
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                assertEquals(THREADS * VALUES, holder.get().size());
+                assertEquals(10, groups.get().size());
+                assertEquals(10, created.get());
+                assertEquals(THREADS * VALUES, groups.get().values().stream().mapToInt(Set::size).sum());
+                assertEquals(groups.get(), multimap);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ConcurrentCollectionUtils testedInstance() {
+        return new ConcurrentCollectionUtils();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultCollectionFactoryTest {
+
+    @Test
+    void newList() {
+        DefaultCollectionFactory instance = new DefaultCollectionFactory();
+        assertTrue(instance.newList() instanceof ArrayList);
+        assertTrue(instance.newList(10).isEmpty());
+        assertTrue(instance.newList(10) instanceof ArrayList);
+        assertThrows(IllegalArgumentException.class, () -> instance.newList(-1));
+    }
+
+    @Test
+    void newSet() {
+        DefaultCollectionFactory instance = new DefaultCollectionFactory();
+        assertTrue(instance.newSet() instanceof HashSet);
+        assertTrue(instance.newSet(10).isEmpty());
+        assertTrue(instance.newSet(10) instanceof HashSet);
+        assertThrows(IllegalArgumentException.class, () -> instance.newSet(-1));
+    }
+
+    @Test
+    void newMap() {
+        DefaultCollectionFactory instance = new DefaultCollectionFactory();
+        assertTrue(instance.newMap() instanceof HashMap);
+        assertTrue(instance.newMap(10).isEmpty());
+        assertTrue(instance.newMap(10) instanceof HashMap);
+        assertThrows(IllegalArgumentException.class, () -> instance.newMap(-1));
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        DefaultCollectionFactory instance = new DefaultCollectionFactory();
+        assertEquals(instance, instance);
+        assertEquals(new DefaultCollectionFactory(), instance);
+        assertEquals(new DefaultCollectionFactory().hashCode(), instance.hashCode());
+        assertNotEquals(new CollectionFactoryTest.SortedCollectionFactory(), instance);
+        assertNotEquals(null, instance);
+        assertEquals("DefaultCollectionFactory{}", instance.toString());
+    }
+}
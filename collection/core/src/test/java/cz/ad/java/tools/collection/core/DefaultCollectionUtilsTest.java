@@ -21,21 +21,56 @@ package cz.ad.java.tools.collection.core;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultCollectionUtilsTest {
 
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultCollectionUtils(-1));
+        DefaultCollectionUtils instance = new DefaultCollectionUtils(0);
+        assertEquals(0, instance.hashIndexThreshold);
+        instance = new DefaultCollectionUtils();
+        assertEquals(DefaultCollectionUtils.DEFAULT_HASH_INDEX_THRESHOLD, instance.hashIndexThreshold);
+        assertEquals(new DefaultCollectionUtils(), instance);
+        assertEquals(new DefaultCollectionUtils().hashCode(), instance.hashCode());
+        assertFalse(instance.equals(new DefaultCollectionUtils(0)));
+        assertSame(CollectionFactory.DEFAULT_INSTANCE, instance.collectionFactory());
+
+        CollectionFactory factory = new CollectionFactoryTest.SortedCollectionFactory();
+        assertThrows(IllegalArgumentException.class, () -> new DefaultCollectionUtils(0, null));
+        assertThrows(IllegalArgumentException.class, () -> new DefaultCollectionUtils(-1, factory));
+        instance = new DefaultCollectionUtils(0, factory);
+        assertSame(factory, instance.collectionFactory());
+        assertFalse(instance.equals(new DefaultCollectionUtils(0)));
+
+        assertSame(BulkOperationMonitor.DEFAULT_INSTANCE, instance.bulkOperationMonitor());
+        assertThrows(IllegalArgumentException.class, () -> new DefaultCollectionUtils(0, factory, null));
+        BulkOperationMonitor monitor = new BulkOperationMonitorTest.RecordingBulkOperationMonitor();
+        instance = new DefaultCollectionUtils(0, factory, monitor);
+        assertSame(monitor, instance.bulkOperationMonitor());
+        assertFalse(instance.equals(new DefaultCollectionUtils(0, factory)));
+        assertTrue(instance.toString().contains("bulkOperationMonitor="));
+    }
+
     @Test
     void isEmpty() {
         DefaultCollectionUtils instance = testedInstance();
@@ -212,6 +247,71 @@ class DefaultCollectionUtilsTest {
         assertEquals(2, map.get(1));
     }
 
+    @Test
+    void addAllSized() {
+        DefaultCollectionUtils instance = testedInstance();
+        List<Integer> result = instance.addAllSized(null, ArrayList::new, null);
+        assertNull(result);
+
+        List<Integer> list = new ArrayList<>();
+        result = instance.addAllSized(null, ArrayList::new, list);
+        assertNull(result);
+
+        list.add(1);
+        list.add(2);
+        List<Integer> sizes = new ArrayList<>();
+        result = instance.addAllSized(null, size -> {
+            sizes.add(size);
+            return new ArrayList<>(size);
+        }, list);
+        assertNotNull(result);
+        assertEquals(List.of(1, 2), result);
+        assertEquals(List.of(2), sizes);
+
+        result = instance.addAllSized(result, size -> {
+            sizes.add(size);
+            return new ArrayList<>(size);
+        }, list);
+        assertEquals(List.of(1, 2, 1, 2), result);
+        assertEquals(List.of(2), sizes);
+
+        result = instance.addAllSized(null, size -> null, list);
+        assertNull(result);
+    }
+
+    @Test
+    void putAllSized() {
+        DefaultCollectionUtils instance = testedInstance();
+
+        HashMap<Integer, Integer> map = instance.putAllSized(null, HashMap::new, null);
+        assertNull(map);
+
+        Map<Integer, Integer> source = new HashMap<>();
+        map = instance.putAllSized(map, HashMap::new, source);
+        assertNull(map);
+
+        source.put(1, 2);
+        source.put(3, 4);
+        map = instance.putAllSized(map, size -> null, source);
+        assertNull(map);
+
+        List<Integer> sizes = new ArrayList<>();
+        map = instance.putAllSized(map, size -> {
+            sizes.add(size);
+            return new HashMap<>(CollectionUtils.hashCapacity(size));
+        }, source);
+        assertNotNull(map);
+        assertEquals(source, map);
+        assertEquals(List.of(2), sizes);
+
+        map = instance.putAllSized(map, size -> {
+            sizes.add(size);
+            return new HashMap<>(size);
+        }, Map.of(5, 6));
+        assertEquals(3, map.size());
+        assertEquals(List.of(2), sizes);
+    }
+
     @Test
     void contains() {
         DefaultCollectionUtils instance = testedInstance();
@@ -463,6 +563,202 @@ class DefaultCollectionUtilsTest {
         assertTrue(retain);
     }
 
+    @Test
+    void removeAllIndexed() {
+        DefaultCollectionUtils instance = new DefaultCollectionUtils(2);
+        List<Integer> collection = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 1));
+        List<Integer> source = List.of(1, 3, 5, 7);
+        boolean remove = instance.removeAll(collection, source);
+        assertTrue(remove);
+        assertEquals(List.of(2, 4, 6), collection);
+
+        remove = instance.removeAll(collection, source);
+        assertFalse(remove);
+
+        Set<Integer> set = new HashSet<>(Set.of(1, 2, 3));
+        remove = instance.removeAll(set, List.of(2, 3, 4, 5));
+        assertTrue(remove);
+        assertEquals(Set.of(1), set);
+    }
+
+    @Test
+    void retainAllIndexed() {
+        DefaultCollectionUtils instance = new DefaultCollectionUtils(2);
+        List<Integer> collection = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 1));
+        List<Integer> source = List.of(1, 3, 5, 7);
+        boolean retain = instance.retainAll(collection, source);
+        assertTrue(retain);
+        assertEquals(List.of(1, 3, 5, 1), collection);
+
+        retain = instance.retainAll(collection, source);
+        assertFalse(retain);
+    }
+
+    @Test
+    void containsAllIndexed() {
+        DefaultCollectionUtils instance = new DefaultCollectionUtils(2);
+        List<Integer> collection = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6));
+        collection.add(null);
+        boolean contains = instance.containsAll(collection, List.of(1, 3, 5, 5));
+        assertTrue(contains);
+        contains = instance.containsAll(collection, Arrays.asList(1, 3, 5, null));
+        assertTrue(contains);
+        contains = instance.containsAll(collection, List.of(1, 3, 5, 7));
+        assertFalse(contains);
+        contains = instance.containsAll(collection, Collections.emptyList());
+        assertFalse(contains);
+        contains = instance.containsAll(new ArrayList<>(), List.of(1, 3, 5, 7));
+        assertFalse(contains);
+        contains = instance.containsAll(null, List.of(1, 3, 5, 7));
+        assertFalse(contains);
+    }
+
+    @Test
+    void sortedMerge() {
+        DefaultCollectionUtils instance = testedInstance();
+        TreeSet<Integer> target = new TreeSet<>(Comparator.reverseOrder());
+        TreeSet<Integer> source = new TreeSet<>(Comparator.reverseOrder());
+        for (int i = 0; i < 100; i++) {
+            target.add(i);
+            if (i % 3 == 0) {
+                source.add(i);
+            }
+        }
+        assertTrue(instance.containsAll(target, source));
+        assertFalse(instance.containsAll(source, target));
+        assertTrue(instance.retainAll(target, source));
+        assertEquals(source, target);
+        source.add(1000);
+        assertFalse(instance.containsAll(target, source));
+        assertTrue(instance.removeAll(target, source));
+        assertTrue(target.isEmpty());
+
+        TreeMap<Integer, Integer> map = new TreeMap<>();
+        TreeMap<Integer, Integer> sourceMap = new TreeMap<>();
+        TreeSet<Integer> keys = new TreeSet<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+            if (i % 2 == 0) {
+                sourceMap.put(i, i % 4 == 0 ? i : -i);
+                keys.add(i + 2);
+            }
+        }
+        assertFalse(instance.containsAll(map, sourceMap));
+        assertTrue(instance.containsAll(map, keys.headSet(100)));
+        assertFalse(instance.containsAll(map, keys));
+        assertTrue(instance.removeAll(map, sourceMap));
+        assertEquals(75, map.size());
+        assertTrue(instance.removeAll(map, keys));
+        assertEquals(50, map.size());
+        assertFalse(instance.removeAll(map, keys));
+    }
+
+    @Test
+    void indexIfNeeded() {
+        DefaultCollectionUtils instance = new DefaultCollectionUtils(2);
+        List<Integer> source = List.of(1, 2);
+        assertSame(source, instance.indexIfNeeded(source, 10));
+        Set<Integer> set = Set.of(1, 2, 3);
+        assertSame(set, instance.indexIfNeeded(set, 10));
+        source = List.of(1, 2, 3);
+        assertSame(source, instance.indexIfNeeded(source, 2));
+        Collection<Integer> index = instance.indexIfNeeded(source, 3);
+        assertTrue(index instanceof HashSet);
+        assertEquals(Set.of(1, 2, 3), index);
+    }
+
+    @Test
+    void nullValues() {
+        DefaultCollectionUtils instance = testedInstance();
+        Map<Integer, Integer> map = new HashMap<>();
+        map.put(1, null);
+        map.put(2, 2);
+        Map<Integer, Integer> source = new HashMap<>();
+        source.put(1, null);
+        assertTrue(instance.containsAll(map, source));
+        source.put(3, null);
+        assertFalse(instance.containsAll(map, source));
+        source = new HashMap<>();
+        source.put(2, null);
+        assertFalse(instance.containsAll(map, source));
+
+        assertTrue(instance.removeAll(map, Set.of(1, 3)));
+        assertEquals(Map.of(2, 2), map);
+        assertFalse(instance.removeAll(map, Set.of(1, 3)));
+
+        map.put(1, null);
+        assertTrue(instance.remove(map, 1));
+        assertFalse(instance.remove(map, 1));
+        assertEquals(Map.of(2, 2), map);
+
+        TreeMap<Integer, Integer> sorted = new TreeMap<>();
+        sorted.put(1, null);
+        TreeMap<Integer, Integer> sortedSource = new TreeMap<>();
+        sortedSource.put(1, null);
+        assertTrue(new DefaultCollectionUtils(0).containsAll(sorted, sortedSource));
+    }
+
+    @Test
+    void singleLookup() {
+        DefaultCollectionUtils instance = testedInstance();
+        Map<CountingKey, Integer> map = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(new CountingKey(i), i);
+        }
+        Map<CountingKey, Integer> source = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            source.put(new CountingKey(i), i);
+        }
+        Set<CountingKey> keys = new HashSet<>(source.keySet());
+
+        CountingKey.hashCodes = 0;
+        assertTrue(instance.containsAll(map, source));
+        assertEquals(5, CountingKey.hashCodes);
+
+        CountingKey.hashCodes = 0;
+        assertTrue(instance.remove(map, new CountingKey(9)));
+        assertEquals(1, CountingKey.hashCodes);
+        CountingKey.hashCodes = 0;
+        assertFalse(instance.remove(map, new CountingKey(9)));
+        assertEquals(1, CountingKey.hashCodes);
+
+        CountingKey.hashCodes = 0;
+        assertTrue(instance.removeAll(map, keys));
+        assertEquals(5, CountingKey.hashCodes);
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    void bulkOperationMonitor() {
+        BulkOperationMonitorTest.RecordingBulkOperationMonitor monitor =
+                new BulkOperationMonitorTest.RecordingBulkOperationMonitor();
+        DefaultCollectionUtils instance =
+                new DefaultCollectionUtils(DefaultCollectionUtils.DEFAULT_HASH_INDEX_THRESHOLD,
+                        CollectionFactory.DEFAULT_INSTANCE, monitor);
+        List<Integer> list = instance.addAll(null, ArrayList::new, List.of(1, 2, 3));
+        instance.addAllSized(list, ArrayList::new, List.of(4));
+        Map<Integer, String> map = instance.putAll(null, HashMap::new, Map.of(1, "a", 2, "b"));
+        instance.putAllSized(map, HashMap::new, Map.of(3, "c"));
+        assertTrue(instance.containsAll(list, List.of(1, 2)));
+        assertTrue(instance.containsAll(map, Map.of(1, "a")));
+        assertTrue(instance.containsAll(map, Set.of(1)));
+        assertTrue(instance.removeAll(list, List.of(1)));
+        assertTrue(instance.removeAll(map, Map.of(1, "a")));
+        assertTrue(instance.removeAll(map, Set.of(2)));
+        assertTrue(instance.retainAll(list, List.of(2)));
+        assertNull(instance.addAll(null, ArrayList::new, null));
+        assertFalse(instance.removeAll((List<Integer>) null, List.of(1)));
+        assertEquals(List.of("addAll:0:3", "addAllSized:3:1", "putAll:0:2", "putAllSized:2:1", "containsAll:4:2",
+                "containsAll:3:1", "containsAll:3:1", "removeAll:4:1", "removeAll:3:1", "removeAll:2:1",
+                "retainAll:3:1", "addAll:0:0", "removeAll:0:1"), monitor.operations);
+
+        DefaultCollectionUtils disabled = new DefaultCollectionUtils(
+                DefaultCollectionUtils.DEFAULT_HASH_INDEX_THRESHOLD, CollectionFactory.DEFAULT_INSTANCE,
+                BulkOperationMonitor.DISABLED);
+        assertTrue(disabled.removeAll(new ArrayList<>(List.of(1, 2)), List.of(1)));
+        assertEquals(13, monitor.operations.size());
+    }
+
     /**
      * Initialize tested instance for usage by unit tests.
      *
@@ -471,4 +767,27 @@ class DefaultCollectionUtilsTest {
     protected DefaultCollectionUtils testedInstance() {
         return new DefaultCollectionUtils();
     }
-}
\ No newline at end of file
+
+    /**
+     * Key counting calculations of its hash code to validate amount of lookups into hash map.
+     */
+    private static final class CountingKey {
+        private static int hashCodes;
+        private final int value;
+
+        private CountingKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CountingKey && ((CountingKey) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            hashCodes++;
+            return value;
+        }
+    }
+}
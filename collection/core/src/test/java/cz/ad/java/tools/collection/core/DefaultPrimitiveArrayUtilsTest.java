@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultPrimitiveArrayUtilsTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultPrimitiveArrayUtils(-1));
+        DefaultPrimitiveArrayUtils instance = new DefaultPrimitiveArrayUtils();
+        assertEquals(DefaultPrimitiveArrayUtils.DEFAULT_SEARCH_INDEX_THRESHOLD, instance.searchIndexThreshold);
+        assertEquals(new DefaultPrimitiveArrayUtils(), instance);
+        assertEquals(new DefaultPrimitiveArrayUtils().hashCode(), instance.hashCode());
+        assertNotEquals(new DefaultPrimitiveArrayUtils(0), instance);
+        assertEquals("DefaultPrimitiveArrayUtils{searchIndexThreshold=16}", instance.toString());
+    }
+
+    @Test
+    void isEmpty() {
+        DefaultPrimitiveArrayUtils instance = testedInstance();
+        assertTrue(instance.isEmpty((int[]) null));
+        assertTrue(instance.isEmpty(new int[0]));
+        assertFalse(instance.isEmpty(new int[]{1}));
+        assertTrue(instance.isEmpty((long[]) null));
+        assertTrue(instance.isEmpty(new long[0]));
+        assertFalse(instance.isEmpty(new long[]{1}));
+        assertTrue(instance.isEmpty((double[]) null));
+        assertTrue(instance.isEmpty(new double[0]));
+        assertFalse(instance.isEmpty(new double[]{1}));
+    }
+
+    @Test
+    void isNotEmpty() {
+        DefaultPrimitiveArrayUtils instance = testedInstance();
+        assertFalse(instance.isNotEmpty((int[]) null));
+        assertFalse(instance.isNotEmpty(new int[0]));
+        assertTrue(instance.isNotEmpty(new int[]{1}));
+        assertFalse(instance.isNotEmpty((long[]) null));
+        assertFalse(instance.isNotEmpty(new long[0]));
+        assertTrue(instance.isNotEmpty(new long[]{1}));
+        assertFalse(instance.isNotEmpty((double[]) null));
+        assertFalse(instance.isNotEmpty(new double[0]));
+        assertTrue(instance.isNotEmpty(new double[]{1}));
+    }
+
+    @Test
+    void indexOf() {
+        DefaultPrimitiveArrayUtils instance = testedInstance();
+        assertEquals(-1, instance.indexOf((int[]) null, 1));
+        assertEquals(-1, instance.indexOf((long[]) null, 1));
+        assertEquals(-1, instance.indexOf((double[]) null, 1));
+        assertEquals(-1, instance.indexOf(new int[0], 1));
+
+        // every position of blocks and tail is validated for all array lengths
+        for (int length = 1; length < 12; length++) {
+            int[] ints = new int[length];
+            long[] longs = new long[length];
+            double[] doubles = new double[length];
+            for (int i = 0; i < length; i++) {
+                ints[i] = i * 2;
+                longs[i] = i * 2L + Integer.MAX_VALUE;
+                doubles[i] = i * 2.5d;
+            }
+            for (int i = 0; i < length; i++) {
+                assertEquals(i, instance.indexOf(ints, i * 2));
+                assertEquals(i, instance.indexOf(longs, i * 2L + Integer.MAX_VALUE));
+                assertEquals(i, instance.indexOf(doubles, i * 2.5d));
+            }
+            assertEquals(-1, instance.indexOf(ints, 1));
+            assertEquals(-1, instance.indexOf(longs, 1));
+            assertEquals(-1, instance.indexOf(doubles, 1));
+        }
+        assertEquals(1, instance.indexOf(new int[]{1, 2, 2, 2, 2, 2}, 2));
+    }
+
+    @Test
+    void indexOfDouble() {
+        DefaultPrimitiveArrayUtils instance = testedInstance();
+        double[] array = {1, -0.0d, Double.NaN, 0.0d, Double.POSITIVE_INFINITY};
+        assertEquals(2, instance.indexOf(array, Double.NaN));
+        assertEquals(1, instance.indexOf(array, -0.0d));
+        assertEquals(3, instance.indexOf(array, 0.0d));
+        assertEquals(4, instance.indexOf(array, Double.POSITIVE_INFINITY));
+        assertEquals(-1, instance.indexOf(array, Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void contains() {
+        DefaultPrimitiveArrayUtils instance = testedInstance();
+        assertFalse(instance.contains((int[]) null, 1));
+        assertFalse(instance.contains((long[]) null, 1));
+        assertFalse(instance.contains((double[]) null, 1));
+        assertTrue(instance.contains(new int[]{1, 2, 3, 4, 5}, 5));
+        assertFalse(instance.contains(new int[]{1, 2, 3, 4, 5}, 6));
+        assertTrue(instance.contains(new long[]{1, 2, 3, 4, 5}, 4));
+        assertFalse(instance.contains(new long[]{1, 2, 3, 4, 5}, 0));
+        assertTrue(instance.contains(new double[]{1, 2, 3, 4, Double.NaN}, Double.NaN));
+        assertFalse(instance.contains(new double[]{1, 2, 3, 4, 0.0d}, -0.0d));
+    }
+
+    @Test
+    void containsAll() {
+        DefaultPrimitiveArrayUtils instance = testedInstance();
+        assertFalse(instance.containsAll((int[]) null, new int[]{1}));
+        assertFalse(instance.containsAll(new int[]{1}, null));
+        assertFalse(instance.containsAll(new int[]{1}, new int[0]));
+        assertTrue(instance.containsAll(new int[]{1, 2, 3}, new int[]{3, 1, 3}));
+        assertFalse(instance.containsAll(new int[]{1, 2, 3}, new int[]{3, 4}));
+        assertFalse(instance.containsAll((long[]) null, new long[]{1}));
+        assertFalse(instance.containsAll(new long[]{1}, new long[0]));
+        assertTrue(instance.containsAll(new long[]{1, 2, 3}, new long[]{2}));
+        assertFalse(instance.containsAll(new long[]{1, 2, 3}, new long[]{2, 5}));
+        assertFalse(instance.containsAll((double[]) null, new double[]{1}));
+        assertFalse(instance.containsAll(new double[]{1}, new double[0]));
+        assertTrue(instance.containsAll(new double[]{1, Double.NaN}, new double[]{Double.NaN}));
+        assertFalse(instance.containsAll(new double[]{1, 0.0d}, new double[]{-0.0d}));
+    }
+
+    @Test
+    void containsAllSorted() {
+        DefaultPrimitiveArrayUtils linear = new DefaultPrimitiveArrayUtils(Integer.MAX_VALUE);
+        DefaultPrimitiveArrayUtils sorted = new DefaultPrimitiveArrayUtils(0);
+        assertTrue(sorted.isIndexBeneficial(1, 1));
+        assertFalse(linear.isIndexBeneficial(1000, 1000));
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            int[] ints = new int[random.nextInt(50) + 1];
+            int[] searchedInts = new int[random.nextInt(10) + 1];
+            long[] longs = new long[ints.length];
+            long[] searchedLongs = new long[searchedInts.length];
+            double[] doubles = new double[ints.length];
+            double[] searchedDoubles = new double[searchedInts.length];
+            for (int i = 0; i < ints.length; i++) {
+                ints[i] = random.nextInt(60);
+                longs[i] = ints[i];
+                doubles[i] = ints[i] == 0 ? Double.NaN : ints[i] == 1 ? -0.0d : ints[i];
+            }
+            for (int i = 0; i < searchedInts.length; i++) {
+                searchedInts[i] = random.nextInt(60);
+                searchedLongs[i] = searchedInts[i];
+                searchedDoubles[i] = searchedInts[i] == 0 ? Double.NaN : searchedInts[i] == 1 ? 0.0d : searchedInts[i];
+            }
+            assertEquals(linear.containsAll(ints, searchedInts), sorted.containsAll(ints, searchedInts));
+            assertEquals(linear.containsAll(longs, searchedLongs), sorted.containsAll(longs, searchedLongs));
+            assertEquals(linear.containsAll(doubles, searchedDoubles), sorted.containsAll(doubles, searchedDoubles));
+        }
+        int[] array = {5, 4, 3, 2, 1};
+        assertTrue(sorted.containsAll(array, new int[]{1, 5}));
+        assertEquals(5, array[0]);
+    }
+
+    @Test
+    void count() {
+        DefaultPrimitiveArrayUtils instance = testedInstance();
+        assertEquals(0, instance.count((int[]) null, 1));
+        assertEquals(0, instance.count((long[]) null, 1));
+        assertEquals(0, instance.count((double[]) null, 1));
+        assertEquals(3, instance.count(new int[]{1, 2, 1, 3, 1}, 1));
+        assertEquals(0, instance.count(new int[]{1, 2, 1, 3, 1}, 4));
+        assertEquals(2, instance.count(new long[]{1, 2, 1, 3, 2}, 2));
+        assertEquals(2, instance.count(new double[]{Double.NaN, 0.0d, -0.0d, Double.NaN}, Double.NaN));
+        assertEquals(1, instance.count(new double[]{Double.NaN, 0.0d, -0.0d, Double.NaN}, 0.0d));
+    }
+
+    private DefaultPrimitiveArrayUtils testedInstance() {
+        return new DefaultPrimitiveArrayUtils();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenHashCollectionFactoryTest {
+
+    @Test
+    void factory() {
+        OpenHashCollectionFactory instance = new OpenHashCollectionFactory();
+        assertTrue(instance.newList() instanceof ArrayList);
+        assertTrue(instance.newList(10) instanceof ArrayList);
+        assertTrue(instance.newSet() instanceof OpenHashSet);
+        assertTrue(instance.newSet(10) instanceof OpenHashSet);
+        assertTrue(instance.newMap() instanceof OpenHashMap);
+        assertTrue(instance.newMap(10) instanceof OpenHashMap);
+        assertThrows(IllegalArgumentException.class, () -> instance.newSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> instance.newMap(-1));
+
+        assertEquals(new OpenHashCollectionFactory(), instance);
+        assertEquals(new OpenHashCollectionFactory().hashCode(), instance.hashCode());
+        assertNotEquals(new DefaultCollectionFactory(), instance);
+        assertEquals("OpenHashCollectionFactory{}", instance.toString());
+    }
+
+    @Test
+    void collectionUtils() {
+        CollectionAddUtils utils = new DefaultCollectionUtils(DefaultCollectionUtils.DEFAULT_HASH_INDEX_THRESHOLD,
+                new OpenHashCollectionFactory());
+        Set<Integer> set = utils.addAllSet(null, List.of(1, 2, 3));
+        assertTrue(set instanceof OpenHashSet);
+        assertEquals(Set.of(1, 2, 3), set);
+        Map<Integer, Integer> map = utils.putAllMap(null, Map.of(1, 2));
+        assertTrue(map instanceof OpenHashMap);
+        assertEquals(Map.of(1, 2), map);
+    }
+}
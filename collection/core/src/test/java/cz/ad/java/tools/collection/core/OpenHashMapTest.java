@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenHashMapTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new OpenHashMap<>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new OpenHashMap<>(1, 1.5f));
+        assertTrue(new OpenHashMap<>(0).isEmpty());
+        assertEquals(Map.of(1, 2, 3, 4), new OpenHashMap<>(Map.of(1, 2, 3, 4)));
+        // copy constructor must not call overridable methods of not yet initialized subclass
+        Map<Integer, Integer> copy = new OpenHashMap<Integer, Integer>(Map.of(1, 2)) {
+            @Override
+            public Integer put(Integer key, Integer value) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void putAll(Map<? extends Integer, ? extends Integer> m) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        assertEquals(Map.of(1, 2), copy);
+    }
+
+    @Test
+    void putGetRemove() {
+        Map<Integer, Integer> map = new OpenHashMap<>();
+        assertNull(map.put(1, 1));
+        assertEquals(1, map.put(1, 2));
+        assertNull(map.put(null, null));
+        assertNull(map.put(3, null));
+        assertEquals(3, map.size());
+        assertEquals(2, map.get(1));
+        assertNull(map.get(null));
+        assertTrue(map.containsKey(null));
+        assertTrue(map.containsKey(3));
+        assertFalse(map.containsKey(4));
+        assertEquals(-1, map.getOrDefault(4, -1));
+        assertNull(map.getOrDefault(3, -1));
+        assertTrue(map.containsValue(null));
+        assertTrue(map.containsValue(2));
+        assertFalse(map.containsValue(1));
+
+        assertFalse(map.remove(1, 1));
+        assertTrue(map.remove(1, 2));
+        assertFalse(map.containsKey(1));
+        assertNull(map.remove(null));
+        assertFalse(map.containsKey(null));
+        assertNull(map.remove(4));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void computeIfAbsent() {
+        Map<Integer, Integer> map = new OpenHashMap<>();
+        assertEquals(2, map.computeIfAbsent(1, key -> key + 1));
+        assertEquals(2, map.computeIfAbsent(1, key -> key + 2));
+        assertNull(map.computeIfAbsent(2, key -> null));
+        assertFalse(map.containsKey(2));
+        map.put(3, null);
+        assertEquals(4, map.computeIfAbsent(3, key -> key + 1));
+        assertEquals(Map.of(1, 2, 3, 4), map);
+        assertThrows(ConcurrentModificationException.class, () -> map.computeIfAbsent(5, key -> map.put(6, 6)));
+    }
+
+    @Test
+    void views() {
+        Map<Integer, Integer> map = new OpenHashMap<>(Map.of(1, 1, 2, 2, 3, 3, 4, 4));
+        Set<Integer> keys = map.keySet();
+        assertEquals(Set.of(1, 2, 3, 4), keys);
+        assertTrue(keys.remove(1));
+        assertFalse(keys.remove(1));
+        assertFalse(map.containsKey(1));
+        assertTrue(keys.contains(2));
+
+        Set<Map.Entry<Integer, Integer>> entries = map.entrySet();
+        assertTrue(entries.contains(Map.entry(2, 2)));
+        assertFalse(entries.contains(Map.entry(2, 3)));
+        assertFalse(entries.remove(Map.entry(2, 3)));
+        assertTrue(entries.remove(Map.entry(2, 2)));
+        assertEquals(Map.of(3, 3, 4, 4), map);
+
+        for (Map.Entry<Integer, Integer> entry : entries) {
+            entry.setValue(entry.getValue() * 10);
+        }
+        assertEquals(Map.of(3, 30, 4, 40), map);
+        assertTrue(map.values().contains(30));
+        map.values().remove(30);
+        assertEquals(Map.of(4, 40), map);
+
+        Iterator<Map.Entry<Integer, Integer>> iterator = entries.iterator();
+        Map.Entry<Integer, Integer> entry = iterator.next();
+        iterator.remove();
+        assertThrows(IllegalStateException.class, () -> entry.setValue(1));
+        keys.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(new HashMap<>(), map);
+    }
+
+    @Test
+    void randomAgainstHashMap() {
+        Random random = new Random(42);
+        Map<OpenHashSetTest.CollidingKey, Integer> map = new OpenHashMap<>(0, 0.9f);
+        Map<OpenHashSetTest.CollidingKey, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            OpenHashSetTest.CollidingKey key = new OpenHashSetTest.CollidingKey(random.nextInt(500));
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else if (operation == 1) {
+                assertEquals(expected.get(key), map.get(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+
+        Iterator<Map.Entry<OpenHashSetTest.CollidingKey, Integer>> iterator = map.entrySet().iterator();
+        int visited = 0;
+        while (iterator.hasNext()) {
+            Map.Entry<OpenHashSetTest.CollidingKey, Integer> entry = iterator.next();
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+            visited++;
+            if (random.nextBoolean()) {
+                iterator.remove();
+                expected.remove(entry.getKey());
+            }
+        }
+        assertEquals(expected, map);
+        assertTrue(visited >= map.size());
+
+        Map<OpenHashSetTest.CollidingKey, Integer> copy = new HashMap<>();
+        map.forEach(copy::put);
+        assertEquals(expected, copy);
+    }
+
+    @Test
+    void collectionUtils() {
+        Map<Integer, Integer> result = CollectionUtils.DEFAULT_INSTANCE.put(null, OpenHashMap::new, 1, 1);
+        assertTrue(result instanceof OpenHashMap);
+        result = CollectionUtils.DEFAULT_INSTANCE.putAllSized(null, OpenHashMap::new, Map.of(1, 2, 3, 4));
+        assertTrue(result instanceof OpenHashMap);
+        assertEquals(Map.of(1, 2, 3, 4), result);
+        assertTrue(CollectionUtils.DEFAULT_INSTANCE.containsAll(result, Map.of(1, 2)));
+        assertTrue(CollectionUtils.DEFAULT_INSTANCE.remove(result, 1));
+        assertFalse(CollectionUtils.DEFAULT_INSTANCE.remove(result, 1));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenHashSetTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new OpenHashSet<>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new OpenHashSet<>(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OpenHashSet<>(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new OpenHashSet<>(1, Float.NaN));
+        assertTrue(new OpenHashSet<>(0).isEmpty());
+        assertEquals(Set.of(1, 2, 3), new OpenHashSet<>(List.of(1, 2, 3, 3)));
+        // copy constructor must not call overridable methods of not yet initialized subclass
+        Set<Integer> copy = new OpenHashSet<Integer>(List.of(1, 2)) {
+            @Override
+            public boolean add(Integer e) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean addAll(Collection<? extends Integer> c) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        assertEquals(Set.of(1, 2), copy);
+    }
+
+    @Test
+    void addContainsRemove() {
+        Set<Integer> set = new OpenHashSet<>();
+        assertTrue(set.add(1));
+        assertFalse(set.add(1));
+        assertTrue(set.add(null));
+        assertFalse(set.add(null));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(1));
+        assertTrue(set.contains(null));
+        assertFalse(set.contains(2));
+        assertTrue(set.remove(null));
+        assertFalse(set.remove(null));
+        assertFalse(set.contains(null));
+        assertFalse(set.remove(2));
+        assertEquals(Set.of(1), set);
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    void growAndCollisions() {
+        Set<CollidingKey> set = new OpenHashSet<>(0, 0.9f);
+        Set<CollidingKey> expected = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expected.add(new CollidingKey(i)), set.add(new CollidingKey(i)));
+        }
+        assertEquals(expected, set);
+        for (int i = 0; i < 1000; i += 3) {
+            assertEquals(expected.remove(new CollidingKey(i)), set.remove(new CollidingKey(i)));
+        }
+        assertEquals(expected, set);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expected.contains(new CollidingKey(i)), set.contains(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    void iterator() {
+        Set<Integer> set = new OpenHashSet<>();
+        Iterator<Integer> iterator = set.iterator();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        set.add(1);
+        iterator = set.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(1, iterator.next());
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertTrue(set.isEmpty());
+
+        set.add(1);
+        set.add(2);
+        Iterator<Integer> failing = set.iterator();
+        failing.next();
+        set.add(3);
+        assertThrows(ConcurrentModificationException.class, failing::next);
+        assertThrows(ConcurrentModificationException.class, () -> set.forEach(value -> set.add(value + 10)));
+    }
+
+    @Test
+    void randomIteratorRemoval() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            Set<CollidingKey> set = new OpenHashSet<>(random.nextInt(20), 0.9f);
+            Set<CollidingKey> expected = new HashSet<>();
+            int size = random.nextInt(200);
+            for (int i = 0; i < size; i++) {
+                CollidingKey key = new CollidingKey(random.nextInt(400));
+                set.add(key);
+                expected.add(key);
+            }
+            List<CollidingKey> visited = new ArrayList<>();
+            Iterator<CollidingKey> iterator = set.iterator();
+            while (iterator.hasNext()) {
+                CollidingKey key = iterator.next();
+                visited.add(key);
+                if (random.nextBoolean()) {
+                    iterator.remove();
+                    expected.remove(key);
+                }
+            }
+            assertEquals(visited.size(), new HashSet<>(visited).size());
+            assertEquals(size == 0 ? 0 : visited.size(), visited.size());
+            assertEquals(expected, set);
+            assertEquals(expected.size(), set.size());
+            for (CollidingKey key : visited) {
+                assertEquals(expected.contains(key), set.contains(key));
+            }
+        }
+    }
+
+    @Test
+    void bulkOperations() {
+        Set<Integer> set = new OpenHashSet<>();
+        assertTrue(set.addAll(List.of(1, 2, 3, 4, 5, 6)));
+        assertTrue(set.removeAll(List.of(1, 2, 7)));
+        assertEquals(Set.of(3, 4, 5, 6), set);
+        assertTrue(set.retainAll(Set.of(3, 4)));
+        assertEquals(Set.of(3, 4), set);
+        assertTrue(set.removeIf(value -> value == 3));
+        assertEquals(Set.of(4), set);
+        assertEquals(Set.of(4).hashCode(), set.hashCode());
+
+        Set<Integer> result = CollectionUtils.DEFAULT_INSTANCE.add(null, OpenHashSet::new, 1);
+        assertTrue(result instanceof OpenHashSet);
+        result = CollectionUtils.DEFAULT_INSTANCE.addAllSized(null, OpenHashSet::new, List.of(1, 2));
+        assertTrue(result instanceof OpenHashSet);
+        assertEquals(Set.of(1, 2), result);
+    }
+
+    /**
+     * Key with hash code shared by several keys, to create long probe sequences and clusters wrapping around table.
+     */
+    static final class CollidingKey {
+        private final int value;
+
+        CollidingKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value / 4;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelCollectionUtilsTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private static final int SIZE = 10000;
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCollectionUtils(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCollectionUtils(POOL, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCollectionUtils(POOL, 1, -1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCollectionUtils(POOL, 1, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelCollectionUtils(POOL, 1, 0, CollectionFactory.DEFAULT_INSTANCE, null));
+
+        ParallelCollectionUtils instance = new ParallelCollectionUtils();
+        assertEquals(ForkJoinPool.commonPool(), instance.pool);
+        assertEquals(ParallelCollectionUtils.DEFAULT_PARALLEL_THRESHOLD, instance.parallelThreshold);
+        assertEquals(DefaultCollectionUtils.DEFAULT_HASH_INDEX_THRESHOLD, instance.hashIndexThreshold);
+        assertEquals(new ParallelCollectionUtils(), instance);
+        assertEquals(new ParallelCollectionUtils().hashCode(), instance.hashCode());
+        int threshold = ParallelCollectionUtils.DEFAULT_PARALLEL_THRESHOLD;
+        assertNotEquals(new ParallelCollectionUtils(POOL, threshold), instance);
+        assertNotEquals(new ParallelCollectionUtils(ForkJoinPool.commonPool(), 1), instance);
+        assertNotEquals(new DefaultCollectionUtils(), instance);
+        assertTrue(instance.toString().contains("parallelThreshold="));
+        assertTrue(instance.toString().contains("bulkOperationMonitor="));
+    }
+
+    @Test
+    void isConcurrent() {
+        ParallelCollectionUtils instance = testedInstance();
+        assertTrue(instance.isConcurrent(new ConcurrentHashMap<>()));
+        assertTrue(instance.isConcurrent(ConcurrentHashMap.newKeySet()));
+        assertTrue(instance.isConcurrent(new ConcurrentSkipListSet<>()));
+        assertFalse(instance.isConcurrent(new HashSet<>()));
+        assertFalse(instance.isConcurrent(new HashMap<>()));
+    }
+
+    @Test
+    void isParallel() {
+        ParallelCollectionUtils instance = new ParallelCollectionUtils(POOL, 2);
+        assertFalse(instance.isParallel((Collection<?>) null));
+        assertFalse(instance.isParallel(List.of(1)));
+        assertTrue(instance.isParallel(List.of(1, 2)));
+        assertFalse(instance.isParallel((Map<?, ?>) null));
+        assertFalse(instance.isParallel(Map.of(1, 1)));
+        assertTrue(instance.isParallel(Map.of(1, 1, 2, 2)));
+    }
+
+    @Test
+    void match() {
+        ParallelCollectionUtils instance = testedInstance();
+        Integer[] values = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = i;
+        }
+        boolean[] result = instance.match(values, value -> value % 3 == 0);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i % 3 == 0, result[i]);
+        }
+        assertTrue(instance.allMatch(values, value -> value >= 0));
+        assertFalse(instance.allMatch(values, value -> value != SIZE - 1));
+        assertTrue(instance.anyMatch(values, value -> value == SIZE / 2));
+        assertFalse(instance.anyMatch(values, value -> value < 0));
+        assertTrue(instance.allMatch(new Integer[0], value -> false));
+    }
+
+    @Test
+    void removeMatching() {
+        ParallelCollectionUtils instance = testedInstance();
+        List<Integer> list = values(ArrayList::new, SIZE, 1);
+        list.addAll(values(ArrayList::new, SIZE, 1));
+        assertTrue(instance.removeMatching(list, value -> value % 2 == 1));
+        assertEquals(SIZE, list.size());
+        assertTrue(list.stream().allMatch(value -> value % 2 == 0));
+        assertFalse(instance.removeMatching(list, value -> value % 2 == 1));
+        assertEquals(SIZE, list.size());
+    }
+
+    @Test
+    void containsAll() {
+        ParallelCollectionUtils instance = testedInstance();
+        DefaultCollectionUtils expected = new DefaultCollectionUtils();
+        for (Supplier<Collection<Integer>> type : collectionTypes()) {
+            Collection<Integer> target = values(type, SIZE, 1);
+            Collection<Integer> contained = values(ArrayList::new, SIZE / 2, 2);
+            Collection<Integer> missing = values(ArrayList::new, SIZE / 2, 3);
+            missing.add(SIZE);
+            assertTrue(instance.containsAll(target, contained));
+            assertEquals(expected.containsAll(target, missing), instance.containsAll(target, missing));
+            assertFalse(instance.containsAll(target, missing));
+            assertFalse(instance.containsAll(null, contained));
+            assertFalse(instance.containsAll(target, new ArrayList<>()));
+        }
+    }
+
+    @Test
+    void removeAll() {
+        ParallelCollectionUtils instance = testedInstance();
+        DefaultCollectionUtils reference = new DefaultCollectionUtils();
+        for (Supplier<Collection<Integer>> type : collectionTypes()) {
+            for (Supplier<Collection<Integer>> sourceType : collectionTypes()) {
+                Collection<Integer> expected = values(type, SIZE, 1);
+                Collection<Integer> actual = values(type, SIZE, 1);
+                Collection<Integer> source = values(sourceType, SIZE / 3, 3);
+                assertEquals(reference.removeAll(expected, source), instance.removeAll(actual, source));
+                assertEquals(new ArrayList<>(expected), new ArrayList<>(actual));
+                assertFalse(instance.removeAll(actual, source));
+            }
+        }
+        assertFalse(instance.removeAll(null, List.of(1)));
+        assertFalse(instance.removeAll(new ArrayList<>(List.of(1)), null));
+    }
+
+    @Test
+    void retainAll() {
+        ParallelCollectionUtils instance = testedInstance();
+        DefaultCollectionUtils reference = new DefaultCollectionUtils();
+        for (Supplier<Collection<Integer>> type : collectionTypes()) {
+            for (Supplier<Collection<Integer>> sourceType : collectionTypes()) {
+                Collection<Integer> expected = values(type, SIZE, 1);
+                Collection<Integer> actual = values(type, SIZE, 1);
+                Collection<Integer> source = values(sourceType, SIZE / 3, 3);
+                assertEquals(reference.retainAll(expected, source), instance.retainAll(actual, source));
+                assertEquals(new ArrayList<>(expected), new ArrayList<>(actual));
+                assertFalse(instance.retainAll(actual, source));
+            }
+        }
+        assertFalse(instance.retainAll(null, List.of(1)));
+        assertFalse(instance.retainAll(new ArrayList<>(List.of(1)), null));
+    }
+
+    @Test
+    void containsAllMap() {
+        ParallelCollectionUtils instance = testedInstance();
+        for (Supplier<Map<Integer, Integer>> type : mapTypes()) {
+            Map<Integer, Integer> target = entries(type, SIZE, 1);
+            Map<Integer, Integer> source = entries(HashMap::new, SIZE / 2, 2);
+            assertTrue(instance.containsAll(target, source));
+            assertTrue(instance.containsAll(target, source.keySet()));
+            source.put(2, 3);
+            assertFalse(instance.containsAll(target, source));
+            source.remove(2);
+            source.put(SIZE, SIZE);
+            assertFalse(instance.containsAll(target, source));
+            assertFalse(instance.containsAll(target, source.keySet()));
+            Map<Integer, Integer> empty = null;
+            assertFalse(instance.containsAll(empty, source));
+            assertFalse(instance.containsAll(empty, source.keySet()));
+        }
+    }
+
+    @Test
+    void removeAllMap() {
+        ParallelCollectionUtils instance = testedInstance();
+        DefaultCollectionUtils reference = new DefaultCollectionUtils();
+        for (Supplier<Map<Integer, Integer>> type : mapTypes()) {
+            Map<Integer, Integer> expected = entries(type, SIZE, 1);
+            Map<Integer, Integer> actual = entries(type, SIZE, 1);
+            Map<Integer, Integer> source = entries(HashMap::new, SIZE / 3, 3);
+            source.put(3, 4);
+            assertEquals(reference.removeAll(expected, source), instance.removeAll(actual, source));
+            assertEquals(expected, actual);
+            assertTrue(actual.containsKey(3));
+            assertFalse(instance.removeAll(actual, source));
+
+            Set<Integer> keys = new HashSet<>(values(ArrayList::new, SIZE / 2, 2));
+            assertEquals(reference.removeAll(expected, keys), instance.removeAll(actual, keys));
+            assertEquals(expected, actual);
+            assertFalse(instance.removeAll(actual, keys));
+        }
+        Map<Integer, Integer> nullValues = entries(HashMap::new, SIZE, 1);
+        nullValues.put(-1, null);
+        Set<Integer> keys = new HashSet<>(values(ArrayList::new, SIZE, 1));
+        keys.add(-1);
+        assertTrue(instance.removeAll(nullValues, keys));
+        assertTrue(nullValues.isEmpty());
+    }
+
+    @Test
+    void bulkOperationMonitor() {
+        BulkOperationMonitorTest.RecordingBulkOperationMonitor monitor =
+                new BulkOperationMonitorTest.RecordingBulkOperationMonitor();
+        ParallelCollectionUtils instance = new ParallelCollectionUtils(POOL, 2,
+                DefaultCollectionUtils.DEFAULT_HASH_INDEX_THRESHOLD, CollectionFactory.DEFAULT_INSTANCE, monitor);
+        List<Integer> list = new ArrayList<>(List.of(1, 2, 3, 4));
+        assertTrue(instance.containsAll(list, List.of(1, 2)));
+        assertTrue(instance.removeAll(list, List.of(1, 2)));
+        assertTrue(instance.retainAll(list, List.of(3)));
+        Map<Integer, String> map = new ConcurrentHashMap<>(Map.of(1, "a", 2, "b", 3, "c"));
+        assertTrue(instance.containsAll(map, Set.of(1, 2)));
+        assertTrue(instance.removeAll(map, Map.of(1, "a", 2, "b")));
+        assertTrue(instance.removeAll(map, Set.of(3, 4)));
+        assertTrue(instance.containsAll(list, List.of(3)));
+        assertEquals(List.of("containsAll:4:2", "removeAll:4:2", "retainAll:2:1", "containsAll:3:2",
+                "removeAll:3:2", "removeAll:1:2", "containsAll:1:1"), monitor.operations);
+    }
+
+    @Test
+    void randomAgainstDefault() {
+        ParallelCollectionUtils instance = new ParallelCollectionUtils(POOL, 1, 0);
+        DefaultCollectionUtils reference = new DefaultCollectionUtils();
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            List<Integer> target = randomValues(random);
+            List<Integer> source = randomValues(random);
+            assertEquals(reference.containsAll(target, source), instance.containsAll(target, source));
+
+            Set<Integer> expected = ConcurrentHashMap.newKeySet();
+            expected.addAll(target);
+            Set<Integer> actual = ConcurrentHashMap.newKeySet();
+            actual.addAll(target);
+            assertEquals(reference.removeAll(expected, source), instance.removeAll(actual, source));
+            assertEquals(expected, actual);
+
+            List<Integer> expectedList = new LinkedList<>(target);
+            List<Integer> actualList = new LinkedList<>(target);
+            assertEquals(reference.retainAll(expectedList, source), instance.retainAll(actualList, source));
+            assertEquals(expectedList, actualList);
+        }
+    }
+
+    private ParallelCollectionUtils testedInstance() {
+        return new ParallelCollectionUtils(POOL, 100);
+    }
+
+    private List<Supplier<Collection<Integer>>> collectionTypes() {
+        return List.of(ArrayList::new, LinkedList::new, HashSet::new, TreeSet::new, ConcurrentHashMap::newKeySet,
+                ConcurrentSkipListSet::new);
+    }
+
+    private List<Supplier<Map<Integer, Integer>>> mapTypes() {
+        return List.of(HashMap::new, TreeMap::new, ConcurrentHashMap::new);
+    }
+
+    private <C extends Collection<Integer>> C values(Supplier<C> init, int size, int step) {
+        C retValue = init.get();
+        for (int i = 0; i < size; i++) {
+            retValue.add(i * step);
+        }
+        return retValue;
+    }
+
+    private Map<Integer, Integer> entries(Supplier<Map<Integer, Integer>> init, int size, int step) {
+        Map<Integer, Integer> retValue = init.get();
+        for (int i = 0; i < size; i++) {
+            retValue.put(i * step, i * step);
+        }
+        return retValue;
+    }
+
+    private List<Integer> randomValues(Random random) {
+        List<Integer> retValue = new ArrayList<>();
+        int size = random.nextInt(3000);
+        for (int i = 0; i < size; i++) {
+            retValue.add(random.nextInt(4000));
+        }
+        return retValue;
+    }
+}
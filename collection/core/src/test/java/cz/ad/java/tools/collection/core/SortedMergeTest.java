@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedMergeTest {
+
+    @Test
+    void isSameOrder() {
+        assertTrue(SortedMerge.isSameOrder(new TreeSet<>(), new TreeSet<>()));
+        assertTrue(SortedMerge.isSameOrder(new TreeMap<>(), new TreeSet<>()));
+        assertTrue(SortedMerge.isSameOrder(new TreeMap<>(), new TreeMap<>().keySet()));
+        assertTrue(SortedMerge.isSameOrder(new TreeSet<>(Comparator.reverseOrder()),
+                new TreeSet<>(Comparator.reverseOrder())));
+        assertFalse(SortedMerge.isSameOrder(new TreeSet<>(Comparator.reverseOrder()), new TreeSet<>()));
+        assertFalse(SortedMerge.isSameOrder(new TreeSet<>(), Set.of()));
+        assertFalse(SortedMerge.isSameOrder(List.of(), new TreeSet<>()));
+        assertNull(SortedMerge.comparator(new TreeMap<>()));
+        assertSame(Comparator.reverseOrder(), SortedMerge.comparator(new TreeSet<>(Comparator.reverseOrder())));
+    }
+
+    @Test
+    void isBeneficial() {
+        assertTrue(SortedMerge.isBeneficial(1000, 1000, 1000, 1000));
+        assertFalse(SortedMerge.isBeneficial(10, 1000000, 1000000, 10));
+        assertFalse(SortedMerge.isBeneficial(1, 1, 1, 1));
+    }
+
+    @Test
+    void containsAll() {
+        TreeSet<Integer> target = new TreeSet<>(List.of(1, 3, 5, 7));
+        assertTrue(SortedMerge.containsAll(target.iterator(), new TreeSet<>(List.of(1, 7)).iterator(), null));
+        assertTrue(SortedMerge.containsAll(target.iterator(), new TreeSet<>(List.of(1, 3, 5, 7)).iterator(), null));
+        assertFalse(SortedMerge.containsAll(target.iterator(), new TreeSet<>(List.of(1, 4)).iterator(), null));
+        assertFalse(SortedMerge.containsAll(target.iterator(), new TreeSet<>(List.of(7, 8)).iterator(), null));
+        assertFalse(SortedMerge.containsAll(target.iterator(), new TreeSet<>(List.of(0)).iterator(), null));
+    }
+
+    @Test
+    void removeAll() {
+        TreeSet<Integer> target = new TreeSet<>(Comparator.reverseOrder());
+        target.addAll(List.of(1, 3, 5, 7));
+        TreeSet<Integer> source = new TreeSet<>(Comparator.reverseOrder());
+        source.addAll(List.of(0, 3, 4, 7, 8));
+        assertTrue(SortedMerge.removeAll(target.iterator(), source.iterator(), target.comparator()));
+        assertEquals(Set.of(1, 5), target);
+        assertFalse(SortedMerge.removeAll(target.iterator(), source.iterator(), target.comparator()));
+        assertEquals(Set.of(1, 5), target);
+    }
+
+    @Test
+    void retainAll() {
+        TreeSet<Integer> target = new TreeSet<>(List.of(1, 3, 5, 7, 9));
+        assertTrue(SortedMerge.retainAll(target.iterator(), new TreeSet<>(List.of(0, 3, 4, 7)).iterator(), null));
+        assertEquals(Set.of(3, 7), target);
+        assertFalse(SortedMerge.retainAll(target.iterator(), new TreeSet<>(List.of(3, 7)).iterator(), null));
+        assertTrue(SortedMerge.retainAll(target.iterator(), new TreeSet<Integer>().iterator(), null));
+        assertTrue(target.isEmpty());
+    }
+
+    @Test
+    void containsAllEntries() {
+        TreeMap<Integer, Integer> target = new TreeMap<>(Map.of(1, 1, 2, 2, 3, 3));
+        assertTrue(SortedMerge.containsAllEntries(target.entrySet().iterator(),
+                new TreeMap<>(Map.of(1, 1, 3, 3)).entrySet().iterator(), null));
+        assertFalse(SortedMerge.containsAllEntries(target.entrySet().iterator(),
+                new TreeMap<>(Map.of(1, 1, 3, 4)).entrySet().iterator(), null));
+        assertFalse(SortedMerge.containsAllEntries(target.entrySet().iterator(),
+                new TreeMap<>(Map.of(1, 1, 4, 4)).entrySet().iterator(), null));
+    }
+
+    @Test
+    void removeAllEntries() {
+        TreeMap<Integer, Integer> target = new TreeMap<>(Map.of(1, 1, 2, 2, 3, 3));
+        target.put(4, null);
+        TreeMap<Integer, Integer> source = new TreeMap<>(Map.of(1, 1, 2, 3, 5, 5));
+        source.put(4, null);
+        assertTrue(SortedMerge.removeAllEntries(target.entrySet().iterator(), source.entrySet().iterator(), null));
+        assertEquals(Map.of(2, 2, 3, 3), target);
+        assertFalse(SortedMerge.removeAllEntries(target.entrySet().iterator(), source.entrySet().iterator(), null));
+    }
+
+    @Test
+    void randomAgainstSetOperations() {
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            TreeSet<Integer> target = randomSet(random);
+            TreeSet<Integer> source = randomSet(random);
+
+            assertEquals(target.containsAll(source),
+                    SortedMerge.containsAll(target.iterator(), source.iterator(), null));
+
+            TreeSet<Integer> expected = new TreeSet<>(target);
+            TreeSet<Integer> actual = new TreeSet<>(target);
+            assertEquals(expected.removeAll(source), SortedMerge.removeAll(actual.iterator(), source.iterator(), null));
+            assertEquals(expected, actual);
+
+            expected = new TreeSet<>(target);
+            actual = new TreeSet<>(target);
+            assertEquals(expected.retainAll(source), SortedMerge.retainAll(actual.iterator(), source.iterator(), null));
+            assertEquals(expected, actual);
+        }
+    }
+
+    private TreeSet<Integer> randomSet(Random random) {
+        TreeSet<Integer> retValue = new TreeSet<>();
+        int size = random.nextInt(20);
+        for (int i = 0; i < size; i++) {
+            retValue.add(random.nextInt(30));
+        }
+        return retValue;
+    }
+}
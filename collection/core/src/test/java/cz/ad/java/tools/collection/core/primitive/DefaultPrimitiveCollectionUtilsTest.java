@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultPrimitiveCollectionUtilsTest {
+
+    @Test
+    void constructor() {
+        DefaultPrimitiveCollectionUtils instance = new DefaultPrimitiveCollectionUtils();
+        assertEquals(new DefaultPrimitiveCollectionUtils(), instance);
+        assertEquals(new DefaultPrimitiveCollectionUtils().hashCode(), instance.hashCode());
+        assertNotEquals(new Object(), instance);
+        assertEquals("DefaultPrimitiveCollectionUtils{}", instance.toString());
+    }
+
+    @Test
+    void isEmpty() {
+        DefaultPrimitiveCollectionUtils instance = testedInstance();
+        assertTrue(instance.isEmpty((IntArrayList) null));
+        assertTrue(instance.isEmpty(new IntArrayList()));
+        assertFalse(instance.isEmpty(instance.addList(null, 1)));
+        assertTrue(instance.isEmpty((LongHashSet) null));
+        assertTrue(instance.isEmpty(new LongHashSet()));
+        assertFalse(instance.isEmpty(instance.addSet(null, 1)));
+        assertTrue(instance.isEmpty((LongObjectHashMap<?>) null));
+        assertTrue(instance.isEmpty(new LongObjectHashMap<>()));
+        assertFalse(instance.isEmpty(instance.putMap(null, 1L, "a")));
+        assertTrue(instance.isEmpty((IntIntHashMap) null));
+        assertTrue(instance.isEmpty(new IntIntHashMap()));
+        assertFalse(instance.isEmpty(instance.putMap(null, 1, 1)));
+    }
+
+    @Test
+    void addList() {
+        DefaultPrimitiveCollectionUtils instance = testedInstance();
+        IntArrayList list = instance.addList(null, 1);
+        assertEquals(1, list.get(0));
+        assertSame(list, instance.addList(list, 2));
+        assertSame(list, instance.addList(list, () -> null, 3));
+        assertEquals("[1, 2, 3]", list.toString());
+        assertNull(instance.addList(null, () -> null, 1));
+        CustomIntArrayList custom = instance.addList(null, CustomIntArrayList::new, 1);
+        assertEquals(1, custom.size());
+    }
+
+    @Test
+    void addSet() {
+        DefaultPrimitiveCollectionUtils instance = testedInstance();
+        LongHashSet set = instance.addSet(null, 1);
+        assertTrue(set.contains(1));
+        assertSame(set, instance.addSet(set, Long.MAX_VALUE));
+        assertSame(set, instance.addSet(set, () -> null, 0));
+        assertEquals("[0, 1, " + Long.MAX_VALUE + "]", set.toString());
+        assertNull(instance.addSet(null, () -> null, 1));
+    }
+
+    @Test
+    void putMap() {
+        DefaultPrimitiveCollectionUtils instance = testedInstance();
+        LongObjectHashMap<String> map = instance.putMap(null, 1L, "a");
+        assertEquals("a", map.get(1));
+        assertSame(map, instance.putMap(map, 2L, "b"));
+        assertSame(map, instance.putMap(map, () -> null, 3L, "c"));
+        assertEquals(3, map.size());
+        assertEquals("c", map.get(3));
+        assertNull(instance.putMap(null, () -> null, 1L, "a"));
+
+        IntIntHashMap intMap = instance.putMap(null, 1, 2);
+        assertEquals(2, intMap.get(1));
+        assertSame(intMap, instance.putMap(intMap, 3, 4));
+        assertSame(intMap, instance.putMap(intMap, () -> null, 5, 6));
+        assertEquals(3, intMap.size());
+        assertNull(instance.putMap((IntIntHashMap) null, () -> null, 1, 1));
+    }
+
+    @Test
+    void contains() {
+        DefaultPrimitiveCollectionUtils instance = testedInstance();
+        assertFalse(instance.contains((IntArrayList) null, 1));
+        assertTrue(instance.contains(instance.addList(null, 1), 1));
+        assertFalse(instance.contains(instance.addList(null, 1), 2));
+        assertFalse(instance.contains((LongHashSet) null, 1));
+        assertTrue(instance.contains(instance.addSet(null, 1), 1));
+        assertFalse(instance.contains(instance.addSet(null, 1), 2));
+        assertFalse(instance.contains((LongObjectHashMap<?>) null, 1));
+        assertTrue(instance.contains(instance.putMap(null, 1L, "a"), 1));
+        assertFalse(instance.contains(instance.putMap(null, 1L, "a"), 2));
+        assertFalse(instance.contains((IntIntHashMap) null, 1));
+        assertTrue(instance.contains(instance.putMap(null, 1, 1), 1));
+        assertFalse(instance.contains(instance.putMap(null, 1, 1), 2));
+    }
+
+    @Test
+    void removeAll() {
+        DefaultPrimitiveCollectionUtils instance = testedInstance();
+        IntArrayList list = instance.addList(instance.addList(null, 1), 2);
+        assertFalse(instance.removeAll(list, null));
+        assertFalse(instance.removeAll((IntArrayList) null, list));
+        assertFalse(instance.removeAll(list, new IntArrayList()));
+        assertTrue(instance.removeAll(list, instance.addList(null, 1)));
+        assertEquals("[2]", list.toString());
+
+        LongHashSet set = instance.addSet(instance.addSet(null, 1), 2);
+        assertFalse(instance.removeAll(set, null));
+        assertFalse(instance.removeAll((LongHashSet) null, set));
+        assertTrue(instance.removeAll(set, instance.addSet(null, 2)));
+        assertEquals("[1]", set.toString());
+
+        LongObjectHashMap<String> map = instance.putMap(instance.putMap(null, 1L, "a"), 2L, "b");
+        assertFalse(instance.removeAll(map, null));
+        assertFalse(instance.removeAll((LongObjectHashMap<?>) null, set));
+        assertTrue(instance.removeAll(map, set));
+        assertFalse(instance.removeAll(map, set));
+        assertEquals("{2=b}", map.toString());
+
+        IntIntHashMap intMap = instance.putMap(instance.putMap(null, 1, 1), 2, 2);
+        assertFalse(instance.removeAll(intMap, null));
+        assertFalse(instance.removeAll((IntIntHashMap) null, list));
+        assertTrue(instance.removeAll(intMap, list));
+        assertEquals("{1=1}", intMap.toString());
+    }
+
+    private DefaultPrimitiveCollectionUtils testedInstance() {
+        return new DefaultPrimitiveCollectionUtils();
+    }
+
+    /**
+     * Subclass of list to verify type of list created by init supplier is preserved.
+     */
+    static class CustomIntArrayList extends IntArrayList {
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntArrayListTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+        assertTrue(new IntArrayList(0).isEmpty());
+        IntArrayList list = new IntArrayList(0);
+        list.add(1);
+        assertEquals(1, list.get(0));
+    }
+
+    @Test
+    void addGetSetRemove() {
+        IntArrayList list = new IntArrayList();
+        assertTrue(list.add(1));
+        assertTrue(list.addAll(2, 3, 2));
+        assertFalse(list.addAll());
+        assertEquals(4, list.size());
+        assertEquals(3, list.get(2));
+        assertEquals(3, list.set(2, 4));
+        assertArrayEquals(new int[]{1, 2, 4, 2}, list.toArray());
+        assertEquals(1, list.indexOf(2));
+        assertEquals(-1, list.indexOf(5));
+        assertTrue(list.contains(4));
+        assertFalse(list.contains(5));
+        assertTrue(list.removeValue(2));
+        assertFalse(list.removeValue(5));
+        assertArrayEquals(new int[]{1, 4, 2}, list.toArray());
+        assertEquals(1, list.removeAt(0));
+        assertArrayEquals(new int[]{4, 2}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(2));
+        assertTrue(list.addAll(list));
+        assertArrayEquals(new int[]{4, 2, 4, 2}, list.toArray());
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertFalse(list.contains(4));
+    }
+
+    @Test
+    void grow() {
+        IntArrayList list = new IntArrayList(1);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, list.get(i));
+        }
+        List<Integer> visited = new ArrayList<>();
+        list.forEach(visited::add);
+        assertEquals(1000, visited.size());
+        assertEquals(999, visited.get(999));
+    }
+
+    @Test
+    void removeAll() {
+        Random random = new Random(42);
+        for (int removedSize : new int[]{0, 1, 5, 16, 17, 100}) {
+            IntArrayList list = new IntArrayList();
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int value = random.nextInt(300);
+                list.add(value);
+                expected.add(value);
+            }
+            IntArrayList removed = new IntArrayList();
+            List<Integer> expectedRemoved = new ArrayList<>();
+            for (int i = 0; i < removedSize; i++) {
+                int value = random.nextInt(300);
+                removed.add(value);
+                expectedRemoved.add(value);
+            }
+            assertEquals(expected.removeAll(expectedRemoved), list.removeAll(removed));
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), list.toArray());
+        }
+    }
+
+    @Test
+    void equalsHashCodeToString() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(1, 2, 3);
+        IntArrayList other = new IntArrayList(100);
+        other.addAll(1, 2, 3);
+        assertEquals(list, other);
+        assertEquals(List.of(1, 2, 3).hashCode(), list.hashCode());
+        assertEquals(list.hashCode(), other.hashCode());
+        other.add(4);
+        assertNotEquals(list, other);
+        assertNotEquals(list, null);
+        assertEquals("[1, 2, 3]", list.toString());
+    }
+}
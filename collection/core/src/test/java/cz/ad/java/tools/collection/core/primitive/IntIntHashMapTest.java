@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntIntHashMapTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(-1));
+        assertTrue(new IntIntHashMap(0).isEmpty());
+    }
+
+    @Test
+    void putGetRemove() {
+        IntIntHashMap map = new IntIntHashMap();
+        assertEquals(0, map.put(1, 10));
+        assertEquals(10, map.put(1, 11));
+        assertEquals(0, map.put(0, 5));
+        assertEquals(5, map.put(0, 6));
+        assertEquals(2, map.size());
+        assertEquals(11, map.get(1));
+        assertEquals(6, map.get(0));
+        assertEquals(0, map.get(2));
+        assertEquals(-1, map.getOrDefault(2, -1));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(2));
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new int[]{0, 1}, keys);
+
+        assertTrue(map.remove(0));
+        assertFalse(map.remove(0));
+        assertEquals(-1, map.getOrDefault(0, -1));
+        assertTrue(map.remove(1));
+        assertFalse(map.remove(1));
+        assertTrue(map.isEmpty());
+        map.put(3, 3);
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void addTo() {
+        IntIntHashMap map = new IntIntHashMap();
+        assertEquals(2, map.addTo(1, 2));
+        assertEquals(5, map.addTo(1, 3));
+        assertEquals(-1, map.addTo(0, -1));
+        assertEquals(-3, map.addTo(0, -2));
+        assertEquals(5, map.get(1));
+        assertEquals(-3, map.get(0));
+    }
+
+    @Test
+    void randomAgainstHashMap() {
+        Random random = new Random(42);
+        IntIntHashMap map = new IntIntHashMap(0);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(1000) << 16;
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else if (operation == 1) {
+                assertEquals(expected.getOrDefault(key, -1), map.getOrDefault(key, -1));
+            } else if (operation == 2) {
+                assertEquals(expected.merge(key, 1, Integer::sum), map.addTo(key, 1));
+            } else {
+                assertEquals(expected.getOrDefault(key, 0), map.put(key, i));
+                expected.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        Map<Integer, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        IntArrayList removed = new IntArrayList();
+        for (int key = 0; key < 1000; key += 2) {
+            removed.add(key << 16);
+            expected.remove(key << 16);
+        }
+        assertTrue(map.removeAll(removed));
+        assertFalse(map.removeAll(removed));
+        visited.clear();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void equalsHashCodeToString() {
+        IntIntHashMap map = new IntIntHashMap();
+        map.put(0, 1);
+        map.put(2, 3);
+        IntIntHashMap other = new IntIntHashMap(100);
+        other.putAll(map);
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+        other.put(2, 4);
+        assertNotEquals(map, other);
+        assertNotEquals(map, null);
+        assertEquals("{0=1, 2=3}", map.toString());
+    }
+}
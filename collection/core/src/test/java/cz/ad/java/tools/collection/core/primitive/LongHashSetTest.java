@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(-1));
+        assertTrue(new LongHashSet(0).isEmpty());
+    }
+
+    @Test
+    void addContainsRemove() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.add(1));
+        assertFalse(set.add(1));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(1));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertFalse(set.contains(2));
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertFalse(set.contains(0));
+        assertFalse(set.remove(2));
+        long[] values = set.toArray();
+        Arrays.sort(values);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 1}, values);
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    void randomAgainstHashSet() {
+        Random random = new Random(42);
+        LongHashSet set = new LongHashSet(0);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 20000; i++) {
+            // keys sharing lower bits create clusters in table
+            long value = (long) random.nextInt(1000) << 20;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (long value = 0; value < 1000; value++) {
+            assertEquals(expected.contains(value << 20), set.contains(value << 20));
+        }
+        Set<Long> visited = new HashSet<>();
+        set.forEach(visited::add);
+        assertEquals(expected, visited);
+        assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    void bulkOperations() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.addAll(0, 1, 2, 3));
+        assertFalse(set.addAll(1, 2));
+        LongHashSet other = new LongHashSet();
+        other.addAll(0, 2, 4);
+        assertTrue(set.addAll(other));
+        assertEquals(5, set.size());
+        assertTrue(set.removeAll(other));
+        assertFalse(set.removeAll(other));
+        assertEquals("[1, 3]", set.toString());
+        assertTrue(set.removeAll(set));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void equalsHashCode() {
+        LongHashSet set = new LongHashSet();
+        set.addAll(0, 1, 2);
+        LongHashSet other = new LongHashSet(1000);
+        other.addAll(2, 1, 0);
+        assertEquals(set, other);
+        assertEquals(set.hashCode(), other.hashCode());
+        other.remove(0);
+        assertNotEquals(set, other);
+        other.add(3);
+        assertNotEquals(set, other);
+        assertNotEquals(set, null);
+    }
+}
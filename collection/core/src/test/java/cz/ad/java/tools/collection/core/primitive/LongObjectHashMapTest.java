@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.core.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongObjectHashMapTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectHashMap<>(-1));
+        assertTrue(new LongObjectHashMap<>(0).isEmpty());
+    }
+
+    @Test
+    void putGetRemove() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        assertNull(map.put(1, "a"));
+        assertEquals("a", map.put(1, "b"));
+        assertNull(map.put(0, "z"));
+        assertNull(map.put(2, null));
+        assertEquals(3, map.size());
+        assertEquals("b", map.get(1));
+        assertEquals("z", map.get(0));
+        assertNull(map.get(2));
+        assertTrue(map.containsKey(2));
+        assertFalse(map.containsKey(3));
+        assertEquals("d", map.getOrDefault(3, "d"));
+        assertNull(map.getOrDefault(2, "d"));
+        long[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new long[]{0, 1, 2}, keys);
+
+        assertEquals("z", map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertNull(map.remove(0));
+        assertEquals("b", map.remove(1));
+        assertNull(map.remove(3));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(2));
+    }
+
+    @Test
+    void computeIfAbsent() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        assertEquals("1", map.computeIfAbsent(1, Long::toString));
+        assertEquals("1", map.computeIfAbsent(1, key -> "x"));
+        assertNull(map.computeIfAbsent(2, key -> null));
+        assertFalse(map.containsKey(2));
+        assertEquals("0", map.computeIfAbsent(0, Long::toString));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void randomAgainstHashMap() {
+        Random random = new Random(42);
+        LongObjectHashMap<Integer> map = new LongObjectHashMap<>(0);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            long key = (long) random.nextInt(1000) << 32;
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else if (operation == 1) {
+                assertEquals(expected.get(key), map.get(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        Map<Long, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        LongHashSet removed = new LongHashSet();
+        for (long key = 0; key < 1000; key += 2) {
+            removed.add(key << 32);
+            expected.remove(key << 32);
+        }
+        assertTrue(map.removeAll(removed));
+        assertFalse(map.removeAll(removed));
+        visited.clear();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void equalsHashCodeToString() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        map.put(0, "a");
+        map.put(1, null);
+        LongObjectHashMap<String> other = new LongObjectHashMap<>(100);
+        other.putAll(map);
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+        other.put(1, "b");
+        assertNotEquals(map, other);
+        assertNotEquals(map, null);
+        assertEquals("{0=a, 1=null}", map.toString());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event reporting bulk operation of collection utils, which exceeded size or duration threshold of
+ * {@link JfrBulkOperationMonitor}. Stack trace of event points to caller of collection utils, so slow operations, for
+ * example removeAll with linear lookups, are located in continuous recordings.
+ */
+@Name(CollectionBulkOperation.NAME)
+@Label("Collection Bulk Operation")
+@Category({"Java Tools", "Collection"})
+@Description("Bulk operation of collection utils exceeding size or duration threshold")
+@StackTrace
+public class CollectionBulkOperation extends jdk.jfr.Event {
+    /**
+     * Name of event type.
+     */
+    public static final String NAME = "cz.ad.java.tools.collection.CollectionBulkOperation";
+
+    /**
+     * Name of operation.
+     */
+    @Label("Operation")
+    String operation;
+    /**
+     * Class of target collection or map, null when target was not provided.
+     */
+    @Label("Target Type")
+    Class<?> targetType;
+    /**
+     * Class of source collection or map, null when source was not provided.
+     */
+    @Label("Source Type")
+    Class<?> sourceType;
+    /**
+     * Size of target before operation.
+     */
+    @Label("Target Size")
+    int targetSize;
+    /**
+     * Size of source.
+     */
+    @Label("Source Size")
+    int sourceSize;
+    /**
+     * Duration of operation measured by collection utils.
+     */
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
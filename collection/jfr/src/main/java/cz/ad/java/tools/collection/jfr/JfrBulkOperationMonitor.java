@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.jfr;
+
+import cz.ad.java.tools.collection.core.BulkOperationMonitor;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Bulk operation monitor emitting {@link CollectionBulkOperation} flight recorder events for operations whose target
+ * or source size reaches size threshold or whose duration reaches duration threshold. Monitor is provided as service,
+ * so collection utils created with default monitor report events whenever this module is on class path or module
+ * path.
+ * <p>
+ * Monitor is enabled only while event is enabled in running recording, so without recording collection utils don't
+ * measure operations at all and no event is allocated. Thresholds of service instance are read from system properties
+ * {@value #SIZE_THRESHOLD_PROPERTY} and {@value #DURATION_THRESHOLD_PROPERTY} (in milliseconds).
+ */
+public class JfrBulkOperationMonitor implements BulkOperationMonitor {
+    /**
+     * Default size of target or source from which operation is reported.
+     */
+    public static final int DEFAULT_SIZE_THRESHOLD = 10_000;
+    /**
+     * Default duration of operation from which operation is reported.
+     */
+    public static final Duration DEFAULT_DURATION_THRESHOLD = Duration.ofMillis(10);
+    /**
+     * System property overriding size threshold of service instance.
+     */
+    public static final String SIZE_THRESHOLD_PROPERTY = "cz.ad.java.tools.collection.jfr.sizeThreshold";
+    /**
+     * System property overriding duration threshold of service instance in milliseconds.
+     */
+    public static final String DURATION_THRESHOLD_PROPERTY = "cz.ad.java.tools.collection.jfr.durationThreshold";
+    /**
+     * Event instance used only to ask if event type is enabled in running recording, it is never committed.
+     */
+    private static final CollectionBulkOperation STATE = new CollectionBulkOperation();
+
+    /**
+     * Size of target or source from which operation is reported.
+     */
+    protected final int sizeThreshold;
+    /**
+     * Duration of operation in nanoseconds from which operation is reported.
+     */
+    protected final long durationThreshold;
+
+    /**
+     * Create monitor with thresholds defined by system properties or default thresholds.
+     */
+    public JfrBulkOperationMonitor() {
+        this(Integer.getInteger(SIZE_THRESHOLD_PROPERTY, DEFAULT_SIZE_THRESHOLD), Duration.ofMillis(
+                Long.getLong(DURATION_THRESHOLD_PROPERTY, DEFAULT_DURATION_THRESHOLD.toMillis())));
+    }
+
+    /**
+     * Create monitor with provided thresholds.
+     *
+     * @param sizeThreshold     size of target or source from which operation is reported. Must not be negative.
+     * @param durationThreshold duration of operation from which operation is reported. Must not be null or negative.
+     * @throws IllegalArgumentException when size threshold is negative or duration threshold is null or negative.
+     */
+    public JfrBulkOperationMonitor(int sizeThreshold, Duration durationThreshold) throws IllegalArgumentException {
+        if (sizeThreshold < 0) {
+            throw new IllegalArgumentException("Size threshold must not be negative: " + sizeThreshold);
+        }
+        if (durationThreshold == null || durationThreshold.isNegative()) {
+            throw new IllegalArgumentException("Duration threshold must not be negative: " + durationThreshold);
+        }
+        this.sizeThreshold = sizeThreshold;
+        this.durationThreshold = durationThreshold.toNanos();
+    }
+
+    /**
+     * Provide size of target or source from which operation is reported.
+     *
+     * @return size threshold.
+     */
+    public int sizeThreshold() {
+        return sizeThreshold;
+    }
+
+    /**
+     * Provide duration of operation from which operation is reported.
+     *
+     * @return duration threshold.
+     */
+    public Duration durationThreshold() {
+        return Duration.ofNanos(durationThreshold);
+    }
+
+    /**
+     * Verify if {@link CollectionBulkOperation} event is enabled in any running recording.
+     *
+     * @return true when event is recorded, otherwise false.
+     */
+    @Override
+    public boolean isEnabled() {
+        return STATE.isEnabled();
+    }
+
+    /**
+     * Emit event for operation exceeding any threshold.
+     *
+     * @param operation  name of operation, for example removeAll.
+     * @param target     target of operation, can be null.
+     * @param source     source of operation, can be null.
+     * @param targetSize size of target before operation.
+     * @param sourceSize size of source.
+     * @param start      value of {@link System#nanoTime()} captured before operation.
+     */
+    @Override
+    public void completed(String operation, Object target, Object source, int targetSize, int sourceSize, long start) {
+        long elapsed = System.nanoTime() - start;
+        if (elapsed >= durationThreshold || targetSize >= sizeThreshold || sourceSize >= sizeThreshold) {
+            CollectionBulkOperation event = new CollectionBulkOperation();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.targetType = target != null ? target.getClass() : null;
+                event.sourceType = source != null ? source.getClass() : null;
+                event.targetSize = targetSize;
+                event.sourceSize = sourceSize;
+                event.elapsed = elapsed;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JfrBulkOperationMonitor that = (JfrBulkOperationMonitor) o;
+        return sizeThreshold == that.sizeThreshold && durationThreshold == that.durationThreshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sizeThreshold, durationThreshold);
+    }
+
+    @Override
+    public String toString() {
+        return "JfrBulkOperationMonitor{" +
+                "sizeThreshold=" + sizeThreshold +
+                ", durationThreshold=" + durationThreshold() +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Module providing Java Flight Recorder events reporting slow or oversized bulk operations of collection utils.
+ */
+module cz.ad.java.tools.collection.jfr {
+    requires transitive cz.ad.java.tools.collection.core;
+    requires jdk.jfr;
+    exports cz.ad.java.tools.collection.jfr;
+
+    provides cz.ad.java.tools.collection.core.BulkOperationMonitor
+            with cz.ad.java.tools.collection.jfr.JfrBulkOperationMonitor;
+}
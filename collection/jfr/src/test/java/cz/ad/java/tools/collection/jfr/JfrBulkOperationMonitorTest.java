@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.jfr;
+
+import cz.ad.java.tools.collection.core.BulkOperationMonitor;
+import cz.ad.java.tools.collection.core.CollectionFactory;
+import cz.ad.java.tools.collection.core.DefaultCollectionUtils;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrBulkOperationMonitorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new JfrBulkOperationMonitor(-1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new JfrBulkOperationMonitor(0, null));
+        assertThrows(IllegalArgumentException.class, () -> new JfrBulkOperationMonitor(0, Duration.ofNanos(-1)));
+
+        JfrBulkOperationMonitor instance = new JfrBulkOperationMonitor();
+        assertEquals(JfrBulkOperationMonitor.DEFAULT_SIZE_THRESHOLD, instance.sizeThreshold());
+        assertEquals(JfrBulkOperationMonitor.DEFAULT_DURATION_THRESHOLD, instance.durationThreshold());
+        assertEquals(new JfrBulkOperationMonitor(), instance);
+        assertEquals(new JfrBulkOperationMonitor().hashCode(), instance.hashCode());
+        assertNotEquals(new JfrBulkOperationMonitor(1, Duration.ZERO), instance);
+        assertTrue(instance.toString().startsWith("JfrBulkOperationMonitor{"));
+    }
+
+    @Test
+    void service() {
+        assertEquals(new JfrBulkOperationMonitor(), BulkOperationMonitor.instance());
+    }
+
+    @Test
+    void enabled() {
+        JfrBulkOperationMonitor instance = testedInstance();
+        assertFalse(instance.isEnabled());
+        try (Recording recording = new Recording()) {
+            recording.enable(CollectionBulkOperation.class);
+            recording.start();
+            assertTrue(instance.isEnabled());
+        }
+        assertFalse(instance.isEnabled());
+    }
+
+    @Test
+    void events() throws IOException {
+        DefaultCollectionUtils utils = new DefaultCollectionUtils(DefaultCollectionUtils.DEFAULT_HASH_INDEX_THRESHOLD,
+                CollectionFactory.DEFAULT_INSTANCE, testedInstance());
+        List<Integer> values = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+        // not reported without recording
+        utils.removeAll(new ArrayList<>(values), values);
+
+        Path file = directory.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CollectionBulkOperation.class).withStackTrace();
+            recording.start();
+            assertTrue(utils.removeAll(new ArrayList<>(values), values.subList(0, 150)));
+            assertTrue(utils.containsAll(new HashSet<>(values), List.of(1, 2)));
+            assertTrue(utils.removeAll(new ArrayList<>(List.of(1, 2)), List.of(1)));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> CollectionBulkOperation.NAME.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+        assertEquals(2, events.size());
+        RecordedEvent removeAll = events.get(0);
+        assertEquals("removeAll", removeAll.getString("operation"));
+        assertEquals(ArrayList.class.getName(), removeAll.getClass("targetType").getName());
+        assertEquals(200, removeAll.getInt("targetSize"));
+        assertEquals(150, removeAll.getInt("sourceSize"));
+        assertTrue(removeAll.getDuration("elapsed").toNanos() >= 0);
+        RecordedEvent containsAll = events.get(1);
+        assertEquals("containsAll", containsAll.getString("operation"));
+        assertEquals(HashSet.class.getName(), containsAll.getClass("targetType").getName());
+        assertEquals(2, containsAll.getInt("sourceSize"));
+    }
+
+    private JfrBulkOperationMonitor testedInstance() {
+        return new JfrBulkOperationMonitor(100, Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of sizes of collections and maps initialized by init supplier at single call site, recorded by
+ * {@link ProfilingCollectionUtils}. Size of collection is its last observed size, which is size at time of snapshot
+ * for collections still in use, or size observed by last operation of decorator or snapshot before collection was
+ * released. Percentiles are upper bounds of histogram buckets, so they can be used directly as
+ * expected size of presized collection.
+ */
+public final class CallSiteProfile {
+    private final String site;
+    private final long collections;
+    private final long p50Size;
+    private final long p90Size;
+    private final long p99Size;
+    private final long maxSize;
+    private final long resizes;
+
+    /**
+     * Create new snapshot.
+     *
+     * @param site        call site in form class.method(file:line).
+     * @param collections amount of profiled collections initialized at call site.
+     * @param p50Size     median of sizes.
+     * @param p90Size     90th percentile of sizes.
+     * @param p99Size     99th percentile of sizes.
+     * @param maxSize     maximal size.
+     * @param resizes     estimated amount of resizes of profiled collections.
+     */
+    public CallSiteProfile(String site, long collections, long p50Size, long p90Size, long p99Size, long maxSize,
+                           long resizes) {
+        this.site = site;
+        this.collections = collections;
+        this.p50Size = p50Size;
+        this.p90Size = p90Size;
+        this.p99Size = p99Size;
+        this.maxSize = maxSize;
+        this.resizes = resizes;
+    }
+
+    public String getSite() {
+        return site;
+    }
+
+    public long getCollections() {
+        return collections;
+    }
+
+    public long getP50Size() {
+        return p50Size;
+    }
+
+    public long getP90Size() {
+        return p90Size;
+    }
+
+    public long getP99Size() {
+        return p99Size;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public long getResizes() {
+        return resizes;
+    }
+
+    /**
+     * Provide expected size recommended for presizing of collections initialized at call site. Presizing is
+     * recommended only when collections were resized, 90th percentile of sizes is recommended, so rare big collections
+     * don't waste memory of all others.
+     *
+     * @return recommended expected size or 0 when presizing is not needed.
+     */
+    public long getRecommendedSize() {
+        return resizes > 0 ? Math.min(p90Size, maxSize) : 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CallSiteProfile that = (CallSiteProfile) o;
+        return collections == that.collections && p50Size == that.p50Size && p90Size == that.p90Size
+                && p99Size == that.p99Size && maxSize == that.maxSize && resizes == that.resizes
+                && Objects.equals(site, that.site);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(site, collections, p50Size, p90Size, p99Size, maxSize, resizes);
+    }
+
+    @Override
+    public String toString() {
+        return "CallSiteProfile{" +
+                "site=" + site +
+                ", collections=" + collections +
+                ", p50Size=" + p50Size +
+                ", p90Size=" + p90Size +
+                ", p99Size=" + p99Size +
+                ", maxSize=" + maxSize +
+                ", resizes=" + resizes +
+                ", recommendedSize=" + getRecommendedSize() +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import java.util.List;
+
+/**
+ * Management interface of {@link MetricsCollectionUtils} exposing recorded metrics of collection operations by JMX.
+ */
+public interface CollectionMetricsMXBean {
+
+    /**
+     * Provide snapshot of metrics of all operations called at least once.
+     *
+     * @return list of operation statistics.
+     */
+    List<OperationStatistics> getStatistics();
+
+    /**
+     * Provide total amount of recorded calls of all operations.
+     *
+     * @return amount of calls.
+     */
+    long getTotalCalls();
+
+    /**
+     * Remove all recorded metrics.
+     */
+    void reset();
+}
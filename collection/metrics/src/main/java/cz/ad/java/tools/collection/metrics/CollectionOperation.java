@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+/**
+ * Operations of collection utils recorded by {@link MetricsCollectionUtils}. Overloads of same method for collections,
+ * maps and arrays are recorded as single operation.
+ */
+public enum CollectionOperation {
+    /**
+     * Validation if collection, map or array is empty.
+     */
+    IS_EMPTY,
+    /**
+     * Validation if collection, map or array is not empty.
+     */
+    IS_NOT_EMPTY,
+    /**
+     * Addition of value into collection.
+     */
+    ADD,
+    /**
+     * Addition of values into collection initialized by supplier.
+     */
+    ADD_ALL,
+    /**
+     * Addition of values into collection initialized by sized init function.
+     */
+    ADD_ALL_SIZED,
+    /**
+     * Put of entry into map.
+     */
+    PUT,
+    /**
+     * Put of entries into map initialized by supplier.
+     */
+    PUT_ALL,
+    /**
+     * Put of entries into map initialized by sized init function.
+     */
+    PUT_ALL_SIZED,
+    /**
+     * Addition of value into list or set of multimap.
+     */
+    PUT_TO_MULTI,
+    /**
+     * Addition of values into list of multimap.
+     */
+    PUT_ALL_TO_MULTI,
+    /**
+     * Removal of value from collection of multimap.
+     */
+    REMOVE_FROM_MULTI,
+    /**
+     * Validation if collection contains value or map contains key.
+     */
+    CONTAINS,
+    /**
+     * Validation if map contains value.
+     */
+    CONTAINS_VALUE,
+    /**
+     * Validation if collection or map contains all values, entries or keys.
+     */
+    CONTAINS_ALL,
+    /**
+     * Removal of value from collection or of entry or key from map.
+     */
+    REMOVE,
+    /**
+     * Removal of values from collection or of entries or keys from map.
+     */
+    REMOVE_ALL,
+    /**
+     * Retain of values in collection.
+     */
+    RETAIN_ALL
+}
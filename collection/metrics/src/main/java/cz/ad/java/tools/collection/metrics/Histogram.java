@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non-negative values with buckets of power of two width. Bucket 0 counts value 0 and bucket i counts
+ * values from 2<sup>i-1</sup> to 2<sup>i</sup>-1, so whole long range is covered by 64 buckets with relative error of
+ * percentiles lower than factor of two. Every bucket is striped counter, so histogram is updated from many threads
+ * without locks and without contention on single memory location.
+ */
+public final class Histogram {
+    /**
+     * Amount of buckets of histogram.
+     */
+    public static final int BUCKETS = 64;
+
+    /**
+     * Counters of values in buckets.
+     */
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    /**
+     * Sum of all recorded values.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Create new empty histogram.
+     */
+    public Histogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Provide bucket of value.
+     *
+     * @param value non-negative value.
+     * @return index of bucket, negative values are counted in bucket 0.
+     */
+    public static int bucket(long value) {
+        return value <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Provide maximal value counted in bucket.
+     *
+     * @param bucket index of bucket.
+     * @return upper bound of bucket.
+     */
+    public static long upperBound(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * Record value into histogram.
+     *
+     * @param value recorded value, negative value is recorded as 0.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        counts[bucket(recorded)].increment();
+        sum.add(recorded);
+    }
+
+    /**
+     * Add all values recorded by other histogram into this histogram.
+     *
+     * @param other histogram with values to be added.
+     * @throws IllegalArgumentException when other histogram is null.
+     */
+    public void merge(Histogram other) throws IllegalArgumentException {
+        if (other == null) {
+            throw new IllegalArgumentException("Merged histogram must not be null");
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i].add(other.counts[i].sum());
+        }
+        sum.add(other.sum());
+    }
+
+    /**
+     * Provide amount of recorded values.
+     *
+     * @return amount of values.
+     */
+    public long count() {
+        long retValue = 0;
+        for (LongAdder count : counts) {
+            retValue += count.sum();
+        }
+        return retValue;
+    }
+
+    /**
+     * Provide sum of recorded values.
+     *
+     * @return sum of values.
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * Provide mean of recorded values.
+     *
+     * @return mean of values or 0 when histogram is empty.
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : sum() / (double) count;
+    }
+
+    /**
+     * Provide amounts of values in buckets.
+     *
+     * @return new array of amounts indexed by bucket.
+     */
+    public long[] counts() {
+        long[] retValue = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            retValue[i] = counts[i].sum();
+        }
+        return retValue;
+    }
+
+    /**
+     * Estimate percentile of recorded values by upper bound of bucket containing it.
+     *
+     * @param percentile requested percentile from 0 to 100.
+     * @return upper bound of bucket containing percentile or 0 when histogram is empty.
+     * @throws IllegalArgumentException when percentile is out of range.
+     */
+    public long percentile(double percentile) throws IllegalArgumentException {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be from 0 to 100: " + percentile);
+        }
+        long[] snapshot = counts();
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        long retValue = 0;
+        if (total > 0) {
+            long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    retValue = upperBound(i);
+                    break;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove all recorded values. Values recorded concurrently with reset can be partially kept.
+     */
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+        sum.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram{" +
+                "count=" + count() +
+                ", mean=" + mean() +
+                ", p50=" + percentile(50) +
+                ", p99=" + percentile(99) +
+                '}';
+    }
+}
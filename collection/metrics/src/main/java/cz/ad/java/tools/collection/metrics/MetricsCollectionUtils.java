@@ -0,0 +1,455 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import cz.ad.java.tools.collection.core.CollectionAddUtils;
+import cz.ad.java.tools.collection.core.CollectionFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Decorator of collection utils recording metrics of every called operation. For each operation it counts calls,
+ * lazy initializations of empty target by init supplier or function and records distributions of input sizes and of
+ * latencies into histograms. Input size is size of source for bulk operations, otherwise size of target before call.
+ * <p>
+ * All counters are striped {@link java.util.concurrent.atomic.LongAdder}, so decorator can be shared by many threads
+ * without locks. Metrics are provided by pull API {@link #metrics(CollectionOperation)} and {@link #getStatistics()}
+ * or by JMX after registration by {@link #register(ObjectName)}.
+ */
+public class MetricsCollectionUtils implements CollectionAddUtils, CollectionMetricsMXBean {
+    /**
+     * Default domain and type of registered MXBean name.
+     */
+    public static final String DEFAULT_OBJECT_NAME = "cz.ad.java.tools.collection:type=CollectionMetrics";
+
+    /**
+     * Decorated collection utils.
+     */
+    protected final CollectionAddUtils delegate;
+    /**
+     * Metrics indexed by ordinal of operation.
+     */
+    protected final OperationMetrics[] metrics;
+
+    /**
+     * Create decorator recording metrics of provided collection utils.
+     *
+     * @param delegate decorated collection utils.
+     * @throws IllegalArgumentException when delegate is null.
+     */
+    public MetricsCollectionUtils(CollectionAddUtils delegate) throws IllegalArgumentException {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Decorated collection utils must not be null");
+        }
+        this.delegate = delegate;
+        CollectionOperation[] operations = CollectionOperation.values();
+        this.metrics = new OperationMetrics[operations.length];
+        for (CollectionOperation operation : operations) {
+            metrics[operation.ordinal()] = new OperationMetrics(operation);
+        }
+    }
+
+    /**
+     * Provide decorated collection utils.
+     *
+     * @return decorated collection utils.
+     */
+    public CollectionAddUtils delegate() {
+        return delegate;
+    }
+
+    /**
+     * Provide live metrics of operation.
+     *
+     * @param operation recorded operation.
+     * @return metrics of operation.
+     * @throws IllegalArgumentException when operation is null.
+     */
+    public OperationMetrics metrics(CollectionOperation operation) throws IllegalArgumentException {
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation must not be null");
+        }
+        return metrics[operation.ordinal()];
+    }
+
+    @Override
+    public List<OperationStatistics> getStatistics() {
+        List<OperationStatistics> retValue = new ArrayList<>();
+        for (OperationMetrics operation : metrics) {
+            if (operation.calls() > 0) {
+                retValue.add(operation.statistics());
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public long getTotalCalls() {
+        long retValue = 0;
+        for (OperationMetrics operation : metrics) {
+            retValue += operation.calls();
+        }
+        return retValue;
+    }
+
+    @Override
+    public void reset() {
+        for (OperationMetrics operation : metrics) {
+            operation.reset();
+        }
+    }
+
+    /**
+     * Register decorator into platform MBean server under provided name.
+     *
+     * @param name name of registered MXBean, for example {@link #DEFAULT_OBJECT_NAME} with additional key property.
+     * @return registered name.
+     * @throws JMException when registration fails, for example when name is already registered.
+     */
+    public ObjectName register(ObjectName name) throws JMException {
+        return ManagementFactory.getPlatformMBeanServer().registerMBean(this, name).getObjectName();
+    }
+
+    /**
+     * Remove decorator registered under provided name from platform MBean server.
+     *
+     * @param name name of registered MXBean.
+     * @throws JMException when name is not registered.
+     */
+    public void unregister(ObjectName name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+    }
+
+    @Override
+    public CollectionFactory collectionFactory() {
+        return delegate.collectionFactory();
+    }
+
+    @Override
+    public <C extends Collection<V>, V> boolean isEmpty(C collection) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.isEmpty(collection);
+        record(CollectionOperation.IS_EMPTY, start, size(collection), false);
+        return retValue;
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean isEmpty(M map) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.isEmpty(map);
+        record(CollectionOperation.IS_EMPTY, start, size(map), false);
+        return retValue;
+    }
+
+    @Override
+    public <V> boolean isEmpty(V[] array) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.isEmpty(array);
+        record(CollectionOperation.IS_EMPTY, start, array != null ? array.length : 0, false);
+        return retValue;
+    }
+
+    @Override
+    public <C extends Collection<V>, V> boolean isNotEmpty(C collection) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.isNotEmpty(collection);
+        record(CollectionOperation.IS_NOT_EMPTY, start, size(collection), false);
+        return retValue;
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean isNotEmpty(M map) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.isNotEmpty(map);
+        record(CollectionOperation.IS_NOT_EMPTY, start, size(map), false);
+        return retValue;
+    }
+
+    @Override
+    public <V> boolean isNotEmpty(V[] array) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.isNotEmpty(array);
+        record(CollectionOperation.IS_NOT_EMPTY, start, array != null ? array.length : 0, false);
+        return retValue;
+    }
+
+    @Override
+    public <C extends Collection<V>, V> C add(C collection, Supplier<C> init, V value) {
+        int size = size(collection);
+        long start = System.nanoTime();
+        C retValue = delegate.add(collection, init, value);
+        record(CollectionOperation.ADD, start, size, collection == null && retValue != null);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> T addAll(T target, Supplier<T> init, S source) {
+        long start = System.nanoTime();
+        T retValue = delegate.addAll(target, init, source);
+        record(CollectionOperation.ADD_ALL, start, size(source), target == null && retValue != null);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> T addAllSized(
+            T target, IntFunction<T> init, S source
+    ) {
+        long start = System.nanoTime();
+        T retValue = delegate.addAllSized(target, init, source);
+        record(CollectionOperation.ADD_ALL_SIZED, start, size(source), target == null && retValue != null);
+        return retValue;
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> M put(M map, Supplier<M> init, K key, V value) {
+        int size = size(map);
+        long start = System.nanoTime();
+        M retValue = delegate.put(map, init, key, value);
+        record(CollectionOperation.PUT, start, size, map == null && retValue != null);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(T target, Supplier<T> init, S source) {
+        long start = System.nanoTime();
+        T retValue = delegate.putAll(target, init, source);
+        record(CollectionOperation.PUT_ALL, start, size(source), target == null && retValue != null);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAllSized(T target, IntFunction<T> init, S source) {
+        long start = System.nanoTime();
+        T retValue = delegate.putAllSized(target, init, source);
+        record(CollectionOperation.PUT_ALL_SIZED, start, size(source), target == null && retValue != null);
+        return retValue;
+    }
+
+    @Override
+    public <K, V> Map<K, List<V>> putToList(Map<K, List<V>> map, K key, V value) {
+        int size = size(map);
+        long start = System.nanoTime();
+        Map<K, List<V>> retValue = delegate.putToList(map, key, value);
+        record(CollectionOperation.PUT_TO_MULTI, start, size, map == null);
+        return retValue;
+    }
+
+    @Override
+    public <K, V> Map<K, List<V>> putToList(Map<K, List<V>> map, K key, V value, int expectedValues)
+            throws IllegalArgumentException {
+        int size = size(map);
+        long start = System.nanoTime();
+        Map<K, List<V>> retValue = delegate.putToList(map, key, value, expectedValues);
+        record(CollectionOperation.PUT_TO_MULTI, start, size, map == null);
+        return retValue;
+    }
+
+    @Override
+    public <K, V> Map<K, Set<V>> putToSet(Map<K, Set<V>> map, K key, V value) {
+        int size = size(map);
+        long start = System.nanoTime();
+        Map<K, Set<V>> retValue = delegate.putToSet(map, key, value);
+        record(CollectionOperation.PUT_TO_MULTI, start, size, map == null);
+        return retValue;
+    }
+
+    @Override
+    public <K, V> Map<K, Set<V>> putToSet(Map<K, Set<V>> map, K key, V value, int expectedValues)
+            throws IllegalArgumentException {
+        int size = size(map);
+        long start = System.nanoTime();
+        Map<K, Set<V>> retValue = delegate.putToSet(map, key, value, expectedValues);
+        record(CollectionOperation.PUT_TO_MULTI, start, size, map == null);
+        return retValue;
+    }
+
+    @Override
+    public <S extends Collection<? extends V>, K, V> Map<K, List<V>> putAllToList(
+            Map<K, List<V>> map, K key, S source
+    ) {
+        long start = System.nanoTime();
+        Map<K, List<V>> retValue = delegate.putAllToList(map, key, source);
+        record(CollectionOperation.PUT_ALL_TO_MULTI, start, size(source), map == null && retValue != null);
+        return retValue;
+    }
+
+    @Override
+    public <M extends Map<K, C>, C extends Collection<V>, K, V> boolean removeFromMulti(M map, K key, V value) {
+        int size = size(map);
+        long start = System.nanoTime();
+        boolean retValue = delegate.removeFromMulti(map, key, value);
+        record(CollectionOperation.REMOVE_FROM_MULTI, start, size, false);
+        return retValue;
+    }
+
+    @Override
+    public <C extends Collection<V>, V> boolean contains(C collection, V value) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.contains(collection, value);
+        record(CollectionOperation.CONTAINS, start, size(collection), false);
+        return retValue;
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean contains(M map, K key) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.contains(map, key);
+        record(CollectionOperation.CONTAINS, start, size(map), false);
+        return retValue;
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean containsValue(M map, V value) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.containsValue(map, value);
+        record(CollectionOperation.CONTAINS_VALUE, start, size(map), false);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> boolean containsAll(T target, S source) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.containsAll(target, source);
+        record(CollectionOperation.CONTAINS_ALL, start, size(source), false);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> boolean containsAll(T target, S source) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.containsAll(target, source);
+        record(CollectionOperation.CONTAINS_ALL, start, size(source), false);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Set<K>, K, V> boolean containsAll(T target, S source) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.containsAll(target, source);
+        record(CollectionOperation.CONTAINS_ALL, start, size(source), false);
+        return retValue;
+    }
+
+    @Override
+    public <C extends Collection<V>, V> boolean remove(C collection, V value) {
+        int size = size(collection);
+        long start = System.nanoTime();
+        boolean retValue = delegate.remove(collection, value);
+        record(CollectionOperation.REMOVE, start, size, false);
+        return retValue;
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean remove(M map, K key, V value) {
+        int size = size(map);
+        long start = System.nanoTime();
+        boolean retValue = delegate.remove(map, key, value);
+        record(CollectionOperation.REMOVE, start, size, false);
+        return retValue;
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean remove(M map, K key) {
+        int size = size(map);
+        long start = System.nanoTime();
+        boolean retValue = delegate.remove(map, key);
+        record(CollectionOperation.REMOVE, start, size, false);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> boolean removeAll(T target, S source) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.removeAll(target, source);
+        record(CollectionOperation.REMOVE_ALL, start, size(source), false);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> boolean removeAll(T target, S source) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.removeAll(target, source);
+        record(CollectionOperation.REMOVE_ALL, start, size(source), false);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Set<K>, K, V> boolean removeAll(T target, S source) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.removeAll(target, source);
+        record(CollectionOperation.REMOVE_ALL, start, size(source), false);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> boolean retainAll(T target, S source) {
+        long start = System.nanoTime();
+        boolean retValue = delegate.retainAll(target, source);
+        record(CollectionOperation.RETAIN_ALL, start, size(source), false);
+        return retValue;
+    }
+
+    /**
+     * Record finished call of operation.
+     *
+     * @param operation called operation.
+     * @param start     value of {@link System#nanoTime()} before call.
+     * @param size      input size of call.
+     * @param lazyInit  true when call initialized empty target.
+     */
+    protected void record(CollectionOperation operation, long start, int size, boolean lazyInit) {
+        metrics[operation.ordinal()].record(System.nanoTime() - start, size, lazyInit);
+    }
+
+    /**
+     * Provide size of collection.
+     *
+     * @param collection collection or null.
+     * @return size of collection, 0 for null.
+     */
+    private static int size(Collection<?> collection) {
+        return collection != null ? collection.size() : 0;
+    }
+
+    /**
+     * Provide size of map.
+     *
+     * @param map map or null.
+     * @return size of map, 0 for null.
+     */
+    private static int size(Map<?, ?> map) {
+        return map != null ? map.size() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsCollectionUtils{" +
+                "delegate=" + delegate +
+                '}';
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of single collection operation recorded by {@link MetricsCollectionUtils}. All counters are striped, so
+ * operation called from many threads is recorded without locks.
+ */
+public final class OperationMetrics {
+    /**
+     * Recorded operation.
+     */
+    private final CollectionOperation operation;
+    /**
+     * Amount of calls of operation.
+     */
+    private final LongAdder calls = new LongAdder();
+    /**
+     * Amount of calls which initialized empty target by init supplier or function.
+     */
+    private final LongAdder lazyInits = new LongAdder();
+    /**
+     * Distribution of input sizes, size of source for bulk operations, otherwise size of target.
+     */
+    private final Histogram sizes = new Histogram();
+    /**
+     * Distribution of operation latency in nanoseconds.
+     */
+    private final Histogram latencies = new Histogram();
+
+    /**
+     * Create new empty metrics of operation.
+     *
+     * @param operation recorded operation.
+     */
+    OperationMetrics(CollectionOperation operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Record single call of operation.
+     *
+     * @param nanos    duration of call in nanoseconds.
+     * @param size     input size of call.
+     * @param lazyInit true when call initialized empty target.
+     */
+    void record(long nanos, int size, boolean lazyInit) {
+        calls.increment();
+        if (lazyInit) {
+            lazyInits.increment();
+        }
+        sizes.record(size);
+        latencies.record(nanos);
+    }
+
+    /**
+     * Provide recorded operation.
+     *
+     * @return recorded operation.
+     */
+    public CollectionOperation operation() {
+        return operation;
+    }
+
+    /**
+     * Provide amount of calls of operation.
+     *
+     * @return amount of calls.
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * Provide amount of calls which initialized empty target by init supplier or function.
+     *
+     * @return amount of lazy initializations.
+     */
+    public long lazyInits() {
+        return lazyInits.sum();
+    }
+
+    /**
+     * Provide distribution of input sizes, size of source for bulk operations, otherwise size of target.
+     *
+     * @return histogram of input sizes.
+     */
+    public Histogram sizes() {
+        return sizes;
+    }
+
+    /**
+     * Provide distribution of operation latency in nanoseconds.
+     *
+     * @return histogram of latencies.
+     */
+    public Histogram latencies() {
+        return latencies;
+    }
+
+    /**
+     * Provide immutable snapshot of metrics.
+     *
+     * @return snapshot of current values.
+     */
+    public OperationStatistics statistics() {
+        return new OperationStatistics(operation.name(), calls(), lazyInits(), sizes.mean(), sizes.percentile(99),
+                latencies.sum(), latencies.percentile(50), latencies.percentile(99), latencies.percentile(100));
+    }
+
+    /**
+     * Remove all recorded values.
+     */
+    public void reset() {
+        calls.reset();
+        lazyInits.reset();
+        sizes.reset();
+        latencies.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics{" +
+                "operation=" + operation +
+                ", calls=" + calls() +
+                ", lazyInits=" + lazyInits() +
+                ", sizes=" + sizes +
+                ", latencies=" + latencies +
+                '}';
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import javax.management.openmbean.CompositeData;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of metrics of single collection operation, exposed as composite data by
+ * {@link CollectionMetricsMXBean}. Percentiles are upper bounds of histogram buckets.
+ */
+public final class OperationStatistics {
+    private final String operation;
+    private final long calls;
+    private final long lazyInits;
+    private final double meanSize;
+    private final long p99Size;
+    private final long totalNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    /**
+     * Create new snapshot.
+     *
+     * @param operation  name of operation.
+     * @param calls      amount of calls.
+     * @param lazyInits  amount of lazy initializations.
+     * @param meanSize   mean input size.
+     * @param p99Size    99th percentile of input size.
+     * @param totalNanos total duration of calls in nanoseconds.
+     * @param p50Nanos   median of latency in nanoseconds.
+     * @param p99Nanos   99th percentile of latency in nanoseconds.
+     * @param maxNanos   maximal latency in nanoseconds.
+     */
+    public OperationStatistics(String operation, long calls, long lazyInits, double meanSize, long p99Size,
+                               long totalNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+        this.operation = operation;
+        this.calls = calls;
+        this.lazyInits = lazyInits;
+        this.meanSize = meanSize;
+        this.p99Size = p99Size;
+        this.totalNanos = totalNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Reconstruct snapshot from composite data provided by MXBean proxy.
+     *
+     * @param data composite data of snapshot.
+     * @return reconstructed snapshot.
+     */
+    public static OperationStatistics from(CompositeData data) {
+        return new OperationStatistics((String) data.get("operation"), (Long) data.get("calls"),
+                (Long) data.get("lazyInits"), (Double) data.get("meanSize"), (Long) data.get("p99Size"),
+                (Long) data.get("totalNanos"), (Long) data.get("p50Nanos"), (Long) data.get("p99Nanos"),
+                (Long) data.get("maxNanos"));
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getLazyInits() {
+        return lazyInits;
+    }
+
+    public double getMeanSize() {
+        return meanSize;
+    }
+
+    public long getP99Size() {
+        return p99Size;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OperationStatistics that = (OperationStatistics) o;
+        return calls == that.calls && lazyInits == that.lazyInits && Double.compare(meanSize, that.meanSize) == 0
+                && p99Size == that.p99Size && totalNanos == that.totalNanos && p50Nanos == that.p50Nanos
+                && p99Nanos == that.p99Nanos && maxNanos == that.maxNanos && Objects.equals(operation, that.operation);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operation, calls, lazyInits, meanSize, p99Size, totalNanos, p50Nanos, p99Nanos, maxNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "OperationStatistics{" +
+                "operation=" + operation +
+                ", calls=" + calls +
+                ", lazyInits=" + lazyInits +
+                ", meanSize=" + meanSize +
+                ", p99Size=" + p99Size +
+                ", totalNanos=" + totalNanos +
+                ", p50Nanos=" + p50Nanos +
+                ", p99Nanos=" + p99Nanos +
+                ", maxNanos=" + maxNanos +
+                '}';
+    }
+}
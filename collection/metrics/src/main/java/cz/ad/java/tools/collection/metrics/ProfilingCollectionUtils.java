@@ -0,0 +1,553 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import cz.ad.java.tools.collection.core.CollectionAddUtils;
+import cz.ad.java.tools.collection.core.CollectionFactory;
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import cz.ad.java.tools.collection.core.OpenHashMap;
+import cz.ad.java.tools.collection.core.OpenHashSet;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in profiling decorator of collection utils recording sizes of collections and maps initialized by init supplier
+ * or sized init function in add, addAll, addAllSized, put, putAll and putAllSized operations, grouped by call site.
+ * Call site is first stack frame outside of collection utils located by {@link StackWalker}, only every n-th
+ * collection initialized by calling thread is sampled, so cost of stack walk is paid only for sampled collections and
+ * threads don't share sampling counter.
+ * <p>
+ * Sampled collection is tracked by weak reference until it is released by garbage collector. Its size is observed by
+ * every following operation of decorator and by every {@link #profiles()} report. Recorded size is the last observed
+ * size: for collection still in use it is size at time of report, for released collection it is size observed by last
+ * operation of decorator or report before release, so growth done directly on collection after that is not visible.
+ * Amount of resizes is estimated by growth policy of array and hash based collections of JDK and of core module, from
+ * default capacity or from expected size of sized init, so call sites repeatedly growing collections can be presized
+ * by {@link CallSiteProfile#getRecommendedSize()}.
+ */
+public class ProfilingCollectionUtils implements CollectionAddUtils {
+    /**
+     * Default amount of initialized collections per one sampled collection.
+     */
+    public static final int DEFAULT_SAMPLE_RATE = 16;
+    /**
+     * Call site reported when no frame outside of collection utils is found.
+     */
+    public static final String UNKNOWN_SITE = "unknown";
+    /**
+     * Walker of stack retaining classes of frames to recognize frames of collection utils.
+     */
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    /**
+     * Decorated collection utils.
+     */
+    protected final CollectionAddUtils delegate;
+    /**
+     * Amount of initialized collections per one sampled collection.
+     */
+    protected final int sampleRate;
+    /**
+     * Counter of collections initialized by calling thread used for sampling.
+     */
+    private final ThreadLocal<long[]> initialized = ThreadLocal.withInitial(() -> new long[1]);
+    /**
+     * Profiles of call sites indexed by call site.
+     */
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    /**
+     * Sampled collections still in use, keys are compared by identity of tracked collection.
+     */
+    private final Map<Object, Tracked> tracked = new ConcurrentHashMap<>();
+    /**
+     * Queue of tracked collections released by garbage collector.
+     */
+    private final ReferenceQueue<Object> released = new ReferenceQueue<>();
+
+    /**
+     * Create profiling decorator of provided collection utils using default sample rate.
+     *
+     * @param delegate decorated collection utils.
+     * @throws IllegalArgumentException when delegate is null.
+     */
+    public ProfilingCollectionUtils(CollectionAddUtils delegate) throws IllegalArgumentException {
+        this(delegate, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * Create profiling decorator of provided collection utils.
+     *
+     * @param delegate   decorated collection utils.
+     * @param sampleRate amount of initialized collections per one sampled collection, 1 to profile every collection.
+     * @throws IllegalArgumentException when delegate is null or sample rate is not positive.
+     */
+    public ProfilingCollectionUtils(CollectionAddUtils delegate, int sampleRate) throws IllegalArgumentException {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Decorated collection utils must not be null");
+        }
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive: " + sampleRate);
+        }
+        this.delegate = delegate;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Provide decorated collection utils.
+     *
+     * @return decorated collection utils.
+     */
+    public CollectionAddUtils delegate() {
+        return delegate;
+    }
+
+    /**
+     * Provide amount of initialized collections per one sampled collection.
+     *
+     * @return sample rate.
+     */
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Provide profiles of all call sites ordered by estimated amount of resizes from highest. Collections still in use
+     * are included with their current size.
+     *
+     * @return snapshot of call site profiles.
+     */
+    public List<CallSiteProfile> profiles() {
+        drainReleased();
+        Map<String, Site> snapshot = new HashMap<>();
+        for (Map.Entry<String, Site> entry : sites.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().copy());
+        }
+        for (Tracked collection : tracked.values()) {
+            Object referent = collection.get();
+            Site site = snapshot.get(collection.site.name);
+            if (site != null) {
+                // released collection not drained yet is reported with last observed size
+                site.record(referent != null ? collection.observe(size(referent)) : collection.finished());
+            }
+        }
+        List<CallSiteProfile> retValue = new ArrayList<>(snapshot.size());
+        for (Site site : snapshot.values()) {
+            retValue.add(site.profile());
+        }
+        retValue.sort(Comparator.comparingLong(CallSiteProfile::getResizes).reversed()
+                .thenComparing(CallSiteProfile::getSite));
+        return retValue;
+    }
+
+    /**
+     * Remove all profiles and stop tracking of sampled collections.
+     */
+    public void reset() {
+        tracked.clear();
+        sites.clear();
+        drainReleased();
+    }
+
+    @Override
+    public CollectionFactory collectionFactory() {
+        return delegate.collectionFactory();
+    }
+
+    @Override
+    public <C extends Collection<V>, V> boolean isEmpty(C collection) {
+        return delegate.isEmpty(collection);
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean isEmpty(M map) {
+        return delegate.isEmpty(map);
+    }
+
+    @Override
+    public <V> boolean isEmpty(V[] array) {
+        return delegate.isEmpty(array);
+    }
+
+    @Override
+    public <C extends Collection<V>, V> boolean isNotEmpty(C collection) {
+        return delegate.isNotEmpty(collection);
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean isNotEmpty(M map) {
+        return delegate.isNotEmpty(map);
+    }
+
+    @Override
+    public <V> boolean isNotEmpty(V[] array) {
+        return delegate.isNotEmpty(array);
+    }
+
+    @Override
+    public <C extends Collection<V>, V> C add(C collection, Supplier<C> init, V value) {
+        C retValue = delegate.add(collection, init, value);
+        profile(collection, retValue);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> T addAll(T target, Supplier<T> init, S source) {
+        T retValue = delegate.addAll(target, init, source);
+        profile(target, retValue);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> T addAllSized(
+            T target, IntFunction<T> init, S source
+    ) {
+        T retValue = delegate.addAllSized(target, init, source);
+        profile(target, retValue, source != null ? source.size() : 0);
+        return retValue;
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> M put(M map, Supplier<M> init, K key, V value) {
+        M retValue = delegate.put(map, init, key, value);
+        profile(map, retValue);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAll(T target, Supplier<T> init, S source) {
+        T retValue = delegate.putAll(target, init, source);
+        profile(target, retValue);
+        return retValue;
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAllSized(T target, IntFunction<T> init, S source) {
+        T retValue = delegate.putAllSized(target, init, source);
+        profile(target, retValue, source != null ? source.size() : 0);
+        return retValue;
+    }
+
+    @Override
+    public <C extends Collection<V>, V> boolean contains(C collection, V value) {
+        return delegate.contains(collection, value);
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean contains(M map, K key) {
+        return delegate.contains(map, key);
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean containsValue(M map, V value) {
+        return delegate.containsValue(map, value);
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> boolean containsAll(T target, S source) {
+        return delegate.containsAll(target, source);
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> boolean containsAll(T target, S source) {
+        return delegate.containsAll(target, source);
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Set<K>, K, V> boolean containsAll(T target, S source) {
+        return delegate.containsAll(target, source);
+    }
+
+    @Override
+    public <C extends Collection<V>, V> boolean remove(C collection, V value) {
+        return delegate.remove(collection, value);
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean remove(M map, K key, V value) {
+        return delegate.remove(map, key, value);
+    }
+
+    @Override
+    public <M extends Map<K, V>, K, V> boolean remove(M map, K key) {
+        return delegate.remove(map, key);
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> boolean removeAll(T target, S source) {
+        return delegate.removeAll(target, source);
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Map<K, V>, K, V> boolean removeAll(T target, S source) {
+        return delegate.removeAll(target, source);
+    }
+
+    @Override
+    public <T extends Map<K, V>, S extends Set<K>, K, V> boolean removeAll(T target, S source) {
+        return delegate.removeAll(target, source);
+    }
+
+    @Override
+    public <T extends Collection<V>, S extends Collection<V>, V> boolean retainAll(T target, S source) {
+        return delegate.retainAll(target, source);
+    }
+
+    /**
+     * Profile result of operation. Collection initialized by operation is sampled and tracked, size of already tracked
+     * collection is observed.
+     *
+     * @param target target provided to operation.
+     * @param result target returned by operation.
+     */
+    protected void profile(Object target, Object result) {
+        profile(target, result, 0);
+    }
+
+    /**
+     * Profile result of operation, which initializes collection by sized init function. Growth of sampled collection
+     * is estimated from provided expected size instead of default capacity.
+     *
+     * @param target       target provided to operation.
+     * @param result       target returned by operation.
+     * @param expectedSize size requested from sized init function, 0 for init supplier creating default collection.
+     */
+    protected void profile(Object target, Object result, int expectedSize) {
+        if (result != null) {
+            if (target == null) {
+                if (initialized.get()[0]++ % sampleRate == 0) {
+                    drainReleased();
+                    Site site = sites.computeIfAbsent(callSite(), Site::new);
+                    Tracked collection = new Tracked(result, released, site, expectedSize);
+                    collection.observe(size(result));
+                    tracked.put(collection, collection);
+                }
+            } else if (!tracked.isEmpty()) {
+                Tracked collection = tracked.get(new Lookup(result));
+                if (collection != null) {
+                    collection.observe(size(result));
+                }
+            }
+        }
+    }
+
+    /**
+     * Locate call site of operation as first stack frame outside of collection utils implementations.
+     *
+     * @return call site in form class.method(file:line).
+     */
+    protected String callSite() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> !CollectionUtils.class.isAssignableFrom(frame.getDeclaringClass()))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName()
+                        + "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")")
+                .orElse(UNKNOWN_SITE));
+    }
+
+    /**
+     * Record tracked collections released by garbage collector into profiles of their call sites.
+     */
+    private void drainReleased() {
+        for (Object reference = released.poll(); reference != null; reference = released.poll()) {
+            Tracked collection = (Tracked) reference;
+            if (tracked.remove(collection) != null) {
+                collection.site.record(collection.finished());
+            }
+        }
+    }
+
+    /**
+     * Provide size of collection or map.
+     *
+     * @param collection collection or map.
+     * @return size of collection or map, 0 for other objects.
+     */
+    private static int size(Object collection) {
+        int retValue = 0;
+        if (collection instanceof Collection) {
+            retValue = ((Collection<?>) collection).size();
+        } else if (collection instanceof Map) {
+            retValue = ((Map<?, ?>) collection).size();
+        }
+        return retValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ProfilingCollectionUtils{" +
+                "delegate=" + delegate +
+                ", sampleRate=" + sampleRate +
+                '}';
+    }
+
+    /**
+     * Profile of single call site.
+     */
+    private static final class Site {
+        private final String name;
+        private final LongAdder collections = new LongAdder();
+        private final LongAdder resizes = new LongAdder();
+        private final LongAccumulator maxSize = new LongAccumulator(Math::max, 0);
+        private final Histogram sizes = new Histogram();
+
+        private Site(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Record finished observation of collection.
+         *
+         * @param observation last observed size and estimated amount of resizes.
+         */
+        private void record(long[] observation) {
+            collections.increment();
+            sizes.record(observation[0]);
+            maxSize.accumulate(observation[0]);
+            resizes.add(observation[1]);
+        }
+
+        private Site copy() {
+            Site retValue = new Site(name);
+            retValue.collections.add(collections.sum());
+            retValue.resizes.add(resizes.sum());
+            retValue.maxSize.accumulate(maxSize.get());
+            retValue.sizes.merge(sizes);
+            return retValue;
+        }
+
+        private CallSiteProfile profile() {
+            return new CallSiteProfile(name, collections.sum(), sizes.percentile(50), sizes.percentile(90),
+                    sizes.percentile(99), maxSize.get(), resizes.sum());
+        }
+    }
+
+    /**
+     * Weak reference to sampled collection compared by identity of collection, modelling growth of its storage.
+     */
+    private static final class Tracked extends WeakReference<Object> {
+        /**
+         * Initial capacity of default constructed array based collections.
+         */
+        private static final int ARRAY_CAPACITY = 10;
+        /**
+         * Initial resize threshold of default constructed hash based collections.
+         */
+        private static final int HASH_THRESHOLD = 12;
+
+        private final Site site;
+        private final int hash;
+        /**
+         * True for array based collections growing by half of capacity.
+         */
+        private final boolean array;
+        /**
+         * Size above which modelled storage is resized, 0 for collections without resizable storage.
+         */
+        private long capacity;
+        private long size;
+        private long resizes;
+
+        private Tracked(Object collection, ReferenceQueue<Object> queue, Site site, int expectedSize) {
+            super(collection, queue);
+            this.site = site;
+            this.hash = System.identityHashCode(collection);
+            this.array = collection instanceof ArrayList || collection instanceof Vector
+                    || collection instanceof ArrayDeque;
+            boolean hashed = collection instanceof HashMap || collection instanceof HashSet
+                    || collection instanceof Hashtable || collection instanceof ConcurrentHashMap
+                    || collection instanceof OpenHashMap || collection instanceof OpenHashSet;
+            if (array || hashed) {
+                // sized collection is created with capacity for expected size instead of default capacity
+                this.capacity = expectedSize > 0 ? expectedSize : array ? ARRAY_CAPACITY : HASH_THRESHOLD;
+            }
+        }
+
+        /**
+         * Observe current size of collection and count resizes of storage needed to reach it.
+         *
+         * @param current current size of collection.
+         * @return observed size and estimated amount of resizes.
+         */
+        private synchronized long[] observe(int current) {
+            size = current;
+            while (capacity > 0 && size > capacity) {
+                capacity = array ? capacity + (capacity >> 1) : capacity << 1;
+                resizes++;
+            }
+            return new long[]{size, resizes};
+        }
+
+        /**
+         * Provide last observed size and estimated amount of resizes.
+         *
+         * @return last observed size and estimated amount of resizes.
+         */
+        private synchronized long[] finished() {
+            return new long[]{size, resizes};
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Lookup && ((Lookup) o).collection == get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Key used to look up tracked collection by identity.
+     */
+    private static final class Lookup {
+        private final Object collection;
+
+        private Lookup(Object collection) {
+            this.collection = collection;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Tracked && ((Tracked) o).get() == collection;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(collection);
+        }
+    }
+}
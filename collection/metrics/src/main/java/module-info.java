@@ -0,0 +1,8 @@
+/**
+ * Module providing collection utils decorator recording metrics of collection operations.
+ */
+module cz.ad.java.tools.collection.metrics {
+    requires transitive cz.ad.java.tools.collection.core;
+    requires java.management;
+    exports cz.ad.java.tools.collection.metrics;
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramTest {
+
+    @Test
+    void bucket() {
+        assertEquals(0, Histogram.bucket(-1));
+        assertEquals(0, Histogram.bucket(0));
+        assertEquals(1, Histogram.bucket(1));
+        assertEquals(2, Histogram.bucket(2));
+        assertEquals(2, Histogram.bucket(3));
+        assertEquals(3, Histogram.bucket(4));
+        assertEquals(63, Histogram.bucket(Long.MAX_VALUE));
+        for (int i = 0; i < Histogram.BUCKETS; i++) {
+            assertEquals(i, Histogram.bucket(Histogram.upperBound(i)));
+        }
+    }
+
+    @Test
+    void record() {
+        Histogram instance = new Histogram();
+        assertEquals(0, instance.count());
+        assertEquals(0, instance.mean());
+        assertEquals(0, instance.percentile(50));
+        instance.record(-5);
+        instance.record(1);
+        instance.record(3);
+        instance.record(100);
+        assertEquals(4, instance.count());
+        assertEquals(104, instance.sum());
+        assertEquals(26, instance.mean());
+        long[] counts = instance.counts();
+        assertEquals(1, counts[0]);
+        assertEquals(1, counts[1]);
+        assertEquals(1, counts[2]);
+        assertEquals(1, counts[7]);
+        assertTrue(instance.toString().startsWith("Histogram{"));
+
+        instance.reset();
+        assertEquals(0, instance.count());
+        assertEquals(0, instance.sum());
+    }
+
+    @Test
+    void percentile() {
+        Histogram instance = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            instance.record(i);
+        }
+        assertEquals(1, instance.percentile(0));
+        assertEquals(63, instance.percentile(50));
+        assertEquals(127, instance.percentile(99));
+        assertEquals(127, instance.percentile(100));
+        assertThrows(IllegalArgumentException.class, () -> instance.percentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> instance.percentile(101));
+        assertThrows(IllegalArgumentException.class, () -> instance.percentile(Double.NaN));
+    }
+
+    @Test
+    void merge() {
+        Histogram instance = new Histogram();
+        instance.record(1);
+        Histogram other = new Histogram();
+        other.record(2);
+        other.record(100);
+        instance.merge(other);
+        assertEquals(3, instance.count());
+        assertEquals(103, instance.sum());
+        assertEquals(127, instance.percentile(100));
+        assertEquals(2, other.count());
+        assertThrows(IllegalArgumentException.class, () -> instance.merge(null));
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import cz.ad.java.tools.collection.core.DefaultCollectionFactory;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.JMX;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsCollectionUtilsTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MetricsCollectionUtils(null));
+        MetricsCollectionUtils instance = testedInstance();
+        assertSame(CollectionUtils.DEFAULT_INSTANCE, instance.delegate());
+        assertEquals(new DefaultCollectionFactory(), instance.collectionFactory());
+        assertTrue(instance.toString().startsWith("MetricsCollectionUtils{delegate="));
+        assertEquals(0, instance.getTotalCalls());
+        assertTrue(instance.getStatistics().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> instance.metrics(null));
+    }
+
+    @Test
+    void add() {
+        MetricsCollectionUtils instance = testedInstance();
+        List<Integer> list = instance.add(null, ArrayList::new, 1);
+        assertEquals(List.of(1), list);
+        assertSame(list, instance.add(list, ArrayList::new, 2));
+        assertEquals(List.of(1, 2), list);
+
+        OperationMetrics metrics = instance.metrics(CollectionOperation.ADD);
+        assertSame(CollectionOperation.ADD, metrics.operation());
+        assertEquals(2, metrics.calls());
+        assertEquals(1, metrics.lazyInits());
+        assertEquals(2, metrics.sizes().count());
+        assertEquals(1, metrics.sizes().sum());
+        assertEquals(2, metrics.latencies().count());
+        assertEquals(2, instance.getTotalCalls());
+    }
+
+    @Test
+    void addAll() {
+        MetricsCollectionUtils instance = testedInstance();
+        assertNull(instance.addAll(null, ArrayList<Integer>::new, List.<Integer>of()));
+        List<Integer> list = instance.addAllSized(null, ArrayList::new, List.of(1, 2, 3));
+        assertEquals(List.of(1, 2, 3), list);
+        assertEquals(List.of(1, 2, 3, 4), instance.addAllList(list, List.of(4)));
+
+        OperationMetrics addAll = instance.metrics(CollectionOperation.ADD_ALL);
+        assertEquals(1, addAll.calls());
+        assertEquals(0, addAll.lazyInits());
+        OperationMetrics addAllSized = instance.metrics(CollectionOperation.ADD_ALL_SIZED);
+        assertEquals(2, addAllSized.calls());
+        assertEquals(1, addAllSized.lazyInits());
+        assertEquals(4, addAllSized.sizes().sum());
+    }
+
+    @Test
+    void put() {
+        MetricsCollectionUtils instance = testedInstance();
+        Map<String, Integer> map = instance.putMap(null, "a", 1);
+        assertEquals(Map.of("a", 1), map);
+        assertSame(map, instance.putAll(map, HashMap::new, Map.of("b", 2, "c", 3)));
+        assertEquals(3, instance.putAllMap(null, map).size());
+
+        assertEquals(1, instance.metrics(CollectionOperation.PUT).lazyInits());
+        assertEquals(1, instance.metrics(CollectionOperation.PUT_ALL).calls());
+        assertEquals(2, instance.metrics(CollectionOperation.PUT_ALL).sizes().sum());
+        assertEquals(1, instance.metrics(CollectionOperation.PUT_ALL_SIZED).lazyInits());
+    }
+
+    @Test
+    void multimap() {
+        MetricsCollectionUtils instance = testedInstance();
+        Map<String, List<Integer>> lists = instance.putToList(null, "a", 1);
+        instance.putToList(lists, "a", 2, 4);
+        instance.putAllToList(lists, "b", List.of(3, 4));
+        Map<String, Set<Integer>> sets = instance.putToSet(null, "a", 1);
+        instance.putToSet(sets, "a", 1, 2);
+        assertTrue(instance.removeFromMulti(lists, "b", 3));
+        assertEquals(Map.of("a", List.of(1, 2), "b", List.of(4)), lists);
+
+        assertEquals(4, instance.metrics(CollectionOperation.PUT_TO_MULTI).calls());
+        assertEquals(2, instance.metrics(CollectionOperation.PUT_TO_MULTI).lazyInits());
+        assertEquals(2, instance.metrics(CollectionOperation.PUT_ALL_TO_MULTI).sizes().sum());
+        assertEquals(1, instance.metrics(CollectionOperation.REMOVE_FROM_MULTI).calls());
+    }
+
+    @Test
+    void queries() {
+        MetricsCollectionUtils instance = testedInstance();
+        List<Integer> list = new ArrayList<>(List.of(1, 2, 3));
+        Map<Integer, String> map = new HashMap<>(Map.of(1, "a", 2, "b"));
+        assertTrue(instance.isEmpty((List<Integer>) null));
+        assertFalse(instance.isEmpty(map));
+        assertTrue(instance.isEmpty(new Integer[0]));
+        assertTrue(instance.isNotEmpty(list));
+        assertFalse(instance.isNotEmpty((Map<Integer, String>) null));
+        assertTrue(instance.isNotEmpty(new Integer[]{1}));
+        assertTrue(instance.contains(list, 1));
+        assertTrue(instance.contains(map, 1));
+        assertTrue(instance.containsValue(map, "a"));
+        assertTrue(instance.containsAll(list, List.of(1, 2)));
+        assertTrue(instance.containsAll(map, Map.of(1, "a")));
+        assertTrue(instance.containsAll(map, Set.of(1, 2)));
+
+        assertEquals(3, instance.metrics(CollectionOperation.IS_EMPTY).calls());
+        assertEquals(3, instance.metrics(CollectionOperation.IS_NOT_EMPTY).calls());
+        assertEquals(2, instance.metrics(CollectionOperation.CONTAINS).calls());
+        assertEquals(5, instance.metrics(CollectionOperation.CONTAINS).sizes().sum());
+        assertEquals(1, instance.metrics(CollectionOperation.CONTAINS_VALUE).calls());
+        assertEquals(3, instance.metrics(CollectionOperation.CONTAINS_ALL).calls());
+        assertEquals(5, instance.metrics(CollectionOperation.CONTAINS_ALL).sizes().sum());
+        assertEquals(0, instance.metrics(CollectionOperation.CONTAINS).lazyInits());
+    }
+
+    @Test
+    void removal() {
+        MetricsCollectionUtils instance = testedInstance();
+        List<Integer> list = new ArrayList<>(List.of(1, 2, 3, 4, 5));
+        Map<Integer, String> map = new HashMap<>(Map.of(1, "a", 2, "b", 3, "c", 4, "d"));
+        assertTrue(instance.remove(list, 1));
+        assertTrue(instance.remove(map, 1, "a"));
+        assertTrue(instance.remove(map, 2));
+        assertTrue(instance.removeAll(list, List.of(2)));
+        assertTrue(instance.removeAll(map, Map.of(3, "c")));
+        assertTrue(instance.removeAll(map, Set.of(4)));
+        assertTrue(instance.retainAll(list, List.of(3, 4)));
+        assertEquals(List.of(3, 4), list);
+        assertTrue(map.isEmpty());
+
+        assertEquals(3, instance.metrics(CollectionOperation.REMOVE).calls());
+        assertEquals(12, instance.metrics(CollectionOperation.REMOVE).sizes().sum());
+        assertEquals(3, instance.metrics(CollectionOperation.REMOVE_ALL).calls());
+        assertEquals(1, instance.metrics(CollectionOperation.RETAIN_ALL).calls());
+        assertEquals(2, instance.metrics(CollectionOperation.RETAIN_ALL).sizes().sum());
+    }
+
+    @Test
+    void statistics() {
+        MetricsCollectionUtils instance = testedInstance();
+        instance.add(null, ArrayList::new, 1);
+        instance.addAllSized(null, ArrayList::new, List.of(1, 2, 3));
+        List<OperationStatistics> statistics = instance.getStatistics();
+        assertEquals(2, statistics.size());
+        OperationStatistics add = statistics.get(0);
+        assertEquals("ADD", add.getOperation());
+        assertEquals(1, add.getCalls());
+        assertEquals(1, add.getLazyInits());
+        assertEquals(0, add.getMeanSize());
+        assertTrue(add.getMaxNanos() >= add.getP99Nanos());
+        assertTrue(add.getP99Nanos() >= add.getP50Nanos());
+        OperationStatistics addAllSized = statistics.get(1);
+        assertEquals("ADD_ALL_SIZED", addAllSized.getOperation());
+        assertEquals(3, addAllSized.getMeanSize());
+        assertEquals(3, addAllSized.getP99Size());
+        assertTrue(add.toString().startsWith("OperationStatistics{"));
+        assertTrue(instance.metrics(CollectionOperation.ADD).toString().startsWith("OperationMetrics{"));
+
+        instance.reset();
+        assertEquals(0, instance.getTotalCalls());
+        assertTrue(instance.getStatistics().isEmpty());
+    }
+
+    @Test
+    void concurrentRecording() throws Exception {
+        MetricsCollectionUtils instance = testedInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        instance.add(null, ArrayList::new, i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(4000, instance.metrics(CollectionOperation.ADD).calls());
+        assertEquals(4000, instance.metrics(CollectionOperation.ADD).lazyInits());
+        assertEquals(4000, instance.metrics(CollectionOperation.ADD).latencies().count());
+    }
+
+    @Test
+    void register() throws JMException {
+        MetricsCollectionUtils instance = testedInstance();
+        ObjectName name = new ObjectName(MetricsCollectionUtils.DEFAULT_OBJECT_NAME + ",name=test");
+        assertEquals(name, instance.register(name));
+        try {
+            assertThrows(JMException.class, () -> instance.register(name));
+            instance.add(null, ArrayList::new, 1);
+            CollectionMetricsMXBean proxy = JMX.newMXBeanProxy(
+                    ManagementFactory.getPlatformMBeanServer(), name, CollectionMetricsMXBean.class);
+            assertEquals(1, proxy.getTotalCalls());
+            assertEquals(instance.getStatistics(), proxy.getStatistics());
+            proxy.reset();
+            assertEquals(0, instance.getTotalCalls());
+        } finally {
+            instance.unregister(name);
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    private MetricsCollectionUtils testedInstance() {
+        return new MetricsCollectionUtils(CollectionUtils.DEFAULT_INSTANCE);
+    }
+}
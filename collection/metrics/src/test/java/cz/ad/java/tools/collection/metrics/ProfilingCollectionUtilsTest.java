@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.metrics;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import cz.ad.java.tools.collection.core.OpenHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProfilingCollectionUtilsTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new ProfilingCollectionUtils(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProfilingCollectionUtils(CollectionUtils.DEFAULT_INSTANCE, 0));
+        ProfilingCollectionUtils instance = new ProfilingCollectionUtils(CollectionUtils.DEFAULT_INSTANCE);
+        assertSame(CollectionUtils.DEFAULT_INSTANCE, instance.delegate());
+        assertEquals(ProfilingCollectionUtils.DEFAULT_SAMPLE_RATE, instance.sampleRate());
+        assertSame(CollectionUtils.DEFAULT_INSTANCE.collectionFactory(), instance.collectionFactory());
+        assertTrue(instance.toString().startsWith("ProfilingCollectionUtils{delegate="));
+        assertTrue(instance.profiles().isEmpty());
+    }
+
+    @Test
+    void add() {
+        ProfilingCollectionUtils instance = testedInstance();
+        List<List<Integer>> lists = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            List<Integer> list = instance.add(null, ArrayList::new, 0);
+            for (int value = 1; value < 20; value++) {
+                assertSame(list, instance.add(list, ArrayList::new, value));
+            }
+            lists.add(list);
+        }
+        List<CallSiteProfile> profiles = instance.profiles();
+        assertEquals(1, profiles.size());
+        CallSiteProfile profile = profiles.get(0);
+        assertTrue(profile.getSite().startsWith(ProfilingCollectionUtilsTest.class.getName() + ".add("),
+                profile.getSite());
+        assertEquals(5, profile.getCollections());
+        assertEquals(20, profile.getMaxSize());
+        assertEquals(31, profile.getP50Size());
+        assertEquals(31, profile.getP99Size());
+        assertEquals(10, profile.getResizes());
+        assertEquals(20, profile.getRecommendedSize());
+        assertTrue(profile.toString().startsWith("CallSiteProfile{"));
+        assertEquals(5, lists.size());
+    }
+
+    @Test
+    void put() {
+        ProfilingCollectionUtils instance = testedInstance();
+        Map<Integer, Integer> map = instance.putMap(null, 0, 0);
+        for (int key = 1; key < 30; key++) {
+            instance.putMap(map, key, key);
+        }
+        Map<Integer, Integer> open = instance.putAll(null, OpenHashMap::new, map);
+        Map<Integer, Integer> linked = instance.putAll(null, TreeMap::new, map);
+
+        List<CallSiteProfile> profiles = instance.profiles();
+        assertEquals(3, profiles.size());
+        assertTrue(profiles.get(0).getSite().contains(".put("), profiles.get(0).getSite());
+        assertEquals(2, profiles.get(0).getResizes());
+        assertEquals(2, profiles.get(1).getResizes());
+        assertEquals(0, profiles.get(2).getResizes());
+        assertEquals(0, profiles.get(2).getRecommendedSize());
+        assertEquals(30, profiles.get(2).getMaxSize());
+        assertEquals(30, open.size());
+        assertEquals(30, linked.size());
+    }
+
+    @Test
+    void addAll() {
+        ProfilingCollectionUtils instance = testedInstance();
+        Set<Integer> set = instance.addAll(null, HashSet::new, List.of(1, 2, 3));
+        List<Integer> list = instance.addAll(null, LinkedList::new, List.of(1, 2, 3));
+        assertNull(instance.addAll(null, ArrayList::new, List.<Integer>of()));
+
+        List<CallSiteProfile> profiles = instance.profiles();
+        assertEquals(2, profiles.size());
+        for (CallSiteProfile profile : profiles) {
+            assertEquals(1, profile.getCollections());
+            assertEquals(3, profile.getMaxSize());
+            assertEquals(0, profile.getResizes());
+        }
+        assertEquals(3, set.size());
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    void addAllSized() {
+        ProfilingCollectionUtils instance = testedInstance();
+        List<Integer> list = instance.addAllSized(null, ArrayList::new, List.of(1, 2, 3));
+        Map<Integer, Integer> map = instance.putAllSized(null, HashMap::new, Map.of(1, 1, 2, 2));
+        assertNull(instance.addAllSized(null, ArrayList::new, List.<Integer>of()));
+        for (int value = 4; value <= 5; value++) {
+            instance.add(list, ArrayList::new, value);
+        }
+
+        List<CallSiteProfile> profiles = instance.profiles();
+        assertEquals(2, profiles.size());
+        // list created with capacity for 3 values grows to 4 and 6
+        assertTrue(profiles.get(0).getSite().contains(".addAllSized("), profiles.get(0).getSite());
+        assertEquals(5, profiles.get(0).getMaxSize());
+        assertEquals(2, profiles.get(0).getResizes());
+        assertEquals(2, profiles.get(1).getMaxSize());
+        assertEquals(0, profiles.get(1).getResizes());
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void sampling() {
+        ProfilingCollectionUtils instance = new ProfilingCollectionUtils(CollectionUtils.DEFAULT_INSTANCE, 4);
+        List<List<Integer>> lists = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            lists.add(instance.addList(null, i));
+        }
+        assertEquals(2, instance.profiles().get(0).getCollections());
+        assertEquals(8, lists.size());
+
+        instance.reset();
+        assertTrue(instance.profiles().isEmpty());
+    }
+
+    @Test
+    void samplingPerThread() throws InterruptedException {
+        ProfilingCollectionUtils instance = new ProfilingCollectionUtils(CollectionUtils.DEFAULT_INSTANCE, 2);
+        List<List<Integer>> lists = new ArrayList<>();
+        lists.add(instance.addList(null, 1));
+        // other thread has own sampling counter, so its first collection is sampled as well
+        Thread thread = new Thread(() -> lists.add(instance.addList(null, 2)));
+        thread.start();
+        thread.join();
+        assertEquals(2, instance.profiles().stream().mapToLong(CallSiteProfile::getCollections).sum());
+        assertEquals(2, lists.size());
+    }
+
+    @Test
+    void released() {
+        ProfilingCollectionUtils instance = testedInstance();
+        createReleased(instance);
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            assertEquals(1, instance.profiles().get(0).getCollections());
+        }
+        assertEquals(50, instance.profiles().get(0).getMaxSize());
+    }
+
+    @Test
+    void delegated() {
+        ProfilingCollectionUtils instance = testedInstance();
+        List<Integer> list = new ArrayList<>(List.of(1, 2, 3));
+        Map<Integer, Integer> map = new HashMap<>(Map.of(1, 1, 2, 2));
+        assertTrue(instance.isEmpty((List<Integer>) null));
+        assertTrue(instance.isEmpty((Map<Integer, Integer>) null));
+        assertTrue(instance.isEmpty(new Integer[0]));
+        assertTrue(instance.isNotEmpty(list));
+        assertTrue(instance.isNotEmpty(map));
+        assertTrue(instance.isNotEmpty(new Integer[]{1}));
+        assertTrue(instance.contains(list, 1));
+        assertTrue(instance.contains(map, 1));
+        assertTrue(instance.containsValue(map, 2));
+        assertTrue(instance.containsAll(list, List.of(1, 2)));
+        assertTrue(instance.containsAll(map, Map.of(1, 1)));
+        assertTrue(instance.containsAll(map, Set.of(1)));
+        assertTrue(instance.remove(list, 1));
+        assertTrue(instance.remove(map, 1, 1));
+        assertFalse(instance.remove(map, 1));
+        assertTrue(instance.removeAll(list, List.of(2)));
+        assertTrue(instance.removeAll(map, Map.of(2, 2)));
+        assertFalse(instance.removeAll(map, Set.of(2)));
+        assertTrue(instance.retainAll(list, List.of(1)));
+        assertTrue(list.isEmpty());
+        assertTrue(instance.profiles().isEmpty());
+    }
+
+    private void createReleased(ProfilingCollectionUtils instance) {
+        List<Integer> list = instance.addList(null, 0);
+        for (int value = 1; value < 50; value++) {
+            instance.addList(list, value);
+        }
+    }
+
+    private ProfilingCollectionUtils testedInstance() {
+        return new ProfilingCollectionUtils(CollectionUtils.DEFAULT_INSTANCE, 1);
+    }
+}
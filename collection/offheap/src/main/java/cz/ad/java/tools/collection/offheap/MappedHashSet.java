@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.offheap;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Hash set of long values stored in memory mapped file, so set is opened again after restart of application without
+ * rebuild from original data. Set behaves as {@link OffHeapLongSet}, its content is written to storage by operating
+ * system and {@link #force()} makes checkpoint, which is opened as it is. File modified after last checkpoint and not
+ * closed, for example after crash, is rebuilt from values found in it when it is opened, so its structure is
+ * consistent, but modifications which didn't reach storage before crash are lost. Bulk operations with other off-heap
+ * sets, used also by {@code CollectionUtils#addAll} and {@code CollectionUtils#containsAll}, are done without boxing of
+ * values.
+ * <p>
+ * Set must be closed to release mapped memory, close makes checkpoint. Set must not be used after it is closed. Set is
+ * not synchronized and file must not be opened by other set at same time.
+ */
+public class MappedHashSet extends OffHeapLongSet {
+    /**
+     * Table storing values of set in file.
+     */
+    private final MappedTable table;
+
+    /**
+     * Open set stored in provided file or create new empty set with default expected size.
+     *
+     * @param path path of file storing set.
+     * @throws IOException when file can't be mapped or it doesn't contain compatible set.
+     */
+    public MappedHashSet(Path path) throws IOException {
+        this(path, OffHeapTable.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Open set stored in provided file or create new empty set, set is resized when it can't store expected amount of
+     * values without resizing.
+     *
+     * @param path         path of file storing set.
+     * @param expectedSize amount of values stored without resizing.
+     * @throws IllegalArgumentException when expected size is negative.
+     * @throws IOException              when file can't be mapped or it doesn't contain compatible set.
+     */
+    public MappedHashSet(Path path, long expectedSize) throws IllegalArgumentException, IOException {
+        this(path, expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Open set stored in provided file or create new empty set using provided load factor, set is resized when it
+     * can't store expected amount of values without resizing.
+     *
+     * @param path         path of file storing set.
+     * @param expectedSize amount of values stored without resizing.
+     * @param loadFactor   maximal ratio of stored values to amount of slots, must be greater than 0 and lower than 1.
+     * @throws IllegalArgumentException when expected size is negative or load factor is out of range.
+     * @throws IOException              when file can't be mapped or it doesn't contain compatible set.
+     */
+    public MappedHashSet(Path path, long expectedSize, float loadFactor) throws IllegalArgumentException, IOException {
+        this(new MappedTable(path, expectedSize, loadFactor, false));
+    }
+
+    /**
+     * Create new set storing values in provided table.
+     *
+     * @param table mapped table without values.
+     */
+    private MappedHashSet(MappedTable table) {
+        super(table);
+        this.table = table;
+    }
+
+    /**
+     * Provide path of file storing set.
+     *
+     * @return path of file.
+     */
+    public Path path() {
+        return table.path();
+    }
+
+    /**
+     * Make checkpoint of set, all values are written to storage together with metadata of set.
+     */
+    public void force() {
+        table.force();
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.offheap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Off-heap table stored in memory mapped file, so its content survives restart of application and is opened again
+ * without rebuild. File starts by header with table metadata followed by slots in same layout as used by
+ * {@link OffHeapTable}. Header is marked dirty by first modification after checkpoint and it is cleaned by
+ * {@link #force()}, which writes metadata and flushes mapped memory to storage.
+ * <p>
+ * Growing table maps new temporary file in same directory, rehashes keys into it and atomically replaces original
+ * file, so file on disk always contains complete table. File opened in dirty state is rebuilt by same way with
+ * unchanged capacity, because crash during removal can leave key shifted backward in two slots or key not reachable
+ * from its home slot and amount of keys is written only by checkpoint. Rebuilt table contains every key found in
+ * slots once, modifications which didn't reach storage before crash are lost.
+ */
+final class MappedTable extends OffHeapTable {
+    /**
+     * Size of file header in bytes.
+     */
+    static final long HEADER_SIZE = 64;
+    /**
+     * Magic number identifying file of mapped table.
+     */
+    private static final long MAGIC = 0x4D41505045444854L;
+    /**
+     * Version of file layout.
+     */
+    private static final int VERSION = 1;
+    /**
+     * Header offset of magic number.
+     */
+    private static final long MAGIC_OFFSET = 0;
+    /**
+     * Header offset of file layout version.
+     */
+    private static final long VERSION_OFFSET = 8;
+    /**
+     * Header offset of slot size shift.
+     */
+    private static final long SLOT_SHIFT_OFFSET = 12;
+    /**
+     * Header offset of amount of slots.
+     */
+    private static final long CAPACITY_OFFSET = 16;
+    /**
+     * Header offset of amount of keys stored in slots.
+     */
+    private static final long ASSIGNED_OFFSET = 24;
+    /**
+     * Header offset of key 0 presence flag.
+     */
+    private static final long ZERO_KEY_OFFSET = 32;
+    /**
+     * Header offset of value assigned to key 0.
+     */
+    private static final long ZERO_VALUE_OFFSET = 40;
+    /**
+     * Header offset of dirty flag.
+     */
+    static final long DIRTY_OFFSET = 48;
+
+    /**
+     * Path of file storing table.
+     */
+    private final Path path;
+    /**
+     * Segment mapping whole file including header.
+     */
+    private MemorySegment file;
+    /**
+     * Flag of modification done after last checkpoint.
+     */
+    private boolean dirty;
+
+    /**
+     * Open table stored in provided file or create new file when it doesn't exist or it is empty. Table of existing
+     * file is resized when it can't store expected amount of keys without resizing.
+     *
+     * @param path         path of file storing table.
+     * @param expectedSize amount of keys stored without resizing of table.
+     * @param loadFactor   maximal ratio of stored keys to amount of slots, must be greater than 0 and lower than 1.
+     * @param withValues   true to store values together with keys.
+     * @throws IllegalArgumentException when expected size is negative or load factor is out of range.
+     * @throws IOException              when file can't be mapped or it doesn't contain compatible table.
+     */
+    MappedTable(Path path, long expectedSize, float loadFactor, boolean withValues)
+            throws IllegalArgumentException, IOException {
+        super(loadFactor, withValues);
+        this.path = path;
+        long slots = capacity(expectedSize);
+        long size = Files.exists(path) ? Files.size(path) : 0;
+        if (size == 0) {
+            map(path, slots);
+            writeHeader();
+        } else {
+            load(size);
+            ensureCapacity(expectedSize);
+        }
+    }
+
+    /**
+     * Provide path of file storing table.
+     *
+     * @return path of file.
+     */
+    Path path() {
+        return path;
+    }
+
+    @Override
+    void modified() {
+        if (!dirty) {
+            dirty = true;
+            file.set(ValueLayout.JAVA_LONG, DIRTY_OFFSET, 1);
+            // dirty flag must reach storage before any modified slot, which can be flushed by system at any time
+            file.asSlice(DIRTY_OFFSET, Long.BYTES).force();
+        }
+    }
+
+    @Override
+    void zeroKey(boolean present, long value) {
+        super.zeroKey(present, value);
+        file.set(ValueLayout.JAVA_LONG, ZERO_KEY_OFFSET, hasZeroKey ? 1 : 0);
+        file.set(ValueLayout.JAVA_LONG, ZERO_VALUE_OFFSET, zeroValue);
+    }
+
+    /**
+     * Move all keys into new file with provided amount of slots, which replaces original file. New file is complete on
+     * storage before it atomically replaces original file and original mapping is released only after replacement, so
+     * failure at any step leaves table running on original file, which still contains complete table.
+     *
+     * @param slots amount of slots of new file.
+     * @throws UncheckedIOException when new file can't be created, mapped or moved.
+     */
+    @Override
+    void resize(long slots) throws UncheckedIOException {
+        Arena oldArena = arena;
+        MemorySegment oldFile = file;
+        MemorySegment oldSegment = segment;
+        long oldCapacity = capacity;
+        boolean oldDirty = dirty;
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+            map(temp, slots);
+            copy(oldSegment, oldCapacity);
+            writeHeader();
+            file.force();
+            // mapping of moved file stays valid, so table uses new file under original path after move
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            if (arena != oldArena) {
+                arena.close();
+                file = oldFile;
+                dirty = oldDirty;
+                use(oldArena, oldSegment, oldCapacity);
+            }
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException deleteFailure) {
+                    e.addSuppressed(deleteFailure);
+                }
+            }
+            if (e instanceof IOException) {
+                throw new UncheckedIOException("Resize of table stored in " + path + " failed", (IOException) e);
+            }
+            throw (RuntimeException) e;
+        }
+        oldArena.close();
+    }
+
+    /**
+     * Write checkpoint of table. Slots are flushed to storage first, header is marked clean and flushed afterwards, so
+     * crash during checkpoint never leaves clean header over outdated slots.
+     */
+    void force() {
+        segment.force();
+        writeHeader();
+        file.asSlice(0, HEADER_SIZE).force();
+    }
+
+    /**
+     * Write checkpoint and release mapped memory of table. Table must not be used after close.
+     */
+    @Override
+    public void close() {
+        if (arena != null) {
+            force();
+            super.close();
+        }
+    }
+
+    /**
+     * Map provided file with provided amount of slots and use it as storage of table.
+     *
+     * @param target path of mapped file.
+     * @param slots  amount of slots.
+     * @throws IOException when file can't be mapped.
+     */
+    private void map(Path target, long slots) throws IOException {
+        Arena created = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(
+                target, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            file = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (slots << slotShift), created);
+        } catch (IOException | RuntimeException e) {
+            created.close();
+            throw e;
+        }
+        use(created, file.asSlice(HEADER_SIZE), slots);
+    }
+
+    /**
+     * Map existing file, validate its header and restore metadata of table. File left in dirty state is rebuilt.
+     *
+     * @param size size of file in bytes.
+     * @throws IOException when file can't be mapped or it doesn't contain compatible table.
+     */
+    private void load(long size) throws IOException {
+        if (size < HEADER_SIZE + (2L << slotShift)) {
+            throw new IOException("File " + path + " is too small to contain table");
+        }
+        long slots = (size - HEADER_SIZE) >> slotShift;
+        map(path, slots);
+        if (file.get(ValueLayout.JAVA_LONG, MAGIC_OFFSET) != MAGIC
+                || file.get(ValueLayout.JAVA_INT, VERSION_OFFSET) != VERSION
+                || file.get(ValueLayout.JAVA_INT, SLOT_SHIFT_OFFSET) != slotShift
+                || file.get(ValueLayout.JAVA_LONG, CAPACITY_OFFSET) != slots
+                || HEADER_SIZE + (slots << slotShift) != size
+                || Long.bitCount(slots) != 1) {
+            super.close();
+            throw new IOException("File " + path + " doesn't contain compatible table");
+        }
+        hasZeroKey = file.get(ValueLayout.JAVA_LONG, ZERO_KEY_OFFSET) != 0;
+        zeroValue = file.get(ValueLayout.JAVA_LONG, ZERO_VALUE_OFFSET);
+        assigned = file.get(ValueLayout.JAVA_LONG, ASSIGNED_OFFSET);
+        dirty = file.get(ValueLayout.JAVA_LONG, DIRTY_OFFSET) != 0;
+        if (dirty) {
+            try {
+                resize(capacity);
+            } catch (UncheckedIOException e) {
+                super.close();
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Write metadata of table into header and mark it clean.
+     */
+    private void writeHeader() {
+        file.set(ValueLayout.JAVA_LONG, MAGIC_OFFSET, MAGIC);
+        file.set(ValueLayout.JAVA_INT, VERSION_OFFSET, VERSION);
+        file.set(ValueLayout.JAVA_INT, SLOT_SHIFT_OFFSET, slotShift);
+        file.set(ValueLayout.JAVA_LONG, CAPACITY_OFFSET, capacity);
+        file.set(ValueLayout.JAVA_LONG, ASSIGNED_OFFSET, assigned);
+        file.set(ValueLayout.JAVA_LONG, ZERO_KEY_OFFSET, hasZeroKey ? 1 : 0);
+        file.set(ValueLayout.JAVA_LONG, ZERO_VALUE_OFFSET, zeroValue);
+        file.set(ValueLayout.JAVA_LONG, DIRTY_OFFSET, 0);
+        dirty = false;
+    }
+}
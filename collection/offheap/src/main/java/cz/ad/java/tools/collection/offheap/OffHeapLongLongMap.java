@@ -0,0 +1,388 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.offheap;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hash map with long keys and long values stored in memory segment outside of java heap, so even hundreds of millions
+ * of entries don't increase size of heap scanned by garbage collector. Every slot stores key directly followed by its
+ * value without any object per entry, primitive methods like {@link #put(long, long)} and
+ * {@link #getOrDefault(long, long)} never box keys or values. Map implements {@link java.util.Map} of boxed values, so
+ * no-argument and expected size constructors are usable as init supplier of collection utils, for example
+ * {@code OffHeapLongLongMap::new}. Null keys and values are not permitted.
+ * <p>
+ * Memory of map is released by {@link #close()}, map must not be used after it is closed. Map is not synchronized and
+ * iterators of its views are fail-fast.
+ */
+public class OffHeapLongLongMap extends AbstractMap<Long, Long> implements AutoCloseable {
+    /**
+     * Default load factor of map.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = OffHeapTable.DEFAULT_LOAD_FACTOR;
+
+    /**
+     * Table storing entries of map.
+     */
+    private final OffHeapTable table;
+    /**
+     * Lazily created view of entries.
+     */
+    private Set<Map.Entry<Long, Long>> entrySet;
+
+    /**
+     * Create new empty map with default expected size and load factor.
+     */
+    public OffHeapLongLongMap() {
+        this(OffHeapTable.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Create new empty map able to store expected amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries stored without resizing.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public OffHeapLongLongMap(long expectedSize) throws IllegalArgumentException {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Create new empty map able to store expected amount of entries without resizing using provided load factor.
+     *
+     * @param expectedSize amount of entries stored without resizing.
+     * @param loadFactor   maximal ratio of stored entries to amount of slots, must be greater than 0 and lower than 1.
+     * @throws IllegalArgumentException when expected size is negative or load factor is out of range.
+     */
+    public OffHeapLongLongMap(long expectedSize, float loadFactor) throws IllegalArgumentException {
+        this(new OffHeapTable(expectedSize, loadFactor, true));
+    }
+
+    /**
+     * Create new map storing entries in provided table.
+     *
+     * @param table table with values storing entries of map.
+     */
+    OffHeapLongLongMap(OffHeapTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Provide amount of entries in map, limited by {@link Integer#MAX_VALUE}.
+     *
+     * @return amount of entries or {@link Integer#MAX_VALUE} when map contains more entries.
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, table.size());
+    }
+
+    /**
+     * Provide amount of entries in map without limit of int range.
+     *
+     * @return amount of entries.
+     */
+    public long longSize() {
+        return table.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    /**
+     * Validate if map contains provided key.
+     *
+     * @param key searched key.
+     * @return true when key is in map.
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? table.hasZeroKey : table.key(table.slot(key)) != 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Long && containsKey(((Long) key).longValue());
+    }
+
+    /**
+     * Provide value assigned to key or default value when key is not in map.
+     *
+     * @param key          key of value.
+     * @param defaultValue value returned when key is not in map.
+     * @return value assigned to key or default value.
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        long retValue = defaultValue;
+        if (key == 0) {
+            if (table.hasZeroKey) {
+                retValue = table.zeroValue;
+            }
+        } else {
+            long pos = table.slot(key);
+            if (table.key(pos) != 0) {
+                retValue = table.value(pos);
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public Long get(Object key) {
+        Long retValue = null;
+        if (key instanceof Long) {
+            long value = ((Long) key).longValue();
+            if (containsKey(value)) {
+                retValue = getOrDefault(value, 0);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Assign value to key.
+     *
+     * @param key   key of value.
+     * @param value value assigned to key.
+     * @return value previously assigned to key or 0 when key was not in map.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    public long put(long key, long value) throws IllegalStateException {
+        long retValue = 0;
+        if (key == 0) {
+            retValue = table.zeroValue;
+            table.zeroKey(true, value);
+        } else {
+            long pos = table.slot(key);
+            if (table.key(pos) != 0) {
+                retValue = table.value(pos);
+                table.value(pos, value);
+            } else {
+                table.insert(pos, key, value);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Assign value to key.
+     *
+     * @param key   key of value, must not be null.
+     * @param value value assigned to key, must not be null.
+     * @return value previously assigned to key or null when key was not in map.
+     * @throws NullPointerException  when key or value is null.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    @Override
+    public Long put(Long key, Long value) throws IllegalStateException {
+        long primitiveKey = key;
+        long primitiveValue = value;
+        Long retValue = containsKey(primitiveKey) ? getOrDefault(primitiveKey, 0) : null;
+        put(primitiveKey, primitiveValue);
+        return retValue;
+    }
+
+    /**
+     * Add delta to value assigned to key, missing key is stored with value of delta. Operation allows to count
+     * occurrences of keys by single lookup.
+     *
+     * @param key   key of value.
+     * @param delta value added to value assigned to key.
+     * @return new value assigned to key.
+     * @throws IllegalStateException when map can't be resized anymore.
+     */
+    public long addTo(long key, long delta) throws IllegalStateException {
+        long retValue;
+        if (key == 0) {
+            retValue = table.hasZeroKey ? table.zeroValue + delta : delta;
+            put(0, retValue);
+        } else {
+            long pos = table.slot(key);
+            if (table.key(pos) != 0) {
+                retValue = table.value(pos) + delta;
+                table.value(pos, retValue);
+            } else {
+                retValue = delta;
+                table.insert(pos, key, delta);
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends Long, ? extends Long> m) {
+        table.ensureCapacity(table.assigned + m.size());
+        super.putAll(m);
+    }
+
+    /**
+     * Remove key and its value from map.
+     *
+     * @param key removed key.
+     * @return true when key was in map.
+     */
+    public boolean remove(long key) {
+        boolean retValue;
+        if (key == 0) {
+            retValue = table.hasZeroKey;
+            if (retValue) {
+                table.zeroKey(false, 0);
+            }
+        } else {
+            long pos = table.slot(key);
+            retValue = table.key(pos) != 0;
+            if (retValue) {
+                table.removeAt(pos, null);
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public Long remove(Object key) {
+        Long retValue = get(key);
+        if (retValue != null) {
+            remove(((Long) key).longValue());
+        }
+        return retValue;
+    }
+
+    /**
+     * Make sure map can store provided amount of entries without resizing.
+     *
+     * @param expectedSize amount of entries expected to be stored.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public void ensureCapacity(long expectedSize) throws IllegalArgumentException {
+        table.ensureCapacity(expectedSize);
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * Perform action for every entry of map without boxing of keys and values. Result of modification of map by
+     * action is undefined.
+     *
+     * @param action action performed for entries.
+     */
+    public void forEachEntry(LongLongConsumer action) {
+        if (table.hasZeroKey) {
+            action.accept(0, table.zeroValue);
+        }
+        for (long pos = 0; pos < table.capacity; pos++) {
+            long key = table.key(pos);
+            if (key != 0) {
+                action.accept(key, table.value(pos));
+            }
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<Long, Long>> entrySet() {
+        Set<Map.Entry<Long, Long>> retValue = entrySet;
+        if (retValue == null) {
+            retValue = new EntrySet();
+            entrySet = retValue;
+        }
+        return retValue;
+    }
+
+    /**
+     * Release memory of map. Map must not be used after close, repeated close has no effect.
+     */
+    @Override
+    public void close() {
+        table.close();
+    }
+
+    /**
+     * View of map entries backed by map table.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<Long, Long>> {
+
+        @Override
+        public int size() {
+            return OffHeapLongLongMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            boolean retValue = false;
+            if (o instanceof Map.Entry) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                Long value = get(entry.getKey());
+                retValue = value != null && value.equals(entry.getValue());
+            }
+            return retValue;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            boolean retValue = contains(o);
+            if (retValue) {
+                OffHeapLongLongMap.this.remove(((Long) ((Map.Entry<?, ?>) o).getKey()).longValue());
+            }
+            return retValue;
+        }
+
+        @Override
+        public void clear() {
+            table.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<Long, Long>> iterator() {
+            return new OffHeapTable.TableIterator<Map.Entry<Long, Long>>(table) {
+                @Override
+                protected Map.Entry<Long, Long> element(long key, long value) {
+                    return new TableEntry(key, value);
+                }
+            };
+        }
+    }
+
+    /**
+     * Entry provided by entry set iterator writing value changes through to map.
+     */
+    private final class TableEntry extends SimpleEntry<Long, Long> {
+        private static final long serialVersionUID = 1L;
+
+        private TableEntry(long key, long value) {
+            super(key, value);
+        }
+
+        @Override
+        public Long setValue(Long value) {
+            long key = getKey();
+            if (!containsKey(key)) {
+                throw new IllegalStateException("Entry was removed from map");
+            }
+            put(key, value.longValue());
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.offheap;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Hash set of long values stored in memory segment outside of java heap, so even hundreds of millions of values don't
+ * increase size of heap scanned by garbage collector. Values are stored with open addressing and linear probing
+ * without any object per value, primitive methods like {@link #add(long)} and {@link #contains(long)} never box
+ * values. Set implements {@link java.util.Set} of boxed values, so no-argument and expected size constructors are
+ * usable as init supplier of collection utils, for example {@code OffHeapLongSet::new}.
+ * <p>
+ * Memory of set is released by {@link #close()}, set must not be used after it is closed. Set is not synchronized and
+ * its iterator is fail-fast.
+ */
+public class OffHeapLongSet extends AbstractSet<Long> implements AutoCloseable {
+    /**
+     * Default load factor of set.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = OffHeapTable.DEFAULT_LOAD_FACTOR;
+
+    /**
+     * Table storing values of set.
+     */
+    private final OffHeapTable table;
+
+    /**
+     * Create new empty set with default expected size and load factor.
+     */
+    public OffHeapLongSet() {
+        this(OffHeapTable.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Create new empty set able to store expected amount of values without resizing.
+     *
+     * @param expectedSize amount of values stored without resizing.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public OffHeapLongSet(long expectedSize) throws IllegalArgumentException {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Create new empty set able to store expected amount of values without resizing using provided load factor.
+     *
+     * @param expectedSize amount of values stored without resizing.
+     * @param loadFactor   maximal ratio of stored values to amount of slots, must be greater than 0 and lower than 1.
+     * @throws IllegalArgumentException when expected size is negative or load factor is out of range.
+     */
+    public OffHeapLongSet(long expectedSize, float loadFactor) throws IllegalArgumentException {
+        this(new OffHeapTable(expectedSize, loadFactor, false));
+    }
+
+    /**
+     * Create new set storing values in provided table.
+     *
+     * @param table table without values storing values of set.
+     */
+    OffHeapLongSet(OffHeapTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Provide amount of values in set, limited by {@link Integer#MAX_VALUE}.
+     *
+     * @return amount of values or {@link Integer#MAX_VALUE} when set contains more values.
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, table.size());
+    }
+
+    /**
+     * Provide amount of values in set without limit of int range.
+     *
+     * @return amount of values.
+     */
+    public long longSize() {
+        return table.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    /**
+     * Validate if set contains provided value.
+     *
+     * @param value searched value.
+     * @return true when value is in set.
+     */
+    public boolean contains(long value) {
+        return value == 0 ? table.hasZeroKey : table.key(table.slot(value)) != 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && contains(((Long) o).longValue());
+    }
+
+    /**
+     * Add value into set.
+     *
+     * @param value added value.
+     * @return true when set was modified, false when value was already present.
+     * @throws IllegalStateException when set can't be resized anymore.
+     */
+    public boolean add(long value) throws IllegalStateException {
+        boolean retValue;
+        if (value == 0) {
+            retValue = !table.hasZeroKey;
+            if (retValue) {
+                table.zeroKey(true, 0);
+            }
+        } else {
+            long pos = table.slot(value);
+            retValue = table.key(pos) == 0;
+            if (retValue) {
+                table.insert(pos, value, 0);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Add value into set.
+     *
+     * @param value added value, must not be null.
+     * @return true when set was modified, false when value was already present.
+     * @throws NullPointerException  when value is null.
+     * @throws IllegalStateException when set can't be resized anymore.
+     */
+    @Override
+    public boolean add(Long value) throws IllegalStateException {
+        return add(value.longValue());
+    }
+
+    /**
+     * Add all values of provided collection into set. Values of other off-heap set are added without boxing.
+     *
+     * @param c added values, must not contain null.
+     * @return true when set was modified.
+     * @throws NullPointerException  when collection is null or contains null.
+     * @throws IllegalStateException when set can't be resized anymore.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Long> c) throws IllegalStateException {
+        boolean retValue;
+        if (c instanceof OffHeapLongSet) {
+            OffHeapTable source = ((OffHeapLongSet) c).table;
+            table.ensureCapacity(table.assigned + source.assigned);
+            retValue = source.hasZeroKey && add(0);
+            for (long pos = 0; pos < source.capacity; pos++) {
+                long key = source.key(pos);
+                if (key != 0) {
+                    retValue |= add(key);
+                }
+            }
+        } else {
+            table.ensureCapacity(table.assigned + c.size());
+            retValue = super.addAll(c);
+        }
+        return retValue;
+    }
+
+    /**
+     * Add all provided values into set.
+     *
+     * @param values added values.
+     * @return true when set was modified.
+     * @throws IllegalStateException when set can't be resized anymore.
+     */
+    public boolean addAll(long... values) throws IllegalStateException {
+        table.ensureCapacity(table.assigned + values.length);
+        boolean retValue = false;
+        for (long value : values) {
+            retValue |= add(value);
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate if set contains all provided values.
+     *
+     * @param values searched values.
+     * @return true when all values are in set.
+     */
+    public boolean containsAll(long... values) {
+        boolean retValue = true;
+        for (int i = 0; retValue && i < values.length; i++) {
+            retValue = contains(values[i]);
+        }
+        return retValue;
+    }
+
+    /**
+     * Validate if set contains all values of provided collection. Values of other off-heap set are searched without
+     * boxing.
+     *
+     * @param c searched values.
+     * @return true when all values are in set.
+     * @throws NullPointerException when collection is null.
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        boolean retValue;
+        if (c instanceof OffHeapLongSet) {
+            OffHeapTable source = ((OffHeapLongSet) c).table;
+            retValue = !source.hasZeroKey || table.hasZeroKey;
+            for (long pos = 0; retValue && pos < source.capacity; pos++) {
+                long key = source.key(pos);
+                retValue = key == 0 || table.key(table.slot(key)) != 0;
+            }
+        } else {
+            retValue = super.containsAll(c);
+        }
+        return retValue;
+    }
+
+    /**
+     * Remove value from set.
+     *
+     * @param value removed value.
+     * @return true when value was present in set.
+     */
+    public boolean remove(long value) {
+        boolean retValue;
+        if (value == 0) {
+            retValue = table.hasZeroKey;
+            if (retValue) {
+                table.zeroKey(false, 0);
+            }
+        } else {
+            long pos = table.slot(value);
+            retValue = table.key(pos) != 0;
+            if (retValue) {
+                table.removeAt(pos, null);
+            }
+        }
+        return retValue;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Long && remove(((Long) o).longValue());
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean retValue = false;
+        if (c == this) {
+            retValue = !isEmpty();
+            clear();
+        } else {
+            for (Object value : c) {
+                retValue |= remove(value);
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Make sure set can store provided amount of values without resizing.
+     *
+     * @param expectedSize amount of values expected to be stored.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    public void ensureCapacity(long expectedSize) throws IllegalArgumentException {
+        table.ensureCapacity(expectedSize);
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new OffHeapTable.TableIterator<Long>(table) {
+            @Override
+            protected Long element(long key, long value) {
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Perform action for every value of set without boxing of values. Result of modification of set by action is
+     * undefined.
+     *
+     * @param action action performed for values.
+     */
+    public void forEachValue(LongConsumer action) {
+        if (table.hasZeroKey) {
+            action.accept(0);
+        }
+        for (long pos = 0; pos < table.capacity; pos++) {
+            long key = table.key(pos);
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Release memory of set. Set must not be used after close, repeated close has no effect.
+     */
+    @Override
+    public void close() {
+        table.close();
+    }
+}
@@ -0,0 +1,543 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.offheap;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Hash table with primitive long keys stored in memory segment outside of java heap, shared by
+ * {@link OffHeapLongSet} and {@link OffHeapLongLongMap}. Table uses open addressing with linear probing, every slot
+ * stores key and for tables with values also value directly following key. Key 0 marks empty slot, so it is tracked by
+ * separate flag. Removal shifts following keys of probe sequence backward, so table never contains deleted markers.
+ * Every allocated segment has its own arena, which is closed when table is resized or closed, so memory is released
+ * deterministically without garbage collector. Subclasses can provide segments from other source by overriding
+ * {@link #resize(long)} and track modifications by {@link #modified()}.
+ */
+class OffHeapTable implements AutoCloseable {
+    /**
+     * Default load factor of table.
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /**
+     * Default amount of keys stored without resizing of table.
+     */
+    static final long DEFAULT_EXPECTED_SIZE = 12;
+    /**
+     * Maximal amount of slots in table.
+     */
+    static final long MAXIMUM_CAPACITY = 1L << 40;
+
+    /**
+     * Maximal ratio of stored keys to amount of slots.
+     */
+    final float loadFactor;
+    /**
+     * Binary logarithm of slot size in bytes, 3 for keys only and 4 for keys with values.
+     */
+    final int slotShift;
+    /**
+     * Arena owning current segment.
+     */
+    Arena arena;
+    /**
+     * Segment storing slots of table.
+     */
+    MemorySegment segment;
+    /**
+     * Amount of slots in table.
+     */
+    long capacity;
+    /**
+     * Mask of hash code providing slot position.
+     */
+    private long mask;
+    /**
+     * Amount of keys in table after which is table resized.
+     */
+    private long threshold;
+    /**
+     * Amount of keys stored in table slots, without key 0.
+     */
+    long assigned;
+    /**
+     * Flag of key 0 presence.
+     */
+    boolean hasZeroKey;
+    /**
+     * Value assigned to key 0.
+     */
+    long zeroValue;
+    /**
+     * Amount of structural modifications used to detect concurrent modification by iterators.
+     */
+    int modCount;
+
+    /**
+     * Create new empty table.
+     *
+     * @param expectedSize amount of keys stored without resizing of table.
+     * @param loadFactor   maximal ratio of stored keys to amount of slots, must be greater than 0 and lower than 1.
+     * @param withValues   true to store values together with keys.
+     * @throws IllegalArgumentException when expected size is negative or load factor is out of range.
+     */
+    OffHeapTable(long expectedSize, float loadFactor, boolean withValues) throws IllegalArgumentException {
+        this(loadFactor, withValues);
+        long slots = capacity(expectedSize);
+        Arena created = Arena.ofShared();
+        use(created, created.allocate(slots << slotShift, Long.BYTES), slots);
+    }
+
+    /**
+     * Create new table without segment, subclass must provide segment by {@link #use(Arena, MemorySegment, long)}.
+     *
+     * @param loadFactor maximal ratio of stored keys to amount of slots, must be greater than 0 and lower than 1.
+     * @param withValues true to store values together with keys.
+     * @throws IllegalArgumentException when load factor is out of range.
+     */
+    OffHeapTable(float loadFactor, boolean withValues) throws IllegalArgumentException {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be greater than 0 and lower than 1: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.slotShift = withValues ? 4 : 3;
+    }
+
+    /**
+     * Spread bits of key, so sequential keys and keys differing only in upper bits don't form long clusters.
+     *
+     * @param key key stored in table.
+     * @return mixed hash code.
+     */
+    static long mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+
+    /**
+     * Verify if slots store values together with keys.
+     *
+     * @return true for tables with values.
+     */
+    boolean withValues() {
+        return slotShift == 4;
+    }
+
+    /**
+     * Provide amount of stored keys including key 0.
+     *
+     * @return amount of keys.
+     */
+    long size() {
+        return hasZeroKey ? assigned + 1 : assigned;
+    }
+
+    /**
+     * Read key stored in slot.
+     *
+     * @param pos position of slot.
+     * @return key or 0 for empty slot.
+     */
+    long key(long pos) {
+        return segment.get(ValueLayout.JAVA_LONG, pos << slotShift);
+    }
+
+    /**
+     * Read value stored in slot.
+     *
+     * @param pos position of slot.
+     * @return value of slot.
+     */
+    long value(long pos) {
+        return segment.get(ValueLayout.JAVA_LONG, (pos << slotShift) + Long.BYTES);
+    }
+
+    /**
+     * Write value into slot.
+     *
+     * @param pos   position of slot.
+     * @param value new value of slot.
+     */
+    void value(long pos, long value) {
+        modified();
+        segment.set(ValueLayout.JAVA_LONG, (pos << slotShift) + Long.BYTES, value);
+    }
+
+    /**
+     * Update presence and value of key 0.
+     *
+     * @param present true when key 0 is present.
+     * @param value   value assigned to key 0, ignored by tables without values.
+     */
+    void zeroKey(boolean present, long value) {
+        modified();
+        if (hasZeroKey != present) {
+            hasZeroKey = present;
+            modCount++;
+        }
+        zeroValue = present ? value : 0;
+    }
+
+    /**
+     * Locate slot of provided key or empty slot where key should be stored.
+     *
+     * @param key non-zero key.
+     * @return position of key or of empty slot.
+     */
+    long slot(long key) {
+        long pos = mix(key) & mask;
+        long current;
+        while ((current = key(pos)) != 0 && current != key) {
+            pos = (pos + 1) & mask;
+        }
+        return pos;
+    }
+
+    /**
+     * Store new key and value into empty slot located by {@link #slot(long)} and resize table when needed.
+     *
+     * @param pos   position of empty slot.
+     * @param key   non-zero key.
+     * @param value value assigned to key, ignored by tables without values.
+     * @throws IllegalStateException when table can't be resized anymore.
+     */
+    void insert(long pos, long key, long value) throws IllegalStateException {
+        if (assigned >= threshold) {
+            if (capacity == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Table reached maximal capacity");
+            }
+            resize(capacity << 1);
+            pos = slot(key);
+        }
+        modified();
+        write(pos, key, value);
+        assigned++;
+        modCount++;
+    }
+
+    /**
+     * Remove key at provided position and shift following keys of probe sequence backward.
+     *
+     * @param pos      position of removed key.
+     * @param iterator iterator removing key notified about keys moved from not visited part of table to visited one,
+     *                 null when removal is not done by iterator.
+     */
+    void removeAt(long pos, TableIterator<?> iterator) {
+        modified();
+        assigned--;
+        modCount++;
+        long last = pos;
+        long current = pos;
+        long key;
+        while ((key = key(current = (current + 1) & mask)) != 0) {
+            long home = mix(key) & mask;
+            // key can move to last empty slot only when its home position is not between last and current position
+            boolean movable = last <= current ? home <= last || home > current : home <= last && home > current;
+            if (movable) {
+                long value = withValues() ? value(current) : 0;
+                if (iterator != null && current < last) {
+                    iterator.wrapped(key, value);
+                }
+                write(last, key, value);
+                last = current;
+            }
+        }
+        write(last, 0, 0);
+    }
+
+    /**
+     * Remove all keys keeping capacity of table.
+     */
+    void clear() {
+        modified();
+        segment.fill((byte) 0);
+        assigned = 0;
+        hasZeroKey = false;
+        zeroValue = 0;
+        modCount++;
+    }
+
+    /**
+     * Make sure table can store provided amount of keys without resizing.
+     *
+     * @param expectedSize amount of keys expected to be stored.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    void ensureCapacity(long expectedSize) throws IllegalArgumentException {
+        long required = capacity(expectedSize);
+        if (required > capacity) {
+            resize(required);
+        }
+    }
+
+    /**
+     * Notify table about modification of stored data, called before data is changed. Tables stored in memory don't
+     * track modifications.
+     */
+    void modified() {
+    }
+
+    /**
+     * Release memory of table. Table must not be used after close.
+     */
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+        }
+    }
+
+    /**
+     * Write key and value into slot.
+     *
+     * @param pos   position of slot.
+     * @param key   written key.
+     * @param value written value, ignored by tables without values.
+     */
+    private void write(long pos, long key, long value) {
+        long offset = pos << slotShift;
+        segment.set(ValueLayout.JAVA_LONG, offset, key);
+        if (withValues()) {
+            segment.set(ValueLayout.JAVA_LONG, offset + Long.BYTES, value);
+        }
+    }
+
+    /**
+     * Calculate amount of slots able to store provided amount of keys.
+     *
+     * @param expectedSize amount of keys to be stored.
+     * @return power of two amount of slots.
+     * @throws IllegalArgumentException when expected size is negative.
+     */
+    long capacity(long expectedSize) throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        long required = Math.max(2L, (long) Math.ceil(expectedSize / (double) loadFactor));
+        long retValue = MAXIMUM_CAPACITY;
+        if (required < MAXIMUM_CAPACITY) {
+            retValue = Long.highestOneBit(required - 1) << 1;
+        }
+        return retValue;
+    }
+
+    /**
+     * Use provided zeroed or previously stored segment with provided amount of slots as storage of table.
+     *
+     * @param owner   arena owning segment.
+     * @param storage segment storing slots.
+     * @param slots   amount of slots in segment, power of two.
+     */
+    void use(Arena owner, MemorySegment storage, long slots) {
+        arena = owner;
+        segment = storage;
+        capacity = slots;
+        mask = slots - 1;
+        threshold = Math.min(slots - 1, (long) (slots * (double) loadFactor));
+    }
+
+    /**
+     * Move all keys into new segment with provided amount of slots and release memory of previous segment.
+     *
+     * @param slots amount of slots of new segment.
+     */
+    void resize(long slots) {
+        Arena oldArena = arena;
+        MemorySegment oldSegment = segment;
+        long oldCapacity = capacity;
+        Arena created = Arena.ofShared();
+        use(created, created.allocate(slots << slotShift, Long.BYTES), slots);
+        copy(oldSegment, oldCapacity);
+        oldArena.close();
+    }
+
+    /**
+     * Copy all keys from previous segment of table into current one. Amount of keys is counted from copied slots and
+     * key stored in previous segment more than once is copied only once.
+     *
+     * @param oldSegment  previous segment of table.
+     * @param oldCapacity amount of slots in previous segment.
+     */
+    void copy(MemorySegment oldSegment, long oldCapacity) {
+        long copied = 0;
+        for (long pos = 0; pos < oldCapacity; pos++) {
+            long offset = pos << slotShift;
+            long key = oldSegment.get(ValueLayout.JAVA_LONG, offset);
+            if (key != 0) {
+                long value = withValues() ? oldSegment.get(ValueLayout.JAVA_LONG, offset + Long.BYTES) : 0;
+                long target = slot(key);
+                if (key(target) == 0) {
+                    copied++;
+                }
+                write(target, key, value);
+            }
+        }
+        assigned = copied;
+        modCount++;
+    }
+
+    /**
+     * Iterator over keys of table visiting key 0 first and then slots from the end of table to its beginning. Removal
+     * by iterator shifts keys backward, keys moved from beginning of table, which was not visited yet, into already
+     * visited end of table are remembered and visited after all slots.
+     *
+     * @param <T> type of provided elements.
+     */
+    abstract static class TableIterator<T> implements Iterator<T> {
+        /**
+         * Iterated table.
+         */
+        private final OffHeapTable table;
+        /**
+         * Position of last visited slot.
+         */
+        private long pos;
+        /**
+         * Position of last provided key, -1 when there is no key to remove, -2 for key 0 or wrapped key.
+         */
+        private long last = -1;
+        /**
+         * Last provided key.
+         */
+        private long lastKey;
+        /**
+         * Amount of keys not provided yet.
+         */
+        private long remaining;
+        /**
+         * Flag of key 0 waiting to be provided.
+         */
+        private boolean zeroKey;
+        /**
+         * Amount of modifications of table expected by iterator.
+         */
+        private int expectedModCount;
+        /**
+         * Keys and values moved from not visited part of table to visited one, stored as pairs.
+         */
+        private long[] wrapped;
+        /**
+         * Amount of values used in wrapped array.
+         */
+        private int wrappedSize;
+
+        /**
+         * Create new iterator over provided table.
+         *
+         * @param table iterated table.
+         */
+        TableIterator(OffHeapTable table) {
+            this.table = table;
+            this.pos = table.capacity;
+            this.remaining = table.size();
+            this.zeroKey = table.hasZeroKey;
+            this.expectedModCount = table.modCount;
+        }
+
+        /**
+         * Provide element of iterator for key.
+         *
+         * @param key   key of table.
+         * @param value value assigned to key, 0 for tables without values.
+         * @return element provided by iterator.
+         */
+        protected abstract T element(long key, long value);
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (table.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            T retValue = null;
+            if (zeroKey) {
+                zeroKey = false;
+                last = -2;
+                lastKey = 0;
+                retValue = element(0, table.zeroValue);
+            } else {
+                while (--pos >= 0) {
+                    long key = table.key(pos);
+                    if (key != 0) {
+                        last = pos;
+                        lastKey = key;
+                        retValue = element(key, table.withValues() ? table.value(pos) : 0);
+                        break;
+                    }
+                }
+                if (pos < 0) {
+                    wrappedSize -= 2;
+                    last = -2;
+                    lastKey = wrapped[wrappedSize];
+                    retValue = element(lastKey, wrapped[wrappedSize + 1]);
+                }
+            }
+            return retValue;
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            if (table.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (last >= 0) {
+                table.removeAt(last, this);
+            } else if (lastKey == 0) {
+                table.zeroKey(false, 0);
+            } else {
+                table.removeAt(table.slot(lastKey), null);
+            }
+            last = -1;
+            expectedModCount = table.modCount;
+        }
+
+        /**
+         * Remember key moved by removal from not visited part of table to visited one.
+         *
+         * @param key   moved key.
+         * @param value value of moved key.
+         */
+        private void wrapped(long key, long value) {
+            if (wrapped == null) {
+                wrapped = new long[4];
+            } else if (wrappedSize == wrapped.length) {
+                wrapped = Arrays.copyOf(wrapped, wrappedSize << 1);
+            }
+            wrapped[wrappedSize++] = key;
+            wrapped[wrappedSize++] = value;
+        }
+    }
+}
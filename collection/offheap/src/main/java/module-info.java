@@ -0,0 +1,6 @@
+/**
+ * Module providing collections stored outside of java heap in memory managed by Foreign Function and Memory API.
+ */
+module cz.ad.java.tools.collection.offheap {
+    exports cz.ad.java.tools.collection.offheap;
+}
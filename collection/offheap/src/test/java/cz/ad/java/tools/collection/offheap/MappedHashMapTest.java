@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.offheap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedHashMapTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void constructor() throws IOException {
+        Path path = directory.resolve("map");
+        assertThrows(IllegalArgumentException.class, () -> new MappedHashMap(path, -1));
+        assertThrows(IllegalArgumentException.class, () -> new MappedHashMap(path, 1, 0));
+        try (MappedHashMap map = new MappedHashMap(path)) {
+            assertTrue(map.isEmpty());
+            assertEquals(path, map.path());
+        }
+    }
+
+    @Test
+    void reopen() throws IOException {
+        Path path = directory.resolve("map");
+        Random random = new Random(42);
+        Map<Long, Long> expected = new HashMap<>();
+        try (MappedHashMap map = new MappedHashMap(path, 0)) {
+            for (int i = 0; i < 5000; i++) {
+                long key = random.nextInt(2000);
+                if (random.nextInt(4) == 0) {
+                    assertEquals(expected.remove(key), map.remove(Long.valueOf(key)));
+                } else {
+                    assertEquals(expected.merge(key, 1L, Long::sum), map.addTo(key, 1));
+                }
+            }
+            map.force();
+            map.put(0, 42);
+            expected.put(0L, 42L);
+        }
+        try (MappedHashMap map = new MappedHashMap(path)) {
+            assertEquals(expected, map);
+            assertEquals(42, map.getOrDefault(0, 0));
+            map.entrySet().removeIf(entry -> entry.getKey() % 2 == 0);
+            expected.keySet().removeIf(key -> key % 2 == 0);
+        }
+        try (MappedHashMap map = new MappedHashMap(path, 10_000)) {
+            assertEquals(expected, map);
+            assertEquals(expected.size(), map.longSize());
+        }
+    }
+
+    @Test
+    void dirtyReopen() throws IOException {
+        Path path = directory.resolve("map");
+        Path crashed = directory.resolve("crashed");
+        try (MappedHashMap map = new MappedHashMap(path)) {
+            map.put(1, 10);
+            map.force();
+            map.put(2, 20);
+            map.put(0, 5);
+            // copy of file modified after checkpoint is same as file left by crash of application
+            Files.copy(path, crashed);
+        }
+        try (MappedHashMap reopened = new MappedHashMap(crashed)) {
+            assertEquals(Map.of(0L, 5L, 1L, 10L, 2L, 20L), reopened);
+        }
+    }
+
+    @Test
+    void interruptedRemove() throws IOException {
+        Path path = directory.resolve("map");
+        try (MappedHashMap map = new MappedHashMap(path)) {
+            map.put(1, 10);
+            map.put(2, 20);
+        }
+        // key copied into following slot and header left dirty is same as removal interrupted during backward shift
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long slots = (channel.size() - MappedTable.HEADER_SIZE) / (2 * Long.BYTES);
+            ByteBuffer slot = ByteBuffer.allocate(2 * Long.BYTES).order(ByteOrder.nativeOrder());
+            long pos = 0;
+            do {
+                slot.clear();
+                channel.read(slot, MappedTable.HEADER_SIZE + pos * slot.capacity());
+            } while (slot.getLong(0) != 1 && ++pos < slots);
+            long next = (pos + 1) % slots;
+            do {
+                slot.clear();
+                channel.read(slot, MappedTable.HEADER_SIZE + next * slot.capacity());
+            } while (slot.getLong(0) != 0 && (next = (next + 1) % slots) != pos);
+            slot.clear();
+            slot.putLong(1).putLong(10).flip();
+            channel.write(slot, MappedTable.HEADER_SIZE + next * slot.capacity());
+            channel.write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder()).putLong(0, 1),
+                    MappedTable.DIRTY_OFFSET);
+        }
+        try (MappedHashMap map = new MappedHashMap(path)) {
+            assertEquals(Map.of(1L, 10L, 2L, 20L), map);
+            assertEquals(2, map.longSize());
+            assertTrue(map.remove(1));
+            assertFalse(map.containsKey(1));
+        }
+        try (MappedHashMap map = new MappedHashMap(path)) {
+            assertEquals(Map.of(2L, 20L), map);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(path), files.toList());
+        }
+    }
+
+    @Test
+    void close() throws IOException {
+        MappedHashMap map = new MappedHashMap(directory.resolve("map"));
+        map.put(1, 1);
+        map.close();
+        map.close();
+        assertThrows(IllegalStateException.class, () -> map.containsKey(1));
+    }
+}
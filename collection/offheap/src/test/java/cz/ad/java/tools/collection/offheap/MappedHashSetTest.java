@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.offheap;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedHashSetTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void constructor() throws IOException {
+        Path path = directory.resolve("set");
+        assertThrows(IllegalArgumentException.class, () -> new MappedHashSet(path, -1));
+        assertThrows(IllegalArgumentException.class, () -> new MappedHashSet(path, 1, 1));
+        try (MappedHashSet set = new MappedHashSet(path)) {
+            assertTrue(set.isEmpty());
+            assertEquals(path, set.path());
+        }
+        assertTrue(Files.size(path) > MappedTable.HEADER_SIZE);
+    }
+
+    @Test
+    void reopen() throws IOException {
+        Path path = directory.resolve("set");
+        Set<Long> expected = new HashSet<>();
+        try (MappedHashSet set = new MappedHashSet(path, 0)) {
+            for (long value = -1000; value <= 1000; value++) {
+                set.add(value * 31);
+                expected.add(value * 31);
+            }
+            set.remove(31);
+            expected.remove(31L);
+        }
+        try (MappedHashSet set = new MappedHashSet(path)) {
+            assertEquals(expected.size(), set.longSize());
+            assertEquals(expected, set);
+            assertTrue(set.contains(0));
+            set.remove(0);
+            set.add(7);
+        }
+        try (MappedHashSet set = new MappedHashSet(path, 100_000)) {
+            expected.remove(0L);
+            expected.add(7L);
+            assertEquals(expected, set);
+        }
+        assertEquals(0, Files.list(directory).filter(file -> !file.equals(path)).count());
+    }
+
+    @Test
+    void dirtyReopen() throws IOException {
+        Path path = directory.resolve("set");
+        Path crashed = directory.resolve("crashed");
+        try (MappedHashSet set = new MappedHashSet(path)) {
+            set.addAll(0, 1, 2);
+            set.force();
+            set.addAll(3, 4);
+            set.remove(1);
+            // copy of file modified after checkpoint is same as file left by crash of application
+            Files.copy(path, crashed);
+        }
+        try (MappedHashSet reopened = new MappedHashSet(crashed)) {
+            assertEquals(Set.of(0L, 2L, 3L, 4L), reopened);
+            assertEquals(4, reopened.size());
+        }
+    }
+
+    @Test
+    void incompatibleFile() throws IOException {
+        Path path = directory.resolve("set");
+        Files.write(path, new byte[(int) MappedTable.HEADER_SIZE + 64]);
+        assertThrows(IOException.class, () -> new MappedHashSet(path));
+        Files.write(path, new byte[8]);
+        assertThrows(IOException.class, () -> new MappedHashSet(path));
+        try (MappedHashMap map = new MappedHashMap(directory.resolve("map"))) {
+            map.put(1, 1);
+        }
+        assertThrows(IOException.class, () -> new MappedHashSet(directory.resolve("map")));
+    }
+
+    @Test
+    void force() throws IOException {
+        Path path = directory.resolve("set");
+        try (MappedHashSet set = new MappedHashSet(path)) {
+            set.addAll(5, 6);
+            set.force();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                 Arena arena = Arena.ofConfined()) {
+                MemorySegment header = channel.map(FileChannel.MapMode.READ_ONLY, 0, MappedTable.HEADER_SIZE, arena);
+                // amount of keys and clean dirty flag are written by checkpoint
+                assertEquals(2, header.get(ValueLayout.JAVA_LONG, 24));
+                assertEquals(0, header.get(ValueLayout.JAVA_LONG, 48));
+            }
+        }
+    }
+
+    @Test
+    void collectionUtils() throws IOException {
+        try (MappedHashSet set = new MappedHashSet(directory.resolve("set"));
+             OffHeapLongSet source = new OffHeapLongSet()) {
+            source.addAll(1, 2, 3);
+            assertTrue(CollectionUtils.DEFAULT_INSTANCE.addAll(set, null, source) == set);
+            assertTrue(CollectionUtils.DEFAULT_INSTANCE.containsAll(set, source));
+            assertTrue(CollectionUtils.DEFAULT_INSTANCE.containsAll(set, List.of(1L, 3L)));
+            source.add(4);
+            assertFalse(CollectionUtils.DEFAULT_INSTANCE.containsAll(set, source));
+        }
+    }
+
+    @Test
+    void close() throws IOException {
+        MappedHashSet set = new MappedHashSet(directory.resolve("set"));
+        set.add(1);
+        set.close();
+        set.close();
+        assertThrows(IllegalStateException.class, () -> set.contains(1));
+    }
+}
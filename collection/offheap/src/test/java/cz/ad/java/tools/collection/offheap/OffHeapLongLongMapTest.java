@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.offheap;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapLongLongMapTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLongLongMap(-1));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLongLongMap(1, 2));
+        try (OffHeapLongLongMap map = new OffHeapLongLongMap(0)) {
+            assertTrue(map.isEmpty());
+        }
+    }
+
+    @Test
+    void putGetRemove() {
+        try (OffHeapLongLongMap map = new OffHeapLongLongMap()) {
+            assertEquals(0, map.put(1, 10));
+            assertEquals(10, map.put(1, 11));
+            assertEquals(0, map.put(0, 5));
+            assertNull(map.put(Long.valueOf(2), Long.valueOf(20)));
+            assertEquals(20L, map.put(Long.valueOf(2), Long.valueOf(21)));
+            assertEquals(3, map.size());
+            assertEquals(3, map.longSize());
+            assertEquals(11, map.getOrDefault(1, -1));
+            assertEquals(5, map.getOrDefault(0, -1));
+            assertEquals(-1, map.getOrDefault(3, -1));
+            assertEquals(21L, map.get(2L));
+            assertNull(map.get(3L));
+            assertNull(map.get("2"));
+            assertTrue(map.containsKey(0));
+            assertFalse(map.containsKey(3));
+            assertFalse(map.containsKey("1"));
+            assertThrows(NullPointerException.class, () -> map.put(null, 1L));
+
+            assertTrue(map.remove(0));
+            assertFalse(map.remove(0));
+            assertEquals(11L, map.remove(Long.valueOf(1)));
+            assertNull(map.remove(Long.valueOf(1)));
+            assertEquals(Map.of(2L, 21L), map);
+            map.clear();
+            assertTrue(map.isEmpty());
+        }
+    }
+
+    @Test
+    void addTo() {
+        try (OffHeapLongLongMap map = new OffHeapLongLongMap()) {
+            assertEquals(2, map.addTo(1, 2));
+            assertEquals(5, map.addTo(1, 3));
+            assertEquals(-1, map.addTo(0, -1));
+            assertEquals(-3, map.addTo(0, -2));
+            assertEquals(Map.of(0L, -3L, 1L, 5L), map);
+        }
+    }
+
+    @Test
+    void randomAgainstHashMap() {
+        Random random = new Random(42);
+        try (OffHeapLongLongMap map = new OffHeapLongLongMap(0, 0.9f)) {
+            Map<Long, Long> expected = new HashMap<>();
+            for (int i = 0; i < 20000; i++) {
+                long key = (long) random.nextInt(1000) << 24;
+                int operation = random.nextInt(4);
+                if (operation == 0) {
+                    assertEquals(expected.remove(key) != null, map.remove(key));
+                } else if (operation == 1) {
+                    assertEquals(expected.getOrDefault(key, -1L), map.getOrDefault(key, -1));
+                } else if (operation == 2) {
+                    assertEquals(expected.merge(key, 1L, Long::sum), map.addTo(key, 1));
+                } else {
+                    assertEquals(expected.put(key, (long) i), map.put(Long.valueOf(key), Long.valueOf(i)));
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            assertEquals(expected, map);
+            Map<Long, Long> visited = new HashMap<>();
+            map.forEachEntry(visited::put);
+            assertEquals(expected, visited);
+
+            Iterator<Map.Entry<Long, Long>> iterator = map.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Long> entry = iterator.next();
+                assertEquals(expected.get(entry.getKey()), entry.getValue());
+                if (random.nextBoolean()) {
+                    iterator.remove();
+                    expected.remove(entry.getKey());
+                } else {
+                    entry.setValue(entry.getValue() + 1);
+                    expected.merge(entry.getKey(), 1L, Long::sum);
+                }
+            }
+            assertEquals(expected, map);
+            assertEquals(expected.hashCode(), map.hashCode());
+        }
+    }
+
+    @Test
+    void views() {
+        try (OffHeapLongLongMap map = new OffHeapLongLongMap()) {
+            map.putAll(Map.of(1L, 1L, 2L, 2L, 3L, 3L));
+            assertTrue(map.entrySet().contains(Map.entry(1L, 1L)));
+            assertFalse(map.entrySet().contains(Map.entry(1L, 2L)));
+            assertFalse(map.entrySet().remove(Map.entry(1L, 2L)));
+            assertTrue(map.entrySet().remove(Map.entry(1L, 1L)));
+            assertTrue(map.keySet().remove(2L));
+            assertEquals(Map.of(3L, 3L), map);
+            assertTrue(map.containsValue(3L));
+            assertEquals(3L, map.computeIfAbsent(4L, key -> key - 1));
+            map.entrySet().clear();
+            assertTrue(map.isEmpty());
+        }
+    }
+
+    @Test
+    void collectionUtils() {
+        try (OffHeapLongLongMap map = CollectionUtils.DEFAULT_INSTANCE.put(null, OffHeapLongLongMap::new, 1L, 2L)) {
+            assertEquals(2, map.getOrDefault(1, 0));
+            assertTrue(CollectionUtils.DEFAULT_INSTANCE.remove(map, 1L));
+            assertTrue(map.isEmpty());
+        }
+    }
+
+    @Test
+    void close() {
+        OffHeapLongLongMap map = new OffHeapLongLongMap();
+        map.put(1, 1);
+        map.close();
+        map.close();
+        assertThrows(IllegalStateException.class, () -> map.getOrDefault(1, 0));
+    }
+}
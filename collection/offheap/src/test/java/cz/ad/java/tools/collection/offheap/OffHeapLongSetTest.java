@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.offheap;
+
+import cz.ad.java.tools.collection.core.CollectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapLongSetTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLongSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLongSet(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLongSet(1, 1));
+        try (OffHeapLongSet set = new OffHeapLongSet(0)) {
+            assertTrue(set.isEmpty());
+            assertEquals(0, set.longSize());
+        }
+    }
+
+    @Test
+    void addContainsRemove() {
+        try (OffHeapLongSet set = new OffHeapLongSet()) {
+            assertTrue(set.add(1));
+            assertFalse(set.add(1));
+            assertTrue(set.add(0));
+            assertFalse(set.add(0));
+            assertTrue(set.add(Long.valueOf(Long.MIN_VALUE)));
+            assertEquals(3, set.size());
+            assertTrue(set.contains(0));
+            assertTrue(set.contains(1));
+            assertTrue(set.contains(Long.valueOf(Long.MIN_VALUE)));
+            assertFalse(set.contains("1"));
+            assertFalse(set.contains(2));
+            assertThrows(NullPointerException.class, () -> set.add(null));
+            assertTrue(set.remove(0));
+            assertFalse(set.remove(0));
+            assertFalse(set.remove("1"));
+            assertTrue(set.remove(Long.valueOf(1)));
+            assertEquals(Set.of(Long.MIN_VALUE), set);
+            set.clear();
+            assertTrue(set.isEmpty());
+            assertFalse(set.contains(Long.MIN_VALUE));
+        }
+    }
+
+    @Test
+    void randomAgainstHashSet() {
+        Random random = new Random(42);
+        try (OffHeapLongSet set = new OffHeapLongSet(0, 0.9f)) {
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < 20000; i++) {
+                // values sharing lower bits create clusters in table
+                long value = (long) random.nextInt(1000) << 24;
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(value), set.remove(value));
+                } else {
+                    assertEquals(expected.add(value), set.add(value));
+                }
+                assertEquals(expected.size(), set.size());
+            }
+            assertEquals(expected, set);
+            Set<Long> visited = new HashSet<>();
+            set.forEachValue(visited::add);
+            assertEquals(expected, visited);
+
+            Iterator<Long> iterator = set.iterator();
+            while (iterator.hasNext()) {
+                Long value = iterator.next();
+                assertTrue(expected.contains(value));
+                if (random.nextBoolean()) {
+                    iterator.remove();
+                    expected.remove(value);
+                }
+            }
+            assertEquals(expected, set);
+            assertEquals(expected.hashCode(), set.hashCode());
+        }
+    }
+
+    @Test
+    void iterator() {
+        try (OffHeapLongSet set = new OffHeapLongSet()) {
+            Iterator<Long> iterator = set.iterator();
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+            set.addAll(0, 1);
+            iterator = set.iterator();
+            assertThrows(IllegalStateException.class, iterator::remove);
+            assertEquals(0L, iterator.next());
+            iterator.remove();
+            assertFalse(set.contains(0));
+            assertEquals(1L, iterator.next());
+            iterator.remove();
+            assertTrue(set.isEmpty());
+
+            set.addAll(1, 2);
+            Iterator<Long> failing = set.iterator();
+            failing.next();
+            set.add(3);
+            assertThrows(ConcurrentModificationException.class, failing::next);
+        }
+    }
+
+    @Test
+    void bulkOperations() {
+        try (OffHeapLongSet set = new OffHeapLongSet()) {
+            assertTrue(set.addAll(List.of(1L, 2L, 3L, 4L)));
+            assertFalse(set.addAll(1, 2));
+            assertTrue(set.removeAll(List.of(1L, 5L)));
+            assertTrue(set.retainAll(Set.of(2L, 3L)));
+            assertEquals(Set.of(2L, 3L), set);
+            set.ensureCapacity(1000);
+            assertEquals(Set.of(2L, 3L), set);
+            assertTrue(set.removeAll(set));
+            assertTrue(set.isEmpty());
+        }
+    }
+
+    @Test
+    void bulkOperationsWithOffHeapSet() {
+        try (OffHeapLongSet set = new OffHeapLongSet(); OffHeapLongSet source = new OffHeapLongSet()) {
+            source.addAll(0, 1, 2);
+            assertTrue(set.addAll(source));
+            assertFalse(set.addAll(source));
+            assertEquals(Set.of(0L, 1L, 2L), set);
+            assertTrue(set.containsAll(source));
+            assertTrue(set.containsAll(0, 2));
+            assertFalse(set.containsAll(2, 3));
+            source.add(3);
+            assertFalse(set.containsAll(source));
+            source.clear();
+            source.add(0);
+            set.remove(0);
+            assertFalse(set.containsAll(source));
+            assertTrue(set.containsAll(List.of(1L, 2L)));
+        }
+    }
+
+    @Test
+    void collectionUtils() {
+        try (OffHeapLongSet set = CollectionUtils.DEFAULT_INSTANCE.add(null, OffHeapLongSet::new, 1L)) {
+            assertTrue(set.contains(1));
+            assertTrue(CollectionUtils.DEFAULT_INSTANCE.contains(set, 1L));
+        }
+    }
+
+    @Test
+    void close() {
+        OffHeapLongSet set = new OffHeapLongSet();
+        set.add(1);
+        set.close();
+        set.close();
+        assertThrows(IllegalStateException.class, () -> set.contains(1));
+    }
+}
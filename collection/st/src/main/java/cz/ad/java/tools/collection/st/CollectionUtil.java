@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 /**
@@ -204,6 +205,26 @@ public class CollectionUtil {
         return CollectionUtils.DEFAULT_INSTANCE.addAll(collection, init, values);
     }
 
+    /**
+     * Add safely values from source collection into destination collection if provided destination is null it is
+     * initialized by sized init function receiving size of source.
+     *
+     * @param collection used as target for adding value.
+     * @param init       function to provide new instance with capacity for provided size in case when provided
+     *                   collection is null.
+     * @param values     values to be added into collection.
+     * @param <D>        type of destination collection.
+     * @param <S>        type of source collection.
+     * @param <V>        type of value in collection.
+     * @return original destination collection or initialized new collection with added provided values if source was
+     *         not empty, otherwise collection value.
+     */
+    public static <D extends Collection<V>, S extends Collection<V>, V> D addAllSized(
+            D collection, IntFunction<D> init, S values
+    ) {
+        return CollectionUtils.DEFAULT_INSTANCE.addAllSized(collection, init, values);
+    }
+
     /**
      * Add safely key and value pair into map, if input map is null init is used to supply new instance.
      *
@@ -252,6 +273,27 @@ public class CollectionUtil {
         return CollectionUtils.DEFAULT_INSTANCE.putAll(target, init, source);
     }
 
+    /**
+     * Put safely values from source map into target map and when target map is null new instance is created by provided
+     * sized init function receiving size of source. When source map has no records target parameter is returned without
+     * change.
+     *
+     * @param target map for records provided in values map.
+     * @param init   function to provide new instance with capacity for provided size in case when provided map is null.
+     * @param source map with source data
+     * @param <T>    type of target map.
+     * @param <S>    type of source map.
+     * @param <K>    type of key.
+     * @param <V>    type of value.
+     * @return target map or initialized new map with all values from provided values map if it was not empty.
+     *         Otherwise, value of target parameter without change.
+     */
+    public static <T extends Map<K, V>, S extends Map<K, V>, K, V> T putAllSized(
+            T target, IntFunction<T> init, S source
+    ) {
+        return CollectionUtils.DEFAULT_INSTANCE.putAllSized(target, init, source);
+    }
+
     /**
      * Put safely values from source map into target map and when target map is null new instance is created by provided
      * supplier. When source map has no records target parameter is returned without change.
@@ -268,6 +310,128 @@ public class CollectionUtil {
         return CollectionUtils.DEFAULT_INSTANCE.putAllMap(target, source);
     }
 
+    /**
+     * Add safely value into collection mapped to key in multimap. When map is null new map is created, when key has no
+     * collection new collection is created by provided init supplier. Existing collection is found by single lookup of
+     * key.
+     *
+     * @param map   multimap of collections used as target for adding value.
+     * @param key   key of collection.
+     * @param init  supplier of new collection for key without collection.
+     * @param value value to be added into collection.
+     * @param <C>   type of collection in map.
+     * @param <K>   type of key.
+     * @param <V>   type of value in collection.
+     * @return provided map or initialized new map with added value.
+     */
+    public static <C extends Collection<V>, K, V> Map<K, C> putToCollection(
+            Map<K, C> map, K key, Supplier<C> init, V value
+    ) {
+        return CollectionUtils.DEFAULT_INSTANCE.putToCollection(map, key, init, value);
+    }
+
+    /**
+     * Add safely value into list mapped to key in multimap. When map is null new map is created, when key has no list
+     * new list is created. Existing list is found by single lookup of key.
+     *
+     * @param map   multimap of lists used as target for adding value.
+     * @param key   key of list.
+     * @param value value to be added into list.
+     * @param <K>   type of key.
+     * @param <V>   type of value in list.
+     * @return provided map or initialized new map with added value.
+     */
+    public static <K, V> Map<K, List<V>> putToList(Map<K, List<V>> map, K key, V value) {
+        return CollectionUtils.DEFAULT_INSTANCE.putToList(map, key, value);
+    }
+
+    /**
+     * Add safely value into list mapped to key in multimap. When map is null new map is created, when key has no list
+     * new list for expected amount of values is created. Existing list is found by single lookup of key.
+     *
+     * @param map            multimap of lists used as target for adding value.
+     * @param key            key of list.
+     * @param value          value to be added into list.
+     * @param expectedValues amount of values expected to be stored in new list of key.
+     * @param <K>            type of key.
+     * @param <V>            type of value in list.
+     * @return provided map or initialized new map with added value.
+     * @throws IllegalArgumentException when new list is needed and expected amount of values is negative.
+     */
+    public static <K, V> Map<K, List<V>> putToList(Map<K, List<V>> map, K key, V value, int expectedValues)
+            throws IllegalArgumentException {
+        return CollectionUtils.DEFAULT_INSTANCE.putToList(map, key, value, expectedValues);
+    }
+
+    /**
+     * Add safely value into set mapped to key in multimap. When map is null new map is created, when key has no set
+     * new set is created. Existing set is found by single lookup of key.
+     *
+     * @param map   multimap of sets used as target for adding value.
+     * @param key   key of set.
+     * @param value value to be added into set.
+     * @param <K>   type of key.
+     * @param <V>   type of value in set.
+     * @return provided map or initialized new map with added value.
+     */
+    public static <K, V> Map<K, Set<V>> putToSet(Map<K, Set<V>> map, K key, V value) {
+        return CollectionUtils.DEFAULT_INSTANCE.putToSet(map, key, value);
+    }
+
+    /**
+     * Add safely value into set mapped to key in multimap. When map is null new map is created, when key has no set
+     * new set for expected amount of values is created. Existing set is found by single lookup of key.
+     *
+     * @param map            multimap of sets used as target for adding value.
+     * @param key            key of set.
+     * @param value          value to be added into set.
+     * @param expectedValues amount of values expected to be stored in new set of key.
+     * @param <K>            type of key.
+     * @param <V>            type of value in set.
+     * @return provided map or initialized new map with added value.
+     * @throws IllegalArgumentException when new set is needed and expected amount of values is negative.
+     */
+    public static <K, V> Map<K, Set<V>> putToSet(Map<K, Set<V>> map, K key, V value, int expectedValues)
+            throws IllegalArgumentException {
+        return CollectionUtils.DEFAULT_INSTANCE.putToSet(map, key, value, expectedValues);
+    }
+
+    /**
+     * Add safely values from source collection into list mapped to key in multimap. When source is null or empty map
+     * is returned without change, otherwise null map and missing list of key are initialized.
+     *
+     * @param map    multimap of lists used as target for adding values.
+     * @param key    key of list.
+     * @param source values to be added into list.
+     * @param <S>    type of source collection.
+     * @param <K>    type of key.
+     * @param <V>    type of value in list.
+     * @return provided map or initialized new map with added values if source was not empty, otherwise map parameter
+     *         value without change.
+     */
+    public static <S extends Collection<? extends V>, K, V> Map<K, List<V>> putAllToList(
+            Map<K, List<V>> map, K key, S source
+    ) {
+        return CollectionUtils.DEFAULT_INSTANCE.putAllToList(map, key, source);
+    }
+
+    /**
+     * Remove safely value from collection mapped to key in multimap. When collection becomes empty, key is removed from
+     * map.
+     *
+     * @param map   multimap of collections.
+     * @param key   key of collection.
+     * @param value value to be removed from collection.
+     * @param <M>   type of map.
+     * @param <C>   type of collection in map.
+     * @param <K>   type of key.
+     * @param <V>   type of value in collection.
+     * @return true when value was removed from collection of key, otherwise false.
+     */
+    public static <M extends Map<K, C>, C extends Collection<V>, K, V> boolean removeFromMulti(M map, K key, V value) {
+        return CollectionUtils.DEFAULT_INSTANCE.removeFromMulti(map, key, value);
+    }
+
     /**
      * Validate if provided collection contains provided value.
      *
@@ -28,6 +28,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -195,6 +196,22 @@ class CollectionUtilTest {
         assertEquals(1, result.iterator().next());
     }
 
+    @Test
+    void addAllSized() {
+        Collection<Integer> result = CollectionUtil.addAllSized(null, ArrayList::new, null);
+        assertNull(result);
+        List<Integer> list = new ArrayList<>();
+        result = CollectionUtil.addAllSized(result, ArrayList::new, list);
+        assertNull(result);
+
+        list.add(1);
+        result = CollectionUtil.addAllSized(result, ArrayList::new, list);
+        assertNotNull(result);
+        assertFalse(result.isEmpty());
+        assertEquals(1, result.size());
+        assertEquals(1, result.iterator().next());
+    }
+
     @Test
     void putMap() {
         Map<Integer, Integer> result = CollectionUtil.putMap(null, null, null);
@@ -232,6 +249,23 @@ class CollectionUtilTest {
         assertEquals(1, result.get(1));
     }
 
+    @Test
+    void putAllSized() {
+        Map<Integer, Integer> result = CollectionUtil.putAllSized(null, HashMap::new, null);
+        assertNull(result);
+        Map<Integer, Integer> map = new HashMap<>();
+        result = CollectionUtil.putAllSized(result, HashMap::new, map);
+        assertNull(result);
+
+        map.put(1, 1);
+        result = CollectionUtil.putAllSized(result, HashMap::new, map);
+        assertNotNull(result);
+        assertFalse(result.isEmpty());
+        assertEquals(1, result.size());
+        assertTrue(result.containsKey(1));
+        assertEquals(1, result.get(1));
+    }
+
     @Test
     void putAllMap() {
         Map<Integer, Integer> result = CollectionUtil.putAllMap(null, null);
@@ -250,6 +284,29 @@ class CollectionUtilTest {
         assertEquals(1, result.get(1));
     }
 
+    @Test
+    void putToList() {
+        Map<Integer, List<Integer>> result = CollectionUtil.putToList(null, 1, 1);
+        result = CollectionUtil.putToList(result, 1, 2, 4);
+        result = CollectionUtil.putAllToList(result, 2, List.of(3, 4));
+        assertEquals(Map.of(1, List.of(1, 2), 2, List.of(3, 4)), result);
+        assertTrue(CollectionUtil.removeFromMulti(result, 2, 3));
+        assertTrue(CollectionUtil.removeFromMulti(result, 2, 4));
+        assertFalse(CollectionUtil.removeFromMulti(result, 2, 4));
+        assertEquals(Map.of(1, List.of(1, 2)), result);
+        Map<Integer, Set<Integer>> sets = CollectionUtil.putToCollection(null, 1, TreeSet::new, 2);
+        assertEquals(Map.of(1, Set.of(2)), CollectionUtil.putToCollection(sets, 1, TreeSet::new, 2));
+        assertTrue(sets.get(1) instanceof TreeSet);
+    }
+
+    @Test
+    void putToSet() {
+        Map<Integer, Set<Integer>> result = CollectionUtil.putToSet(null, 1, 1);
+        result = CollectionUtil.putToSet(result, 1, 1);
+        result = CollectionUtil.putToSet(result, 2, 2, 4);
+        assertEquals(Map.of(1, Set.of(1), 2, Set.of(2)), result);
+    }
+
     @Test
     void contains() {
         Collection<Integer> collection = null;
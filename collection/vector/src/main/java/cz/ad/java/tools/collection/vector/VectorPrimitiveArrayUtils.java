@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.vector;
+
+import cz.ad.java.tools.collection.core.DefaultPrimitiveArrayUtils;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implement interface for basic operations with arrays of primitive values by incubating Vector API. Linear scans
+ * compare whole vector of values by single SIMD instruction of preferred shape of current processor, remaining values
+ * shorter than vector are compared one by one. Bulk lookups are inherited from {@link DefaultPrimitiveArrayUtils} and
+ * use vectorized scans.
+ * <p>
+ * Instance is provided by service loader of {@link cz.ad.java.tools.collection.core.PrimitiveArrayUtils} when module
+ * {@code jdk.incubator.vector} is resolved in runtime, for example by {@code --add-modules jdk.incubator.vector} on
+ * class path. Otherwise scalar default implementation is used.
+ */
+public class VectorPrimitiveArrayUtils extends DefaultPrimitiveArrayUtils {
+    /**
+     * Preferred shape of vectors of int values.
+     */
+    protected static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    /**
+     * Preferred shape of vectors of long values.
+     */
+    protected static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    /**
+     * Preferred shape of vectors of double values.
+     */
+    protected static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Default non parametric constructor using default search index threshold.
+     */
+    public VectorPrimitiveArrayUtils() {
+        super();
+    }
+
+    /**
+     * Constructor allowing to define size of array and amount of searched values above which is lookup done by binary
+     * search in sorted copy of array.
+     *
+     * @param searchIndexThreshold size of array and amount of searched values above which sorted copy is used. Must not
+     *                             be negative.
+     * @throws IllegalArgumentException when provided threshold is negative.
+     */
+    public VectorPrimitiveArrayUtils(int searchIndexThreshold) throws IllegalArgumentException {
+        super(searchIndexThreshold);
+    }
+
+    /**
+     * Locate first position of provided value in array. Array is compared by vectors, position inside of vector is
+     * resolved from mask of vector with match.
+     *
+     * @param array array to be searched for provided value.
+     * @param value value searched in array.
+     * @return index of first occurrence of value, or -1 when value is not present or array is null.
+     */
+    @Override
+    public int indexOf(int[] array, int value) {
+        int retValue = -1;
+        if (array != null) {
+            int i = 0;
+            int bound = INT_SPECIES.loopBound(array.length);
+            for (; i < bound && retValue < 0; i += INT_SPECIES.length()) {
+                VectorMask<Integer> mask = IntVector.fromArray(INT_SPECIES, array, i).eq(value);
+                if (mask.anyTrue()) {
+                    retValue = i + mask.firstTrue();
+                }
+            }
+            for (; i < array.length && retValue < 0; i++) {
+                if (array[i] == value) {
+                    retValue = i;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Count occurrences of provided value in array. Matches are counted by vectors.
+     *
+     * @param array array where occurrences are counted.
+     * @param value counted value.
+     * @return amount of occurrences of value in array, 0 for null array.
+     */
+    @Override
+    public int count(int[] array, int value) {
+        int retValue = 0;
+        if (array != null) {
+            int i = 0;
+            int bound = INT_SPECIES.loopBound(array.length);
+            for (; i < bound; i += INT_SPECIES.length()) {
+                retValue += IntVector.fromArray(INT_SPECIES, array, i).eq(value).trueCount();
+            }
+            for (; i < array.length; i++) {
+                retValue += array[i] == value ? 1 : 0;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Locate first position of provided value in array. Array is compared by vectors, position inside of vector is
+     * resolved from mask of vector with match.
+     *
+     * @param array array to be searched for provided value.
+     * @param value value searched in array.
+     * @return index of first occurrence of value, or -1 when value is not present or array is null.
+     */
+    @Override
+    public int indexOf(long[] array, long value) {
+        int retValue = -1;
+        if (array != null) {
+            int i = 0;
+            int bound = LONG_SPECIES.loopBound(array.length);
+            for (; i < bound && retValue < 0; i += LONG_SPECIES.length()) {
+                VectorMask<Long> mask = LongVector.fromArray(LONG_SPECIES, array, i).eq(value);
+                if (mask.anyTrue()) {
+                    retValue = i + mask.firstTrue();
+                }
+            }
+            for (; i < array.length && retValue < 0; i++) {
+                if (array[i] == value) {
+                    retValue = i;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Count occurrences of provided value in array. Matches are counted by vectors.
+     *
+     * @param array array where occurrences are counted.
+     * @param value counted value.
+     * @return amount of occurrences of value in array, 0 for null array.
+     */
+    @Override
+    public int count(long[] array, long value) {
+        int retValue = 0;
+        if (array != null) {
+            int i = 0;
+            int bound = LONG_SPECIES.loopBound(array.length);
+            for (; i < bound; i += LONG_SPECIES.length()) {
+                retValue += LongVector.fromArray(LONG_SPECIES, array, i).eq(value).trueCount();
+            }
+            for (; i < array.length; i++) {
+                retValue += array[i] == value ? 1 : 0;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Locate first position of provided value in array. Values are compared by their bit representation like by
+     * Double.equals, array is compared by vectors, position inside of vector is resolved from mask of vector with
+     * match.
+     *
+     * @param array array to be searched for provided value.
+     * @param value value searched in array.
+     * @return index of first occurrence of value, or -1 when value is not present or array is null.
+     */
+    @Override
+    public int indexOf(double[] array, double value) {
+        int retValue = -1;
+        if (array != null) {
+            long bits = Double.doubleToLongBits(value);
+            int i = 0;
+            int bound = DOUBLE_SPECIES.loopBound(array.length);
+            for (; i < bound && retValue < 0; i += DOUBLE_SPECIES.length()) {
+                VectorMask<?> mask = matches(DoubleVector.fromArray(DOUBLE_SPECIES, array, i), value, bits);
+                if (mask.anyTrue()) {
+                    retValue = i + mask.firstTrue();
+                }
+            }
+            for (; i < array.length && retValue < 0; i++) {
+                if (Double.doubleToLongBits(array[i]) == bits) {
+                    retValue = i;
+                }
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Count occurrences of provided value in array. Values are compared by their bit representation like by
+     * Double.equals, matches are counted by vectors.
+     *
+     * @param array array where occurrences are counted.
+     * @param value counted value.
+     * @return amount of occurrences of value in array, 0 for null array.
+     */
+    @Override
+    public int count(double[] array, double value) {
+        int retValue = 0;
+        if (array != null) {
+            long bits = Double.doubleToLongBits(value);
+            int i = 0;
+            int bound = DOUBLE_SPECIES.loopBound(array.length);
+            for (; i < bound; i += DOUBLE_SPECIES.length()) {
+                retValue += matches(DoubleVector.fromArray(DOUBLE_SPECIES, array, i), value, bits).trueCount();
+            }
+            for (; i < array.length; i++) {
+                retValue += Double.doubleToLongBits(array[i]) == bits ? 1 : 0;
+            }
+        }
+        return retValue;
+    }
+
+    /**
+     * Compare vector of double values with searched value by their bit representation like Double.equals. All NaN
+     * values match NaN, other values are compared by raw bits, which are equal to canonical bits for them.
+     *
+     * @param vector compared vector of values.
+     * @param value  searched value.
+     * @param bits   canonical bit representation of searched value.
+     * @return mask of lanes equal to searched value.
+     */
+    protected VectorMask<?> matches(DoubleVector vector, double value, long bits) {
+        return Double.isNaN(value) ? vector.test(VectorOperators.IS_NAN) : vector.viewAsIntegralLanes().eq(bits);
+    }
+
+    @Override
+    public String toString() {
+        return "VectorPrimitiveArrayUtils{" +
+                "searchIndexThreshold=" + searchIndexThreshold +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Module providing primitive array utils scanning arrays by SIMD instructions of incubating Vector API.
+ */
+module cz.ad.java.tools.collection.vector {
+    requires transitive cz.ad.java.tools.collection.core;
+    requires jdk.incubator.vector;
+    exports cz.ad.java.tools.collection.vector;
+
+    provides cz.ad.java.tools.collection.core.PrimitiveArrayUtils
+            with cz.ad.java.tools.collection.vector.VectorPrimitiveArrayUtils;
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cz.ad.java.tools.collection.vector;
+
+import cz.ad.java.tools.collection.core.DefaultPrimitiveArrayUtils;
+import cz.ad.java.tools.collection.core.PrimitiveArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VectorPrimitiveArrayUtilsTest {
+
+    @Test
+    void constructor() {
+        assertThrows(IllegalArgumentException.class, () -> new VectorPrimitiveArrayUtils(-1));
+        VectorPrimitiveArrayUtils instance = new VectorPrimitiveArrayUtils();
+        assertEquals(new VectorPrimitiveArrayUtils(), instance);
+        assertEquals(new VectorPrimitiveArrayUtils().hashCode(), instance.hashCode());
+        assertNotEquals(new VectorPrimitiveArrayUtils(0), instance);
+        assertNotEquals(new DefaultPrimitiveArrayUtils(), instance);
+        assertEquals("VectorPrimitiveArrayUtils{searchIndexThreshold=16}", instance.toString());
+    }
+
+    @Test
+    void service() {
+        assertEquals(new VectorPrimitiveArrayUtils(), PrimitiveArrayUtils.instance());
+    }
+
+    @Test
+    void indexOf() {
+        VectorPrimitiveArrayUtils instance = testedInstance();
+        assertEquals(-1, instance.indexOf((int[]) null, 1));
+        assertEquals(-1, instance.indexOf((long[]) null, 1));
+        assertEquals(-1, instance.indexOf((double[]) null, 1));
+        assertEquals(0, instance.count((int[]) null, 1));
+        assertEquals(0, instance.count((long[]) null, 1));
+        assertEquals(0, instance.count((double[]) null, 1));
+
+        DefaultPrimitiveArrayUtils expected = new DefaultPrimitiveArrayUtils();
+        Random random = new Random(7);
+        for (int size = 0; size < 100; size++) {
+            int[] ints = new int[size];
+            long[] longs = new long[size];
+            double[] doubles = new double[size];
+            for (int i = 0; i < size; i++) {
+                ints[i] = random.nextInt(8);
+                longs[i] = random.nextInt(8);
+                doubles[i] = random.nextInt(8);
+            }
+            for (int value = -1; value < 9; value++) {
+                assertEquals(expected.indexOf(ints, value), instance.indexOf(ints, value));
+                assertEquals(expected.count(ints, value), instance.count(ints, value));
+                assertEquals(expected.indexOf(longs, value), instance.indexOf(longs, value));
+                assertEquals(expected.count(longs, value), instance.count(longs, value));
+                assertEquals(expected.indexOf(doubles, value), instance.indexOf(doubles, value));
+                assertEquals(expected.count(doubles, value), instance.count(doubles, value));
+            }
+        }
+    }
+
+    @Test
+    void indexOfDouble() {
+        VectorPrimitiveArrayUtils instance = testedInstance();
+        double nan = Double.longBitsToDouble(0x7ff0000000000001L);
+        double[] array = new double[40];
+        array[17] = -0.0;
+        array[21] = nan;
+        array[39] = Double.NaN;
+        assertEquals(0, instance.indexOf(array, 0.0));
+        assertEquals(17, instance.indexOf(array, -0.0));
+        assertEquals(21, instance.indexOf(array, Double.NaN));
+        assertEquals(21, instance.indexOf(array, nan));
+        assertEquals(2, instance.count(array, Double.NaN));
+        assertEquals(1, instance.count(array, -0.0));
+        assertEquals(37, instance.count(array, 0.0));
+        assertTrue(instance.contains(array, nan));
+        assertFalse(instance.contains(array, 1.0));
+    }
+
+    @Test
+    void containsAll() {
+        VectorPrimitiveArrayUtils instance = testedInstance();
+        int[] array = new int[64];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i * 3;
+        }
+        assertTrue(instance.containsAll(array, new int[]{0, 93, 189}));
+        assertFalse(instance.containsAll(array, new int[]{0, 94}));
+        assertFalse(instance.containsAll(array, new int[0]));
+        assertTrue(instance.containsAll(new long[]{5, 6, 7, 8, 9}, new long[]{9, 5}));
+        assertFalse(instance.containsAll(new double[]{5, 6, 7, 8, 9}, new double[]{9, 4}));
+    }
+
+    private VectorPrimitiveArrayUtils testedInstance() {
+        return new VectorPrimitiveArrayUtils();
+    }
+}